@@ -0,0 +1,59 @@
+package com.hotel.domain;
+
+import com.hotel.util.ExpiringCache;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Reservations made under idempotency keys, kept for a time window.
+ * A retry is matched against the request as it was first made, since the
+ * reservation's room may be reassigned later.
+ * Thread-safe.
+ */
+class BookingKeys {
+    private final ExpiringCache<String, Booking> bookings;
+
+    private static final class Booking {
+        private final Hotel hotel;
+        private final Guest guest;
+        private final Room room;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Reservation reservation;
+
+        private Booking(Hotel hotel, Guest guest, Room room, LocalDate startDate, LocalDate endDate,
+                        Reservation reservation) {
+            this.hotel = hotel;
+            this.guest = guest;
+            this.room = room;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.reservation = reservation;
+        }
+
+        private boolean matches(Hotel hotel, Guest guest, Room room, LocalDate startDate, LocalDate endDate) {
+            return this.hotel == hotel && this.guest.equals(guest) && this.room.equals(room) &&
+                   this.startDate.equals(startDate) && this.endDate.equals(endDate);
+        }
+    }
+
+    BookingKeys(Duration window, int maxKeys, Clock clock) {
+        this.bookings = new ExpiringCache<>(window, maxKeys, clock);
+    }
+
+    /**
+     * Books once per key: the first call runs the booking, retries get its reservation back.
+     * @throws IllegalArgumentException if the key was used for a different request
+     */
+    Reservation book(String key, Hotel hotel, Guest guest, Room room, LocalDate startDate, LocalDate endDate,
+                     Supplier<Reservation> booking) {
+        Booking booked = bookings.computeIfAbsent(key, () ->
+            new Booking(hotel, guest, room, startDate, endDate, booking.get()));
+        if (!booked.matches(hotel, guest, room, startDate, endDate)) {
+            throw new IllegalArgumentException("Idempotency key was already used for a different reservation");
+        }
+        return booked.reservation;
+    }
+}
@@ -0,0 +1,320 @@
+package com.hotel.domain;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Builds booking pace curves for a fixed window of stay nights and keeps them up to date.
+ * Every night a stay covers counts once, at its lead time from the booking date to that
+ * night, into an {@code int} histogram of lead buckets per room type and night; curves
+ * are its suffix sums. Archived rows never change, so each hotel's archived histogram is
+ * kept between refreshes and only rows archived since are added; the small live working
+ * set is counted again every time. Hotels, and row ranges within a hotel, are counted in
+ * parallel with fork-join.
+ * Thread-safe; refreshes of the same hotel run one at a time.
+ */
+public class DemandForecaster {
+    /** Lead points used unless others are given, in days before the night. */
+    public static final List<Integer> DEFAULT_LEAD_DAYS =
+        List.of(0, 1, 2, 3, 7, 14, 21, 30, 45, 60, 90, 120, 180, 270, 365);
+
+    private static final int ROWS_PER_TASK = 16_384;
+
+    private final ForkJoinPool pool;
+    private final LocalDate from;
+    private final int firstDay;
+    private final int days;
+    private final int[] leadDays;
+    private final int[] bucketOfLead;
+    private final Map<Hotel, HotelState> states;
+
+    /**
+     * Counts kept for one hotel between refreshes.
+     */
+    private static final class HotelState {
+        private int archivedRows;
+        private final List<RoomType> roomTypes = new ArrayList<>();
+        private final Map<RoomType, Integer> typeIndex = new HashMap<>();
+        private final List<int[]> archived = new ArrayList<>();
+
+        private int typeIndex(RoomType roomType, int cells) {
+            Integer index = typeIndex.get(roomType);
+            if (index == null) {
+                index = roomTypes.size();
+                roomTypes.add(roomType);
+                typeIndex.put(roomType, index);
+                archived.add(new int[cells]);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Creates a forecaster over the stay nights {@code [from, to)} with the default lead points.
+     */
+    public DemandForecaster(LocalDate from, LocalDate to) {
+        this(from, to, DEFAULT_LEAD_DAYS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a forecaster over the stay nights {@code [from, to)}.
+     * @param leadDays ascending lead points, starting at 0
+     */
+    public DemandForecaster(LocalDate from, LocalDate to, List<Integer> leadDays, ForkJoinPool pool) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        if (leadDays == null || leadDays.isEmpty() || leadDays.get(0) != 0) {
+            throw new IllegalArgumentException("Lead points must start at 0");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        long span = to.toEpochDay() - from.toEpochDay();
+        if (span * leadDays.size() > Integer.MAX_VALUE / 64) {
+            throw new IllegalArgumentException("Date range is too long");
+        }
+        this.leadDays = new int[leadDays.size()];
+        for (int i = 0; i < this.leadDays.length; i++) {
+            this.leadDays[i] = leadDays.get(i);
+            if (i > 0 && this.leadDays[i] <= this.leadDays[i - 1]) {
+                throw new IllegalArgumentException("Lead points must be ascending");
+            }
+        }
+        this.bucketOfLead = new int[this.leadDays[this.leadDays.length - 1] + 1];
+        for (int lead = 0, bucket = 0; lead < bucketOfLead.length; lead++) {
+            if (bucket + 1 < this.leadDays.length && lead == this.leadDays[bucket + 1]) {
+                bucket++;
+            }
+            bucketOfLead[lead] = bucket;
+        }
+        this.pool = pool;
+        this.from = from;
+        this.firstDay = (int) from.toEpochDay();
+        this.days = (int) span;
+        this.states = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Brings the curves of every hotel of a chain up to date.
+     */
+    public PickupCurves refresh(HotelChain chain) {
+        if (chain == null) {
+            throw new IllegalArgumentException("Chain cannot be null");
+        }
+        return refresh(chain.getAllHotels());
+    }
+
+    /**
+     * Brings the curves of the given hotels up to date.
+     */
+    public PickupCurves refresh(Collection<Hotel> hotels) {
+        if (hotels == null) {
+            throw new IllegalArgumentException("Hotels cannot be null");
+        }
+        List<Hotel> list = new ArrayList<>(hotels);
+        List<PickupCurves.HotelCurves> curves = list.isEmpty() ? new ArrayList<>()
+            : pool.invoke(new HotelsTask(list, 0, list.size()));
+        return new PickupCurves(from, days, leadDays.clone(), curves);
+    }
+
+    private final class HotelsTask extends RecursiveTask<List<PickupCurves.HotelCurves>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Hotel> hotels;
+        private final int low;
+        private final int high;
+
+        private HotelsTask(List<Hotel> hotels, int low, int high) {
+            this.hotels = hotels;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected List<PickupCurves.HotelCurves> compute() {
+            if (high - low == 1) {
+                List<PickupCurves.HotelCurves> single = new ArrayList<>(1);
+                single.add(refreshHotel(hotels.get(low)));
+                return single;
+            }
+            int mid = (low + high) >>> 1;
+            HotelsTask left = new HotelsTask(hotels, low, mid);
+            left.fork();
+            List<PickupCurves.HotelCurves> result = new HotelsTask(hotels, mid, high).compute();
+            result.addAll(left.join());
+            return result;
+        }
+    }
+
+    private PickupCurves.HotelCurves refreshHotel(Hotel hotel) {
+        HotelState state = states.computeIfAbsent(hotel, h -> new HotelState());
+        synchronized (state) {
+            List<ReservationColumns> parts;
+            Map<RoomType, Integer> roomCounts = new HashMap<>();
+            LocalDate asOf;
+            synchronized (hotel) {
+                parts = hotel.snapshotReservations();
+                for (Room room : hotel.getAllRooms()) {
+                    roomCounts.merge(room.getRoomType(), 1, Integer::sum);
+                }
+                asOf = hotel.getBusinessDate().today();
+            }
+            int cells = days * leadDays.length;
+            for (RoomType roomType : roomCounts.keySet()) {
+                state.typeIndex(roomType, cells);
+            }
+            for (ReservationColumns part : parts) {
+                for (RoomType roomType : part.roomTypes()) {
+                    state.typeIndex(roomType, cells);
+                }
+            }
+
+            ReservationColumns archive = parts.get(0);
+            if (archive.size() > state.archivedRows) {
+                addInto(state.archived, count(state, archive, state.archivedRows, archive.size()));
+                state.archivedRows = archive.size();
+            }
+            List<int[]> totals = new ArrayList<>(state.archived.size());
+            for (int[] archived : state.archived) {
+                totals.add(archived.clone());
+            }
+            for (int part = 1; part < parts.size(); part++) {
+                addInto(totals, count(state, parts.get(part), 0, parts.get(part).size()));
+            }
+
+            RoomType[] roomTypes = state.roomTypes.toArray(new RoomType[0]);
+            int[] counts = new int[roomTypes.length];
+            int[][] onTheBooks = new int[roomTypes.length][];
+            for (int type = 0; type < roomTypes.length; type++) {
+                counts[type] = roomCounts.getOrDefault(roomTypes[type], 0);
+                onTheBooks[type] = totals.get(type);
+                suffixSums(onTheBooks[type]);
+            }
+            return new PickupCurves.HotelCurves(hotel.getName().getValue(), asOf, roomTypes, counts, onTheBooks);
+        }
+    }
+
+    private int[][] count(HotelState state, ReservationColumns part, int low, int high) {
+        if (low == high) {
+            return new int[state.roomTypes.size()][];
+        }
+        int[] typeMap = new int[part.roomTypes().length];
+        for (int ref = 0; ref < typeMap.length; ref++) {
+            typeMap[ref] = state.typeIndex.get(part.roomTypes()[ref]);
+        }
+        return new RowsTask(part, typeMap, state.roomTypes.size(), low, high).invoke();
+    }
+
+    /**
+     * Counts a row range into lead bucket histograms, one per room type, allocated on first use.
+     */
+    private final class RowsTask extends RecursiveTask<int[][]> {
+        private static final long serialVersionUID = 1L;
+
+        private final ReservationColumns part;
+        private final int[] typeMap;
+        private final int types;
+        private final int low;
+        private final int high;
+
+        private RowsTask(ReservationColumns part, int[] typeMap, int types, int low, int high) {
+            this.part = part;
+            this.typeMap = typeMap;
+            this.types = types;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected int[][] compute() {
+            if (high - low > ROWS_PER_TASK) {
+                int mid = (low + high) >>> 1;
+                RowsTask left = new RowsTask(part, typeMap, types, low, mid);
+                left.fork();
+                int[][] right = new RowsTask(part, typeMap, types, mid, high).compute();
+                int[][] merged = left.join();
+                for (int type = 0; type < types; type++) {
+                    merged[type] = merge(merged[type], right[type]);
+                }
+                return merged;
+            }
+            int[][] histograms = new int[types][];
+            int buckets = leadDays.length;
+            int lastBucket = buckets - 1;
+            int lastDay = firstDay + days;
+            for (int row = low; row < high; row++) {
+                if (part.status(row) == Reservation.ReservationStatus.CANCELLED) {
+                    continue;
+                }
+                int start = Math.max(part.startDay(row), firstDay);
+                int end = Math.min(part.endDay(row), lastDay);
+                if (start >= end) {
+                    continue;
+                }
+                int type = typeMap[part.typeRef(row)];
+                if (histograms[type] == null) {
+                    histograms[type] = new int[days * buckets];
+                }
+                int[] histogram = histograms[type];
+                int booked = part.bookedDay(row);
+                for (int night = start; night < end; night++) {
+                    int lead = night - booked;
+                    int bucket = lead <= 0 ? 0 : lead >= bucketOfLead.length ? lastBucket : bucketOfLead[lead];
+                    histogram[(night - firstDay) * buckets + bucket]++;
+                }
+            }
+            return histograms;
+        }
+    }
+
+    /**
+     * Turns each night's lead bucket counts into the room nights booked at least that far ahead.
+     */
+    private void suffixSums(int[] histogram) {
+        int buckets = leadDays.length;
+        for (int base = 0; base < histogram.length; base += buckets) {
+            for (int bucket = buckets - 2; bucket >= 0; bucket--) {
+                histogram[base + bucket] += histogram[base + bucket + 1];
+            }
+        }
+    }
+
+    private static void addInto(List<int[]> target, int[][] source) {
+        for (int type = 0; type < source.length; type++) {
+            if (source[type] != null) {
+                int[] into = target.get(type);
+                for (int i = 0; i < into.length; i++) {
+                    into[i] += source[type][i];
+                }
+            }
+        }
+    }
+
+    private static int[] merge(int[] left, int[] right) {
+        if (left == null) {
+            return right;
+        }
+        if (right != null) {
+            for (int i = 0; i < left.length; i++) {
+                left[i] += right[i];
+            }
+        }
+        return left;
+    }
+
+    @Override
+    public String toString() {
+        return "DemandForecaster{" +
+               "from=" + from +
+               ", days=" + days +
+               ", hotels=" + states.size() +
+               '}';
+    }
+}
@@ -0,0 +1,105 @@
+package com.hotel.domain;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Change stream consumer that copies framed changes into a local file.
+ * The next offset to read and the matching file length are committed side by side
+ * after every transfer; on reopen the file is cut back to the committed length, so a
+ * crash between copying and committing neither loses nor duplicates changes.
+ */
+public class FileChangeSink implements AutoCloseable {
+    private final Path dataFile;
+    private final Path offsetFile;
+    private final FileChannel channel;
+    private long committedOffset;
+
+    public FileChangeSink(Path dataFile) {
+        if (dataFile == null) {
+            throw new IllegalArgumentException("Data file cannot be null");
+        }
+        this.dataFile = dataFile;
+        this.offsetFile = dataFile.resolveSibling(dataFile.getFileName() + ".offset");
+        try {
+            long committedBytes = 0;
+            if (Files.exists(offsetFile)) {
+                String[] parts = new String(Files.readAllBytes(offsetFile), StandardCharsets.UTF_8).trim().split(" ");
+                committedOffset = Long.parseLong(parts[0]);
+                committedBytes = Long.parseLong(parts[1]);
+            }
+            this.channel = FileChannel.open(dataFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.truncate(committedBytes);
+            channel.position(committedBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the offset of the next change the sink will copy.
+     */
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    /**
+     * Copies every change the log holds beyond the committed offset.
+     * @param maxBytes upper bound of bytes copied per transfer
+     * @return the number of changes copied
+     */
+    public int drain(ReservationChangeLog log, long maxBytes) {
+        if (log == null) {
+            throw new IllegalArgumentException("Log cannot be null");
+        }
+        ReservationChangeLog.Reader reader = log.openReader(committedOffset);
+        int total = 0;
+        try {
+            int copied;
+            while ((copied = reader.transferTo(channel, maxBytes)) > 0) {
+                channel.force(false);
+                commit(reader.getPosition(), channel.position());
+                total += copied;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return total;
+    }
+
+    /**
+     * Reads back every change copied so far.
+     */
+    public List<ReservationChange> readAll() {
+        try {
+            return ReservationChangeLog.decode(ByteBuffer.wrap(Files.readAllBytes(dataFile)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void commit(long offset, long bytes) throws IOException {
+        Path temp = offsetFile.resolveSibling(offsetFile.getFileName() + ".tmp");
+        Files.write(temp, (offset + " " + bytes).getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committedOffset = offset;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.hotel.domain;
 import com.hotel.util.Address;
 import com.hotel.util.Identity;
 import com.hotel.util.Name;
-import java.util.Objects;
 
 /**
  * Represents a guest in the hotel system.
@@ -64,7 +63,7 @@ public class Guest {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return id.hashCode();
     }
 
     @Override
@@ -0,0 +1,489 @@
+package com.hotel.domain;
+
+import com.hotel.util.Address;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds guest profiles created more than once and merges them under a canonical guest.
+ * Guests are grouped into blocks by postal code plus the first letters of each name
+ * word, so "Jhon Doe" and "John Doe" at the same postal code share the "doe" block.
+ * Only pairs within a block are compared, with fork-join over the blocks. Two guests
+ * match when each word of the shorter name equals, abbreviates or is within one edit
+ * per four letters of a different word of the other name, and their house numbers
+ * agree. Matches are merged transitively.
+ * Reservations keep the guest they were booked with; the deduplicator maps every
+ * duplicate to its canonical guest instead, and gathers stay history across all of them.
+ * The canonical guest of a merge is the profile known longest.
+ * Subscribing the deduplicator to an event bus checks the guest of every new booking.
+ * Thread-safe: changes are serialized, and pair comparisons run on the pool.
+ */
+public class GuestDeduplicator implements ReservationEventListener {
+    private static final int BLOCK_PREFIX = 3;
+    private static final int BLOCKS_PER_TASK = 1024;
+    private static final int LETTERS_PER_EDIT = 4;
+    private static final int MAX_EDITS = 2;
+
+    private final ForkJoinPool pool;
+    private final Map<String, List<Guest>> blocks;
+    private final Map<Guest, Profile> profiles;
+    private long nextSequence;
+    private int profileCount;
+
+    /**
+     * A canonical guest and the duplicates merged into it.
+     */
+    private static final class Profile {
+        private final Guest canonical;
+        private final long sequence;
+        private final List<Guest> duplicates;
+
+        private Profile(Guest canonical, long sequence) {
+            this.canonical = canonical;
+            this.sequence = sequence;
+            this.duplicates = new ArrayList<>(0);
+        }
+    }
+
+    /**
+     * Normalized fields of a guest compared by {@link #isSameGuest}.
+     */
+    private static final class Features {
+        private final String[] nameWords;
+        private final String[] houseNumbers;
+
+        private Features(Guest guest) {
+            this.nameWords = GuestDirectory.words(guest.getName().getValue());
+            List<String> numbers = new ArrayList<>(1);
+            for (String word : GuestDirectory.words(guest.getAddress().getStreet())) {
+                if (Character.isDigit(word.charAt(0))) {
+                    numbers.add(word);
+                }
+            }
+            this.houseNumbers = numbers.toArray(new String[0]);
+        }
+    }
+
+    public GuestDeduplicator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public GuestDeduplicator(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+        this.blocks = new HashMap<>();
+        this.profiles = new HashMap<>();
+    }
+
+    /**
+     * Adds the guest of every reservation in the chain, as of now.
+     * @return the number of new guests found to duplicate another guest
+     */
+    public int addAll(HotelChain chain) {
+        if (chain == null) {
+            throw new IllegalArgumentException("Chain cannot be null");
+        }
+        Set<Guest> guests = new LinkedHashSet<>();
+        for (Hotel hotel : chain.getAllHotels()) {
+            List<ReservationColumns> parts;
+            synchronized (hotel) {
+                parts = hotel.snapshotReservations();
+            }
+            for (ReservationColumns part : parts) {
+                guests.addAll(Arrays.asList(part.guests()));
+            }
+        }
+        return addAll(guests);
+    }
+
+    /**
+     * Adds guests in one batch, comparing them with each other and with known guests.
+     * Guests already known are skipped.
+     * @return the number of new guests found to duplicate another guest
+     */
+    public synchronized int addAll(Collection<Guest> batch) {
+        if (batch == null) {
+            throw new IllegalArgumentException("Guests cannot be null");
+        }
+        List<Guest> candidates = new ArrayList<>();
+        Map<Guest, Integer> index = new HashMap<>();
+        for (Guest guest : batch) {
+            if (guest == null) {
+                throw new IllegalArgumentException("Guest cannot be null");
+            }
+            if (!profiles.containsKey(guest) && !index.containsKey(guest)) {
+                index.put(guest, candidates.size());
+                candidates.add(guest);
+            }
+        }
+        int added = candidates.size();
+        if (added == 0) {
+            return 0;
+        }
+
+        Map<String, List<Integer>> batchBlocks = new HashMap<>();
+        for (int i = 0; i < added; i++) {
+            for (String key : blockKeys(candidates.get(i))) {
+                List<Integer> members = batchBlocks.get(key);
+                if (members == null) {
+                    members = new ArrayList<>();
+                    batchBlocks.put(key, members);
+                    for (Guest known : blocks.getOrDefault(key, Collections.emptyList())) {
+                        Integer at = index.get(known);
+                        if (at == null) {
+                            at = candidates.size();
+                            index.put(known, at);
+                            candidates.add(known);
+                        }
+                        members.add(at);
+                    }
+                }
+                members.add(i);
+            }
+        }
+
+        Features[] features = new Features[candidates.size()];
+        for (int i = 0; i < features.length; i++) {
+            features[i] = new Features(candidates.get(i));
+        }
+        List<int[]> blockList = new ArrayList<>(batchBlocks.size());
+        for (List<Integer> members : batchBlocks.values()) {
+            if (members.size() > 1) {
+                blockList.add(members.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+        long[] pairs = blockList.isEmpty() ? new long[0]
+            : pool.invoke(new BlocksTask(blockList, features, added, 0, blockList.size()));
+
+        int[] parent = new int[candidates.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        Map<Profile, Integer> profileIndex = new HashMap<>();
+        for (int i = added; i < candidates.size(); i++) {
+            Integer first = profileIndex.putIfAbsent(profiles.get(candidates.get(i)), i);
+            if (first != null) {
+                union(parent, first, i);
+            }
+        }
+        for (long pair : pairs) {
+            union(parent, (int) (pair >>> 32), (int) pair);
+        }
+        int merged = merge(candidates, added, parent);
+        for (int i = 0; i < added; i++) {
+            Guest guest = candidates.get(i);
+            for (String key : blockKeys(guest)) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>(2)).add(guest);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Adds a guest, merging it into a matching profile if there is one.
+     * @return the canonical guest of the guest's profile
+     */
+    public Guest add(Guest guest) {
+        if (guest == null) {
+            throw new IllegalArgumentException("Guest cannot be null");
+        }
+        synchronized (this) {
+            addAll(Collections.singletonList(guest));
+            return profiles.get(guest).canonical;
+        }
+    }
+
+    /**
+     * Checks the guest of each newly created reservation.
+     */
+    @Override
+    public void onEvent(ReservationEvent event) {
+        if (event.getType() == ReservationEvent.Type.CREATED) {
+            add(event.getReservation().getGuest());
+        }
+    }
+
+    /**
+     * Gets the canonical guest of a known guest, or null if the guest is unknown.
+     */
+    public synchronized Guest getCanonical(Guest guest) {
+        if (guest == null) {
+            throw new IllegalArgumentException("Guest cannot be null");
+        }
+        Profile profile = profiles.get(guest);
+        return profile == null ? null : profile.canonical;
+    }
+
+    /**
+     * Gets the guests merged into a known guest's profile, canonical guest first.
+     */
+    public synchronized List<Guest> getProfile(Guest guest) {
+        if (guest == null) {
+            throw new IllegalArgumentException("Guest cannot be null");
+        }
+        Profile profile = profiles.get(guest);
+        if (profile == null) {
+            throw new IllegalArgumentException("Guest is not known");
+        }
+        List<Guest> members = new ArrayList<>(profile.duplicates.size() + 1);
+        members.add(profile.canonical);
+        members.addAll(profile.duplicates);
+        return members;
+    }
+
+    /**
+     * Gets the reservations of every guest in a known guest's profile, across the chain.
+     */
+    public List<Reservation> getStayHistory(HotelChain chain, Guest guest) {
+        if (chain == null) {
+            throw new IllegalArgumentException("Chain cannot be null");
+        }
+        List<Guest> members = getProfile(guest);
+        List<Reservation> history = new ArrayList<>();
+        for (Hotel hotel : chain.getAllHotels()) {
+            synchronized (hotel) {
+                for (Guest member : members) {
+                    history.addAll(hotel.getGuestReservations(member));
+                }
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Gets the number of guests known.
+     */
+    public synchronized int size() {
+        return profiles.size();
+    }
+
+    /**
+     * Gets the number of distinct profiles among the known guests.
+     */
+    public synchronized int getProfileCount() {
+        return profileCount;
+    }
+
+    /**
+     * Gives every component of the union-find a profile: the oldest profile among its
+     * known guests, or a new one for its first new guest; other profiles fold into it.
+     * Known guests of one profile are already in one component.
+     * @return the number of new guests that joined a profile as a duplicate
+     */
+    private int merge(List<Guest> candidates, int added, int[] parent) {
+        Map<Integer, Profile> winners = new HashMap<>();
+        for (int i = added; i < candidates.size(); i++) {
+            Profile profile = profiles.get(candidates.get(i));
+            winners.merge(find(parent, i), profile, (a, b) -> a.sequence <= b.sequence ? a : b);
+        }
+        for (int i = added; i < candidates.size(); i++) {
+            Profile profile = profiles.get(candidates.get(i));
+            Profile winner = winners.get(find(parent, i));
+            if (profile != winner && profiles.get(profile.canonical) == profile) {
+                fold(profile, winner);
+            }
+        }
+        int merged = 0;
+        for (int i = 0; i < added; i++) {
+            Guest guest = candidates.get(i);
+            int root = find(parent, i);
+            Profile winner = winners.get(root);
+            if (winner == null) {
+                winner = new Profile(guest, nextSequence++);
+                winners.put(root, winner);
+                profileCount++;
+            } else {
+                winner.duplicates.add(guest);
+                merged++;
+            }
+            profiles.put(guest, winner);
+        }
+        return merged;
+    }
+
+    private void fold(Profile from, Profile into) {
+        into.duplicates.add(from.canonical);
+        into.duplicates.addAll(from.duplicates);
+        profiles.put(from.canonical, into);
+        for (Guest duplicate : from.duplicates) {
+            profiles.put(duplicate, into);
+        }
+        profileCount--;
+    }
+
+    private static final class BlocksTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<int[]> blocks;
+        private final Features[] features;
+        private final int added;
+        private final int low;
+        private final int high;
+
+        private BlocksTask(List<int[]> blocks, Features[] features, int added, int low, int high) {
+            this.blocks = blocks;
+            this.features = features;
+            this.added = added;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**
+         * Compares every pair in the blocks that involves a new guest.
+         * @return the matching pairs, each packed as {@code first << 32 | second}
+         */
+        @Override
+        protected long[] compute() {
+            if (high - low > BLOCKS_PER_TASK) {
+                int mid = (low + high) >>> 1;
+                BlocksTask left = new BlocksTask(blocks, features, added, low, mid);
+                left.fork();
+                long[] right = new BlocksTask(blocks, features, added, mid, high).compute();
+                long[] leftPairs = left.join();
+                long[] pairs = Arrays.copyOf(leftPairs, leftPairs.length + right.length);
+                System.arraycopy(right, 0, pairs, leftPairs.length, right.length);
+                return pairs;
+            }
+            long[] pairs = new long[16];
+            int count = 0;
+            for (int b = low; b < high; b++) {
+                int[] members = blocks.get(b);
+                for (int i = 0; i < members.length; i++) {
+                    for (int j = i + 1; j < members.length; j++) {
+                        int first = members[i];
+                        int second = members[j];
+                        if ((first < added || second < added) && isSameGuest(features[first], features[second])) {
+                            if (count == pairs.length) {
+                                pairs = Arrays.copyOf(pairs, count * 2);
+                            }
+                            pairs[count++] = (long) first << 32 | second;
+                        }
+                    }
+                }
+            }
+            return Arrays.copyOf(pairs, count);
+        }
+    }
+
+    private static boolean isSameGuest(Features a, Features b) {
+        if (a.houseNumbers.length > 0 && b.houseNumbers.length > 0
+            && !Arrays.equals(a.houseNumbers, b.houseNumbers)) {
+            return false;
+        }
+        String[] shorter = a.nameWords.length <= b.nameWords.length ? a.nameWords : b.nameWords;
+        String[] longer = shorter == a.nameWords ? b.nameWords : a.nameWords;
+        return shorter.length > 0 && matchesName(shorter, longer, 0, new boolean[longer.length], false);
+    }
+
+    /**
+     * Matches each remaining word to a different word of the other name; at least one
+     * pair must be more than an initial.
+     */
+    private static boolean matchesName(String[] words, String[] others, int index, boolean[] used, boolean spelled) {
+        if (index == words.length) {
+            return spelled;
+        }
+        String word = words[index];
+        for (int i = 0; i < others.length; i++) {
+            if (used[i]) {
+                continue;
+            }
+            String other = others[i];
+            boolean initial = (word.length() == 1 || other.length() == 1) && word.charAt(0) == other.charAt(0);
+            if (initial || withinEdits(word, other, Math.min(MAX_EDITS,
+                    Math.min(word.length(), other.length()) / LETTERS_PER_EDIT))) {
+                used[i] = true;
+                if (matchesName(words, others, index + 1, used, spelled || !initial)) {
+                    return true;
+                }
+                used[i] = false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether two words are within {@code maxEdits} insertions, deletions,
+     * substitutions or swaps of adjacent characters of each other.
+     */
+    static boolean withinEdits(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return false;
+        }
+        if (maxEdits == 0 || a.equals(b)) {
+            return a.equals(b);
+        }
+        int columns = b.length() + 1;
+        int[] before = new int[columns];
+        int[] previous = new int[columns];
+        int[] row = new int[columns];
+        for (int column = 0; column < columns; column++) {
+            previous[column] = column;
+        }
+        for (int depth = 1; depth <= a.length(); depth++) {
+            char c = a.charAt(depth - 1);
+            row[0] = depth;
+            int best = depth;
+            for (int column = 1; column < columns; column++) {
+                char q = b.charAt(column - 1);
+                int value = Math.min(Math.min(row[column - 1] + 1, previous[column] + 1),
+                    previous[column - 1] + (q == c ? 0 : 1));
+                if (depth > 1 && column > 1 && q == a.charAt(depth - 2) && b.charAt(column - 2) == c) {
+                    value = Math.min(value, before[column - 2] + 1);
+                }
+                row[column] = value;
+                best = Math.min(best, value);
+            }
+            if (best > maxEdits) {
+                return false;
+            }
+            int[] spare = before;
+            before = previous;
+            previous = row;
+            row = spare;
+        }
+        return previous[columns - 1] <= maxEdits;
+    }
+
+    /**
+     * Gets the blocks of a guest: its postal code with the first letters of each name word.
+     */
+    private static Set<String> blockKeys(Guest guest) {
+        Address address = guest.getAddress();
+        String postalCode = GuestDirectory.postalKey(address.getPostalCode());
+        Set<String> keys = new LinkedHashSet<>(4);
+        for (String word : GuestDirectory.words(guest.getName().getValue())) {
+            if (word.length() > 1) {
+                keys.add(postalCode + '|' + word.substring(0, Math.min(BLOCK_PREFIX, word.length())));
+            }
+        }
+        return keys;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "GuestDeduplicator{" +
+               "guests=" + profiles.size() +
+               ", profiles=" + profileCount +
+               '}';
+    }
+}
@@ -0,0 +1,403 @@
+package com.hotel.domain;
+
+import com.hotel.util.Address;
+import com.hotel.util.Identity;
+import com.hotel.util.PrefixTrie;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Searchable directory of guest profiles for front-desk lookups.
+ * Guests are numbered by slot; every word of a name goes into a {@link PrefixTrie} for
+ * type-ahead and typo-tolerant search, and postal codes and cities into inverted indexes.
+ * Words are compared without case or accents. A query matches a guest when each of
+ * its words starts a different word of the name, so "jo do" finds "John Doe"; exact
+ * matches come first, then matches within one edit per four letters typed.
+ * Subscribing the directory to an event bus adds the guest of every new booking.
+ * Removed guests leave their postings behind and are skipped when read.
+ * Thread-safe: lookups share a read lock, changes take the write lock.
+ */
+public class GuestDirectory implements ReservationEventListener {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int LETTERS_PER_EDIT = 4;
+    private static final int MAX_EDITS = 2;
+
+    private final ReadWriteLock lock;
+    private final PrefixTrie names;
+    private final Map<String, Postings> postalCodes;
+    private final Map<String, Postings> cities;
+    private Guest[] guests;
+    private int slotCount;
+    private int size;
+    private int[] idTable;
+
+    /**
+     * Growable list of guest slots.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int count;
+
+        private void add(int slot) {
+            if (count == slots.length) {
+                slots = Arrays.copyOf(slots, count * 2);
+            }
+            slots[count++] = slot;
+        }
+    }
+
+    public GuestDirectory() {
+        this.lock = new ReentrantReadWriteLock();
+        this.names = new PrefixTrie();
+        this.postalCodes = new HashMap<>();
+        this.cities = new HashMap<>();
+        this.guests = new Guest[INITIAL_CAPACITY];
+        this.idTable = new int[INITIAL_CAPACITY * 2];
+    }
+
+    /**
+     * Adds the guest of every reservation in the chain, as of now.
+     * @return the number of guests that were not yet listed
+     */
+    public int addAll(HotelChain chain) {
+        if (chain == null) {
+            throw new IllegalArgumentException("Chain cannot be null");
+        }
+        int added = 0;
+        for (Hotel hotel : chain.getAllHotels()) {
+            List<ReservationColumns> parts;
+            synchronized (hotel) {
+                parts = hotel.snapshotReservations();
+            }
+            for (ReservationColumns part : parts) {
+                added += addAll(Arrays.asList(part.guests()));
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Adds guests, skipping those already listed.
+     * @return the number of guests that were not yet listed
+     */
+    public int addAll(Collection<Guest> batch) {
+        if (batch == null) {
+            throw new IllegalArgumentException("Guests cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            int added = 0;
+            for (Guest guest : batch) {
+                if (insert(guest)) {
+                    added++;
+                }
+            }
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a guest.
+     * @return false if the guest was already listed
+     */
+    public boolean add(Guest guest) {
+        lock.writeLock().lock();
+        try {
+            return insert(guest);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a guest.
+     * @return false if the guest was not listed
+     */
+    public boolean remove(Guest guest) {
+        if (guest == null) {
+            throw new IllegalArgumentException("Guest cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(guest.getId());
+            if (slot < 0) {
+                return false;
+            }
+            guests[slot] = null;
+            size--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the guest of each newly created reservation.
+     */
+    @Override
+    public void onEvent(ReservationEvent event) {
+        if (event.getType() == ReservationEvent.Type.CREATED) {
+            add(event.getReservation().getGuest());
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a listed guest by identity, or null if there is none.
+     */
+    public Guest find(Identity id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(id);
+            return slot < 0 ? null : guests[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds guests by partial name: exact prefix matches first, then typo-tolerant ones.
+     */
+    public List<Guest> search(String query, int limit) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        requireLimit(limit);
+        String[] words = words(query);
+        if (words.length == 0) {
+            return new ArrayList<>();
+        }
+        String lead = longest(words);
+        lock.readLock().lock();
+        try {
+            List<Guest> found = new ArrayList<>();
+            Set<Integer> seen = new HashSet<>();
+            names.visitPrefix(lead, slot -> {
+                collect(slot, words, false, found, seen);
+                return found.size() < limit;
+            });
+            if (found.size() < limit && maxEdits(lead) > 0) {
+                names.visitSimilarPrefix(lead, maxEdits(lead), slot -> {
+                    collect(slot, words, true, found, seen);
+                    return found.size() < limit;
+                });
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds guests with a postal code, ignoring case and spaces.
+     */
+    public List<Guest> findByPostalCode(String postalCode, int limit) {
+        if (postalCode == null) {
+            throw new IllegalArgumentException("Postal code cannot be null");
+        }
+        return lookup(postalCodes, postalKey(postalCode), limit);
+    }
+
+    /**
+     * Finds guests living in a city, ignoring case and accents.
+     */
+    public List<Guest> findByCity(String city, int limit) {
+        if (city == null) {
+            throw new IllegalArgumentException("City cannot be null");
+        }
+        return lookup(cities, cityKey(city), limit);
+    }
+
+    private List<Guest> lookup(Map<String, Postings> index, String key, int limit) {
+        requireLimit(limit);
+        lock.readLock().lock();
+        try {
+            List<Guest> found = new ArrayList<>();
+            Postings postings = index.get(key);
+            if (postings != null) {
+                for (int i = 0; i < postings.count && found.size() < limit; i++) {
+                    Guest guest = guests[postings.slots[i]];
+                    if (guest != null) {
+                        found.add(guest);
+                    }
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a guest found under a query word if every query word starts a different word
+     * of the name, exactly or within its edit allowance.
+     */
+    private void collect(int slot, String[] words, boolean fuzzy, List<Guest> found, Set<Integer> seen) {
+        Guest guest = guests[slot];
+        if (guest == null || seen.contains(slot)) {
+            return;
+        }
+        String[] nameWords = words(guest.getName().getValue());
+        if (matches(words, nameWords, 0, new boolean[nameWords.length], fuzzy)) {
+            seen.add(slot);
+            found.add(guest);
+        }
+    }
+
+    private static boolean matches(String[] words, String[] nameWords, int index, boolean[] used, boolean fuzzy) {
+        if (index == words.length) {
+            return true;
+        }
+        for (int i = 0; i < nameWords.length; i++) {
+            String word = words[index];
+            if (!used[i] && (fuzzy ? PrefixTrie.startsWithinEdits(nameWords[i], word, maxEdits(word))
+                                   : nameWords[i].startsWith(word))) {
+                used[i] = true;
+                if (matches(words, nameWords, index + 1, used, fuzzy)) {
+                    return true;
+                }
+                used[i] = false;
+            }
+        }
+        return false;
+    }
+
+    private static String longest(String[] words) {
+        String longest = words[0];
+        for (String word : words) {
+            if (word.length() > longest.length()) {
+                longest = word;
+            }
+        }
+        return longest;
+    }
+
+    private static int maxEdits(String word) {
+        return Math.min(MAX_EDITS, word.length() / LETTERS_PER_EDIT);
+    }
+
+    private boolean insert(Guest guest) {
+        if (guest == null) {
+            throw new IllegalArgumentException("Guest cannot be null");
+        }
+        if (findSlot(guest.getId()) >= 0) {
+            return false;
+        }
+        if (slotCount == guests.length) {
+            guests = Arrays.copyOf(guests, slotCount * 2);
+        }
+        int slot = slotCount++;
+        guests[slot] = guest;
+        size++;
+        if (slotCount * 2 > idTable.length) {
+            rehash(idTable.length * 2);
+        } else {
+            place(slot);
+        }
+        for (String word : words(guest.getName().getValue())) {
+            names.add(word, slot);
+        }
+        Address address = guest.getAddress();
+        postalCodes.computeIfAbsent(postalKey(address.getPostalCode()), k -> new Postings()).add(slot);
+        cities.computeIfAbsent(cityKey(address.getCity()), k -> new Postings()).add(slot);
+        return true;
+    }
+
+    /**
+     * Finds the slot of a listed guest. The table holds slot + 1, with 0 marking a free
+     * cell; cells of removed guests stay until the next rehash and are probed past.
+     */
+    private int findSlot(Identity id) {
+        int mask = idTable.length - 1;
+        for (int cell = id.hashCode() & mask; idTable[cell] != 0; cell = (cell + 1) & mask) {
+            int slot = idTable[cell] - 1;
+            if (guests[slot] != null && guests[slot].getId().equals(id)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void place(int slot) {
+        int mask = idTable.length - 1;
+        int cell = guests[slot].getId().hashCode() & mask;
+        while (idTable[cell] != 0) {
+            cell = (cell + 1) & mask;
+        }
+        idTable[cell] = slot + 1;
+    }
+
+    private void rehash(int capacity) {
+        idTable = new int[capacity];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (guests[slot] != null) {
+                place(slot);
+            }
+        }
+    }
+
+    /**
+     * Splits text into lower-case words without accents.
+     */
+    static String[] words(String text) {
+        String folded = fold(text);
+        List<String> words = new ArrayList<>(4);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean inWord = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (inWord && start < 0) {
+                start = i;
+            } else if (!inWord && start >= 0) {
+                words.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    private static String fold(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) >= 0x80) {
+                return Normalizer.normalize(lower, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+            }
+        }
+        return lower;
+    }
+
+    static String postalKey(String postalCode) {
+        return postalCode.replace(" ", "").toUpperCase(Locale.ROOT);
+    }
+
+    static String cityKey(String city) {
+        return String.join(" ", words(city));
+    }
+
+    private static void requireLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GuestDirectory{" +
+               "guests=" + size() +
+               '}';
+    }
+}
@@ -1,30 +1,141 @@
 package com.hotel.domain;
 
+import com.hotel.util.Address;
+import com.hotel.util.BusinessDate;
+import com.hotel.util.Coordinates;
+import com.hotel.util.CreditCard;
+import com.hotel.util.Identity;
+import com.hotel.util.IntObjectHashMap;
 import com.hotel.util.Name;
+import com.hotel.util.ObjectHashMap;
+import com.hotel.util.TimingWheel;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
 
 /**
  * Represents a hotel with multiple rooms and reservations.
+ * Dates are evaluated against the property's own business date and time zone.
+ * Only live and future bookings stay in the hot working set; the night audit
+ * moves finished reservations into a columnar archive that history queries read.
+ * A hotel may carry an address and coordinates, by which a chain finds it.
  */
 public class Hotel {
+    private static final long HOLD_TICK_MILLIS = 100;
+
     private final Name name;
-    private final Map<Integer, Room> rooms;
-    private final List<Reservation> reservations;
+    private final Address address;
+    private final Coordinates coordinates;
+    private final BusinessDate businessDate;
+    private final IntObjectHashMap<Room> rooms;
+    private final IntObjectHashMap<RoomCalendar> calendars;
+    private final RoomAssigner assigner;
+    private final RoomTypeInventory inventory;
+    private final OccupancyRollup rollup;
+    private final ObjectHashMap<Identity, Reservation> reservations;
+    private final ReservationArchive archive;
+    private final TreeMap<LocalDate, List<Reservation>> arrivals;
+    private final TreeMap<LocalDate, List<Reservation>> departures;
+    private final List<Reservation> finished;
+    private final ObjectHashMap<Identity, RoomHold> holds;
+    private final ObjectHashMap<Identity, RoomBlock> blocks;
+    private final TimingWheel<RoomHold> holdExpiry;
+    private final Waitlist waitlist;
+    private volatile ReservationEventBus events;
+    private volatile ReservationChangeLog changeLog;
+    private long version;
 
     public Hotel(Name name) {
+        this(name, BusinessDate.systemDefault());
+    }
+
+    public Hotel(Name name, BusinessDate businessDate) {
+        this(name, null, null, businessDate);
+    }
+
+    /**
+     * Creates a located hotel; the coordinates may be null when unknown.
+     */
+    public Hotel(Name name, Address address, Coordinates coordinates, BusinessDate businessDate) {
         if (name == null) {
             throw new IllegalArgumentException("Hotel name cannot be null");
         }
+        if (address == null && coordinates != null) {
+            throw new IllegalArgumentException("Coordinates require an address");
+        }
+        if (businessDate == null) {
+            throw new IllegalArgumentException("Business date cannot be null");
+        }
         this.name = name;
-        this.rooms = new HashMap<>();
-        this.reservations = new ArrayList<>();
+        this.address = address;
+        this.coordinates = coordinates;
+        this.businessDate = businessDate;
+        this.rooms = new IntObjectHashMap<>();
+        this.calendars = new IntObjectHashMap<>();
+        this.assigner = new RoomAssigner(calendars);
+        this.inventory = new RoomTypeInventory();
+        this.rollup = new OccupancyRollup();
+        this.reservations = new ObjectHashMap<>();
+        this.archive = new ReservationArchive(rooms::get);
+        this.arrivals = new TreeMap<>();
+        this.departures = new TreeMap<>();
+        this.finished = new ArrayList<>();
+        this.holds = new ObjectHashMap<>();
+        this.blocks = new ObjectHashMap<>();
+        this.holdExpiry = new TimingWheel<>(HOLD_TICK_MILLIS, businessDate.currentTimeMillis());
+        this.waitlist = new Waitlist();
     }
 
     public Name getName() {
         return name;
     }
 
+    /**
+     * Gets the hotel's address, or null if it was created without one.
+     */
+    public Address getAddress() {
+        return address;
+    }
+
+    /**
+     * Gets the hotel's coordinates, or null if they are unknown.
+     */
+    public Coordinates getCoordinates() {
+        return coordinates;
+    }
+
+    public BusinessDate getBusinessDate() {
+        return businessDate;
+    }
+
+    /**
+     * Attaches the bus that lifecycle events are published to, or detaches it when null.
+     */
+    public void setEventBus(ReservationEventBus events) {
+        this.events = events;
+    }
+
+    /**
+     * Attaches the log every reservation change is appended to, or detaches it when null.
+     */
+    public void setChangeLog(ReservationChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * Gets the per-night room type counters, where overbooking limits are configured.
+     */
+    public RoomTypeInventory getInventory() {
+        return inventory;
+    }
+
+    /**
+     * Gets the daily occupancy and revenue counters, kept current with every booking change.
+     */
+    public OccupancyRollup getRollup() {
+        return rollup;
+    }
+
     /**
      * Adds a room to the hotel.
      */
@@ -36,6 +147,9 @@ public class Hotel {
             throw new IllegalArgumentException("Room number " + room.getNumber() + " already exists");
         }
         rooms.put(room.getNumber(), room);
+        calendars.put(room.getNumber(), new RoomCalendar(room));
+        inventory.addPhysicalRoom(room.getRoomType());
+        rollup.addRoom(room.getRoomType());
     }
 
     /**
@@ -53,11 +167,34 @@ public class Hotel {
      * Gets all rooms.
      */
     public Collection<Room> getAllRooms() {
-        return new ArrayList<>(rooms.values());
+        return rooms.values();
+    }
+
+    /**
+     * Gets the room types the hotel has rooms of.
+     */
+    public List<RoomType> getRoomTypes() {
+        return inventory.getRoomTypes();
+    }
+
+    /**
+     * Checks whether a room of the type is free for the whole stay, without ranking rooms.
+     */
+    public boolean hasAvailableRoom(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        if (roomType == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Room type and dates cannot be null");
+        }
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        expireHolds();
+        return inventory.hasCapacity(roomType, startDate, endDate)
+            && assigner.anyAvailable(roomType, startDate, endDate);
     }
 
     /**
      * Finds available rooms of a specific type for given dates.
+     * Rooms are ordered best fit first, so taking the first one keeps calendars compact.
      */
     public List<Room> getAvailableRooms(RoomType roomType, LocalDate startDate, LocalDate endDate) {
         if (roomType == null || startDate == null || endDate == null) {
@@ -66,33 +203,69 @@ public class Hotel {
         if (endDate.isBefore(startDate) || endDate.equals(startDate)) {
             throw new IllegalArgumentException("End date must be after start date");
         }
+        expireHolds();
+        if (!inventory.hasCapacity(roomType, startDate, endDate)) {
+            return new ArrayList<>();
+        }
+        return assigner.rankAvailable(roomType, startDate, endDate);
+    }
 
-        List<Room> available = new ArrayList<>();
-        for (Room room : rooms.values()) {
-            if (room.getRoomType().equals(roomType) && isRoomAvailable(room, startDate, endDate)) {
-                available.add(room);
-            }
+    /**
+     * Finds the free room of a type that best fits the stay.
+     */
+    public Room findBestRoom(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        if (roomType == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Room type and dates cannot be null");
         }
-        return available;
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        expireHolds();
+        Room room = assigner.bestFit(roomType, startDate, endDate);
+        if (room == null) {
+            throw new IllegalStateException("No room available for the requested dates");
+        }
+        return room;
     }
 
     /**
-     * Checks if a room is available for the given date range.
+     * Repacks confirmed future bookings of a room type to open long runs of free nights.
+     * Bookings arriving today or earlier are left where they are.
+     * @return the number of bookings moved to a different room
      */
-    private boolean isRoomAvailable(Room room, LocalDate startDate, LocalDate endDate) {
-        return reservations.stream()
-            .filter(r -> r.getRoom().equals(room))
-            .filter(r -> r.getStatus() != Reservation.ReservationStatus.CANCELLED)
-            .noneMatch(r -> hasDateConflict(r, startDate, endDate));
+    public int optimizeRoomAssignments(RoomType roomType) {
+        if (roomType == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+        expireHolds();
+        LocalDate tomorrow = businessDate.today().plusDays(1);
+        List<Reservation> movable = new ArrayList<>();
+        for (List<Reservation> arriving : arrivals.tailMap(tomorrow, true).values()) {
+            for (Reservation reservation : arriving) {
+                if (reservation.getStatus() == Reservation.ReservationStatus.CONFIRMED &&
+                    reservation.isAssigned() && reservation.getRoomType().equals(roomType)) {
+                    movable.add(reservation);
+                }
+            }
+        }
+        List<Room> before = new ArrayList<>(movable.size());
+        for (Reservation reservation : movable) {
+            before.add(reservation.getRoom());
+        }
+        int moved = assigner.reoptimize(movable);
+        for (int i = 0; i < movable.size() && moved > 0; i++) {
+            if (movable.get(i).getRoom() != before.get(i)) {
+                publish(ReservationEvent.Type.ROOM_ASSIGNED, movable.get(i));
+            }
+        }
+        return moved;
     }
 
     /**
-     * Checks for date conflict between existing and new reservation.
+     * Checks if a room is available for the given date range.
      */
-    private boolean hasDateConflict(Reservation existing, LocalDate startDate, LocalDate endDate) {
-        LocalDate existStart = existing.getStartDate();
-        LocalDate existEnd = existing.getEndDate();
-        return !(endDate.isBefore(existStart) || startDate.isAfter(existEnd));
+    private boolean isRoomAvailable(Room room, LocalDate startDate, LocalDate endDate) {
+        return calendars.get(room.getNumber()).isFree(startDate, endDate);
     }
 
     /**
@@ -102,60 +275,552 @@ public class Hotel {
         if (guest == null || room == null || startDate == null || endDate == null) {
             throw new IllegalArgumentException("Parameters cannot be null");
         }
-        if (!rooms.containsValue(room)) {
+        if (!room.equals(rooms.get(room.getNumber()))) {
             throw new IllegalArgumentException("Room does not belong to this hotel");
         }
+        expireHolds();
         if (!isRoomAvailable(room, startDate, endDate)) {
             throw new IllegalStateException("Room is not available for the requested dates");
         }
+        claimInventory(room.getRoomType(), startDate, endDate);
 
-        Reservation reservation = Reservation.create(guest, room, startDate, endDate);
-        reservations.add(reservation);
+        Reservation reservation;
+        try {
+            reservation = Reservation.create(guest, room, startDate, endDate, businessDate.today());
+        } catch (IllegalArgumentException e) {
+            inventory.release(room.getRoomType(), startDate, endDate);
+            throw e;
+        }
+        addReservation(reservation);
         return reservation;
     }
 
     /**
-     * Cancels a reservation.
+     * Books a stay against room type inventory, deferring the choice of room.
+     * Sells up to the physical room count plus the configured overbooking allowance;
+     * rooms are assigned later by {@link #assignPendingRooms(LocalDate)}.
      */
-    public void cancelReservation(Reservation reservation) {
+    public Reservation createReservation(Guest guest, RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        if (guest == null || roomType == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Parameters cannot be null");
+        }
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        expireHolds();
+        claimInventory(roomType, startDate, endDate);
+
+        Reservation reservation;
+        try {
+            reservation = Reservation.createUnassigned(guest, roomType, startDate, endDate, businessDate.today());
+        } catch (IllegalArgumentException e) {
+            inventory.release(roomType, startDate, endDate);
+            throw e;
+        }
+        addReservation(reservation);
+        return reservation;
+    }
+
+    /**
+     * Assigns rooms to inventory-level bookings arriving on or before the given date.
+     * Bookings are placed in arrival order with best fit.
+     * @return the bookings that could not be placed and must be walked or upgraded
+     */
+    public List<Reservation> assignPendingRooms(LocalDate throughDate) {
+        if (throughDate == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        expireHolds();
+        List<Reservation> unplaced = new ArrayList<>();
+        for (List<Reservation> arriving : arrivals.headMap(throughDate, true).values()) {
+            for (Reservation reservation : arriving) {
+                if (reservation.isAssigned() ||
+                    reservation.getStatus() != Reservation.ReservationStatus.CONFIRMED) {
+                    continue;
+                }
+                Room room = assigner.bestFit(reservation.getRoomType(),
+                    reservation.getStartDate(), reservation.getEndDate());
+                if (room == null) {
+                    unplaced.add(reservation);
+                } else {
+                    reservation.reassignRoom(room);
+                    calendars.get(room.getNumber()).add(reservation);
+                    publish(ReservationEvent.Type.ROOM_ASSIGNED, reservation);
+                }
+            }
+        }
+        return unplaced;
+    }
+
+    private void claimInventory(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        if (!inventory.tryReserve(roomType, startDate, endDate)) {
+            throw new IllegalStateException("Room type is sold out for the requested dates");
+        }
+    }
+
+    /**
+     * Places a temporary hold on a room that blocks availability until it expires.
+     */
+    public RoomHold placeHold(Room room, LocalDate startDate, LocalDate endDate, Duration ttl) {
+        if (room == null || startDate == null || endDate == null || ttl == null) {
+            throw new IllegalArgumentException("Parameters cannot be null");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Hold duration must be positive");
+        }
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        if (!room.equals(rooms.get(room.getNumber()))) {
+            throw new IllegalArgumentException("Room does not belong to this hotel");
+        }
+        expireHolds();
+        if (!isRoomAvailable(room, startDate, endDate)) {
+            throw new IllegalStateException("Room is not available for the requested dates");
+        }
+        claimInventory(room.getRoomType(), startDate, endDate);
+
+        RoomHold hold = new RoomHold(room, startDate, endDate, businessDate.currentTimeMillis() + ttl.toMillis());
+        holds.put(hold.getId(), hold);
+        calendars.get(room.getNumber()).add(hold);
+        hold.timeout = holdExpiry.schedule(hold, hold.getExpiresAtMillis());
+        return hold;
+    }
+
+    /**
+     * Converts a pending hold into a confirmed reservation for the guest.
+     */
+    public Reservation confirmHold(RoomHold hold, Guest guest) {
+        if (hold == null || guest == null) {
+            throw new IllegalArgumentException("Parameters cannot be null");
+        }
+        expireHolds();
+        if (!hold.isPending()) {
+            throw new IllegalStateException("Hold is no longer pending");
+        }
+        requireOwnedHold(hold);
+        Reservation reservation = Reservation.create(guest, hold.getRoom(), hold.getStartDate(), hold.getEndDate(),
+            businessDate.today());
+        removeHold(hold);
+        hold.confirm();
+        addReservation(reservation);
+        return reservation;
+    }
+
+    /**
+     * Releases a pending hold before it expires.
+     */
+    public void releaseHold(RoomHold hold) {
+        if (hold == null) {
+            throw new IllegalArgumentException("Hold cannot be null");
+        }
+        if (!hold.isPending()) {
+            throw new IllegalStateException("Hold is no longer pending");
+        }
+        requireOwnedHold(hold);
+        removeHold(hold);
+        hold.release();
+        inventory.release(hold.getRoom().getRoomType(), hold.getStartDate(), hold.getEndDate());
+    }
+
+    /**
+     * Expires every hold whose time-to-live has elapsed.
+     * Runs automatically before availability checks; may also be driven by a scheduler.
+     * @return the number of holds expired
+     */
+    public int expireHolds() {
+        return holdExpiry.advance(businessDate.currentTimeMillis(), hold -> {
+            hold.timeout = null;
+            removeHold(hold);
+            hold.expire();
+            inventory.release(hold.getRoom().getRoomType(), hold.getStartDate(), hold.getEndDate());
+        });
+    }
+
+    /**
+     * Gets all pending holds.
+     */
+    public List<RoomHold> getPendingHolds() {
+        return holds.values();
+    }
+
+    private void requireOwnedHold(RoomHold hold) {
+        if (holds.get(hold.getId()) != hold) {
+            throw new IllegalArgumentException("Hold does not belong to this hotel");
+        }
+    }
+
+    private void removeHold(RoomHold hold) {
+        holdExpiry.cancel(hold.timeout);
+        hold.timeout = null;
+        holds.remove(hold.getId());
+        calendars.get(hold.getRoom().getNumber()).remove(hold);
+    }
+
+    /**
+     * Takes a room out of order from the start date through the end date.
+     */
+    public RoomBlock blockRoom(Room room, LocalDate startDate, LocalDate endDate, String reason) {
+        if (room == null) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        return blockRooms(List.of(room), startDate, endDate, reason).get(0);
+    }
+
+    /**
+     * Takes every room on a floor out of order from the start date through the end date.
+     * Floors follow the room numbers: room 412 is on floor 4.
+     */
+    public List<RoomBlock> blockFloor(int floor, LocalDate startDate, LocalDate endDate, String reason) {
+        return blockRoomRange(floor * 100, floor * 100 + 99, startDate, endDate, reason);
+    }
+
+    /**
+     * Takes every room numbered from first through last out of order from the start date
+     * through the end date.
+     */
+    public List<RoomBlock> blockRoomRange(int first, int last, LocalDate startDate, LocalDate endDate,
+                                         String reason) {
+        if (first > last) {
+            throw new IllegalArgumentException("First room number cannot be after the last");
+        }
+        List<Room> inRange = new ArrayList<>();
+        rooms.forEachValue(room -> {
+            if (room.getNumber() >= first && room.getNumber() <= last) {
+                inRange.add(room);
+            }
+        });
+        inRange.sort(Comparator.comparingInt(Room::getNumber));
+        return blockRooms(inRange, startDate, endDate, reason);
+    }
+
+    /**
+     * Takes rooms out of order from the start date through the end date, all or none.
+     * Every calendar is checked before anything changes, and inventory is claimed once
+     * per room type for all of its rooms.
+     * @throws IllegalStateException if any room is booked, held or blocked in the range,
+     *         or its room type has no unsold unit left to take out
+     */
+    public List<RoomBlock> blockRooms(Collection<Room> toBlock, LocalDate startDate, LocalDate endDate,
+                                      String reason) {
+        if (toBlock == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Rooms and dates cannot be null");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        if (startDate.isBefore(businessDate.today())) {
+            throw new IllegalArgumentException("Start date cannot be in the past");
+        }
+        if (reason == null || reason.trim().isEmpty()) {
+            throw new IllegalArgumentException("Reason cannot be null or empty");
+        }
+        expireHolds();
+        Map<RoomType, Integer> units = new LinkedHashMap<>();
+        Set<Integer> numbers = new HashSet<>();
+        List<Integer> busy = new ArrayList<>();
+        for (Room room : toBlock) {
+            if (room == null || !room.equals(rooms.get(room.getNumber()))) {
+                throw new IllegalArgumentException("Room does not belong to this hotel");
+            }
+            if (!numbers.add(room.getNumber())) {
+                throw new IllegalArgumentException("Room " + room.getNumber() + " is listed twice");
+            }
+            if (!isRoomAvailable(room, startDate, endDate)) {
+                busy.add(room.getNumber());
+            }
+            units.merge(room.getRoomType(), 1, Integer::sum);
+        }
+        if (!busy.isEmpty()) {
+            throw new IllegalStateException("Rooms are not available for the requested dates: " + busy);
+        }
+        List<RoomType> claimed = new ArrayList<>(units.size());
+        for (Map.Entry<RoomType, Integer> entry : units.entrySet()) {
+            if (!inventory.tryReserve(entry.getKey(), startDate, endDate, entry.getValue())) {
+                for (RoomType roomType : claimed) {
+                    inventory.release(roomType, startDate, endDate, units.get(roomType));
+                }
+                throw new IllegalStateException("Room type " + entry.getKey().getKind() +
+                    " is sold out for the requested dates");
+            }
+            claimed.add(entry.getKey());
+        }
+
+        List<RoomBlock> created = new ArrayList<>(numbers.size());
+        for (Room room : toBlock) {
+            RoomBlock block = new RoomBlock(room, startDate, endDate, reason.trim());
+            blocks.put(block.getId(), block);
+            calendars.get(room.getNumber()).add(block);
+            created.add(block);
+            publish(ReservationEvent.Type.BLOCKED, block);
+        }
+        return created;
+    }
+
+    /**
+     * Puts a blocked room back into inventory.
+     */
+    public void releaseBlock(RoomBlock block) {
+        if (block == null) {
+            throw new IllegalArgumentException("Block cannot be null");
+        }
+        if (!block.isActive()) {
+            throw new IllegalStateException("Block is no longer active");
+        }
+        if (blocks.get(block.getId()) != block) {
+            throw new IllegalArgumentException("Block does not belong to this hotel");
+        }
+        removeBlock(block);
+    }
+
+    /**
+     * Gets all active room blocks.
+     */
+    public List<RoomBlock> getRoomBlocks() {
+        return blocks.values();
+    }
+
+    /**
+     * Drops a block and returns its remaining days to inventory; days already past stay counted.
+     */
+    private void removeBlock(RoomBlock block) {
+        blocks.remove(block.getId());
+        calendars.get(block.getRoom().getNumber()).remove(block);
+        LocalDate today = businessDate.today();
+        LocalDate from = block.getStartDate().isBefore(today) ? today : block.getStartDate();
+        if (!from.isAfter(block.getEndDate())) {
+            inventory.release(block.getRoom().getRoomType(), from, block.getEndDate());
+        }
+        block.release();
+        publish(ReservationEvent.Type.BLOCK_RELEASED, block);
+    }
+
+    /**
+     * Puts a guest on the waitlist for a room type over the given dates.
+     */
+    public WaitlistEntry joinWaitlist(Guest guest, RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        return joinWaitlist(guest, roomType, startDate, endDate, null, null);
+    }
+
+    /**
+     * Puts a guest on the waitlist; a promotion is also recorded with the manager.
+     */
+    WaitlistEntry joinWaitlist(Guest guest, RoomType roomType, LocalDate startDate, LocalDate endDate,
+                               ReservationManager manager, CreditCard creditCard) {
+        if (guest == null || roomType == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Parameters cannot be null");
+        }
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        if (startDate.isBefore(businessDate.today())) {
+            throw new IllegalArgumentException("Start date cannot be in the past");
+        }
+        if (inventory.getCapacity(roomType, startDate) == 0) {
+            throw new IllegalArgumentException("Hotel has no rooms of this type");
+        }
+        return waitlist.add(guest, roomType, startDate, endDate, manager, creditCard);
+    }
+
+    /**
+     * Removes a waiting guest from the waitlist.
+     */
+    public void leaveWaitlist(WaitlistEntry entry) {
+        if (entry == null) {
+            throw new IllegalArgumentException("Waitlist entry cannot be null");
+        }
+        if (!entry.isWaiting()) {
+            throw new IllegalStateException("Waitlist entry is no longer waiting");
+        }
+        if (!waitlist.remove(entry)) {
+            throw new IllegalArgumentException("Waitlist entry does not belong to this hotel");
+        }
+        entry.withdraw();
+    }
+
+    /**
+     * Gets the guests waiting for a room type, in the order they joined.
+     */
+    public List<WaitlistEntry> getWaitlist(RoomType roomType) {
+        return waitlist.entries(roomType);
+    }
+
+    /**
+     * Books waiting guests whose stay overlaps a range that has just been freed.
+     * Only entries overlapping the range are visited; those that fit entirely
+     * inside it are tried first, then the rest, each group first come first served.
+     * Entries whose arrival date has passed are expired on the way. An entry whose
+     * booking fails stays on the waitlist and the others are still tried.
+     * @return the entries that were promoted to reservations
+     */
+    public List<WaitlistEntry> promoteWaitlist(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        if (roomType == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Parameters cannot be null");
+        }
+        expireHolds();
+        LocalDate today = businessDate.today();
+        List<WaitlistEntry> candidates = waitlist.overlapping(roomType, startDate, endDate);
+        candidates.sort(Comparator.comparing((WaitlistEntry entry) ->
+            entry.getStartDate().isBefore(startDate) || entry.getEndDate().isAfter(endDate)));
+
+        List<WaitlistEntry> promoted = new ArrayList<>();
+        for (WaitlistEntry entry : candidates) {
+            if (entry.getStartDate().isBefore(today)) {
+                waitlist.remove(entry);
+                entry.expire();
+                continue;
+            }
+            if (!inventory.hasCapacity(roomType, entry.getStartDate(), entry.getEndDate())) {
+                continue;
+            }
+            Room room = assigner.bestFit(roomType, entry.getStartDate(), entry.getEndDate());
+            if (room == null) {
+                continue;
+            }
+            Reservation reservation;
+            try {
+                reservation = createReservation(entry.getGuest(), room, entry.getStartDate(), entry.getEndDate());
+            } catch (RuntimeException e) {
+                continue;
+            }
+            waitlist.remove(entry);
+            entry.promote(reservation);
+            promoted.add(entry);
+        }
+        return promoted;
+    }
+
+    /**
+     * Loads a batch of restored reservations, bypassing booking rules and events.
+     * Finished reservations go straight to the archive; live ones are placed on their
+     * room calendars and counted against inventory. Callers validate rows beforehand.
+     * @return the reservations rejected because their id is already known,
+     *         their room is taken or their room type is sold out
+     */
+    List<Reservation> loadReservations(List<Reservation> batch) {
+        List<Reservation> rejected = new ArrayList<>();
+        for (Reservation reservation : batch) {
+            if (reservations.containsKey(reservation.getId()) || archive.contains(reservation.getId())) {
+                rejected.add(reservation);
+            } else if (reservation.isTerminal()) {
+                archive.add(reservation);
+                if (reservation.getStatus() == Reservation.ReservationStatus.CHECKED_OUT) {
+                    rollup.add(reservation);
+                }
+            } else if (!isRoomAvailable(reservation.getRoom(), reservation.getStartDate(), reservation.getEndDate())
+                       || !inventory.tryReserve(reservation.getRoomType(), reservation.getStartDate(),
+                                                reservation.getEndDate())) {
+                rejected.add(reservation);
+            } else {
+                reservations.put(reservation.getId(), reservation);
+                calendars.get(reservation.getRoom().getNumber()).add(reservation);
+                arrivals.computeIfAbsent(reservation.getStartDate(), d -> new ArrayList<>()).add(reservation);
+                departures.computeIfAbsent(reservation.getEndDate(), d -> new ArrayList<>()).add(reservation);
+                rollup.add(reservation);
+                if (reservation.getStatus() == Reservation.ReservationStatus.CHECKED_IN) {
+                    reservation.getRoom().setOccupant(reservation.getGuest());
+                }
+            }
+        }
+        version++;
+        return rejected;
+    }
+
+    private void addReservation(Reservation reservation) {
+        reservations.put(reservation.getId(), reservation);
+        if (reservation.isAssigned()) {
+            calendars.get(reservation.getRoom().getNumber()).add(reservation);
+        }
+        arrivals.computeIfAbsent(reservation.getStartDate(), d -> new ArrayList<>()).add(reservation);
+        departures.computeIfAbsent(reservation.getEndDate(), d -> new ArrayList<>()).add(reservation);
+        rollup.add(reservation);
+        publish(ReservationEvent.Type.CREATED, reservation);
+    }
+
+    private void publish(ReservationEvent.Type type, Reservation reservation) {
+        version++;
+        ReservationChangeLog log = changeLog;
+        ReservationEventBus bus = events;
+        if (log == null && bus == null) {
+            return;
+        }
+        long now = businessDate.currentTimeMillis();
+        if (log != null) {
+            log.append(ReservationChange.Kind.of(type), name.getValue(), reservation, now);
+        }
+        if (bus != null) {
+            bus.publish(type, name, reservation, now);
+        }
+    }
+
+    private void publish(ReservationEvent.Type type, RoomBlock block) {
+        ReservationChangeLog log = changeLog;
+        ReservationEventBus bus = events;
+        if (log == null && bus == null) {
+            return;
+        }
+        long now = businessDate.currentTimeMillis();
+        if (log != null) {
+            log.append(ReservationChange.Kind.of(type), name.getValue(), block, now);
+        }
+        if (bus != null) {
+            bus.publish(type, name, block, now);
+        }
+    }
+
+    private void requireOwned(Reservation reservation) {
         if (reservation == null) {
             throw new IllegalArgumentException("Reservation cannot be null");
         }
-        if (!reservations.contains(reservation)) {
+        if (!reservations.containsKey(reservation.getId()) && !archive.contains(reservation.getId())) {
             throw new IllegalArgumentException("Reservation does not belong to this hotel");
         }
+    }
+
+    /**
+     * Cancels a reservation.
+     */
+    public void cancelReservation(Reservation reservation) {
+        requireOwned(reservation);
         reservation.cancel();
+        if (reservation.isAssigned()) {
+            calendars.get(reservation.getRoom().getNumber()).remove(reservation);
+        }
+        inventory.release(reservation.getRoomType(), reservation.getStartDate(), reservation.getEndDate());
+        rollup.remove(reservation);
+        finished.add(reservation);
+        publish(ReservationEvent.Type.CANCELLED, reservation);
     }
 
     /**
      * Checks in a guest.
      */
     public void checkInGuest(Reservation reservation) {
-        if (reservation == null) {
-            throw new IllegalArgumentException("Reservation cannot be null");
-        }
-        if (!reservations.contains(reservation)) {
-            throw new IllegalArgumentException("Reservation does not belong to this hotel");
-        }
-        if (LocalDate.now().isBefore(reservation.getStartDate())) {
+        requireOwned(reservation);
+        LocalDate today = businessDate.today();
+        if (today.isBefore(reservation.getStartDate())) {
             throw new IllegalStateException("Check-in date has not arrived");
         }
-        reservation.checkIn();
+        reservation.checkIn(today);
         reservation.getRoom().setOccupant(reservation.getGuest());
+        publish(ReservationEvent.Type.CHECKED_IN, reservation);
     }
 
     /**
-     * Checks out a guest.
+     * Checks out a guest. Leaving before the end date takes the unused nights off the rollup
+     * and returns the days after today to the room type inventory.
      */
     public void checkOutGuest(Reservation reservation) {
-        if (reservation == null) {
-            throw new IllegalArgumentException("Reservation cannot be null");
-        }
-        if (!reservations.contains(reservation)) {
-            throw new IllegalArgumentException("Reservation does not belong to this hotel");
-        }
+        requireOwned(reservation);
         reservation.checkOut();
         reservation.getRoom().setOccupant(null);
+        LocalDate today = businessDate.today();
+        rollup.trim(reservation, today);
+        if (today.isBefore(reservation.getEndDate())) {
+            inventory.release(reservation.getRoomType(), today.plusDays(1), reservation.getEndDate());
+        }
+        finished.add(reservation);
+        publish(ReservationEvent.Type.CHECKED_OUT, reservation);
     }
 
     /**
@@ -165,27 +830,126 @@ public class Hotel {
         if (guest == null) {
             throw new IllegalArgumentException("Guest cannot be null");
         }
-        return reservations.stream()
-            .filter(r -> r.getGuest().equals(guest))
-            .toList();
+        List<Reservation> result = new ArrayList<>();
+        for (Reservation reservation : reservations.values()) {
+            if (reservation.getGuest().equals(guest)) {
+                result.add(reservation);
+            }
+        }
+        result.addAll(archive.findByGuest(guest));
+        return result;
+    }
+
+    /**
+     * Gets all finished reservations moved out of the working set by the night audit.
+     */
+    public List<Reservation> getReservationHistory() {
+        return archive.toList();
+    }
+
+    /**
+     * Captures every reservation of the hotel, archived and live, as frozen columns.
+     * The caller must hold the hotel lock; only live reservations are copied.
+     * The archive comes first; since it only grows, readers may skip rows seen before.
+     */
+    List<ReservationColumns> snapshotReservations() {
+        return List.of(archive.snapshot(), ReservationColumns.copyOf(reservations.values()));
+    }
+
+    /**
+     * Gets a stamp that changes whenever a reservation is created, changed, or loaded.
+     * The caller must hold the hotel lock.
+     */
+    long getVersion() {
+        return version;
     }
 
     /**
      * Gets all active reservations.
      */
     public List<Reservation> getActiveReservations() {
-        return reservations.stream()
-            .filter(r -> r.getStatus() != Reservation.ReservationStatus.CANCELLED &&
-                        r.getStatus() != Reservation.ReservationStatus.CHECKED_OUT)
+        return reservations.values().stream()
+            .filter(r -> !r.isTerminal())
             .toList();
     }
 
+    /**
+     * Runs the night audit for the current business date.
+     * Marks confirmed arrivals from earlier days as no-shows, flags checked-in stays
+     * past their end date, moves finished reservations into the archive and drops room
+     * blocks whose last day has passed.
+     * Only the date-ordered arrival and departure indexes up to today are visited,
+     * so repeated runs are cheap and idempotent.
+     */
+    public NightAuditReport runNightAudit() {
+        LocalDate today = businessDate.today();
+        List<Reservation> noShows = new ArrayList<>();
+        List<Reservation> overdue = new ArrayList<>();
+
+        SortedMap<LocalDate, List<Reservation>> pastArrivals = arrivals.headMap(today);
+        for (List<Reservation> arriving : pastArrivals.values()) {
+            for (Reservation reservation : arriving) {
+                if (reservation.getStatus() == Reservation.ReservationStatus.CONFIRMED) {
+                    reservation.markNoShow();
+                    inventory.release(reservation.getRoomType(), reservation.getStartDate(),
+                        reservation.getEndDate());
+                    rollup.remove(reservation);
+                    noShows.add(reservation);
+                    publish(ReservationEvent.Type.NO_SHOW, reservation);
+                    finished.add(reservation);
+                }
+            }
+        }
+        pastArrivals.clear();
+
+        for (List<Reservation> departing : departures.headMap(today).values()) {
+            for (Reservation reservation : departing) {
+                if (reservation.getStatus() == Reservation.ReservationStatus.CHECKED_IN) {
+                    overdue.add(reservation);
+                }
+            }
+        }
+
+        int retired = 0;
+        for (Reservation reservation : finished) {
+            if (reservations.remove(reservation.getId()) != null) {
+                removeFrom(departures, reservation.getEndDate(), reservation);
+                if (reservation.isAssigned()) {
+                    calendars.get(reservation.getRoom().getNumber()).remove(reservation);
+                }
+                archive.add(reservation);
+                retired++;
+            }
+        }
+        finished.clear();
+
+        for (RoomBlock block : blocks.values()) {
+            if (block.getEndDate().isBefore(today)) {
+                removeBlock(block);
+            }
+        }
+        return new NightAuditReport(name, today, noShows, overdue, retired);
+    }
+
+    private static void removeFrom(TreeMap<LocalDate, List<Reservation>> index, LocalDate date,
+                                   Reservation reservation) {
+        List<Reservation> bucket = index.get(date);
+        if (bucket != null) {
+            bucket.remove(reservation);
+            if (bucket.isEmpty()) {
+                index.remove(date);
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return "Hotel{" +
                "name=" + name +
                ", rooms=" + rooms.size() +
                ", reservations=" + reservations.size() +
+               ", archived=" + archive.size() +
+               ", holds=" + holdExpiry.size() +
                '}';
     }
 }
@@ -1,32 +1,85 @@
 package com.hotel.domain;
 
+import com.hotel.util.BusinessDate;
+import com.hotel.util.Coordinates;
 import com.hotel.util.CreditCard;
+import com.hotel.util.ExpiringCache;
 import com.hotel.util.Identity;
+import com.hotel.util.ObjectHashMap;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Manages hotel chain operations.
  * Handles reservation management across multiple hotels.
+ * Cancellations promote waitlisted guests on a separate executor, so operations
+ * made through the chain lock the hotel (and manager) they touch.
+ * Hotels with an address are indexed by city and location, so searches by place
+ * check availability only at the hotels there.
  */
 public class HotelChain {
+    static final Duration IDEMPOTENCY_WINDOW = Duration.ofHours(24);
+    static final int MAX_IDEMPOTENCY_KEYS = 200_000;
+
     private final String name;
+    private final BusinessDate businessDate;
     private final Map<String, Hotel> hotels;
-    private final Map<Identity, ReservationManager> managers;
+    private final HotelLocationIndex locations;
+    private final ObjectHashMap<Identity, ReservationManager> managers;
+    private final Executor promotionExecutor;
+    private final BookingKeys bookingKeys;
+    private final ExpiringCache<String, Reservation> cancellationKeys;
+    private ReservationEventBus events;
+    private ReservationChangeLog changeLog;
 
     public HotelChain(String name) {
+        this(name, Clock.systemDefaultZone());
+    }
+
+    public HotelChain(String name, Clock clock) {
+        this(name, clock, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a chain whose chain-level date checks use the given clock and its zone.
+     * Property-level checks use each hotel's own business date; waitlist promotions
+     * run on the given executor.
+     */
+    public HotelChain(String name, Clock clock, Executor promotionExecutor) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Chain name cannot be null or empty");
         }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        if (promotionExecutor == null) {
+            throw new IllegalArgumentException("Promotion executor cannot be null");
+        }
         this.name = name.trim();
+        this.businessDate = new BusinessDate(clock);
         this.hotels = new HashMap<>();
-        this.managers = new HashMap<>();
+        this.locations = new HotelLocationIndex();
+        this.managers = new ObjectHashMap<>();
+        this.promotionExecutor = promotionExecutor;
+        this.bookingKeys = new BookingKeys(IDEMPOTENCY_WINDOW, MAX_IDEMPOTENCY_KEYS, clock);
+        this.cancellationKeys = new ExpiringCache<>(IDEMPOTENCY_WINDOW, MAX_IDEMPOTENCY_KEYS, clock);
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     * Gets the chain's business date clock.
+     */
+    public BusinessDate getBusinessDate() {
+        return businessDate;
+    }
+
     /**
      * Registers a hotel with the chain.
      */
@@ -38,6 +91,43 @@ public class HotelChain {
             throw new IllegalArgumentException("Hotel already exists in chain");
         }
         hotels.put(hotel.getName().getValue(), hotel);
+        locations.add(hotel);
+        if (events != null) {
+            hotel.setEventBus(events);
+        }
+        if (changeLog != null) {
+            hotel.setChangeLog(changeLog);
+        }
+    }
+
+    /**
+     * Publishes lifecycle events of every hotel in the chain, including hotels added later.
+     */
+    public void setEventBus(ReservationEventBus events) {
+        this.events = events;
+        for (Hotel hotel : hotels.values()) {
+            hotel.setEventBus(events);
+        }
+    }
+
+    /**
+     * Unregisters a hotel, e.g. when it is handed over to another node,
+     * and detaches the chain's event bus and change log from it.
+     * @return the removed hotel
+     */
+    public Hotel removeHotel(String hotelName) {
+        Hotel hotel = hotels.remove(hotelName);
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel not found: " + hotelName);
+        }
+        locations.remove(hotel);
+        if (events != null) {
+            hotel.setEventBus(null);
+        }
+        if (changeLog != null) {
+            hotel.setChangeLog(null);
+        }
+        return hotel;
     }
 
     /**
@@ -58,6 +148,63 @@ public class HotelChain {
         return new ArrayList<>(hotels.values());
     }
 
+    /**
+     * Gets the hotels in a city, ignoring case and accents.
+     */
+    public List<Hotel> findHotelsInCity(String city) {
+        return locations.findInCity(city);
+    }
+
+    /**
+     * Gets the hotels within a distance of a point, nearest first.
+     */
+    public List<Hotel> findHotelsNear(Coordinates center, double radiusKm) {
+        return locations.findNear(center, radiusKm);
+    }
+
+    /**
+     * Gets the hotels in a city with a room of the given kind free for the whole stay.
+     */
+    public List<Hotel> findAvailableHotelsInCity(String city, String roomKind, LocalDate startDate,
+                                                 LocalDate endDate) {
+        return filterAvailable(locations.findInCity(city), roomKind, startDate, endDate);
+    }
+
+    /**
+     * Gets the hotels within a distance of a point with a room of the given kind free for
+     * the whole stay, nearest first.
+     */
+    public List<Hotel> findAvailableHotelsNear(Coordinates center, double radiusKm, String roomKind,
+                                               LocalDate startDate, LocalDate endDate) {
+        return filterAvailable(locations.findNear(center, radiusKm), roomKind, startDate, endDate);
+    }
+
+    /**
+     * Keeps the hotels where a room type of the kind, matched ignoring case, has a free room.
+     */
+    private static List<Hotel> filterAvailable(List<Hotel> candidates, String roomKind, LocalDate startDate,
+                                               LocalDate endDate) {
+        if (roomKind == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Room kind and dates cannot be null");
+        }
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        List<Hotel> available = new ArrayList<>();
+        for (Hotel hotel : candidates) {
+            synchronized (hotel) {
+                for (RoomType roomType : hotel.getRoomTypes()) {
+                    if (roomType.getKind().equalsIgnoreCase(roomKind)
+                        && hotel.hasAvailableRoom(roomType, startDate, endDate)) {
+                        available.add(hotel);
+                        break;
+                    }
+                }
+            }
+        }
+        return available;
+    }
+
     /**
      * Registers a reservation manager.
      */
@@ -66,6 +213,22 @@ public class HotelChain {
             throw new IllegalArgumentException("Manager cannot be null");
         }
         managers.put(manager.getId(), manager);
+        if (changeLog != null) {
+            manager.setChangeLog(changeLog, businessDate);
+        }
+    }
+
+    /**
+     * Captures every change made by the chain's hotels and managers, including ones added later.
+     */
+    public void setChangeLog(ReservationChangeLog changeLog) {
+        this.changeLog = changeLog;
+        for (Hotel hotel : hotels.values()) {
+            hotel.setChangeLog(changeLog);
+        }
+        for (ReservationManager manager : managers.values()) {
+            manager.setChangeLog(changeLog, businessDate);
+        }
     }
 
     /**
@@ -82,11 +245,48 @@ public class HotelChain {
             throw new IllegalStateException("Cannot make reservation for requested dates");
         }
 
-        Reservation reservation = hotel.createReservation(guest, room, startDate, endDate);
-        manager.recordReservation(creditCard, reservation);
+        Reservation reservation;
+        synchronized (hotel) {
+            reservation = hotel.createReservation(guest, room, startDate, endDate);
+        }
+        synchronized (manager) {
+            manager.recordReservation(creditCard, reservation);
+        }
         return reservation;
     }
 
+    /**
+     * Makes a reservation at most once per idempotency key.
+     * A retry with a key seen within the last day returns the original reservation
+     * without booking again; a null key behaves like the plain call.
+     */
+    public Reservation makeReservation(String idempotencyKey, Hotel hotel, Guest guest, Room room,
+                                       LocalDate startDate, LocalDate endDate,
+                                       ReservationManager manager, CreditCard creditCard) {
+        if (idempotencyKey == null) {
+            return makeReservation(hotel, guest, room, startDate, endDate, manager, creditCard);
+        }
+        return bookingKeys.book(idempotencyKey, hotel, guest, room, startDate, endDate, () ->
+            makeReservation(hotel, guest, room, startDate, endDate, manager, creditCard));
+    }
+
+    /**
+     * Puts a guest on a hotel's waitlist for a room type.
+     * When a cancellation frees a matching room the guest is booked and the
+     * reservation recorded with the manager.
+     */
+    public WaitlistEntry joinWaitlist(Hotel hotel, Guest guest, RoomType roomType,
+                                      LocalDate startDate, LocalDate endDate,
+                                      ReservationManager manager, CreditCard creditCard) {
+        if (hotel == null || guest == null || roomType == null || startDate == null ||
+            endDate == null || manager == null || creditCard == null) {
+            throw new IllegalArgumentException("All parameters must be non-null");
+        }
+        synchronized (hotel) {
+            return hotel.joinWaitlist(guest, roomType, startDate, endDate, manager, creditCard);
+        }
+    }
+
     /**
      * Cancels a reservation across the chain.
      */
@@ -98,8 +298,49 @@ public class HotelChain {
             throw new IllegalStateException("Cannot cancel reservation");
         }
 
-        hotel.cancelReservation(reservation);
-        manager.cancelReservation(reservation);
+        synchronized (hotel) {
+            hotel.cancelReservation(reservation);
+        }
+        synchronized (manager) {
+            manager.cancelReservation(reservation);
+        }
+        promotionExecutor.execute(() -> promoteWaitlist(hotel, reservation.getRoomType(),
+            reservation.getStartDate(), reservation.getEndDate()));
+    }
+
+    /**
+     * Cancels a reservation at most once per idempotency key.
+     * A retry with a key seen within the last day succeeds without cancelling again;
+     * a null key behaves like the plain call.
+     */
+    public void cancelReservation(String idempotencyKey, Hotel hotel, Reservation reservation,
+                                  ReservationManager manager) {
+        if (idempotencyKey == null) {
+            cancelReservation(hotel, reservation, manager);
+            return;
+        }
+        Reservation cancelled = cancellationKeys.computeIfAbsent(idempotencyKey, () -> {
+            cancelReservation(hotel, reservation, manager);
+            return reservation;
+        });
+        if (!cancelled.equals(reservation)) {
+            throw new IllegalArgumentException("Idempotency key was already used for a different reservation");
+        }
+    }
+
+    private void promoteWaitlist(Hotel hotel, RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        List<WaitlistEntry> promoted;
+        synchronized (hotel) {
+            promoted = hotel.promoteWaitlist(roomType, startDate, endDate);
+        }
+        for (WaitlistEntry entry : promoted) {
+            ReservationManager manager = entry.getManager();
+            if (manager != null) {
+                synchronized (manager) {
+                    manager.recordReservation(entry.getCreditCard(), entry.getReservation());
+                }
+            }
+        }
     }
 
     /**
@@ -109,11 +350,13 @@ public class HotelChain {
         if (hotel == null || reservation == null) {
             throw new IllegalArgumentException("Parameters cannot be null");
         }
-        if (!canCheckInGuest(reservation)) {
+        if (!canCheckInGuest(hotel, reservation)) {
             throw new IllegalStateException("Cannot check in guest");
         }
 
-        hotel.checkInGuest(reservation);
+        synchronized (hotel) {
+            hotel.checkInGuest(reservation);
+        }
     }
 
     /**
@@ -127,7 +370,9 @@ public class HotelChain {
             throw new IllegalStateException("Cannot check out guest");
         }
 
-        hotel.checkOutGuest(reservation);
+        synchronized (hotel) {
+            hotel.checkOutGuest(reservation);
+        }
     }
 
     public boolean canMakeReservation(Room room, LocalDate startDate, LocalDate endDate) {
@@ -136,15 +381,22 @@ public class HotelChain {
     }
 
     public boolean canCancelReservation(Reservation reservation) {
-        return reservation != null &&
-               reservation.getStatus() != Reservation.ReservationStatus.CHECKED_OUT &&
-               reservation.getStatus() != Reservation.ReservationStatus.CANCELLED;
+        return reservation != null && !reservation.isTerminal();
     }
 
     public boolean canCheckInGuest(Reservation reservation) {
         return reservation != null &&
                reservation.getStatus() == Reservation.ReservationStatus.CONFIRMED &&
-               !LocalDate.now().isBefore(reservation.getStartDate());
+               !businessDate.today().isBefore(reservation.getStartDate());
+    }
+
+    /**
+     * Checks check-in eligibility against the hotel's local business date.
+     */
+    public boolean canCheckInGuest(Hotel hotel, Reservation reservation) {
+        return hotel != null && reservation != null &&
+               reservation.getStatus() == Reservation.ReservationStatus.CONFIRMED &&
+               !hotel.getBusinessDate().today().isBefore(reservation.getStartDate());
     }
 
     public boolean canCheckOutGuest(Reservation reservation) {
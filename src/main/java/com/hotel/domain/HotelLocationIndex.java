@@ -0,0 +1,160 @@
+package com.hotel.domain;
+
+import com.hotel.util.Coordinates;
+import java.util.*;
+
+/**
+ * Finds hotels by city or by distance from a point.
+ * Cities are keyed without case or accents. Located hotels are bucketed into a grid of
+ * cells a tenth of a degree on each side (about 11 km north to south), so a radius
+ * search only measures the hotels in the cells overlapping its bounding box.
+ * Not thread-safe; the owning chain serializes changes.
+ */
+public class HotelLocationIndex {
+    private static final double CELL_DEGREES = 0.1;
+    private static final int LONGITUDE_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double KM_PER_DEGREE = 111.19;
+
+    private final Map<String, List<Hotel>> cities;
+    private final Map<Long, List<Hotel>> cells;
+    private int locatedCount;
+
+    public HotelLocationIndex() {
+        this.cities = new HashMap<>();
+        this.cells = new HashMap<>();
+    }
+
+    /**
+     * Indexes a hotel under its address and coordinates; hotels without an address are ignored.
+     */
+    public void add(Hotel hotel) {
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel cannot be null");
+        }
+        if (hotel.getAddress() == null) {
+            return;
+        }
+        cities.computeIfAbsent(GuestDirectory.cityKey(hotel.getAddress().getCity()), k -> new ArrayList<>(2))
+            .add(hotel);
+        Coordinates point = hotel.getCoordinates();
+        if (point != null) {
+            cells.computeIfAbsent(cell(latitudeCell(point.getLatitude()), longitudeCell(point.getLongitude())),
+                k -> new ArrayList<>(2)).add(hotel);
+            locatedCount++;
+        }
+    }
+
+    /**
+     * Removes a hotel from the index.
+     */
+    public void remove(Hotel hotel) {
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel cannot be null");
+        }
+        if (hotel.getAddress() == null) {
+            return;
+        }
+        removeFrom(cities, GuestDirectory.cityKey(hotel.getAddress().getCity()), hotel);
+        Coordinates point = hotel.getCoordinates();
+        if (point != null && removeFrom(cells,
+                cell(latitudeCell(point.getLatitude()), longitudeCell(point.getLongitude())), hotel)) {
+            locatedCount--;
+        }
+    }
+
+    /**
+     * Gets the hotels in a city, ignoring case and accents.
+     */
+    public List<Hotel> findInCity(String city) {
+        if (city == null) {
+            throw new IllegalArgumentException("City cannot be null");
+        }
+        return new ArrayList<>(cities.getOrDefault(GuestDirectory.cityKey(city), Collections.emptyList()));
+    }
+
+    /**
+     * Gets the located hotels within a distance of a point, nearest first.
+     */
+    public List<Hotel> findNear(Coordinates center, double radiusKm) {
+        if (center == null) {
+            throw new IllegalArgumentException("Center cannot be null");
+        }
+        if (!(radiusKm >= 0)) {
+            throw new IllegalArgumentException("Radius cannot be negative");
+        }
+        double latitudeSpan = radiusKm / KM_PER_DEGREE;
+        double minLatitude = Math.max(-90, center.getLatitude() - latitudeSpan);
+        double maxLatitude = Math.min(90, center.getLatitude() + latitudeSpan);
+        double widest = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        double longitudeSpan = widest <= 0 ? 180 : Math.min(180, radiusKm / (KM_PER_DEGREE * widest));
+        int firstRow = latitudeCell(minLatitude);
+        int lastRow = latitudeCell(maxLatitude);
+        int firstColumn = (int) Math.floor((center.getLongitude() - longitudeSpan) / CELL_DEGREES);
+        int columns = Math.min(LONGITUDE_CELLS, (int) Math.floor((center.getLongitude() + longitudeSpan)
+            / CELL_DEGREES) - firstColumn + 1);
+
+        List<Hotel> found = new ArrayList<>();
+        if ((long) (lastRow - firstRow + 1) * columns > cells.size()) {
+            for (List<Hotel> hotels : cells.values()) {
+                collectNear(hotels, center, radiusKm, found);
+            }
+        } else {
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column < firstColumn + columns; column++) {
+                    List<Hotel> hotels = cells.get(cell(row, Math.floorMod(column, LONGITUDE_CELLS)));
+                    if (hotels != null) {
+                        collectNear(hotels, center, radiusKm, found);
+                    }
+                }
+            }
+        }
+        found.sort(Comparator.comparingDouble(hotel -> hotel.getCoordinates().distanceKm(center)));
+        return found;
+    }
+
+    /**
+     * Gets the number of hotels indexed with coordinates.
+     */
+    public int getLocatedCount() {
+        return locatedCount;
+    }
+
+    private static void collectNear(List<Hotel> hotels, Coordinates center, double radiusKm, List<Hotel> found) {
+        for (Hotel hotel : hotels) {
+            if (hotel.getCoordinates().distanceKm(center) <= radiusKm) {
+                found.add(hotel);
+            }
+        }
+    }
+
+    private static <K> boolean removeFrom(Map<K, List<Hotel>> index, K key, Hotel hotel) {
+        List<Hotel> hotels = index.get(key);
+        if (hotels == null || !hotels.remove(hotel)) {
+            return false;
+        }
+        if (hotels.isEmpty()) {
+            index.remove(key);
+        }
+        return true;
+    }
+
+    private static int latitudeCell(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int longitudeCell(double longitude) {
+        return Math.floorMod((int) Math.floor(longitude / CELL_DEGREES), LONGITUDE_CELLS);
+    }
+
+    private static long cell(int row, int column) {
+        return (long) row << 32 | column;
+    }
+
+    @Override
+    public String toString() {
+        return "HotelLocationIndex{" +
+               "cities=" + cities.size() +
+               ", located=" + locatedCount +
+               '}';
+    }
+}
@@ -0,0 +1,98 @@
+package com.hotel.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of one bulk import run.
+ * Counts every row, and keeps the first rejected rows with their line numbers
+ * and reasons so a file can be fixed and re-imported.
+ */
+public class ImportReport {
+    /** Number of row errors kept in detail; later ones are only counted. */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final List<RowError> errors;
+    private long rowsRead;
+    private long rowsLoaded;
+    private long errorCount;
+
+    /**
+     * A rejected row.
+     */
+    public static final class RowError {
+        private final long line;
+        private final String message;
+
+        RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        /**
+         * Gets the 1-based line number of the row in the source file.
+         */
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "line " + line + ": " + message;
+        }
+    }
+
+    ImportReport() {
+        this.errors = new ArrayList<>();
+    }
+
+    void rowsRead(long count) {
+        rowsRead += count;
+    }
+
+    void rowsLoaded(long count) {
+        rowsLoaded += count;
+    }
+
+    void reject(long line, String message) {
+        errorCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsLoaded() {
+        return rowsLoaded;
+    }
+
+    /**
+     * Gets the number of rejected rows, including those not kept in detail.
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Gets the first rejected rows, chunk by chunk in file order.
+     */
+    public List<RowError> getErrors() {
+        return new ArrayList<>(errors);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport{" +
+               "read=" + rowsRead +
+               ", loaded=" + rowsLoaded +
+               ", errors=" + errorCount +
+               '}';
+    }
+}
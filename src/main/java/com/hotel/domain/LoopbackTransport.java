@@ -0,0 +1,111 @@
+package com.hotel.domain;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport for running a leader and followers on one machine.
+ * Each follower gets its own delivery thread, so batches arrive in order and
+ * asynchronously, as they would over a network; acknowledgements travel back
+ * on a separate thread. Once closed, messages still being sent are dropped.
+ */
+public class LoopbackTransport implements ReplicationTransport, AutoCloseable {
+    private final Map<String, ExecutorService> lanes;
+    private final Map<String, Consumer<ReplicationBatch>> followers;
+    private final ExecutorService ackLane;
+    private volatile BiConsumer<String, Long> ackHandler;
+    private volatile BiConsumer<String, Long> resendHandler;
+
+    public LoopbackTransport() {
+        this.lanes = new ConcurrentHashMap<>();
+        this.followers = new ConcurrentHashMap<>();
+        this.ackLane = newLane("replication-acks");
+    }
+
+    @Override
+    public void bindLeader(BiConsumer<String, Long> ackHandler, BiConsumer<String, Long> resendHandler) {
+        if (ackHandler == null || resendHandler == null) {
+            throw new IllegalArgumentException("Handlers cannot be null");
+        }
+        this.ackHandler = ackHandler;
+        this.resendHandler = resendHandler;
+    }
+
+    @Override
+    public void bindFollower(String followerId, Consumer<ReplicationBatch> batchHandler) {
+        if (followerId == null || batchHandler == null) {
+            throw new IllegalArgumentException("Follower id and handler cannot be null");
+        }
+        if (followers.putIfAbsent(followerId, batchHandler) != null) {
+            throw new IllegalArgumentException("Follower already bound: " + followerId);
+        }
+        lanes.put(followerId, newLane("replication-" + followerId));
+    }
+
+    @Override
+    public void sendBatch(String followerId, ReplicationBatch batch) {
+        ExecutorService lane = lanes.get(followerId);
+        if (lane == null) {
+            throw new IllegalArgumentException("Unknown follower: " + followerId);
+        }
+        Consumer<ReplicationBatch> follower = followers.get(followerId);
+        submit(lane, () -> follower.accept(batch));
+    }
+
+    @Override
+    public void sendAck(String followerId, long nextOffset) {
+        BiConsumer<String, Long> handler = ackHandler;
+        if (handler != null) {
+            submit(ackLane, () -> handler.accept(followerId, nextOffset));
+        }
+    }
+
+    @Override
+    public void requestResend(String followerId, long fromOffset) {
+        BiConsumer<String, Long> handler = resendHandler;
+        if (handler != null) {
+            submit(ackLane, () -> handler.accept(followerId, fromOffset));
+        }
+    }
+
+    /**
+     * Stops delivery: batches already queued are applied and acknowledged first,
+     * then the acknowledgement lane drains.
+     */
+    @Override
+    public void close() {
+        lanes.values().forEach(ExecutorService::shutdown);
+        try {
+            for (ExecutorService lane : lanes.values()) {
+                lane.awaitTermination(1, TimeUnit.MINUTES);
+            }
+            ackLane.shutdown();
+            ackLane.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            ackLane.shutdown();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void submit(ExecutorService lane, Runnable task) {
+        try {
+            lane.execute(task);
+        } catch (RejectedExecutionException e) {
+            // closed: the message is dropped, as it would be on a torn-down link
+        }
+    }
+
+    private static ExecutorService newLane(String name) {
+        return Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
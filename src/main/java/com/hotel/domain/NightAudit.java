@@ -0,0 +1,83 @@
+package com.hotel.domain;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the night audit for every hotel in a chain.
+ * Hotels are audited in parallel, one task per property; each hotel's audit is
+ * incremental, so the scheduler can simply poll and every property rolls over
+ * once its own business date has changed.
+ * Each audit holds the hotel's lock, the same one chain operations take.
+ * A hotel whose audit fails is counted and skipped, so the others still roll over
+ * and a scheduled audit keeps running.
+ */
+public class NightAudit {
+    private final HotelChain chain;
+    private final ExecutorService executor;
+    private final LongAdder failures;
+
+    public NightAudit(HotelChain chain, ExecutorService executor) {
+        if (chain == null || executor == null) {
+            throw new IllegalArgumentException("Chain and executor cannot be null");
+        }
+        this.chain = chain;
+        this.executor = executor;
+        this.failures = new LongAdder();
+    }
+
+    /**
+     * Audits all hotels of the chain and waits for every property to finish.
+     * @return the reports of the hotels audited successfully
+     */
+    public List<NightAuditReport> run() {
+        Collection<Hotel> hotels = chain.getAllHotels();
+        List<CompletableFuture<NightAuditReport>> pending = new ArrayList<>(hotels.size());
+        for (Hotel hotel : hotels) {
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                synchronized (hotel) {
+                    return hotel.runNightAudit();
+                }
+            }, executor));
+        }
+        List<NightAuditReport> reports = new ArrayList<>(pending.size());
+        for (CompletableFuture<NightAuditReport> future : pending) {
+            try {
+                reports.add(future.join());
+            } catch (CompletionException e) {
+                failures.increment();
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Gets how many hotel audits have failed across all runs.
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Schedules the audit to run repeatedly at the given interval.
+     */
+    public ScheduledFuture<?> schedule(ScheduledExecutorService scheduler, Duration interval) {
+        if (scheduler == null || interval == null) {
+            throw new IllegalArgumentException("Scheduler and interval cannot be null");
+        }
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        long millis = interval.toMillis();
+        return scheduler.scheduleWithFixedDelay(this::run, millis, millis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,67 @@
+package com.hotel.domain;
+
+import com.hotel.util.Name;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of one night audit run for a hotel.
+ * Immutable value object.
+ */
+public class NightAuditReport {
+    private final Name hotelName;
+    private final LocalDate auditDate;
+    private final List<Reservation> noShows;
+    private final List<Reservation> overdueStays;
+    private final int retiredCount;
+
+    NightAuditReport(Name hotelName, LocalDate auditDate, List<Reservation> noShows,
+                     List<Reservation> overdueStays, int retiredCount) {
+        this.hotelName = hotelName;
+        this.auditDate = auditDate;
+        this.noShows = new ArrayList<>(noShows);
+        this.overdueStays = new ArrayList<>(overdueStays);
+        this.retiredCount = retiredCount;
+    }
+
+    public Name getHotelName() {
+        return hotelName;
+    }
+
+    public LocalDate getAuditDate() {
+        return auditDate;
+    }
+
+    /**
+     * Gets the reservations marked as no-show in this run.
+     */
+    public List<Reservation> getNoShows() {
+        return new ArrayList<>(noShows);
+    }
+
+    /**
+     * Gets checked-in stays whose end date has passed.
+     */
+    public List<Reservation> getOverdueStays() {
+        return new ArrayList<>(overdueStays);
+    }
+
+    /**
+     * Gets the number of finished reservations moved into history.
+     */
+    public int getRetiredCount() {
+        return retiredCount;
+    }
+
+    @Override
+    public String toString() {
+        return "NightAuditReport{" +
+               "hotel=" + hotelName +
+               ", auditDate=" + auditDate +
+               ", noShows=" + noShows.size() +
+               ", overdueStays=" + overdueStays.size() +
+               ", retired=" + retiredCount +
+               '}';
+    }
+}
@@ -0,0 +1,20 @@
+package com.hotel.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Anything that takes a room out of inventory for a date range.
+ * Both ends of the range are inclusive, matching the hotel's conflict rule.
+ */
+public interface Occupancy {
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    /**
+     * Checks whether this entry still blocks the room.
+     * Cancelled or lapsed entries stop blocking and are dropped lazily.
+     */
+    boolean blocksRoom();
+}
@@ -0,0 +1,76 @@
+package com.hotel.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Forecast of the room nights a night will finally sell: what is on the books now
+ * plus the pickup expected over the remaining lead time. Demand is unconstrained,
+ * so the forecast may exceed the rooms available.
+ * Immutable value object.
+ */
+public class OccupancyForecast {
+    private final LocalDate night;
+    private final int leadDays;
+    private final int onTheBooks;
+    private final double expectedPickup;
+    private final int rooms;
+
+    OccupancyForecast(LocalDate night, int leadDays, int onTheBooks, double expectedPickup, int rooms) {
+        this.night = night;
+        this.leadDays = leadDays;
+        this.onTheBooks = onTheBooks;
+        this.expectedPickup = expectedPickup;
+        this.rooms = rooms;
+    }
+
+    public LocalDate getNight() {
+        return night;
+    }
+
+    /**
+     * Gets the days left between the business date and the night.
+     */
+    public int getLeadDays() {
+        return leadDays;
+    }
+
+    /**
+     * Gets the room nights already booked for the night.
+     */
+    public int getOnTheBooks() {
+        return onTheBooks;
+    }
+
+    /**
+     * Gets the room nights expected to be booked from now until the night.
+     */
+    public double getExpectedPickup() {
+        return expectedPickup;
+    }
+
+    public double getForecastRoomNights() {
+        return onTheBooks + expectedPickup;
+    }
+
+    public int getRooms() {
+        return rooms;
+    }
+
+    /**
+     * Gets forecast room nights as a fraction of rooms, 0 when there are none.
+     */
+    public double getOccupancy() {
+        return rooms == 0 ? 0 : getForecastRoomNights() / rooms;
+    }
+
+    @Override
+    public String toString() {
+        return "OccupancyForecast{" +
+               "night=" + night +
+               ", lead=" + leadDays +
+               ", onTheBooks=" + onTheBooks +
+               ", forecast=" + String.format("%.1f", getForecastRoomNights()) +
+               ", rooms=" + rooms +
+               '}';
+    }
+}
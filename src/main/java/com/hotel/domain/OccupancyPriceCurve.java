@@ -0,0 +1,68 @@
+package com.hotel.domain;
+
+import java.util.Arrays;
+
+/**
+ * Pricing rule that steps the rate up as occupancy rises: each threshold sets the
+ * multiplier used from that occupancy upwards, and below the first one the base
+ * rate applies. The last unit of a night can carry its own premium on top.
+ * Immutable.
+ */
+public class OccupancyPriceCurve implements PricingRule {
+    private final double[] thresholds;
+    private final double[] multipliers;
+    private final double lastUnitMultiplier;
+
+    /**
+     * Creates a curve without a last unit premium.
+     */
+    public OccupancyPriceCurve(double[] thresholds, double[] multipliers) {
+        this(thresholds, multipliers, 1.0);
+    }
+
+    /**
+     * Creates a curve.
+     * @param thresholds ascending occupancies, each from 0
+     * @param multipliers the factor applied from the matching threshold upwards
+     * @param lastUnitMultiplier extra factor once a single unit is left
+     */
+    public OccupancyPriceCurve(double[] thresholds, double[] multipliers, double lastUnitMultiplier) {
+        if (thresholds == null || multipliers == null) {
+            throw new IllegalArgumentException("Thresholds and multipliers cannot be null");
+        }
+        if (thresholds.length != multipliers.length) {
+            throw new IllegalArgumentException("Each threshold needs one multiplier");
+        }
+        for (int i = 0; i < thresholds.length; i++) {
+            if (thresholds[i] < 0 || (i > 0 && thresholds[i] <= thresholds[i - 1])) {
+                throw new IllegalArgumentException("Thresholds must be ascending and not negative");
+            }
+            if (!(multipliers[i] > 0)) {
+                throw new IllegalArgumentException("Multipliers must be positive");
+            }
+        }
+        if (!(lastUnitMultiplier > 0)) {
+            throw new IllegalArgumentException("Multipliers must be positive");
+        }
+        this.thresholds = thresholds.clone();
+        this.multipliers = multipliers.clone();
+        this.lastUnitMultiplier = lastUnitMultiplier;
+    }
+
+    @Override
+    public double multiplier(double occupancy, int remaining, int leadDays) {
+        int step = Arrays.binarySearch(thresholds, occupancy);
+        step = step >= 0 ? step : -step - 2;
+        double multiplier = step < 0 ? 1.0 : multipliers[step];
+        return remaining == 1 ? multiplier * lastUnitMultiplier : multiplier;
+    }
+
+    @Override
+    public String toString() {
+        return "OccupancyPriceCurve{" +
+               "thresholds=" + Arrays.toString(thresholds) +
+               ", multipliers=" + Arrays.toString(multipliers) +
+               ", lastUnit=" + lastUnitMultiplier +
+               '}';
+    }
+}
@@ -0,0 +1,217 @@
+package com.hotel.domain;
+
+import com.hotel.util.StripedFenwickTree;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Always-current daily counters of a hotel, per room type: sold room nights and
+ * revenue per night, and arrivals per arrival day. The hotel updates them as stays
+ * are booked, cancelled, marked no-show or cut short at check-out, so reading them
+ * never rescans reservations.
+ * Days are kept in pages of Fenwick trees, so a range costs O(log n) per page it
+ * touches; cells are striped atomics, so writers never take a lock.
+ * Nights follow the revenue reports: a stay covers {@code [start, end)}, and a sold
+ * night earns its room type's rate.
+ * Thread-safe.
+ */
+public class OccupancyRollup {
+    private static final int PAGE_BITS = 9;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final Map<RoomType, Counters> counters;
+
+    private static final class Page {
+        private final StripedFenwickTree sold = new StripedFenwickTree(PAGE_SIZE);
+        private final StripedFenwickTree revenueCents = new StripedFenwickTree(PAGE_SIZE);
+        private final StripedFenwickTree arrivals = new StripedFenwickTree(PAGE_SIZE);
+    }
+
+    private static final class Counters {
+        private final long rateCents;
+        private volatile int physicalRooms;
+        private final Map<Integer, Page> pages = new ConcurrentHashMap<>();
+
+        private Counters(RoomType roomType) {
+            this.rateCents = roomType.getCost().getAmount().movePointRight(2)
+                .setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+
+        private Page page(int day) {
+            return pages.computeIfAbsent(day >> PAGE_BITS, p -> new Page());
+        }
+
+        private void addNights(int fromDay, int toDay, long count) {
+            for (int day = fromDay; day < toDay; ) {
+                Page page = page(day);
+                int end = Math.min(toDay, (day | PAGE_MASK) + 1);
+                for (; day < end; day++) {
+                    page.sold.add(day & PAGE_MASK, count);
+                    page.revenueCents.add(day & PAGE_MASK, count * rateCents);
+                }
+            }
+        }
+
+        /**
+         * Adds the range sums of sold nights, revenue and arrivals into {@code totals}.
+         */
+        private void sum(int fromDay, int toDay, long[] totals) {
+            for (int day = fromDay; day < toDay; ) {
+                int end = Math.min(toDay, (day | PAGE_MASK) + 1);
+                Page page = pages.get(day >> PAGE_BITS);
+                if (page != null) {
+                    int low = day & PAGE_MASK;
+                    int high = low + (end - day);
+                    totals[0] += page.sold.sum(low, high);
+                    totals[1] += page.revenueCents.sum(low, high);
+                    totals[2] += page.arrivals.sum(low, high);
+                }
+                day = end;
+            }
+        }
+    }
+
+    public OccupancyRollup() {
+        this.counters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers one more physical room of the type.
+     */
+    void addRoom(RoomType roomType) {
+        counters(roomType).physicalRooms++;
+    }
+
+    /**
+     * Counts a stay as sold.
+     */
+    void add(Reservation reservation) {
+        update(reservation, 1);
+    }
+
+    /**
+     * Takes back a stay that was counted as sold.
+     */
+    void remove(Reservation reservation) {
+        update(reservation, -1);
+    }
+
+    /**
+     * Takes back the nights of a counted stay from a departure day up to its end date.
+     */
+    void trim(Reservation reservation, LocalDate departure) {
+        int from = (int) Math.max(departure.toEpochDay(), reservation.getStartDate().toEpochDay());
+        int to = (int) reservation.getEndDate().toEpochDay();
+        if (from < to) {
+            counters(reservation.getRoomType()).addNights(from, to, -1);
+        }
+    }
+
+    private void update(Reservation reservation, int count) {
+        Counters typeCounters = counters(reservation.getRoomType());
+        int start = (int) reservation.getStartDate().toEpochDay();
+        typeCounters.addNights(start, (int) reservation.getEndDate().toEpochDay(), count);
+        typeCounters.page(start).arrivals.add(start & PAGE_MASK, count);
+    }
+
+    /**
+     * Gets the room types that have rooms or sales.
+     */
+    public Set<RoomType> getRoomTypes() {
+        return new HashSet<>(counters.keySet());
+    }
+
+    /**
+     * Gets totals across every room type.
+     * @param from the first night to cover
+     * @param to the day after the last night to cover
+     */
+    public RevenueMetrics getMetrics(LocalDate from, LocalDate to) {
+        requireRange(from, to);
+        long[] totals = new long[3];
+        long available = 0;
+        for (Counters typeCounters : counters.values()) {
+            available += sum(typeCounters, from, to, totals);
+        }
+        return new RevenueMetrics(totals[0], available, totals[1]);
+    }
+
+    /**
+     * Gets totals of one room type.
+     * @param from the first night to cover
+     * @param to the day after the last night to cover
+     */
+    public RevenueMetrics getMetrics(RoomType roomType, LocalDate from, LocalDate to) {
+        requireRange(from, to);
+        long[] totals = new long[3];
+        long available = sum(typeCounters(roomType), from, to, totals);
+        return new RevenueMetrics(totals[0], available, totals[1]);
+    }
+
+    /**
+     * Gets the number of stays arriving on the days {@code [from, to)}.
+     */
+    public long getArrivals(LocalDate from, LocalDate to) {
+        requireRange(from, to);
+        long[] totals = new long[3];
+        for (Counters typeCounters : counters.values()) {
+            sum(typeCounters, from, to, totals);
+        }
+        return totals[2];
+    }
+
+    /**
+     * Gets the number of stays of one room type arriving on the days {@code [from, to)}.
+     */
+    public long getArrivals(RoomType roomType, LocalDate from, LocalDate to) {
+        requireRange(from, to);
+        long[] totals = new long[3];
+        sum(typeCounters(roomType), from, to, totals);
+        return totals[2];
+    }
+
+    /**
+     * Sums a range into {@code totals} and returns the available room nights in it.
+     */
+    private static long sum(Counters typeCounters, LocalDate from, LocalDate to, long[] totals) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        if (typeCounters != null) {
+            typeCounters.sum(fromDay, toDay, totals);
+            return (long) typeCounters.physicalRooms * (toDay - fromDay);
+        }
+        return 0;
+    }
+
+    private static void requireRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+    }
+
+    private Counters typeCounters(RoomType roomType) {
+        if (roomType == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+        return counters.get(roomType);
+    }
+
+    private Counters counters(RoomType roomType) {
+        return counters.computeIfAbsent(roomType, Counters::new);
+    }
+
+    @Override
+    public String toString() {
+        return "OccupancyRollup{" +
+               "roomTypes=" + counters.size() +
+               '}';
+    }
+}
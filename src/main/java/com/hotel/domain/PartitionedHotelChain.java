@@ -0,0 +1,287 @@
+package com.hotel.domain;
+
+import com.hotel.util.CreditCard;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Chain execution mode that shards hotels across single-writer partitions.
+ * Each partition owns its hotels outright and runs every operation on them from one
+ * thread, so hotels need no locking; operations on a hotel are routed to its partition
+ * by hotel name, and chain-wide queries scatter to every partition and gather the results.
+ * Results are returned as futures completed on the owning partition's thread.
+ * Thread-safe. Managers may be shared across partitions and are locked while recording.
+ */
+public class PartitionedHotelChain implements AutoCloseable {
+    private final String name;
+    private final Partition[] partitions;
+
+    private static final class Partition {
+        private final ExecutorService executor;
+        private final Map<String, Hotel> hotels;
+
+        private Partition(String chainName, int index) {
+            this.executor = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, chainName + "-partition-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.hotels = new HashMap<>();
+        }
+
+        private <T> CompletableFuture<T> submit(Function<Map<String, Hotel>, T> task) {
+            return CompletableFuture.supplyAsync(() -> task.apply(hotels), executor);
+        }
+    }
+
+    public PartitionedHotelChain(String name, int partitionCount) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Chain name cannot be null or empty");
+        }
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("Partition count must be positive");
+        }
+        this.name = name.trim();
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(this.name, i);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * Gets the partition that owns a hotel name.
+     */
+    public int partitionOf(String hotelName) {
+        if (hotelName == null) {
+            throw new IllegalArgumentException("Hotel name cannot be null");
+        }
+        int h = hotelName.hashCode() * 0x9E3779B9;
+        return Math.floorMod(h ^ (h >>> 16), partitions.length);
+    }
+
+    /**
+     * Hands a hotel over to its partition. The caller must not touch the hotel afterwards
+     * except through this chain.
+     */
+    public CompletableFuture<Void> addHotel(Hotel hotel) {
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel cannot be null");
+        }
+        String hotelName = hotel.getName().getValue();
+        return partitions[partitionOf(hotelName)].submit(hotels -> {
+            if (hotels.putIfAbsent(hotelName, hotel) != null) {
+                throw new IllegalArgumentException("Hotel already exists in chain");
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Runs a task against a hotel on the partition that owns it.
+     */
+    public <T> CompletableFuture<T> execute(String hotelName, Function<Hotel, T> task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        return partitions[partitionOf(hotelName)].submit(hotels -> {
+            Hotel hotel = hotels.get(hotelName);
+            if (hotel == null) {
+                throw new IllegalArgumentException("Hotel not found: " + hotelName);
+            }
+            return task.apply(hotel);
+        });
+    }
+
+    /**
+     * Makes a reservation at a hotel and records it with the manager.
+     */
+    public CompletableFuture<Reservation> makeReservation(String hotelName, Guest guest, int roomNumber,
+                                                          LocalDate startDate, LocalDate endDate,
+                                                          ReservationManager manager, CreditCard creditCard) {
+        if (guest == null || startDate == null || endDate == null || manager == null || creditCard == null) {
+            throw new IllegalArgumentException("All parameters must be non-null");
+        }
+        return execute(hotelName, hotel -> {
+            Reservation reservation = hotel.createReservation(guest, hotel.getRoom(roomNumber), startDate, endDate);
+            synchronized (manager) {
+                manager.recordReservation(creditCard, reservation);
+            }
+            return reservation;
+        });
+    }
+
+    /**
+     * Cancels a reservation and offers the freed room to the hotel's waitlist.
+     * Promotion is queued behind the cancellation on the same partition, and the
+     * returned future completes once it has run, failing if the promotion fails.
+     * If the chain closes in between, the cancellation stands and promotion is skipped.
+     */
+    public CompletableFuture<Void> cancelReservation(String hotelName, Reservation reservation,
+                                                     ReservationManager manager) {
+        if (reservation == null || manager == null) {
+            throw new IllegalArgumentException("Parameters cannot be null");
+        }
+        return execute(hotelName, hotel -> {
+            hotel.cancelReservation(reservation);
+            synchronized (manager) {
+                manager.cancelReservation(reservation);
+            }
+            return null;
+        }).thenCompose(cancelled -> {
+            try {
+                return execute(hotelName, hotel -> promoteWaitlist(hotel, reservation));
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.completedFuture(null);
+            }
+        });
+    }
+
+    private static Void promoteWaitlist(Hotel hotel, Reservation cancelled) {
+        for (WaitlistEntry entry : hotel.promoteWaitlist(cancelled.getRoomType(),
+                cancelled.getStartDate(), cancelled.getEndDate())) {
+            ReservationManager manager = entry.getManager();
+            if (manager != null) {
+                synchronized (manager) {
+                    manager.recordReservation(entry.getCreditCard(), entry.getReservation());
+                }
+            }
+        }
+        return null;
+    }
+
+    public CompletableFuture<Void> checkInGuest(String hotelName, Reservation reservation) {
+        return execute(hotelName, hotel -> {
+            hotel.checkInGuest(reservation);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> checkOutGuest(String hotelName, Reservation reservation) {
+        return execute(hotelName, hotel -> {
+            hotel.checkOutGuest(reservation);
+            return null;
+        });
+    }
+
+    /**
+     * Finds available rooms of a type in every hotel of the chain.
+     * @return hotel name to available rooms, for hotels with at least one room free
+     */
+    public CompletableFuture<Map<String, List<Room>>> searchAvailability(RoomType roomType,
+                                                                        LocalDate startDate, LocalDate endDate) {
+        if (roomType == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Parameters cannot be null");
+        }
+        return scatter(hotels -> {
+            Map<String, List<Room>> found = new HashMap<>();
+            for (Map.Entry<String, Hotel> entry : hotels.entrySet()) {
+                List<Room> rooms = entry.getValue().getAvailableRooms(roomType, startDate, endDate);
+                if (!rooms.isEmpty()) {
+                    found.put(entry.getKey(), rooms);
+                }
+            }
+            return found;
+        }).thenApply(parts -> {
+            Map<String, List<Room>> result = new TreeMap<>();
+            parts.forEach(result::putAll);
+            return result;
+        });
+    }
+
+    /**
+     * Gets a guest's reservations, live and archived, across every hotel of the chain.
+     */
+    public CompletableFuture<List<Reservation>> getGuestReservations(Guest guest) {
+        if (guest == null) {
+            throw new IllegalArgumentException("Guest cannot be null");
+        }
+        return scatter(hotels -> {
+            List<Reservation> found = new ArrayList<>();
+            for (Hotel hotel : hotels.values()) {
+                found.addAll(hotel.getGuestReservations(guest));
+            }
+            return found;
+        }).thenApply(parts -> {
+            List<Reservation> result = new ArrayList<>();
+            parts.forEach(result::addAll);
+            return result;
+        });
+    }
+
+    /**
+     * Runs the night audit of every hotel, each on its own partition.
+     */
+    public CompletableFuture<List<NightAuditReport>> runNightAudit() {
+        return scatter(hotels -> {
+            List<NightAuditReport> reports = new ArrayList<>();
+            for (Hotel hotel : hotels.values()) {
+                reports.add(hotel.runNightAudit());
+            }
+            return reports;
+        }).thenApply(parts -> {
+            List<NightAuditReport> result = new ArrayList<>();
+            parts.forEach(result::addAll);
+            return result;
+        });
+    }
+
+    /**
+     * Gets the number of hotels across all partitions.
+     */
+    public CompletableFuture<Integer> getHotelCount() {
+        return scatter(Map::size).thenApply(parts -> parts.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    private <T> CompletableFuture<List<T>> scatter(Function<Map<String, Hotel>, T> task) {
+        List<CompletableFuture<T>> pending = new ArrayList<>(partitions.length);
+        for (Partition partition : partitions) {
+            pending.add(partition.submit(task));
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            List<T> parts = new ArrayList<>(pending.size());
+            for (CompletableFuture<T> future : pending) {
+                parts.add(future.join());
+            }
+            return parts;
+        });
+    }
+
+    /**
+     * Lets queued operations finish and stops the partition threads.
+     */
+    @Override
+    public void close() {
+        for (Partition partition : partitions) {
+            partition.executor.shutdown();
+        }
+        try {
+            for (Partition partition : partitions) {
+                partition.executor.awaitTermination(1, TimeUnit.MINUTES);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionedHotelChain{" +
+               "name='" + name + '\'' +
+               ", partitions=" + partitions.length +
+               '}';
+    }
+}
@@ -0,0 +1,264 @@
+package com.hotel.domain;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Booking pace per hotel, room type and stay night: how many room nights were on
+ * the books at each lead point before the night. Curves are net of cancellations,
+ * since a cancelled booking no longer says when it was taken back.
+ * Forecasts project a night's final count from the pickup that earlier nights of
+ * the same weekday saw over the same remaining lead time.
+ * Immutable.
+ */
+public class PickupCurves {
+    private final LocalDate from;
+    private final int days;
+    private final int[] leadDays;
+    private final Map<String, HotelCurves> hotels;
+
+    /**
+     * Statistical model for turning past pickup into a forecast.
+     */
+    public enum Model {
+        /** Adds the average room nights that similar nights picked up. */
+        ADDITIVE,
+        /** Scales what is on the books by the pickup ratio of similar nights. */
+        MULTIPLICATIVE
+    }
+
+    /**
+     * Curves of one hotel. Each room type's array holds, per night, the room nights
+     * on the books at every lead point: index {@code night * leadPoints + point}.
+     */
+    static final class HotelCurves {
+        private final String name;
+        private final LocalDate asOf;
+        private final RoomType[] roomTypes;
+        private final int[] roomCounts;
+        private final int[][] onTheBooks;
+
+        HotelCurves(String name, LocalDate asOf, RoomType[] roomTypes, int[] roomCounts, int[][] onTheBooks) {
+            this.name = name;
+            this.asOf = asOf;
+            this.roomTypes = roomTypes;
+            this.roomCounts = roomCounts;
+            this.onTheBooks = onTheBooks;
+        }
+    }
+
+    PickupCurves(LocalDate from, int days, int[] leadDays, List<HotelCurves> curves) {
+        this.from = from;
+        this.days = days;
+        this.leadDays = leadDays;
+        this.hotels = new TreeMap<>();
+        for (HotelCurves hotel : curves) {
+            hotels.put(hotel.name, hotel);
+        }
+    }
+
+    /**
+     * Gets the first stay night covered.
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Gets the day after the last stay night covered.
+     */
+    public LocalDate getTo() {
+        return from.plusDays(days);
+    }
+
+    /**
+     * Gets the lead times the curves are sampled at, ascending from 0.
+     */
+    public List<Integer> getLeadDays() {
+        List<Integer> result = new ArrayList<>(leadDays.length);
+        for (int lead : leadDays) {
+            result.add(lead);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the hotels covered, in name order.
+     */
+    public List<String> getHotelNames() {
+        return new ArrayList<>(hotels.keySet());
+    }
+
+    public List<RoomType> getRoomTypes(String hotelName) {
+        return Arrays.asList(hotel(hotelName).roomTypes.clone());
+    }
+
+    /**
+     * Gets the hotel's business date when the curves were captured.
+     */
+    public LocalDate getAsOf(String hotelName) {
+        return hotel(hotelName).asOf;
+    }
+
+    /**
+     * Gets the room nights on the books for a night at each lead point, in {@link #getLeadDays()} order.
+     */
+    public int[] getCurve(String hotelName, RoomType roomType, LocalDate night) {
+        HotelCurves hotel = hotel(hotelName);
+        int base = dayIndex(night) * leadDays.length;
+        return Arrays.copyOfRange(hotel.onTheBooks[typeIndex(hotel, roomType)], base, base + leadDays.length);
+    }
+
+    /**
+     * Gets the room nights that were on the books for a night the given number of days before it.
+     * @param lead one of {@link #getLeadDays()}
+     */
+    public int getOnTheBooks(String hotelName, RoomType roomType, LocalDate night, int lead) {
+        int point = Arrays.binarySearch(leadDays, lead);
+        if (point < 0) {
+            throw new IllegalArgumentException("Not a lead point: " + lead);
+        }
+        return getCurve(hotelName, roomType, night)[point];
+    }
+
+    /**
+     * Forecasts the final room nights of one room type for a night not yet passed.
+     */
+    public OccupancyForecast forecast(String hotelName, RoomType roomType, LocalDate night, Model model) {
+        HotelCurves hotel = hotel(hotelName);
+        int type = typeIndex(hotel, roomType);
+        int day = futureDay(hotel, night, model);
+        int lead = (int) (night.toEpochDay() - hotel.asOf.toEpochDay());
+        int onTheBooks = hotel.onTheBooks[type][day * leadDays.length];
+        return new OccupancyForecast(night, lead, onTheBooks, pickup(hotel, type, day, lead, onTheBooks, model),
+            hotel.roomCounts[type]);
+    }
+
+    /**
+     * Forecasts the final room nights of a whole hotel for a night not yet passed,
+     * as the sum of its room type forecasts.
+     */
+    public OccupancyForecast forecast(String hotelName, LocalDate night, Model model) {
+        HotelCurves hotel = hotel(hotelName);
+        int day = futureDay(hotel, night, model);
+        int lead = (int) (night.toEpochDay() - hotel.asOf.toEpochDay());
+        int onTheBooks = 0;
+        int rooms = 0;
+        double pickup = 0;
+        for (int type = 0; type < hotel.roomTypes.length; type++) {
+            int booked = hotel.onTheBooks[type][day * leadDays.length];
+            onTheBooks += booked;
+            rooms += hotel.roomCounts[type];
+            pickup += pickup(hotel, type, day, lead, booked, model);
+        }
+        return new OccupancyForecast(night, lead, onTheBooks, pickup, rooms);
+    }
+
+    /**
+     * Checks whether a forecast can be made for a room type of a hotel on a night.
+     */
+    boolean canForecast(String hotelName, RoomType roomType, LocalDate night) {
+        HotelCurves hotel = hotels.get(hotelName);
+        if (hotel == null || night.isBefore(hotel.asOf) || night.isBefore(from) || !night.isBefore(getTo())) {
+            return false;
+        }
+        for (RoomType known : hotel.roomTypes) {
+            if (known.equals(roomType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Averages how much nights of the same weekday before the business date picked up
+     * from {@code lead} days out to their final count. A ratio cannot scale an empty
+     * night, so the multiplicative model falls back to the additive one there.
+     */
+    private double pickup(HotelCurves hotel, int type, int day, int lead, int onTheBooks, Model model) {
+        int[] curves = hotel.onTheBooks[type];
+        int today = (int) (hotel.asOf.toEpochDay() - from.toEpochDay());
+        double finals = 0;
+        double earlier = 0;
+        int samples = 0;
+        for (int past = day - 7; past >= 0; past -= 7) {
+            if (past < today) {
+                finals += curves[past * leadDays.length];
+                earlier += onTheBooksAt(curves, past, lead);
+                samples++;
+            }
+        }
+        if (samples == 0) {
+            return 0;
+        }
+        if (model == Model.MULTIPLICATIVE && earlier > 0 && onTheBooks > 0) {
+            return onTheBooks * (finals / earlier - 1);
+        }
+        return (finals - earlier) / samples;
+    }
+
+    /**
+     * Reads a curve at any lead time, interpolating linearly between lead points.
+     */
+    private double onTheBooksAt(int[] curves, int day, int lead) {
+        int base = day * leadDays.length;
+        int point = Arrays.binarySearch(leadDays, lead);
+        if (point >= 0) {
+            return curves[base + point];
+        }
+        int below = -point - 2;
+        if (below == leadDays.length - 1) {
+            return curves[base + below];
+        }
+        double fraction = (double) (lead - leadDays[below]) / (leadDays[below + 1] - leadDays[below]);
+        return curves[base + below] + fraction * (curves[base + below + 1] - curves[base + below]);
+    }
+
+    private int futureDay(HotelCurves hotel, LocalDate night, Model model) {
+        if (model == null) {
+            throw new IllegalArgumentException("Model cannot be null");
+        }
+        int day = dayIndex(night);
+        if (night.isBefore(hotel.asOf)) {
+            throw new IllegalArgumentException("Night has already passed: " + night);
+        }
+        return day;
+    }
+
+    private HotelCurves hotel(String hotelName) {
+        HotelCurves hotel = hotels.get(hotelName);
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel not in curves: " + hotelName);
+        }
+        return hotel;
+    }
+
+    private static int typeIndex(HotelCurves hotel, RoomType roomType) {
+        for (int type = 0; type < hotel.roomTypes.length; type++) {
+            if (hotel.roomTypes[type].equals(roomType)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Room type not in curves: " + roomType);
+    }
+
+    private int dayIndex(LocalDate night) {
+        if (night == null) {
+            throw new IllegalArgumentException("Night cannot be null");
+        }
+        long day = night.toEpochDay() - from.toEpochDay();
+        if (day < 0 || day >= days) {
+            throw new IllegalArgumentException("Night outside the curve range: " + night);
+        }
+        return (int) day;
+    }
+
+    @Override
+    public String toString() {
+        return "PickupCurves{" +
+               "from=" + from +
+               ", to=" + getTo() +
+               ", hotels=" + hotels.size() +
+               '}';
+    }
+}
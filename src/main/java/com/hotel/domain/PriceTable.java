@@ -0,0 +1,68 @@
+package com.hotel.domain;
+
+import com.hotel.util.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Nightly rates per room type over a run of days, computed ahead of quoting.
+ * Rates are held both as {@link Money} for single nights and as cents for summing stays.
+ * Immutable, so it is published by swapping a reference.
+ */
+final class PriceTable {
+    private final LocalDate computedOn;
+    private final int firstDay;
+    private final int days;
+    private final Map<RoomType, Integer> typeIndex;
+    private final Money[][] rates;
+    private final long[][] cents;
+
+    PriceTable(LocalDate computedOn, int days, RoomType[] roomTypes, long[][] cents) {
+        this.computedOn = computedOn;
+        this.firstDay = (int) computedOn.toEpochDay();
+        this.days = days;
+        this.typeIndex = new HashMap<>();
+        this.rates = new Money[roomTypes.length][];
+        this.cents = cents;
+        for (int type = 0; type < roomTypes.length; type++) {
+            typeIndex.put(roomTypes[type], type);
+            rates[type] = new Money[days];
+            for (int day = 0; day < days; day++) {
+                rates[type][day] = new Money(BigDecimal.valueOf(cents[type][day], 2));
+            }
+        }
+    }
+
+    /**
+     * Gets the business date the table was computed on, which is also its first night.
+     */
+    LocalDate getComputedOn() {
+        return computedOn;
+    }
+
+    /**
+     * Gets the rate of a night, or null if the table does not cover it.
+     */
+    Money rate(RoomType roomType, int day) {
+        Integer type = typeIndex.get(roomType);
+        int index = day - firstDay;
+        if (type == null || index < 0 || index >= days) {
+            return null;
+        }
+        return rates[type][index];
+    }
+
+    /**
+     * Gets the rate of a night in cents, or -1 if the table does not cover it.
+     */
+    long cents(RoomType roomType, int day) {
+        Integer type = typeIndex.get(roomType);
+        int index = day - firstDay;
+        if (type == null || index < 0 || index >= days) {
+            return -1;
+        }
+        return cents[type][index];
+    }
+}
@@ -0,0 +1,16 @@
+package com.hotel.domain;
+
+/**
+ * Decides how far a night's rate moves from its room type's base rate.
+ * Called only while a price table is recomputed, never while quoting.
+ */
+public interface PricingRule {
+
+    /**
+     * Gets the factor applied to the base rate of one room type for one night.
+     * @param occupancy fraction of rooms expected to sell: on the books, plus forecast pickup when known
+     * @param remaining units of the type still sellable for the night
+     * @param leadDays days from the business date to the night
+     */
+    double multiplier(double occupancy, int remaining, int leadDays);
+}
@@ -0,0 +1,284 @@
+package com.hotel.domain;
+
+import com.hotel.util.Identity;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read replica that applies the leader's change stream and serves availability
+ * and guest history queries. Room layouts are registered up front; reservations
+ * and room blocks arrive only through the stream. Reads are eventually consistent; a client that
+ * needs its own write first waits for the position token the leader gave it.
+ * A checked-out stay keeps its room only through the departure day, and is dropped
+ * from the calendar once the stream moves past that day.
+ * Thread-safe.
+ */
+public class ReplicaFollower {
+    private final String id;
+    private final ReplicationTransport transport;
+    private final Map<String, ReplicaHotel> hotels;
+    private final Map<Identity, ReplicaStay> stays;
+    private final Map<Identity, List<ReplicaStay>> staysByGuest;
+    private final Map<Identity, ReplicaStay> blocks;
+    private long appliedOffset;
+
+    /**
+     * Replicated state of one reservation or room block.
+     */
+    private static final class ReplicaStay implements Occupancy {
+        private final String hotelName;
+        private ReservationChange latest;
+        private LocalDate departure;
+
+        private ReplicaStay(String hotelName, ReservationChange latest) {
+            this.hotelName = hotelName;
+            this.latest = latest;
+        }
+
+        @Override
+        public LocalDate getStartDate() {
+            return latest.getStartDate();
+        }
+
+        @Override
+        public LocalDate getEndDate() {
+            if (departure == null || !departure.isBefore(latest.getEndDate())) {
+                return latest.getEndDate();
+            }
+            return departure.isBefore(latest.getStartDate()) ? latest.getStartDate() : departure;
+        }
+
+        @Override
+        public boolean blocksRoom() {
+            return latest.getStatus() != Reservation.ReservationStatus.CANCELLED &&
+                   latest.getStatus() != Reservation.ReservationStatus.NO_SHOW;
+        }
+    }
+
+    /**
+     * Replicated room layout of one hotel, with checked-out stays queued by departure day.
+     */
+    private static final class ReplicaHotel {
+        private final Map<Integer, RoomCalendar> calendars;
+        private final ZoneId zone;
+        private final TreeMap<LocalDate, List<ReplicaStay>> departures;
+
+        private ReplicaHotel(Map<Integer, RoomCalendar> calendars, ZoneId zone) {
+            this.calendars = calendars;
+            this.zone = zone;
+            this.departures = new TreeMap<>();
+        }
+
+        private LocalDate dayOf(ReservationChange change) {
+            return LocalDate.ofInstant(Instant.ofEpochMilli(change.getTimestampMillis()), zone);
+        }
+
+        /**
+         * Drops checked-out stays whose departure day is before the given day.
+         */
+        private void prune(LocalDate today) {
+            while (!departures.isEmpty() && departures.firstKey().isBefore(today)) {
+                for (ReplicaStay stay : departures.pollFirstEntry().getValue()) {
+                    RoomCalendar calendar = calendars.get(stay.latest.getRoomNumber());
+                    if (calendar != null) {
+                        calendar.remove(stay);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a follower that starts applying the stream at the given offset.
+     */
+    public ReplicaFollower(String id, ReplicationTransport transport, long startOffset) {
+        if (id == null || transport == null) {
+            throw new IllegalArgumentException("Id and transport cannot be null");
+        }
+        this.id = id;
+        this.transport = transport;
+        this.hotels = new HashMap<>();
+        this.stays = new HashMap<>();
+        this.staysByGuest = new HashMap<>();
+        this.blocks = new HashMap<>();
+        this.appliedOffset = startOffset;
+        transport.bindFollower(id, this::receive);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Registers the room layout of a hotel in the system default time zone.
+     */
+    public void addHotel(String hotelName, Collection<Room> rooms) {
+        addHotel(hotelName, rooms, ZoneId.systemDefault());
+    }
+
+    /**
+     * Registers the room layout of a hotel whose reservations are replicated.
+     * @param zone the hotel's time zone, which dates check-outs from the stream
+     */
+    public synchronized void addHotel(String hotelName, Collection<Room> rooms, ZoneId zone) {
+        if (hotelName == null || rooms == null || zone == null) {
+            throw new IllegalArgumentException("Hotel name, rooms and zone cannot be null");
+        }
+        Map<Integer, RoomCalendar> hotelCalendars = new HashMap<>();
+        for (Room room : rooms) {
+            hotelCalendars.put(room.getNumber(), new RoomCalendar(room));
+        }
+        hotels.put(hotelName, new ReplicaHotel(hotelCalendars, zone));
+    }
+
+    /**
+     * Gets the offset of the next change this follower expects; it has applied everything before.
+     */
+    public synchronized long getAppliedOffset() {
+        return appliedOffset;
+    }
+
+    /**
+     * Waits until the follower has applied the stream up to a position token.
+     * @return false if the timeout elapsed first
+     */
+    public synchronized boolean awaitPosition(long token, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (appliedOffset < token) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the rooms of a type that are free over the stay, as of the applied position.
+     */
+    public synchronized List<Room> getAvailableRooms(String hotelName, RoomType roomType,
+                                                     LocalDate startDate, LocalDate endDate) {
+        if (hotelName == null || roomType == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Parameters cannot be null");
+        }
+        ReplicaHotel hotel = hotels.get(hotelName);
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel not replicated: " + hotelName);
+        }
+        List<Room> available = new ArrayList<>();
+        for (RoomCalendar calendar : hotel.calendars.values()) {
+            if (calendar.getRoom().getRoomType().equals(roomType) && calendar.isFree(startDate, endDate)) {
+                available.add(calendar.getRoom());
+            }
+        }
+        available.sort(Comparator.comparingInt(Room::getNumber));
+        return available;
+    }
+
+    /**
+     * Gets the latest replicated state of every reservation of a guest, across hotels.
+     */
+    public synchronized List<ReservationChange> getGuestHistory(Identity guestId) {
+        List<ReservationChange> history = new ArrayList<>();
+        for (ReplicaStay stay : staysByGuest.getOrDefault(guestId, Collections.emptyList())) {
+            history.add(stay.latest);
+        }
+        return history;
+    }
+
+    /**
+     * Applies a batch and acknowledges it. A batch starting past the applied offset
+     * means an earlier one was lost, so the leader is asked to resend from there.
+     */
+    private void receive(ReplicationBatch batch) {
+        long next;
+        boolean gap;
+        synchronized (this) {
+            gap = batch.getFirstOffset() > appliedOffset;
+            if (!gap) {
+                for (ReservationChange change : batch.decode()) {
+                    if (change.getOffset() >= appliedOffset) {
+                        apply(change);
+                        appliedOffset = change.getOffset() + 1;
+                    }
+                }
+                notifyAll();
+            }
+            next = appliedOffset;
+        }
+        if (gap) {
+            transport.requestResend(id, next);
+        } else {
+            transport.sendAck(id, next);
+        }
+    }
+
+    private void apply(ReservationChange change) {
+        switch (change.getKind()) {
+            case MANAGER_RECORDED:
+            case MANAGER_RELEASED:
+                return;
+            case BLOCKED:
+                applyBlock(change);
+                return;
+            case BLOCK_RELEASED:
+                applyBlockRelease(change);
+                return;
+            default:
+                break;
+        }
+        ReplicaStay stay = stays.get(change.getReservationId());
+        if (stay == null) {
+            stay = new ReplicaStay(change.getSource(), change);
+            stays.put(change.getReservationId(), stay);
+            staysByGuest.computeIfAbsent(change.getGuestId(), g -> new ArrayList<>()).add(stay);
+        } else {
+            RoomCalendar previous = calendarOf(stay.hotelName, stay.latest.getRoomNumber());
+            if (previous != null) {
+                previous.remove(stay);
+            }
+            stay.latest = change;
+        }
+        ReplicaHotel hotel = hotels.get(stay.hotelName);
+        if (hotel != null && change.getKind() == ReservationChange.Kind.CHECKED_OUT) {
+            stay.departure = hotel.dayOf(change);
+            hotel.departures.computeIfAbsent(stay.departure, d -> new ArrayList<>()).add(stay);
+        }
+        RoomCalendar calendar = calendarOf(stay.hotelName, change.getRoomNumber());
+        if (calendar != null && stay.blocksRoom()) {
+            calendar.add(stay);
+        }
+        if (hotel != null) {
+            hotel.prune(hotel.dayOf(change));
+        }
+    }
+
+    private void applyBlock(ReservationChange change) {
+        ReplicaStay block = new ReplicaStay(change.getSource(), change);
+        blocks.put(change.getReservationId(), block);
+        RoomCalendar calendar = calendarOf(block.hotelName, change.getRoomNumber());
+        if (calendar != null) {
+            calendar.add(block);
+        }
+    }
+
+    private void applyBlockRelease(ReservationChange change) {
+        ReplicaStay block = blocks.remove(change.getReservationId());
+        if (block != null) {
+            RoomCalendar calendar = calendarOf(block.hotelName, block.latest.getRoomNumber());
+            if (calendar != null) {
+                calendar.remove(block);
+            }
+        }
+    }
+
+    private RoomCalendar calendarOf(String hotelName, int roomNumber) {
+        ReplicaHotel hotel = hotels.get(hotelName);
+        return hotel == null || roomNumber == 0 ? null : hotel.calendars.get(roomNumber);
+    }
+}
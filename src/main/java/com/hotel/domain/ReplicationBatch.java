@@ -0,0 +1,57 @@
+package com.hotel.domain;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A run of consecutive change log records shipped to a follower, kept in the
+ * log's own framing so the leader copies segment bytes without decoding them.
+ */
+public class ReplicationBatch {
+    private final long firstOffset;
+    private final long nextOffset;
+    private final byte[] frames;
+
+    public ReplicationBatch(long firstOffset, long nextOffset, byte[] frames) {
+        if (frames == null || nextOffset < firstOffset) {
+            throw new IllegalArgumentException("Invalid replication batch");
+        }
+        this.firstOffset = firstOffset;
+        this.nextOffset = nextOffset;
+        this.frames = frames;
+    }
+
+    public long getFirstOffset() {
+        return firstOffset;
+    }
+
+    /**
+     * Gets the offset just after the last change in the batch.
+     */
+    public long getNextOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * Gets the framed bytes, e.g. for a transport that writes them to a socket.
+     */
+    public byte[] getFrames() {
+        return frames;
+    }
+
+    /**
+     * Decodes the changes carried by the batch.
+     */
+    public List<ReservationChange> decode() {
+        return ReservationChangeLog.decode(ByteBuffer.wrap(frames));
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationBatch{" +
+               "firstOffset=" + firstOffset +
+               ", nextOffset=" + nextOffset +
+               ", bytes=" + frames.length +
+               '}';
+    }
+}
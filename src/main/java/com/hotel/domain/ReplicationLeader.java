@@ -0,0 +1,166 @@
+package com.hotel.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams the chain's change log to followers.
+ * Each follower has its own log reader; batches are cut from the segment bytes
+ * and up to a fixed number are kept in flight without waiting for acknowledgements,
+ * so a follower on a slow link still receives a continuous stream. Every
+ * acknowledgement frees a slot and immediately ships the next batch.
+ * A follower that finds a gap asks for a resend, which rewinds its reader.
+ * Thread-safe.
+ */
+public class ReplicationLeader {
+    private final ReservationChangeLog log;
+    private final ReplicationTransport transport;
+    private final long maxBatchBytes;
+    private final int maxInFlight;
+    private final Map<String, FollowerState> followers;
+
+    private static final class FollowerState {
+        private ReservationChangeLog.Reader reader;
+        private long acknowledgedOffset;
+        private long rewoundTo = -1;
+        private int inFlight;
+
+        private FollowerState(ReservationChangeLog.Reader reader) {
+            this.reader = reader;
+            this.acknowledgedOffset = reader.getPosition();
+        }
+    }
+
+    public ReplicationLeader(ReservationChangeLog log, ReplicationTransport transport,
+                             long maxBatchBytes, int maxInFlight) {
+        if (log == null || transport == null) {
+            throw new IllegalArgumentException("Log and transport cannot be null");
+        }
+        if (maxBatchBytes <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("Batch size and in-flight limit must be positive");
+        }
+        this.log = log;
+        this.transport = transport;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxInFlight = maxInFlight;
+        this.followers = new HashMap<>();
+        transport.bindLeader(this::acknowledge, this::resend);
+    }
+
+    /**
+     * Starts streaming to a follower from the given offset, e.g. the position it
+     * reports after a restart.
+     */
+    public synchronized void addFollower(String followerId, long fromOffset) {
+        if (followerId == null) {
+            throw new IllegalArgumentException("Follower id cannot be null");
+        }
+        if (followers.containsKey(followerId)) {
+            throw new IllegalArgumentException("Follower already added: " + followerId);
+        }
+        followers.put(followerId, new FollowerState(log.openReader(fromOffset)));
+    }
+
+    /**
+     * Gets the token a client keeps after a write: a follower that has reached it
+     * reflects the write.
+     */
+    public long getPositionToken() {
+        return log.getEndOffset();
+    }
+
+    /**
+     * Gets the offset up to which a follower has acknowledged the stream.
+     */
+    public synchronized long getAcknowledgedOffset(String followerId) {
+        return state(followerId).acknowledgedOffset;
+    }
+
+    /**
+     * Ships pending changes to every follower, as far as their in-flight windows allow.
+     * @return the number of batches sent
+     */
+    public synchronized int replicate() {
+        int sent = 0;
+        for (Map.Entry<String, FollowerState> entry : followers.entrySet()) {
+            sent += fill(entry.getKey(), entry.getValue());
+        }
+        return sent;
+    }
+
+    /**
+     * Replicates repeatedly at the given interval.
+     */
+    public ScheduledFuture<?> schedule(ScheduledExecutorService scheduler, Duration interval) {
+        if (scheduler == null || interval == null) {
+            throw new IllegalArgumentException("Scheduler and interval cannot be null");
+        }
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        long millis = interval.toMillis();
+        return scheduler.scheduleWithFixedDelay(this::replicate, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void acknowledge(String followerId, long nextOffset) {
+        FollowerState follower = followers.get(followerId);
+        if (follower == null) {
+            return;
+        }
+        follower.inFlight = Math.max(0, follower.inFlight - 1);
+        follower.acknowledgedOffset = Math.max(follower.acknowledgedOffset, nextOffset);
+        if (nextOffset > follower.rewoundTo) {
+            follower.rewoundTo = -1;
+        }
+        fill(followerId, follower);
+    }
+
+    /**
+     * Rewinds a follower's reader to the offset it is missing. Batches sent before the
+     * rewind report the same gap as they arrive; only the first of them rewinds.
+     */
+    private synchronized void resend(String followerId, long fromOffset) {
+        FollowerState follower = followers.get(followerId);
+        if (follower == null) {
+            return;
+        }
+        follower.inFlight = Math.max(0, follower.inFlight - 1);
+        if (fromOffset != follower.rewoundTo) {
+            follower.reader = log.openReader(fromOffset);
+            follower.rewoundTo = fromOffset;
+        }
+        fill(followerId, follower);
+    }
+
+    private int fill(String followerId, FollowerState follower) {
+        int sent = 0;
+        while (follower.inFlight < maxInFlight) {
+            long first = follower.reader.getPosition();
+            ByteArrayOutputStream frames = new ByteArrayOutputStream();
+            WritableByteChannel channel = Channels.newChannel(frames);
+            if (follower.reader.transferTo(channel, maxBatchBytes) == 0) {
+                break;
+            }
+            transport.sendBatch(followerId,
+                new ReplicationBatch(first, follower.reader.getPosition(), frames.toByteArray()));
+            follower.inFlight++;
+            sent++;
+        }
+        return sent;
+    }
+
+    private FollowerState state(String followerId) {
+        FollowerState follower = followers.get(followerId);
+        if (follower == null) {
+            throw new IllegalArgumentException("Unknown follower: " + followerId);
+        }
+        return follower;
+    }
+}
@@ -0,0 +1,39 @@
+package com.hotel.domain;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Carries change log batches from a replication leader to its followers and
+ * acknowledgements back. Implementations must deliver the batches of one
+ * follower in the order they were sent.
+ */
+public interface ReplicationTransport {
+
+    /**
+     * Registers the leader's handlers for acknowledgements and resend requests,
+     * each given the follower id and an offset.
+     */
+    void bindLeader(BiConsumer<String, Long> ackHandler, BiConsumer<String, Long> resendHandler);
+
+    /**
+     * Registers a follower's handler for incoming batches.
+     */
+    void bindFollower(String followerId, Consumer<ReplicationBatch> batchHandler);
+
+    /**
+     * Sends a batch to a follower without waiting for it to be applied.
+     */
+    void sendBatch(String followerId, ReplicationBatch batch);
+
+    /**
+     * Tells the leader a follower has applied everything before the given offset.
+     */
+    void sendAck(String followerId, long nextOffset);
+
+    /**
+     * Asks the leader to resend the stream from the given offset, after a follower
+     * received a batch that does not follow on from what it has applied.
+     */
+    void requestResend(String followerId, long fromOffset);
+}
@@ -2,30 +2,33 @@ package com.hotel.domain;
 
 import com.hotel.util.Identity;
 import java.time.LocalDate;
-import java.util.Objects;
 
 /**
  * Represents a reservation in the hotel system.
- * Immutable once created.
+ * Guest and dates are fixed once created; the room may still be reassigned
+ * before check-in. Inventory-level bookings start without a room and are
+ * assigned one by a later pass.
  */
-public class Reservation {
+public class Reservation implements Occupancy {
     private final Identity id;
     private final Guest guest;
-    private final Room room;
+    private Room room;
+    private final RoomType roomType;
     private final LocalDate reservationDate;
     private final LocalDate startDate;
     private final LocalDate endDate;
     private ReservationStatus status;
 
     public enum ReservationStatus {
-        CONFIRMED, CHECKED_IN, CHECKED_OUT, CANCELLED
+        CONFIRMED, CHECKED_IN, CHECKED_OUT, CANCELLED, NO_SHOW
     }
 
-    private Reservation(Identity id, Guest guest, Room room, LocalDate reservationDate,
+    private Reservation(Identity id, Guest guest, Room room, RoomType roomType, LocalDate reservationDate,
                        LocalDate startDate, LocalDate endDate, ReservationStatus status) {
         this.id = id;
         this.guest = guest;
         this.room = room;
+        this.roomType = roomType;
         this.reservationDate = reservationDate;
         this.startDate = startDate;
         this.endDate = endDate;
@@ -33,23 +36,76 @@ public class Reservation {
     }
 
     public static Reservation create(Guest guest, Room room, LocalDate startDate, LocalDate endDate) {
+        return create(guest, room, startDate, endDate, LocalDate.now());
+    }
+
+    /**
+     * Creates a reservation booked on the given business date.
+     * Lets callers with an injected clock (and log replay) control what "today" is.
+     */
+    public static Reservation create(Guest guest, Room room, LocalDate startDate, LocalDate endDate,
+                                     LocalDate bookingDate) {
+        if (bookingDate == null) {
+            throw new IllegalArgumentException("Booking date cannot be null");
+        }
         if (guest == null) {
             throw new IllegalArgumentException("Guest cannot be null");
         }
         if (room == null) {
             throw new IllegalArgumentException("Room cannot be null");
         }
+        validateStay(guest, startDate, endDate, bookingDate);
+        return new Reservation(new Identity(), guest, room, room.getRoomType(), bookingDate,
+                             startDate, endDate, ReservationStatus.CONFIRMED);
+    }
+
+    /**
+     * Creates a booking against room type inventory, with the room assigned later.
+     */
+    static Reservation createUnassigned(Guest guest, RoomType roomType, LocalDate startDate,
+                                        LocalDate endDate, LocalDate bookingDate) {
+        if (bookingDate == null) {
+            throw new IllegalArgumentException("Booking date cannot be null");
+        }
+        if (roomType == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+        validateStay(guest, startDate, endDate, bookingDate);
+        return new Reservation(new Identity(), guest, null, roomType, bookingDate,
+                             startDate, endDate, ReservationStatus.CONFIRMED);
+    }
+
+    private static void validateStay(Guest guest, LocalDate startDate, LocalDate endDate,
+                                     LocalDate bookingDate) {
+        if (guest == null) {
+            throw new IllegalArgumentException("Guest cannot be null");
+        }
         if (startDate == null || endDate == null) {
             throw new IllegalArgumentException("Start and end dates cannot be null");
         }
-        if (startDate.isBefore(LocalDate.now())) {
+        if (startDate.isBefore(bookingDate)) {
             throw new IllegalArgumentException("Start date cannot be in the past");
         }
         if (endDate.isBefore(startDate) || endDate.equals(startDate)) {
             throw new IllegalArgumentException("End date must be after start date");
         }
-        return new Reservation(new Identity(), guest, room, LocalDate.now(),
-                             startDate, endDate, ReservationStatus.CONFIRMED);
+    }
+
+    /**
+     * Rebuilds a reservation from stored state without re-running booking rules.
+     */
+    static Reservation restore(Identity id, Guest guest, Room room, LocalDate reservationDate,
+                               LocalDate startDate, LocalDate endDate, ReservationStatus status) {
+        return restore(id, guest, room, room.getRoomType(), reservationDate, startDate, endDate, status);
+    }
+
+    /**
+     * Rebuilds a reservation whose room may not have been assigned.
+     */
+    static Reservation restore(Identity id, Guest guest, Room room, RoomType roomType,
+                               LocalDate reservationDate, LocalDate startDate, LocalDate endDate,
+                               ReservationStatus status) {
+        return new Reservation(id, guest, room, roomType, reservationDate, startDate, endDate, status);
     }
 
     public Identity getId() {
@@ -64,6 +120,20 @@ public class Reservation {
         return room;
     }
 
+    /**
+     * Gets the booked room type, known even before a room is assigned.
+     */
+    public RoomType getRoomType() {
+        return roomType;
+    }
+
+    /**
+     * Checks whether a physical room has been assigned.
+     */
+    public boolean isAssigned() {
+        return room != null;
+    }
+
     public LocalDate getReservationDate() {
         return reservationDate;
     }
@@ -80,13 +150,44 @@ public class Reservation {
         return status;
     }
 
+    @Override
+    public boolean blocksRoom() {
+        return status != ReservationStatus.CANCELLED && status != ReservationStatus.NO_SHOW;
+    }
+
+    /**
+     * Assigns a booking that has not started to a room of the booked type.
+     */
+    void reassignRoom(Room newRoom) {
+        if (status != ReservationStatus.CONFIRMED) {
+            throw new IllegalStateException("Can only move confirmed reservations");
+        }
+        if (!newRoom.getRoomType().equals(roomType)) {
+            throw new IllegalArgumentException("Room type does not match the booking");
+        }
+        this.room = newRoom;
+    }
+
     public void checkIn() {
+        checkIn(LocalDate.now());
+    }
+
+    /**
+     * Checks in against the given business date.
+     */
+    public void checkIn(LocalDate today) {
+        if (today == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
         if (status != ReservationStatus.CONFIRMED) {
             throw new IllegalStateException("Can only check in confirmed reservations");
         }
-        if (LocalDate.now().isBefore(startDate)) {
+        if (today.isBefore(startDate)) {
             throw new IllegalStateException("Check-in date has not arrived");
         }
+        if (room == null) {
+            throw new IllegalStateException("No room has been assigned yet");
+        }
         this.status = ReservationStatus.CHECKED_IN;
     }
 
@@ -98,12 +199,31 @@ public class Reservation {
     }
 
     public void cancel() {
-        if (status == ReservationStatus.CHECKED_OUT || status == ReservationStatus.CANCELLED) {
+        if (isTerminal()) {
             throw new IllegalStateException("Cannot cancel completed or already cancelled reservations");
         }
         this.status = ReservationStatus.CANCELLED;
     }
 
+    /**
+     * Marks a confirmed reservation whose arrival date passed without check-in.
+     */
+    void markNoShow() {
+        if (status != ReservationStatus.CONFIRMED) {
+            throw new IllegalStateException("Can only mark confirmed reservations as no-show");
+        }
+        this.status = ReservationStatus.NO_SHOW;
+    }
+
+    /**
+     * Checks whether the reservation has reached a final state.
+     */
+    public boolean isTerminal() {
+        return status == ReservationStatus.CHECKED_OUT ||
+               status == ReservationStatus.CANCELLED ||
+               status == ReservationStatus.NO_SHOW;
+    }
+
     public int getNumberOfNights() {
         return (int) java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
     }
@@ -118,7 +238,7 @@ public class Reservation {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return id.hashCode();
     }
 
     @Override
@@ -126,7 +246,7 @@ public class Reservation {
         return "Reservation{" +
                "id=" + id +
                ", guest=" + guest.getName() +
-               ", room=" + room.getNumber() +
+               ", room=" + (room == null ? "unassigned" : String.valueOf(room.getNumber())) +
                ", startDate=" + startDate +
                ", endDate=" + endDate +
                ", status=" + status +
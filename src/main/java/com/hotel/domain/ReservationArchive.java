@@ -0,0 +1,276 @@
+package com.hotel.domain;
+
+import com.hotel.util.Identity;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Cold tier for finished reservations, stored column by column in primitive arrays.
+ * Identities are packed into two longs (ids that are not UUIDs into a string column),
+ * rooms and dates into ints, the status into a byte; guests and room types are
+ * shared through dictionaries. Each guest's rows are chained from newest to oldest,
+ * so guest lookups touch only that guest's rows.
+ * Reservations are rebuilt on demand when queries need them.
+ */
+public class ReservationArchive {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Reservation.ReservationStatus[] STATUSES = Reservation.ReservationStatus.values();
+
+    private final IntFunction<Room> roomLookup;
+    private final List<Guest> guests;
+    private final Map<Guest, Integer> guestRefs;
+    private final List<RoomType> roomTypes;
+    private int[] lastRowByGuest;
+    private String[] customIdColumn;
+    private long[] idHigh;
+    private long[] idLow;
+    private int[] guestColumn;
+    private int[] previousRowColumn;
+    private int[] roomColumn;
+    private byte[] typeColumn;
+    private int[] bookedColumn;
+    private int[] startColumn;
+    private int[] endColumn;
+    private byte[] statusColumn;
+    private int[] idTable;
+    private int size;
+
+    ReservationArchive(IntFunction<Room> roomLookup) {
+        this.roomLookup = roomLookup;
+        this.guests = new ArrayList<>();
+        this.guestRefs = new HashMap<>();
+        this.roomTypes = new ArrayList<>();
+        this.lastRowByGuest = new int[INITIAL_CAPACITY];
+        this.idHigh = new long[INITIAL_CAPACITY];
+        this.idLow = new long[INITIAL_CAPACITY];
+        this.guestColumn = new int[INITIAL_CAPACITY];
+        this.previousRowColumn = new int[INITIAL_CAPACITY];
+        this.roomColumn = new int[INITIAL_CAPACITY];
+        this.typeColumn = new byte[INITIAL_CAPACITY];
+        this.bookedColumn = new int[INITIAL_CAPACITY];
+        this.startColumn = new int[INITIAL_CAPACITY];
+        this.endColumn = new int[INITIAL_CAPACITY];
+        this.statusColumn = new byte[INITIAL_CAPACITY];
+        this.idTable = new int[INITIAL_CAPACITY * 2];
+    }
+
+    /**
+     * Appends a finished reservation to the archive.
+     */
+    void add(Reservation reservation) {
+        if (!reservation.isTerminal()) {
+            throw new IllegalArgumentException("Only finished reservations can be archived");
+        }
+        if (size == idHigh.length) {
+            grow();
+        }
+        int row = size;
+        packId(reservation.getId(), row);
+        Integer guestRef = guestRefs.get(reservation.getGuest());
+        if (guestRef == null) {
+            guestRef = guests.size();
+            guests.add(reservation.getGuest());
+            guestRefs.put(reservation.getGuest(), guestRef);
+            if (guestRef == lastRowByGuest.length) {
+                lastRowByGuest = Arrays.copyOf(lastRowByGuest, guestRef * 2);
+            }
+        }
+        guestColumn[row] = guestRef;
+        previousRowColumn[row] = lastRowByGuest[guestRef];
+        lastRowByGuest[guestRef] = row + 1;
+        roomColumn[row] = reservation.isAssigned() ? reservation.getRoom().getNumber() : 0;
+        typeColumn[row] = typeRef(reservation.getRoomType());
+        bookedColumn[row] = (int) reservation.getReservationDate().toEpochDay();
+        startColumn[row] = (int) reservation.getStartDate().toEpochDay();
+        endColumn[row] = (int) reservation.getEndDate().toEpochDay();
+        statusColumn[row] = (byte) reservation.getStatus().ordinal();
+        size++;
+        insertId(row);
+    }
+
+    /**
+     * Checks whether a reservation with the given identity has been archived.
+     */
+    public boolean contains(Identity id) {
+        return id != null && findRow(id) >= 0;
+    }
+
+    /**
+     * Gets the archived reservations of a guest.
+     */
+    public List<Reservation> findByGuest(Guest guest) {
+        Integer guestRef = guestRefs.get(guest);
+        if (guestRef == null) {
+            return new ArrayList<>();
+        }
+        List<Reservation> result = new ArrayList<>();
+        for (int next = lastRowByGuest[guestRef]; next != 0; next = previousRowColumn[next - 1]) {
+            result.add(get(next - 1));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Gets every archived reservation.
+     */
+    public List<Reservation> toList() {
+        List<Reservation> result = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            result.add(get(row));
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Captures the rows archived so far. Archived rows never change and growing
+     * replaces the column arrays, so the view shares them instead of copying.
+     */
+    ReservationColumns snapshot() {
+        return new ReservationColumns(size, idHigh, idLow, customIdColumn, guests.toArray(new Guest[0]),
+            guestColumn, roomColumn, roomTypes.toArray(new RoomType[0]), typeColumn,
+            bookedColumn, startColumn, endColumn, statusColumn);
+    }
+
+    private Reservation get(int row) {
+        return Reservation.restore(
+            unpackId(row),
+            guests.get(guestColumn[row]),
+            roomColumn[row] == 0 ? null : roomLookup.apply(roomColumn[row]),
+            roomTypes.get(typeColumn[row] & 0xFF),
+            LocalDate.ofEpochDay(bookedColumn[row]),
+            LocalDate.ofEpochDay(startColumn[row]),
+            LocalDate.ofEpochDay(endColumn[row]),
+            STATUSES[statusColumn[row]]);
+    }
+
+    private byte typeRef(RoomType roomType) {
+        int ref = roomTypes.indexOf(roomType);
+        if (ref < 0) {
+            if (roomTypes.size() == 256) {
+                throw new IllegalStateException("Too many room types to archive");
+            }
+            ref = roomTypes.size();
+            roomTypes.add(roomType);
+        }
+        return (byte) ref;
+    }
+
+    private void packId(Identity id, int row) {
+        UUID uuid = asUuid(id);
+        if (uuid != null) {
+            idHigh[row] = uuid.getMostSignificantBits();
+            idLow[row] = uuid.getLeastSignificantBits();
+        } else {
+            idHigh[row] = 0;
+            idLow[row] = row;
+            if (customIdColumn == null) {
+                customIdColumn = new String[idHigh.length];
+            }
+            customIdColumn[row] = id.getId();
+        }
+    }
+
+    private Identity unpackId(int row) {
+        String custom = customId(row);
+        if (custom != null) {
+            return new Identity(custom);
+        }
+        return new Identity(new UUID(idHigh[row], idLow[row]).toString());
+    }
+
+    private String customId(int row) {
+        return customIdColumn == null ? null : customIdColumn[row];
+    }
+
+    private int findRow(Identity id) {
+        UUID uuid = asUuid(id);
+        long high = uuid != null ? uuid.getMostSignificantBits() : 0;
+        long low = uuid != null ? uuid.getLeastSignificantBits() : 0;
+        int hash = uuid != null ? hash(high, low) : hash(id.getId());
+        int mask = idTable.length - 1;
+        for (int slot = hash & mask; idTable[slot] != 0; slot = (slot + 1) & mask) {
+            int row = idTable[slot] - 1;
+            String custom = customId(row);
+            if (uuid != null ? custom == null && idHigh[row] == high && idLow[row] == low
+                             : id.getId().equals(custom)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private void insertId(int row) {
+        if (size * 2 > idTable.length) {
+            int[] old = idTable;
+            idTable = new int[old.length * 2];
+            for (int existing = 0; existing < size; existing++) {
+                place(existing);
+            }
+        } else {
+            place(row);
+        }
+    }
+
+    private void place(int row) {
+        String custom = customId(row);
+        int hash = custom != null ? hash(custom) : hash(idHigh[row], idLow[row]);
+        int mask = idTable.length - 1;
+        int slot = hash & mask;
+        while (idTable[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        idTable[slot] = row + 1;
+    }
+
+    private static UUID asUuid(Identity id) {
+        String value = id.getId();
+        if (value.length() != 36 || value.charAt(8) != '-' || value.charAt(13) != '-'
+            || value.charAt(18) != '-' || value.charAt(23) != '-') {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(id.getId()) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int hash(long high, long low) {
+        long h = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int hash(String id) {
+        int h = id.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void grow() {
+        int capacity = idHigh.length * 2;
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        guestColumn = Arrays.copyOf(guestColumn, capacity);
+        previousRowColumn = Arrays.copyOf(previousRowColumn, capacity);
+        roomColumn = Arrays.copyOf(roomColumn, capacity);
+        typeColumn = Arrays.copyOf(typeColumn, capacity);
+        bookedColumn = Arrays.copyOf(bookedColumn, capacity);
+        startColumn = Arrays.copyOf(startColumn, capacity);
+        endColumn = Arrays.copyOf(endColumn, capacity);
+        statusColumn = Arrays.copyOf(statusColumn, capacity);
+        if (customIdColumn != null) {
+            customIdColumn = Arrays.copyOf(customIdColumn, capacity);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationArchive{" + "size=" + size + ", guests=" + guests.size() + '}';
+    }
+}
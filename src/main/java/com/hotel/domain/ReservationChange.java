@@ -0,0 +1,212 @@
+package com.hotel.domain;
+
+import com.hotel.util.Identity;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * One entry of the reservation change stream, as read back from the change log.
+ * Carries a snapshot of the reservation at the time of the change, so consumers
+ * can rebuild their own view without calling back into the hotel. Room blocks
+ * travel through the same stream: their changes carry the block id in place of
+ * the reservation id, no guest and no status.
+ */
+public class ReservationChange {
+    private static final Reservation.ReservationStatus[] STATUSES = Reservation.ReservationStatus.values();
+    private static final Kind[] KINDS = Kind.values();
+    private static final byte NO_STATUS = -1;
+
+    private final long offset;
+    private final Kind kind;
+    private final String source;
+    private final Identity reservationId;
+    private final Identity guestId;
+    private final int roomNumber;
+    private final String roomTypeKind;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Reservation.ReservationStatus status;
+    private final long timestampMillis;
+
+    /**
+     * What changed. Hotel changes use the hotel name as source,
+     * manager changes the manager id.
+     */
+    public enum Kind {
+        CREATED, CANCELLED, CHECKED_IN, CHECKED_OUT, NO_SHOW, ROOM_ASSIGNED,
+        MANAGER_RECORDED, MANAGER_RELEASED, BLOCKED, BLOCK_RELEASED;
+
+        static Kind of(ReservationEvent.Type type) {
+            return valueOf(type.name());
+        }
+    }
+
+    private ReservationChange(long offset, Kind kind, String source, Identity reservationId, Identity guestId,
+                              int roomNumber, String roomTypeKind, LocalDate startDate, LocalDate endDate,
+                              Reservation.ReservationStatus status, long timestampMillis) {
+        this.offset = offset;
+        this.kind = kind;
+        this.source = source;
+        this.reservationId = reservationId;
+        this.guestId = guestId;
+        this.roomNumber = roomNumber;
+        this.roomTypeKind = roomTypeKind;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.status = status;
+        this.timestampMillis = timestampMillis;
+    }
+
+    /**
+     * Writes a change into a buffer.
+     */
+    static void encode(ByteBuffer buffer, Kind kind, String source, Reservation reservation, long timestampMillis) {
+        encode(buffer, kind, timestampMillis, source, reservation.getId().getId(),
+            reservation.getGuest().getId().getId(), reservation.isAssigned() ? reservation.getRoom().getNumber() : 0,
+            reservation.getRoomType().getKind(), reservation.getStartDate(), reservation.getEndDate(),
+            (byte) reservation.getStatus().ordinal());
+    }
+
+    /**
+     * Writes a room block change into a buffer.
+     */
+    static void encode(ByteBuffer buffer, Kind kind, String source, RoomBlock block, long timestampMillis) {
+        encode(buffer, kind, timestampMillis, source, block.getId().getId(), "", block.getRoom().getNumber(),
+            block.getRoom().getRoomType().getKind(), block.getStartDate(), block.getEndDate(), NO_STATUS);
+    }
+
+    private static void encode(ByteBuffer buffer, Kind kind, long timestampMillis, String source, String id,
+                               String guestId, int roomNumber, String roomTypeKind, LocalDate startDate,
+                               LocalDate endDate, byte status) {
+        buffer.put((byte) kind.ordinal());
+        buffer.putLong(timestampMillis);
+        putString(buffer, source);
+        putString(buffer, id);
+        putString(buffer, guestId);
+        buffer.putInt(roomNumber);
+        putString(buffer, roomTypeKind);
+        buffer.putInt((int) startDate.toEpochDay());
+        buffer.putInt((int) endDate.toEpochDay());
+        buffer.put(status);
+    }
+
+    /**
+     * Gets an upper bound of the encoded size of a change.
+     */
+    static int maxEncodedSize(String source, Reservation reservation) {
+        return maxEncodedSize(source.length() + reservation.getId().getId().length() +
+            reservation.getGuest().getId().getId().length() + reservation.getRoomType().getKind().length());
+    }
+
+    /**
+     * Gets an upper bound of the encoded size of a room block change.
+     */
+    static int maxEncodedSize(String source, RoomBlock block) {
+        return maxEncodedSize(source.length() + block.getId().getId().length() +
+            block.getRoom().getRoomType().getKind().length());
+    }
+
+    private static int maxEncodedSize(int chars) {
+        return 1 + Long.BYTES + 4 * Short.BYTES + 3 * Integer.BYTES + 1 + 3 * chars;
+    }
+
+    /**
+     * Reads a change written by {@link #encode}.
+     */
+    static ReservationChange decode(long offset, ByteBuffer buffer) {
+        Kind kind = KINDS[buffer.get()];
+        long timestampMillis = buffer.getLong();
+        String source = getString(buffer);
+        Identity reservationId = new Identity(getString(buffer));
+        String guest = getString(buffer);
+        Identity guestId = guest.isEmpty() ? null : new Identity(guest);
+        int roomNumber = buffer.getInt();
+        String roomTypeKind = getString(buffer);
+        LocalDate startDate = LocalDate.ofEpochDay(buffer.getInt());
+        LocalDate endDate = LocalDate.ofEpochDay(buffer.getInt());
+        byte statusRef = buffer.get();
+        Reservation.ReservationStatus status = statusRef == NO_STATUS ? null : STATUSES[statusRef];
+        return new ReservationChange(offset, kind, source, reservationId, guestId, roomNumber, roomTypeKind,
+            startDate, endDate, status, timestampMillis);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the position of the change in the stream; resume reading from {@code offset + 1}.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public Identity getReservationId() {
+        return reservationId;
+    }
+
+    /**
+     * Gets the guest of the reservation, or null for a room block change.
+     */
+    public Identity getGuestId() {
+        return guestId;
+    }
+
+    /**
+     * Gets the assigned room number, or 0 while no room is assigned.
+     */
+    public int getRoomNumber() {
+        return roomNumber;
+    }
+
+    public String getRoomTypeKind() {
+        return roomTypeKind;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Gets the reservation status after the change, or null for a room block change.
+     */
+    public Reservation.ReservationStatus getStatus() {
+        return status;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationChange{" +
+               "offset=" + offset +
+               ", kind=" + kind +
+               ", source='" + source + '\'' +
+               ", reservation=" + reservationId +
+               ", status=" + status +
+               '}';
+    }
+}
@@ -0,0 +1,147 @@
+package com.hotel.domain;
+
+import com.hotel.util.SegmentedLog;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Durable, ordered stream of reservation changes made by hotels and managers.
+ * Each change gets a monotonically increasing offset. Consumers keep the offset
+ * they have processed and open a reader there after a restart, instead of
+ * re-pulling the whole state. Changes are appended synchronously on the mutation
+ * path, so unlike the event bus nothing is dropped.
+ * Thread-safe.
+ */
+public class ReservationChangeLog implements AutoCloseable {
+    private static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    private final SegmentedLog log;
+    private ByteBuffer buffer;
+
+    public ReservationChangeLog(Path directory) {
+        this(directory, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public ReservationChangeLog(Path directory, long segmentBytes) {
+        this.log = new SegmentedLog(directory, segmentBytes);
+        this.buffer = ByteBuffer.allocate(512);
+    }
+
+    /**
+     * Appends a change for a reservation.
+     * @return the offset of the change
+     */
+    synchronized long append(ReservationChange.Kind kind, String source, Reservation reservation,
+                             long timestampMillis) {
+        reserve(ReservationChange.maxEncodedSize(source, reservation));
+        ReservationChange.encode(buffer, kind, source, reservation, timestampMillis);
+        buffer.flip();
+        return log.append(buffer);
+    }
+
+    /**
+     * Appends a change for a room block.
+     * @return the offset of the change
+     */
+    synchronized long append(ReservationChange.Kind kind, String source, RoomBlock block, long timestampMillis) {
+        reserve(ReservationChange.maxEncodedSize(source, block));
+        ReservationChange.encode(buffer, kind, source, block, timestampMillis);
+        buffer.flip();
+        return log.append(buffer);
+    }
+
+    private void reserve(int required) {
+        if (buffer.capacity() < required) {
+            buffer = ByteBuffer.allocate(Math.max(required, buffer.capacity() * 2));
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Gets the offset the next change will receive.
+     */
+    public long getEndOffset() {
+        return log.getEndOffset();
+    }
+
+    /**
+     * Opens a reader positioned at the given offset.
+     */
+    public Reader openReader(long offset) {
+        if (offset < log.getStartOffset() || offset > log.getEndOffset()) {
+            throw new IllegalArgumentException("Offset out of range: " + offset);
+        }
+        return new Reader(offset);
+    }
+
+    /**
+     * Forces appended changes to disk.
+     */
+    public void flush() {
+        log.flush();
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    /**
+     * Decodes framed change bytes copied by {@link Reader#transferTo}.
+     */
+    public static List<ReservationChange> decode(ByteBuffer frames) {
+        List<ReservationChange> changes = new ArrayList<>();
+        SegmentedLog.decode(frames, (offset, payload) -> changes.add(ReservationChange.decode(offset, payload)));
+        return changes;
+    }
+
+    /**
+     * A cursor over the change stream. Not thread-safe; use one reader per consumer.
+     */
+    public final class Reader {
+        private long position;
+
+        private Reader(long position) {
+            this.position = position;
+        }
+
+        /**
+         * Gets the offset of the next change this reader will return.
+         */
+        public long getPosition() {
+            return position;
+        }
+
+        /**
+         * Reads a batch of up to {@code maxChanges} changes and advances past them.
+         * @return the changes read, empty when the reader has caught up
+         */
+        public List<ReservationChange> poll(int maxChanges) {
+            if (maxChanges <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+            List<ReservationChange> changes = new ArrayList<>();
+            position = log.read(position, maxChanges,
+                (offset, payload) -> changes.add(ReservationChange.decode(offset, payload)));
+            return changes;
+        }
+
+        /**
+         * Copies the framed bytes of the next changes straight from the segment file
+         * to a channel and advances past them.
+         * @return the number of changes copied, 0 when the reader has caught up
+         */
+        public int transferTo(WritableByteChannel target, long maxBytes) {
+            if (target == null) {
+                throw new IllegalArgumentException("Target cannot be null");
+            }
+            long next = log.transferTo(position, maxBytes, target);
+            int copied = (int) (next - position);
+            position = next;
+            return copied;
+        }
+    }
+}
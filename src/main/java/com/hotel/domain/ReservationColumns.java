@@ -0,0 +1,144 @@
+package com.hotel.domain;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only column view of a set of reservations, frozen at the time it was taken.
+ * Either shares the archive's columns up to a row count, since archived rows never
+ * change, or holds a copy of live reservations made under the hotel lock.
+ * Rows are read field by field, so scanning it does not rebuild reservations.
+ */
+final class ReservationColumns {
+    private static final Reservation.ReservationStatus[] STATUSES = Reservation.ReservationStatus.values();
+
+    private final int size;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final String[] customIds;
+    private final Guest[] guests;
+    private final int[] guestColumn;
+    private final int[] roomColumn;
+    private final RoomType[] roomTypes;
+    private final byte[] typeColumn;
+    private final int[] bookedColumn;
+    private final int[] startColumn;
+    private final int[] endColumn;
+    private final byte[] statusColumn;
+
+    ReservationColumns(int size, long[] idHigh, long[] idLow, String[] customIds, Guest[] guests,
+                       int[] guestColumn, int[] roomColumn, RoomType[] roomTypes, byte[] typeColumn,
+                       int[] bookedColumn, int[] startColumn, int[] endColumn, byte[] statusColumn) {
+        this.size = size;
+        this.idHigh = idHigh;
+        this.idLow = idLow;
+        this.customIds = customIds;
+        this.guests = guests;
+        this.guestColumn = guestColumn;
+        this.roomColumn = roomColumn;
+        this.roomTypes = roomTypes;
+        this.typeColumn = typeColumn;
+        this.bookedColumn = bookedColumn;
+        this.startColumn = startColumn;
+        this.endColumn = endColumn;
+        this.statusColumn = statusColumn;
+    }
+
+    /**
+     * Copies the current state of live reservations.
+     */
+    static ReservationColumns copyOf(Collection<Reservation> reservations) {
+        int size = reservations.size();
+        String[] ids = new String[size];
+        Map<Guest, Integer> guestRefs = new IdentityHashMap<>();
+        Map<RoomType, Integer> typeRefs = new IdentityHashMap<>();
+        int[] guestColumn = new int[size];
+        int[] roomColumn = new int[size];
+        byte[] typeColumn = new byte[size];
+        int[] bookedColumn = new int[size];
+        int[] startColumn = new int[size];
+        int[] endColumn = new int[size];
+        byte[] statusColumn = new byte[size];
+        int row = 0;
+        for (Reservation reservation : reservations) {
+            ids[row] = reservation.getId().getId();
+            guestColumn[row] = guestRefs.computeIfAbsent(reservation.getGuest(), g -> guestRefs.size());
+            roomColumn[row] = reservation.isAssigned() ? reservation.getRoom().getNumber() : 0;
+            typeColumn[row] = (byte) (int) typeRefs.computeIfAbsent(reservation.getRoomType(), t -> typeRefs.size());
+            bookedColumn[row] = (int) reservation.getReservationDate().toEpochDay();
+            startColumn[row] = (int) reservation.getStartDate().toEpochDay();
+            endColumn[row] = (int) reservation.getEndDate().toEpochDay();
+            statusColumn[row] = (byte) reservation.getStatus().ordinal();
+            row++;
+        }
+        Guest[] guests = new Guest[guestRefs.size()];
+        guestRefs.forEach((guest, ref) -> guests[ref] = guest);
+        RoomType[] roomTypes = new RoomType[typeRefs.size()];
+        typeRefs.forEach((type, ref) -> roomTypes[ref] = type);
+        return new ReservationColumns(size, null, null, ids, guests, guestColumn, roomColumn, roomTypes,
+            typeColumn, bookedColumn, startColumn, endColumn, statusColumn);
+    }
+
+    int size() {
+        return size;
+    }
+
+    String id(int row) {
+        String custom = customIds == null ? null : customIds[row];
+        return custom != null ? custom : new UUID(idHigh[row], idLow[row]).toString();
+    }
+
+    Guest guest(int row) {
+        return guests[guestColumn[row]];
+    }
+
+    /**
+     * Gets every distinct guest referenced by the rows.
+     */
+    Guest[] guests() {
+        return guests;
+    }
+
+    /**
+     * Gets the room number, or 0 if no room was assigned.
+     */
+    int room(int row) {
+        return roomColumn[row];
+    }
+
+    RoomType roomType(int row) {
+        return roomTypes[typeRef(row)];
+    }
+
+    /**
+     * Gets the position of the row's room type in {@link #roomTypes()}.
+     */
+    int typeRef(int row) {
+        return typeColumn[row] & 0xFF;
+    }
+
+    /**
+     * Gets every distinct room type referenced by the rows.
+     */
+    RoomType[] roomTypes() {
+        return roomTypes;
+    }
+
+    int bookedDay(int row) {
+        return bookedColumn[row];
+    }
+
+    int startDay(int row) {
+        return startColumn[row];
+    }
+
+    int endDay(int row) {
+        return endColumn[row];
+    }
+
+    Reservation.ReservationStatus status(int row) {
+        return STATUSES[statusColumn[row]];
+    }
+}
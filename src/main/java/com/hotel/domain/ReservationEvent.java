@@ -0,0 +1,96 @@
+package com.hotel.domain;
+
+import com.hotel.util.Name;
+
+/**
+ * A reservation lifecycle change as delivered to event subscribers.
+ * Events live in preallocated ring buffer slots that are reused, so a listener
+ * must copy whatever it wants to keep before returning from the callback.
+ */
+public class ReservationEvent {
+    private Type type;
+    private Name hotelName;
+    private Reservation reservation;
+    private RoomBlock block;
+    private Reservation.ReservationStatus status;
+    private long timestampMillis;
+    private long sequence;
+
+    public enum Type {
+        CREATED, CANCELLED, CHECKED_IN, CHECKED_OUT, NO_SHOW, ROOM_ASSIGNED, BLOCKED, BLOCK_RELEASED
+    }
+
+    ReservationEvent() {
+    }
+
+    void set(Type type, Name hotelName, Reservation reservation, long timestampMillis, long sequence) {
+        this.type = type;
+        this.hotelName = hotelName;
+        this.reservation = reservation;
+        this.block = null;
+        this.status = reservation.getStatus();
+        this.timestampMillis = timestampMillis;
+        this.sequence = sequence;
+    }
+
+    void set(Type type, Name hotelName, RoomBlock block, long timestampMillis, long sequence) {
+        this.type = type;
+        this.hotelName = hotelName;
+        this.reservation = null;
+        this.block = block;
+        this.status = null;
+        this.timestampMillis = timestampMillis;
+        this.sequence = sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Name getHotelName() {
+        return hotelName;
+    }
+
+    /**
+     * Gets the reservation, or null for a room block event.
+     */
+    public Reservation getReservation() {
+        return reservation;
+    }
+
+    /**
+     * Gets the room block of a {@link Type#BLOCKED} or {@link Type#BLOCK_RELEASED} event, otherwise null.
+     */
+    public RoomBlock getBlock() {
+        return block;
+    }
+
+    /**
+     * Gets the reservation status at the time the event was published, or null for a room block event.
+     */
+    public Reservation.ReservationStatus getStatus() {
+        return status;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Gets the position of the event in the bus, increasing by one per event.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationEvent{" +
+               "type=" + type +
+               ", hotel=" + hotelName +
+               ", reservation=" + (reservation == null ? null : reservation.getId()) +
+               ", block=" + (block == null ? null : block.getId()) +
+               ", sequence=" + sequence +
+               '}';
+    }
+}
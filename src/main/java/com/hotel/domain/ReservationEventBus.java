@@ -0,0 +1,217 @@
+package com.hotel.domain;
+
+import com.hotel.util.Name;
+import com.hotel.util.RingBuffer;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process publisher of reservation lifecycle events.
+ * Publishing fills a preallocated ring buffer slot and never blocks or allocates:
+ * when the slowest subscriber is a full ring behind, the event is dropped and counted.
+ * Each subscription drains the ring on its own daemon thread, handing over every
+ * published event it has not yet seen as one batch and skipping those its filter rejects.
+ */
+public class ReservationEventBus implements AutoCloseable {
+    private static final long MAX_IDLE_NANOS = 1_000_000;
+
+    private final RingBuffer<ReservationEvent> ring;
+    private final List<Subscription> subscriptions;
+    private final LongAdder dropped;
+    private volatile boolean closed;
+
+    public ReservationEventBus(int capacity) {
+        this.ring = new RingBuffer<>(capacity, ReservationEvent::new);
+        this.subscriptions = new CopyOnWriteArrayList<>();
+        this.dropped = new LongAdder();
+    }
+
+    /**
+     * Publishes an event for a reservation of the named hotel.
+     * @return false if the ring was full and the event was dropped
+     */
+    public boolean publish(ReservationEvent.Type type, Name hotelName, Reservation reservation,
+                           long timestampMillis) {
+        if (closed) {
+            return false;
+        }
+        long sequence = ring.tryNext();
+        if (sequence < 0) {
+            dropped.increment();
+            return false;
+        }
+        ring.get(sequence).set(type, hotelName, reservation, timestampMillis, sequence);
+        ring.publish(sequence);
+        return true;
+    }
+
+    /**
+     * Publishes a room block event for the named hotel.
+     * @return false if the ring was full and the event was dropped
+     */
+    public boolean publish(ReservationEvent.Type type, Name hotelName, RoomBlock block, long timestampMillis) {
+        if (closed) {
+            return false;
+        }
+        long sequence = ring.tryNext();
+        if (sequence < 0) {
+            dropped.increment();
+            return false;
+        }
+        ring.get(sequence).set(type, hotelName, block, timestampMillis, sequence);
+        ring.publish(sequence);
+        return true;
+    }
+
+    /**
+     * Subscribes to every event of every hotel.
+     */
+    public Subscription subscribe(ReservationEventListener listener) {
+        return subscribe(null, EnumSet.allOf(ReservationEvent.Type.class), listener);
+    }
+
+    /**
+     * Subscribes to events of the given types.
+     * @param hotelName hotel to listen to, or null for all hotels
+     */
+    public Subscription subscribe(Name hotelName, Set<ReservationEvent.Type> types,
+                                  ReservationEventListener listener) {
+        if (types == null || types.isEmpty() || listener == null) {
+            throw new IllegalArgumentException("Event types and listener must be given");
+        }
+        if (closed) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        Subscription subscription = new Subscription(hotelName, EnumSet.copyOf(types), listener);
+        subscriptions.add(subscription);
+        subscription.thread.start();
+        return subscription;
+    }
+
+    /**
+     * Gets how many events were dropped because the ring was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops every subscription after it has drained what was already published.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    /**
+     * A filtered consumer with its own position in the ring.
+     */
+    public final class Subscription implements AutoCloseable {
+        private final Name hotelName;
+        private final EnumSet<ReservationEvent.Type> types;
+        private final ReservationEventListener listener;
+        private final AtomicLong sequence;
+        private final Thread thread;
+        private final LongAdder failures;
+        private volatile boolean running;
+
+        private Subscription(Name hotelName, EnumSet<ReservationEvent.Type> types,
+                             ReservationEventListener listener) {
+            this.hotelName = hotelName;
+            this.types = types;
+            this.listener = listener;
+            this.sequence = ring.addGatingSequence();
+            this.failures = new LongAdder();
+            this.running = true;
+            this.thread = new Thread(this::run, "reservation-events-" + subscriptions.size());
+            this.thread.setDaemon(true);
+        }
+
+        /**
+         * Gets how many events the listener failed to handle.
+         */
+        public long getFailureCount() {
+            return failures.sum();
+        }
+
+        /**
+         * Gets the sequence of the last event this subscription has processed.
+         */
+        public long getSequence() {
+            return sequence.get();
+        }
+
+        /**
+         * Drains what was already published, then stops the consumer thread.
+         */
+        @Override
+        public void close() {
+            running = false;
+            LockSupport.unpark(thread);
+            if (Thread.currentThread() != thread) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            ring.removeGatingSequence(sequence);
+            subscriptions.remove(this);
+        }
+
+        private void run() {
+            long idleNanos = 1_000;
+            while (true) {
+                boolean stopping = !running;
+                long next = sequence.get() + 1;
+                long available = ring.highestPublished(next);
+                if (available < next) {
+                    if (stopping) {
+                        return;
+                    }
+                    LockSupport.parkNanos(idleNanos);
+                    idleNanos = Math.min(idleNanos * 2, MAX_IDLE_NANOS);
+                    continue;
+                }
+                idleNanos = 1_000;
+                boolean delivered = false;
+                for (long s = next; s <= available; s++) {
+                    ReservationEvent event = ring.get(s);
+                    if (matches(event)) {
+                        delivered = true;
+                        deliver(event);
+                    }
+                }
+                if (delivered) {
+                    try {
+                        listener.onEndOfBatch();
+                    } catch (RuntimeException e) {
+                        failures.increment();
+                    }
+                }
+                sequence.set(available);
+            }
+        }
+
+        private boolean matches(ReservationEvent event) {
+            return types.contains(event.getType()) &&
+                   (hotelName == null || hotelName.equals(event.getHotelName()));
+        }
+
+        private void deliver(ReservationEvent event) {
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                failures.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.hotel.domain;
+
+/**
+ * Receives reservation events on the subscription's consumer thread.
+ */
+public interface ReservationEventListener {
+
+    /**
+     * Handles one event; the event object is reused once this returns.
+     */
+    void onEvent(ReservationEvent event);
+
+    /**
+     * Called after the last matching event of a batch, e.g. to flush buffered work.
+     */
+    default void onEndOfBatch() {
+    }
+}
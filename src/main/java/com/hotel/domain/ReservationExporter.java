@@ -0,0 +1,371 @@
+package com.hotel.domain;
+
+import com.hotel.util.RecordParser;
+import com.hotel.util.RecordWriter;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Streaming extract of every reservation and guest profile in a chain.
+ * Creating an exporter captures a snapshot one hotel lock at a time, then checks every
+ * hotel's version stamp and recaptures the ones that changed, so the snapshot is a
+ * consistent cut unless traffic outlasts {@link #MAX_CAPTURE_ROUNDS} rounds, in which
+ * case each hotel is still consistent on its own. Archived rows are shared rather than
+ * copied since they never change, and only the live working sets are copied. Writing
+ * then runs without locks through a small buffer, so reservation rows add no memory;
+ * the guest extract holds one entry per distinct guest to write each profile once.
+ * Writes CSV, NDJSON, or a binary columnar format of row groups that
+ * {@link #readColumnar} decodes. Channels are flushed but left open.
+ */
+public class ReservationExporter {
+    /** Columns of a reservation extract; a superset of what the importer reads. */
+    public static final List<String> RESERVATION_COLUMNS = List.of("id", "hotel", "guestId", "room",
+        "roomType", "reservationDate", "startDate", "endDate", "status");
+    /** Columns of a guest extract. */
+    public static final List<String> GUEST_COLUMNS = ReservationImporter.GUEST_COLUMNS;
+
+    private static final int MAGIC = 0x48525358;
+    private static final short VERSION = 1;
+    private static final byte RESERVATIONS = 1;
+    private static final byte GUESTS = 2;
+    private static final int BLOCK_ROWS = 8192;
+    private static final int BUFFER_BYTES = 1 << 16;
+    /** Recapture rounds before settling for snapshots that are consistent per hotel. */
+    static final int MAX_CAPTURE_ROUNDS = 8;
+
+    private final List<HotelSnapshot> hotels;
+
+    public enum Format {
+        CSV, NDJSON, COLUMNAR
+    }
+
+    private static final class HotelSnapshot {
+        private final String name;
+        private final List<ReservationColumns> parts;
+        private final long version;
+
+        private HotelSnapshot(String name, List<ReservationColumns> parts, long version) {
+            this.name = name;
+            this.parts = parts;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Captures the current reservations of every hotel in the chain.
+     */
+    public ReservationExporter(HotelChain chain) {
+        if (chain == null) {
+            throw new IllegalArgumentException("Chain cannot be null");
+        }
+        List<Hotel> sorted = new ArrayList<>(chain.getAllHotels());
+        sorted.sort(Comparator.comparing(hotel -> hotel.getName().getValue()));
+        this.hotels = capture(sorted);
+    }
+
+    private static List<HotelSnapshot> capture(List<Hotel> sorted) {
+        List<HotelSnapshot> snapshots = new ArrayList<>(sorted.size());
+        for (Hotel hotel : sorted) {
+            snapshots.add(capture(hotel));
+        }
+        for (int round = 0; round < MAX_CAPTURE_ROUNDS; round++) {
+            boolean stable = true;
+            for (int i = 0; i < sorted.size(); i++) {
+                Hotel hotel = sorted.get(i);
+                synchronized (hotel) {
+                    if (hotel.getVersion() != snapshots.get(i).version) {
+                        snapshots.set(i, capture(hotel));
+                        stable = false;
+                    }
+                }
+            }
+            if (stable) {
+                break;
+            }
+        }
+        return snapshots;
+    }
+
+    private static HotelSnapshot capture(Hotel hotel) {
+        synchronized (hotel) {
+            return new HotelSnapshot(hotel.getName().getValue(), hotel.snapshotReservations(), hotel.getVersion());
+        }
+    }
+
+    /**
+     * Gets the number of reservations in the snapshot.
+     */
+    public long getReservationCount() {
+        long count = 0;
+        for (HotelSnapshot hotel : hotels) {
+            for (ReservationColumns part : hotel.parts) {
+                count += part.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes every reservation in the snapshot.
+     * @return the number of rows written
+     */
+    public long writeReservations(WritableByteChannel out, Format format) {
+        requireTarget(out, format);
+        if (format == Format.COLUMNAR) {
+            return writeColumnar(out, RESERVATIONS, data -> {
+                long rows = 0;
+                for (HotelSnapshot hotel : hotels) {
+                    for (ReservationColumns part : hotel.parts) {
+                        for (int from = 0; from < part.size(); from += BLOCK_ROWS) {
+                            int to = Math.min(part.size(), from + BLOCK_ROWS);
+                            writeReservationBlock(data, hotel.name, part, from, to);
+                            rows += to - from;
+                        }
+                    }
+                }
+                return rows;
+            });
+        }
+        return writeText(out, format, RESERVATION_COLUMNS, records -> {
+            long rows = 0;
+            String[] values = new String[RESERVATION_COLUMNS.size()];
+            for (HotelSnapshot hotel : hotels) {
+                for (ReservationColumns part : hotel.parts) {
+                    for (int row = 0; row < part.size(); row++) {
+                        values[0] = part.id(row);
+                        values[1] = hotel.name;
+                        values[2] = part.guest(row).getId().getId();
+                        values[3] = part.room(row) == 0 ? null : Integer.toString(part.room(row));
+                        values[4] = part.roomType(row).getKind();
+                        values[5] = LocalDate.ofEpochDay(part.bookedDay(row)).toString();
+                        values[6] = LocalDate.ofEpochDay(part.startDay(row)).toString();
+                        values[7] = LocalDate.ofEpochDay(part.endDay(row)).toString();
+                        values[8] = part.status(row).name();
+                        records.write(values);
+                        rows++;
+                    }
+                }
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * Writes the profile of every guest with a reservation in the snapshot, once each.
+     * @return the number of rows written
+     */
+    public long writeGuests(WritableByteChannel out, Format format) {
+        requireTarget(out, format);
+        Set<Guest> seen = new HashSet<>();
+        List<Guest> guests = new ArrayList<>();
+        for (HotelSnapshot hotel : hotels) {
+            for (ReservationColumns part : hotel.parts) {
+                for (Guest guest : part.guests()) {
+                    if (seen.add(guest)) {
+                        guests.add(guest);
+                    }
+                }
+            }
+        }
+        if (format == Format.COLUMNAR) {
+            return writeColumnar(out, GUESTS, data -> {
+                for (int from = 0; from < guests.size(); from += BLOCK_ROWS) {
+                    writeGuestBlock(data, guests.subList(from, Math.min(guests.size(), from + BLOCK_ROWS)));
+                }
+                return guests.size();
+            });
+        }
+        return writeText(out, format, GUEST_COLUMNS, records -> {
+            for (Guest guest : guests) {
+                records.write(guest.getId().getId(), guest.getName().getValue(),
+                    guest.getAddress().getStreet(), guest.getAddress().getCity(),
+                    guest.getAddress().getPostalCode());
+            }
+            return guests.size();
+        });
+    }
+
+    /**
+     * Decodes a columnar extract row by row.
+     * Rows come in {@link #RESERVATION_COLUMNS} or {@link #GUEST_COLUMNS} order,
+     * depending on what was written.
+     * @return the number of rows read
+     */
+    public static long readColumnar(ReadableByteChannel in, Consumer<String[]> consumer) {
+        if (in == null || consumer == null) {
+            throw new IllegalArgumentException("Channel and consumer cannot be null");
+        }
+        DataInputStream data = new DataInputStream(new BufferedInputStream(Channels.newInputStream(in), BUFFER_BYTES));
+        try {
+            if (data.readInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a columnar extract");
+            }
+            if (data.readShort() != VERSION) {
+                throw new IllegalArgumentException("Unsupported extract version");
+            }
+            byte kind = data.readByte();
+            long total = 0;
+            for (int rows = data.readInt(); rows > 0; rows = data.readInt()) {
+                String[][] block = kind == RESERVATIONS ? readReservationBlock(data, rows) : readGuestBlock(data, rows);
+                for (String[] row : block) {
+                    consumer.accept(row);
+                }
+                total += rows;
+            }
+            return total;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface TextBody {
+        long write(RecordWriter records);
+    }
+
+    private interface ColumnarBody {
+        long write(DataOutputStream data) throws IOException;
+    }
+
+    private static long writeText(WritableByteChannel out, Format format, List<String> columns, TextBody body) {
+        BufferedWriter writer = new BufferedWriter(Channels.newWriter(out, StandardCharsets.UTF_8), BUFFER_BYTES);
+        RecordWriter records = new RecordWriter(writer,
+            format == Format.CSV ? RecordParser.Format.CSV : RecordParser.Format.NDJSON, columns);
+        records.writeHeader();
+        long rows = body.write(records);
+        records.flush();
+        return rows;
+    }
+
+    private static long writeColumnar(WritableByteChannel out, byte kind, ColumnarBody body) {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(out), BUFFER_BYTES));
+        try {
+            data.writeInt(MAGIC);
+            data.writeShort(VERSION);
+            data.writeByte(kind);
+            long rows = body.write(data);
+            data.writeInt(0);
+            data.flush();
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Row group layout: row count, hotel name, then one column at a time
+     * (ids, guest ids, room numbers, room type kinds, the three dates as epoch days, statuses).
+     */
+    private static void writeReservationBlock(DataOutputStream data, String hotel, ReservationColumns part,
+                                              int from, int to) throws IOException {
+        data.writeInt(to - from);
+        data.writeUTF(hotel);
+        for (int row = from; row < to; row++) {
+            data.writeUTF(part.id(row));
+        }
+        for (int row = from; row < to; row++) {
+            data.writeUTF(part.guest(row).getId().getId());
+        }
+        for (int row = from; row < to; row++) {
+            data.writeInt(part.room(row));
+        }
+        for (int row = from; row < to; row++) {
+            data.writeUTF(part.roomType(row).getKind());
+        }
+        for (int row = from; row < to; row++) {
+            data.writeInt(part.bookedDay(row));
+        }
+        for (int row = from; row < to; row++) {
+            data.writeInt(part.startDay(row));
+        }
+        for (int row = from; row < to; row++) {
+            data.writeInt(part.endDay(row));
+        }
+        for (int row = from; row < to; row++) {
+            data.writeByte(part.status(row).ordinal());
+        }
+    }
+
+    private static String[][] readReservationBlock(DataInputStream data, int rows) throws IOException {
+        String[][] block = new String[rows][RESERVATION_COLUMNS.size()];
+        String hotel = data.readUTF();
+        for (String[] row : block) {
+            row[0] = data.readUTF();
+            row[1] = hotel;
+        }
+        for (String[] row : block) {
+            row[2] = data.readUTF();
+        }
+        for (String[] row : block) {
+            int room = data.readInt();
+            row[3] = room == 0 ? null : Integer.toString(room);
+        }
+        for (String[] row : block) {
+            row[4] = data.readUTF();
+        }
+        for (int column = 5; column <= 7; column++) {
+            for (String[] row : block) {
+                row[column] = LocalDate.ofEpochDay(data.readInt()).toString();
+            }
+        }
+        Reservation.ReservationStatus[] statuses = Reservation.ReservationStatus.values();
+        for (String[] row : block) {
+            row[8] = statuses[data.readByte()].name();
+        }
+        return block;
+    }
+
+    private static void writeGuestBlock(DataOutputStream data, List<Guest> guests) throws IOException {
+        data.writeInt(guests.size());
+        for (Guest guest : guests) {
+            data.writeUTF(guest.getId().getId());
+        }
+        for (Guest guest : guests) {
+            data.writeUTF(guest.getName().getValue());
+        }
+        for (Guest guest : guests) {
+            data.writeUTF(guest.getAddress().getStreet());
+        }
+        for (Guest guest : guests) {
+            data.writeUTF(guest.getAddress().getCity());
+        }
+        for (Guest guest : guests) {
+            data.writeUTF(guest.getAddress().getPostalCode());
+        }
+    }
+
+    private static String[][] readGuestBlock(DataInputStream data, int rows) throws IOException {
+        String[][] block = new String[rows][GUEST_COLUMNS.size()];
+        for (int column = 0; column < GUEST_COLUMNS.size(); column++) {
+            for (String[] row : block) {
+                row[column] = data.readUTF();
+            }
+        }
+        return block;
+    }
+
+    private static void requireTarget(WritableByteChannel out, Format format) {
+        if (out == null || format == null) {
+            throw new IllegalArgumentException("Channel and format cannot be null");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationExporter{" +
+               "hotels=" + hotels.size() +
+               ", reservations=" + getReservationCount() +
+               '}';
+    }
+}
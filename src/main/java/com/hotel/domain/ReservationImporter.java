@@ -0,0 +1,382 @@
+package com.hotel.domain;
+
+import com.hotel.util.Address;
+import com.hotel.util.BusinessDate;
+import com.hotel.util.Coordinates;
+import com.hotel.util.CreditCard;
+import com.hotel.util.Identity;
+import com.hotel.util.Money;
+import com.hotel.util.Name;
+import com.hotel.util.RecordParser;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Streaming bulk loader for hotels, rooms, guests and reservations from CSV or NDJSON files.
+ * Lines are read through a buffered channel in chunks; each chunk is parsed and validated
+ * on the executor while the calling thread loads earlier chunks in file order, taking each
+ * hotel's lock once per chunk. Only a few chunks are in flight at a time, so memory stays
+ * bounded whatever the file size. Reservations are restored as stored, without the
+ * booking-date rules of new bookings; finished ones go straight to the hotel archive.
+ * Rows that fail validation or loading are skipped and listed in the {@link ImportReport}.
+ * Files are imported one at a time: hotels, then rooms, guests and reservations.
+ * The chain must not be modified by other callers while an import runs.
+ */
+public class ReservationImporter {
+    /** Columns of a hotel file; all but the name are optional. */
+    public static final List<String> HOTEL_COLUMNS = List.of("name", "street", "city", "postalCode",
+        "latitude", "longitude", "timeZone");
+    /** Columns of a room file. */
+    public static final List<String> ROOM_COLUMNS = List.of("hotel", "number", "type", "rate");
+    /** Columns of a guest file. */
+    public static final List<String> GUEST_COLUMNS = List.of("id", "name", "street", "city", "postalCode");
+    /** Columns of a reservation file; the card columns are optional. */
+    public static final List<String> RESERVATION_COLUMNS = List.of("id", "hotel", "guestId", "room",
+        "reservationDate", "startDate", "endDate", "status", "cardNumber", "cardHolder", "cardExpiry", "cardCvv");
+
+    private static final int CHUNK_ROWS = 4096;
+    private static final int READ_BUFFER_CHARS = 1 << 16;
+
+    private final HotelChain chain;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final Map<String, Guest> guests;
+
+    private static final class Row<T> {
+        private final long line;
+        private final T value;
+
+        private Row(long line, T value) {
+            this.line = line;
+            this.value = value;
+        }
+    }
+
+    private static final class Chunk<T> {
+        private final List<Row<T>> valid = new ArrayList<>();
+        private final List<ImportReport.RowError> invalid = new ArrayList<>();
+        private int rows;
+    }
+
+    private static final class NewRoom {
+        private final Hotel hotel;
+        private final Room room;
+
+        private NewRoom(Hotel hotel, Room room) {
+            this.hotel = hotel;
+            this.room = room;
+        }
+    }
+
+    private static final class Booking {
+        private final Hotel hotel;
+        private final Reservation reservation;
+        private final CreditCard creditCard;
+
+        private Booking(Hotel hotel, Reservation reservation, CreditCard creditCard) {
+            this.hotel = hotel;
+            this.reservation = reservation;
+            this.creditCard = creditCard;
+        }
+    }
+
+    private interface Loader<T> {
+        /**
+         * Loads a chunk of validated rows, rejecting those that cannot be applied.
+         */
+        void load(List<Row<T>> rows, ImportReport report);
+    }
+
+    public ReservationImporter(HotelChain chain) {
+        this(chain, ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param executor runs parsing and validation
+     * @param parallelism number of chunks validated concurrently
+     */
+    public ReservationImporter(HotelChain chain, Executor executor, int parallelism) {
+        if (chain == null || executor == null) {
+            throw new IllegalArgumentException("Chain and executor cannot be null");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.chain = chain;
+        this.executor = executor;
+        this.maxInFlight = parallelism * 2;
+        this.guests = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets a guest loaded by an earlier guest import.
+     */
+    public Guest getGuest(String guestId) {
+        Guest guest = guests.get(guestId);
+        if (guest == null) {
+            throw new IllegalArgumentException("Guest not found: " + guestId);
+        }
+        return guest;
+    }
+
+    /**
+     * Imports hotels and registers them with the chain.
+     * Hotels run on the chain's clock, in their own time zone when the file names one.
+     */
+    public ImportReport importHotels(Path file, RecordParser.Format format) {
+        return run(file, format, HOTEL_COLUMNS, this::toHotel,
+            (rows, report) -> {
+                for (Row<Hotel> row : rows) {
+                    try {
+                        chain.addHotel(row.value);
+                        report.rowsLoaded(1);
+                    } catch (IllegalArgumentException e) {
+                        report.reject(row.line, e.getMessage());
+                    }
+                }
+            });
+    }
+
+    /**
+     * Imports rooms into hotels already in the chain.
+     */
+    public ImportReport importRooms(Path file, RecordParser.Format format) {
+        return run(file, format, ROOM_COLUMNS,
+            values -> {
+                Hotel hotel = chain.getHotel(required(values, 0, "hotel"));
+                RoomType roomType = RoomType.of(required(values, 2, "type"),
+                    new Money(Double.parseDouble(required(values, 3, "rate"))));
+                return new NewRoom(hotel, new Room(Integer.parseInt(required(values, 1, "number")), roomType));
+            },
+            (rows, report) -> {
+                for (Map.Entry<Hotel, List<Row<NewRoom>>> group : groupBy(rows, room -> room.hotel).entrySet()) {
+                    Hotel hotel = group.getKey();
+                    synchronized (hotel) {
+                        for (Row<NewRoom> row : group.getValue()) {
+                            try {
+                                hotel.addRoom(row.value.room);
+                                report.rowsLoaded(1);
+                            } catch (IllegalArgumentException e) {
+                                report.reject(row.line, e.getMessage());
+                            }
+                        }
+                    }
+                }
+            });
+    }
+
+    /**
+     * Imports guests, which later reservation imports refer to by id.
+     */
+    public ImportReport importGuests(Path file, RecordParser.Format format) {
+        return run(file, format, GUEST_COLUMNS,
+            values -> Guest.create(required(values, 0, "id"), Name.of(required(values, 1, "name")),
+                new Address(required(values, 2, "street"), required(values, 3, "city"),
+                    required(values, 4, "postalCode"))),
+            (rows, report) -> {
+                for (Row<Guest> row : rows) {
+                    if (guests.putIfAbsent(row.value.getId().getId(), row.value) == null) {
+                        report.rowsLoaded(1);
+                    } else {
+                        report.reject(row.line, "Duplicate guest id: " + row.value.getId());
+                    }
+                }
+            });
+    }
+
+    /**
+     * Imports reservations without recording payment cards.
+     */
+    public ImportReport importReservations(Path file, RecordParser.Format format) {
+        return importReservations(file, format, null);
+    }
+
+    /**
+     * Imports reservations, recording those that carry card details with the manager.
+     * @param manager the manager to record cards with, or null to skip them
+     */
+    public ImportReport importReservations(Path file, RecordParser.Format format, ReservationManager manager) {
+        return run(file, format, RESERVATION_COLUMNS, this::toBooking, (rows, report) -> {
+            Map<Hotel, List<Row<Booking>>> byHotel = groupBy(rows, booking -> booking.hotel);
+            for (Map.Entry<Hotel, List<Row<Booking>>> group : byHotel.entrySet()) {
+                List<Reservation> batch = new ArrayList<>(group.getValue().size());
+                for (Row<Booking> row : group.getValue()) {
+                    batch.add(row.value.reservation);
+                }
+                Set<Reservation> rejected;
+                Hotel hotel = group.getKey();
+                synchronized (hotel) {
+                    rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+                    rejected.addAll(hotel.loadReservations(batch));
+                }
+                List<Row<Booking>> recorded = new ArrayList<>();
+                for (Row<Booking> row : group.getValue()) {
+                    if (rejected.contains(row.value.reservation)) {
+                        report.reject(row.line, "Reservation id already exists, or its room is taken "
+                            + "or sold out for the dates");
+                    } else {
+                        report.rowsLoaded(1);
+                        if (manager != null && row.value.creditCard != null) {
+                            recorded.add(row);
+                        }
+                    }
+                }
+                if (!recorded.isEmpty()) {
+                    synchronized (manager) {
+                        for (Row<Booking> row : recorded) {
+                            manager.recordReservation(row.value.creditCard, row.value.reservation);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private Booking toBooking(String[] values) {
+        Hotel hotel = chain.getHotel(required(values, 1, "hotel"));
+        Guest guest = getGuest(required(values, 2, "guestId"));
+        Room room = hotel.getRoom(Integer.parseInt(required(values, 3, "room")));
+        LocalDate reservationDate = LocalDate.parse(required(values, 4, "reservationDate"));
+        LocalDate startDate = LocalDate.parse(required(values, 5, "startDate"));
+        LocalDate endDate = LocalDate.parse(required(values, 6, "endDate"));
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        if (reservationDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("Reservation date cannot be after start date");
+        }
+        Reservation.ReservationStatus status = Reservation.ReservationStatus.valueOf(required(values, 7, "status"));
+        CreditCard creditCard = null;
+        if (values[8] != null) {
+            creditCard = new CreditCard(values[8], required(values, 9, "cardHolder"),
+                required(values, 10, "cardExpiry"), required(values, 11, "cardCvv"));
+        }
+        Reservation reservation = Reservation.restore(new Identity(required(values, 0, "id")), guest, room,
+            reservationDate, startDate, endDate, status);
+        return new Booking(hotel, reservation, creditCard);
+    }
+
+    private Hotel toHotel(String[] values) {
+        Name name = Name.of(required(values, 0, "name"));
+        Address address = null;
+        if (values[1] != null) {
+            address = new Address(values[1], required(values, 2, "city"), required(values, 3, "postalCode"));
+        }
+        Coordinates coordinates = null;
+        if (values[4] != null) {
+            coordinates = new Coordinates(Double.parseDouble(values[4]),
+                Double.parseDouble(required(values, 5, "longitude")));
+        }
+        BusinessDate chainDate = chain.getBusinessDate();
+        ZoneId zone = values[6] == null ? chainDate.getZone() : ZoneId.of(values[6]);
+        return new Hotel(name, address, coordinates, new BusinessDate(chainDate.getClock(), zone));
+    }
+
+    private static String required(String[] values, int column, String name) {
+        String value = values[column];
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Missing " + name);
+        }
+        return value;
+    }
+
+    private static <T, K> Map<K, List<Row<T>>> groupBy(List<Row<T>> rows, Function<T, K> key) {
+        Map<K, List<Row<T>>> groups = new LinkedHashMap<>();
+        for (Row<T> row : rows) {
+            groups.computeIfAbsent(key.apply(row.value), k -> new ArrayList<>()).add(row);
+        }
+        return groups;
+    }
+
+    private <T> ImportReport run(Path file, RecordParser.Format format, List<String> columns,
+                                 Function<String[], T> validator, Loader<T> loader) {
+        if (file == null || format == null) {
+            throw new IllegalArgumentException("File and format cannot be null");
+        }
+        RecordParser parser = new RecordParser(format, columns);
+        ImportReport report = new ImportReport();
+        Deque<CompletableFuture<Chunk<T>>> inFlight = new ArrayDeque<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             BufferedReader reader = new BufferedReader(
+                 Channels.newReader(channel, StandardCharsets.UTF_8), READ_BUFFER_CHARS)) {
+            long lineNumber = 0;
+            if (parser.hasHeader()) {
+                String header = reader.readLine();
+                lineNumber++;
+                if (header == null) {
+                    return report;
+                }
+                parser.bindHeader(header);
+            }
+            String[] lines = new String[CHUNK_ROWS];
+            long[] numbers = new long[CHUNK_ROWS];
+            int buffered = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                lines[buffered] = line;
+                numbers[buffered] = lineNumber;
+                if (++buffered == CHUNK_ROWS) {
+                    submit(inFlight, parser, validator, lines, numbers, buffered);
+                    lines = new String[CHUNK_ROWS];
+                    numbers = new long[CHUNK_ROWS];
+                    buffered = 0;
+                    if (inFlight.size() >= maxInFlight) {
+                        apply(inFlight.poll().join(), loader, report);
+                    }
+                }
+            }
+            if (buffered > 0) {
+                submit(inFlight, parser, validator, lines, numbers, buffered);
+            }
+            while (!inFlight.isEmpty()) {
+                apply(inFlight.poll().join(), loader, report);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return report;
+    }
+
+    private <T> void submit(Deque<CompletableFuture<Chunk<T>>> inFlight, RecordParser parser,
+                            Function<String[], T> validator, String[] lines, long[] numbers, int count) {
+        inFlight.add(CompletableFuture.supplyAsync(() -> {
+            Chunk<T> chunk = new Chunk<>();
+            chunk.rows = count;
+            for (int i = 0; i < count; i++) {
+                try {
+                    chunk.valid.add(new Row<>(numbers[i], validator.apply(parser.parse(lines[i]))));
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    chunk.invalid.add(new ImportReport.RowError(numbers[i], e.getMessage()));
+                }
+            }
+            return chunk;
+        }, executor));
+    }
+
+    private static <T> void apply(Chunk<T> chunk, Loader<T> loader, ImportReport report) {
+        report.rowsRead(chunk.rows);
+        for (ImportReport.RowError error : chunk.invalid) {
+            report.reject(error.getLine(), error.getMessage());
+        }
+        loader.load(chunk.valid, report);
+    }
+}
@@ -1,7 +1,9 @@
 package com.hotel.domain;
 
+import com.hotel.util.BusinessDate;
 import com.hotel.util.CreditCard;
 import com.hotel.util.Identity;
+import com.hotel.util.ObjectHashMap;
 import java.util.*;
 
 /**
@@ -10,18 +12,32 @@ import java.util.*;
 public class ReservationManager {
     private final Identity id;
     private final Map<Identity, CreditCard> creditCards;
-    private final List<Reservation> managedReservations;
+    private final ObjectHashMap<Identity, Reservation> managedReservations;
+    private volatile BusinessDate clock;
+    private volatile ReservationChangeLog changeLog;
 
     public ReservationManager() {
         this.id = new Identity();
         this.creditCards = new HashMap<>();
-        this.managedReservations = new ArrayList<>();
+        this.managedReservations = new ObjectHashMap<>();
     }
 
     public Identity getId() {
         return id;
     }
 
+    /**
+     * Attaches the log recorded and released reservations are appended to, or detaches it when null.
+     * @param clock business date whose clock stamps the changes, normally the chain's
+     */
+    public void setChangeLog(ReservationChangeLog changeLog, BusinessDate clock) {
+        if (changeLog != null && clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+        this.changeLog = changeLog;
+    }
+
     /**
      * Records credit card details for a reservation.
      */
@@ -40,7 +56,8 @@ public class ReservationManager {
             throw new IllegalArgumentException("Credit card and reservation cannot be null");
         }
         recordCreditCardDetails(creditCard);
-        managedReservations.add(reservation);
+        managedReservations.put(reservation.getId(), reservation);
+        logChange(ReservationChange.Kind.MANAGER_RECORDED, reservation);
     }
 
     /**
@@ -50,17 +67,24 @@ public class ReservationManager {
         if (reservation == null) {
             throw new IllegalArgumentException("Reservation cannot be null");
         }
-        if (!managedReservations.contains(reservation)) {
+        if (managedReservations.remove(reservation.getId()) == null) {
             throw new IllegalArgumentException("Reservation not managed by this manager");
         }
-        managedReservations.remove(reservation);
+        logChange(ReservationChange.Kind.MANAGER_RELEASED, reservation);
+    }
+
+    private void logChange(ReservationChange.Kind kind, Reservation reservation) {
+        ReservationChangeLog log = changeLog;
+        if (log != null) {
+            log.append(kind, id.getId(), reservation, clock.currentTimeMillis());
+        }
     }
 
     /**
      * Gets all managed reservations.
      */
     public List<Reservation> getManagedReservations() {
-        return new ArrayList<>(managedReservations);
+        return managedReservations.values();
     }
 
     /**
@@ -80,7 +104,7 @@ public class ReservationManager {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return id.hashCode();
     }
 
     @Override
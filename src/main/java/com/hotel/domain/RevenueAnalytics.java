@@ -0,0 +1,212 @@
+package com.hotel.domain;
+
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes occupancy, ADR and RevPAR over reservation history with fork-join.
+ * The hotel list is split recursively, and within a hotel the archived and live
+ * reservations are split into row ranges; each leaf adds sold room nights and
+ * revenue into its own {@code long[roomType * night]} arrays, which are summed
+ * on join. Rows come from column snapshots, so no reservation is rebuilt, and
+ * each hotel is locked only while its snapshot is taken.
+ * A night is sold when a confirmed, checked-in or checked-out stay covers it,
+ * and earns the room type's rate.
+ */
+public class RevenueAnalytics {
+    private static final int ROWS_PER_TASK = 16_384;
+
+    private final ForkJoinPool pool;
+
+    public RevenueAnalytics() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public RevenueAnalytics(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Analyzes every hotel of a chain.
+     * @param from the first night to cover
+     * @param to the day after the last night to cover
+     */
+    public RevenueReport analyze(HotelChain chain, LocalDate from, LocalDate to) {
+        if (chain == null) {
+            throw new IllegalArgumentException("Chain cannot be null");
+        }
+        return analyze(chain.getAllHotels(), from, to);
+    }
+
+    /**
+     * Analyzes the given hotels.
+     * @param from the first night to cover
+     * @param to the day after the last night to cover
+     */
+    public RevenueReport analyze(Collection<Hotel> hotels, LocalDate from, LocalDate to) {
+        if (hotels == null || from == null || to == null) {
+            throw new IllegalArgumentException("Hotels and dates cannot be null");
+        }
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        long days = to.toEpochDay() - from.toEpochDay();
+        if (days > Integer.MAX_VALUE / 64) {
+            throw new IllegalArgumentException("Date range is too long");
+        }
+        List<Hotel> list = new ArrayList<>(hotels);
+        List<RevenueReport.HotelStats> stats = list.isEmpty() ? new ArrayList<>()
+            : pool.invoke(new HotelsTask(list, 0, list.size(), (int) from.toEpochDay(), (int) days));
+        return new RevenueReport(from, (int) days, stats);
+    }
+
+    private static final class HotelsTask extends RecursiveTask<List<RevenueReport.HotelStats>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Hotel> hotels;
+        private final int low;
+        private final int high;
+        private final int firstDay;
+        private final int days;
+
+        private HotelsTask(List<Hotel> hotels, int low, int high, int firstDay, int days) {
+            this.hotels = hotels;
+            this.low = low;
+            this.high = high;
+            this.firstDay = firstDay;
+            this.days = days;
+        }
+
+        @Override
+        protected List<RevenueReport.HotelStats> compute() {
+            if (high - low == 1) {
+                List<RevenueReport.HotelStats> single = new ArrayList<>(1);
+                single.add(analyzeHotel(hotels.get(low), firstDay, days));
+                return single;
+            }
+            int mid = (low + high) >>> 1;
+            HotelsTask left = new HotelsTask(hotels, low, mid, firstDay, days);
+            left.fork();
+            List<RevenueReport.HotelStats> result = new HotelsTask(hotels, mid, high, firstDay, days).compute();
+            result.addAll(left.join());
+            return result;
+        }
+    }
+
+    private static RevenueReport.HotelStats analyzeHotel(Hotel hotel, int firstDay, int days) {
+        List<ReservationColumns> parts;
+        Map<RoomType, Integer> roomCounts = new LinkedHashMap<>();
+        synchronized (hotel) {
+            parts = hotel.snapshotReservations();
+            for (Room room : hotel.getAllRooms()) {
+                roomCounts.merge(room.getRoomType(), 1, Integer::sum);
+            }
+        }
+        for (ReservationColumns part : parts) {
+            for (RoomType roomType : part.roomTypes()) {
+                roomCounts.putIfAbsent(roomType, 0);
+            }
+        }
+        RoomType[] roomTypes = roomCounts.keySet().toArray(new RoomType[0]);
+        int[] counts = new int[roomTypes.length];
+        long[] rates = new long[roomTypes.length];
+        Map<RoomType, Integer> typeIndex = new HashMap<>();
+        for (int type = 0; type < roomTypes.length; type++) {
+            counts[type] = roomCounts.get(roomTypes[type]);
+            rates[type] = roomTypes[type].getCost().getAmount().movePointRight(2)
+                .setScale(0, RoundingMode.HALF_UP).longValueExact();
+            typeIndex.put(roomTypes[type], type);
+        }
+
+        List<RowsTask> tasks = new ArrayList<>();
+        for (ReservationColumns part : parts) {
+            if (part.size() == 0) {
+                continue;
+            }
+            int[] typeMap = new int[part.roomTypes().length];
+            for (int ref = 0; ref < typeMap.length; ref++) {
+                typeMap[ref] = typeIndex.get(part.roomTypes()[ref]);
+            }
+            tasks.add(new RowsTask(part, typeMap, rates, firstDay, days, 0, part.size()));
+        }
+        long[] sold = new long[roomTypes.length * days];
+        long[] revenue = new long[roomTypes.length * days];
+        for (RowsTask task : RecursiveTask.invokeAll(tasks)) {
+            long[][] totals = task.join();
+            addInto(sold, totals[0]);
+            addInto(revenue, totals[1]);
+        }
+        return new RevenueReport.HotelStats(hotel.getName().getValue(), roomTypes, counts, sold, revenue);
+    }
+
+    private static final class RowsTask extends RecursiveTask<long[][]> {
+        private static final long serialVersionUID = 1L;
+
+        private final ReservationColumns part;
+        private final int[] typeMap;
+        private final long[] rates;
+        private final int firstDay;
+        private final int days;
+        private final int low;
+        private final int high;
+
+        private RowsTask(ReservationColumns part, int[] typeMap, long[] rates, int firstDay, int days,
+                         int low, int high) {
+            this.part = part;
+            this.typeMap = typeMap;
+            this.rates = rates;
+            this.firstDay = firstDay;
+            this.days = days;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected long[][] compute() {
+            if (high - low > ROWS_PER_TASK) {
+                int mid = (low + high) >>> 1;
+                RowsTask left = new RowsTask(part, typeMap, rates, firstDay, days, low, mid);
+                left.fork();
+                long[][] right = new RowsTask(part, typeMap, rates, firstDay, days, mid, high).compute();
+                long[][] merged = left.join();
+                addInto(merged[0], right[0]);
+                addInto(merged[1], right[1]);
+                return merged;
+            }
+            long[] sold = new long[rates.length * days];
+            long[] revenue = new long[rates.length * days];
+            int lastDay = firstDay + days;
+            for (int row = low; row < high; row++) {
+                Reservation.ReservationStatus status = part.status(row);
+                if (status == Reservation.ReservationStatus.CANCELLED || status == Reservation.ReservationStatus.NO_SHOW) {
+                    continue;
+                }
+                int start = Math.max(part.startDay(row), firstDay);
+                int end = Math.min(part.endDay(row), lastDay);
+                if (start >= end) {
+                    continue;
+                }
+                int type = typeMap[part.typeRef(row)];
+                int base = type * days - firstDay;
+                long rate = rates[type];
+                for (int day = start; day < end; day++) {
+                    sold[base + day]++;
+                    revenue[base + day] += rate;
+                }
+            }
+            return new long[][] {sold, revenue};
+        }
+    }
+
+    private static void addInto(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.hotel.domain;
+
+import com.hotel.util.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Room night and revenue totals for a slice of a revenue report, with the
+ * standard ratios derived from them.
+ * Immutable value object.
+ */
+public class RevenueMetrics {
+    private final long soldRoomNights;
+    private final long availableRoomNights;
+    private final long revenueCents;
+
+    RevenueMetrics(long soldRoomNights, long availableRoomNights, long revenueCents) {
+        this.soldRoomNights = soldRoomNights;
+        this.availableRoomNights = availableRoomNights;
+        this.revenueCents = revenueCents;
+    }
+
+    public long getSoldRoomNights() {
+        return soldRoomNights;
+    }
+
+    public long getAvailableRoomNights() {
+        return availableRoomNights;
+    }
+
+    /**
+     * Gets the room revenue at the room type rates.
+     */
+    public Money getRevenue() {
+        return new Money(BigDecimal.valueOf(revenueCents, 2));
+    }
+
+    /**
+     * Gets sold room nights as a fraction of available room nights, 0 when none were available.
+     * Overbooked nights can push it above 1.
+     */
+    public double getOccupancy() {
+        return availableRoomNights == 0 ? 0 : (double) soldRoomNights / availableRoomNights;
+    }
+
+    /**
+     * Gets the average daily rate: revenue per sold room night.
+     */
+    public Money getAdr() {
+        return perNight(soldRoomNights);
+    }
+
+    /**
+     * Gets revenue per available room night.
+     */
+    public Money getRevPar() {
+        return perNight(availableRoomNights);
+    }
+
+    private Money perNight(long nights) {
+        if (nights == 0) {
+            return new Money(BigDecimal.ZERO.setScale(2));
+        }
+        return new Money(BigDecimal.valueOf(revenueCents, 2).divide(BigDecimal.valueOf(nights), 2, RoundingMode.HALF_UP));
+    }
+
+    @Override
+    public String toString() {
+        return "RevenueMetrics{" +
+               "sold=" + soldRoomNights +
+               ", available=" + availableRoomNights +
+               ", revenue=" + BigDecimal.valueOf(revenueCents, 2) +
+               '}';
+    }
+}
@@ -0,0 +1,170 @@
+package com.hotel.domain;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Occupancy and revenue per hotel, room type and night over a date range.
+ * Holds sold room nights and revenue as primitive arrays indexed by room type
+ * and night; metrics for any slice are summed from them on request.
+ * Immutable.
+ */
+public class RevenueReport {
+    private final LocalDate from;
+    private final int days;
+    private final Map<String, HotelStats> hotels;
+
+    /**
+     * Totals of one hotel. Arrays are indexed by {@code type * days + night}.
+     */
+    static final class HotelStats {
+        private final String name;
+        private final RoomType[] roomTypes;
+        private final int[] roomCounts;
+        private final long[] sold;
+        private final long[] revenueCents;
+
+        HotelStats(String name, RoomType[] roomTypes, int[] roomCounts, long[] sold, long[] revenueCents) {
+            this.name = name;
+            this.roomTypes = roomTypes;
+            this.roomCounts = roomCounts;
+            this.sold = sold;
+            this.revenueCents = revenueCents;
+        }
+    }
+
+    RevenueReport(LocalDate from, int days, List<HotelStats> stats) {
+        this.from = from;
+        this.days = days;
+        this.hotels = new TreeMap<>();
+        for (HotelStats hotel : stats) {
+            hotels.put(hotel.name, hotel);
+        }
+    }
+
+    /**
+     * Gets the first night covered.
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Gets the day after the last night covered.
+     */
+    public LocalDate getTo() {
+        return from.plusDays(days);
+    }
+
+    /**
+     * Gets the hotels covered, in name order.
+     */
+    public List<String> getHotelNames() {
+        return new ArrayList<>(hotels.keySet());
+    }
+
+    /**
+     * Gets the room types of a hotel, including types only seen in its history.
+     */
+    public List<RoomType> getRoomTypes(String hotelName) {
+        return Arrays.asList(hotel(hotelName).roomTypes.clone());
+    }
+
+    /**
+     * Gets totals across every hotel and night.
+     */
+    public RevenueMetrics getChainMetrics() {
+        long[] totals = new long[3];
+        for (HotelStats hotel : hotels.values()) {
+            for (int type = 0; type < hotel.roomTypes.length; type++) {
+                add(totals, hotel, type, 0, days);
+            }
+        }
+        return metrics(totals);
+    }
+
+    /**
+     * Gets totals of one hotel across the whole range.
+     */
+    public RevenueMetrics getHotelMetrics(String hotelName) {
+        HotelStats hotel = hotel(hotelName);
+        long[] totals = new long[3];
+        for (int type = 0; type < hotel.roomTypes.length; type++) {
+            add(totals, hotel, type, 0, days);
+        }
+        return metrics(totals);
+    }
+
+    /**
+     * Gets totals of one room type of a hotel across the whole range.
+     */
+    public RevenueMetrics getRoomTypeMetrics(String hotelName, RoomType roomType) {
+        HotelStats hotel = hotel(hotelName);
+        long[] totals = new long[3];
+        add(totals, hotel, typeIndex(hotel, roomType), 0, days);
+        return metrics(totals);
+    }
+
+    /**
+     * Gets totals of one hotel for a single night.
+     */
+    public RevenueMetrics getDailyMetrics(String hotelName, LocalDate night) {
+        HotelStats hotel = hotel(hotelName);
+        int day = dayIndex(night);
+        long[] totals = new long[3];
+        for (int type = 0; type < hotel.roomTypes.length; type++) {
+            add(totals, hotel, type, day, day + 1);
+        }
+        return metrics(totals);
+    }
+
+    private void add(long[] totals, HotelStats hotel, int type, int fromDay, int toDay) {
+        int base = type * days;
+        for (int day = fromDay; day < toDay; day++) {
+            totals[0] += hotel.sold[base + day];
+            totals[2] += hotel.revenueCents[base + day];
+        }
+        totals[1] += (long) hotel.roomCounts[type] * (toDay - fromDay);
+    }
+
+    private static RevenueMetrics metrics(long[] totals) {
+        return new RevenueMetrics(totals[0], totals[1], totals[2]);
+    }
+
+    private HotelStats hotel(String hotelName) {
+        HotelStats hotel = hotels.get(hotelName);
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel not in report: " + hotelName);
+        }
+        return hotel;
+    }
+
+    private static int typeIndex(HotelStats hotel, RoomType roomType) {
+        for (int type = 0; type < hotel.roomTypes.length; type++) {
+            if (hotel.roomTypes[type].equals(roomType)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Room type not in report: " + roomType);
+    }
+
+    private int dayIndex(LocalDate night) {
+        if (night == null) {
+            throw new IllegalArgumentException("Night cannot be null");
+        }
+        long day = night.toEpochDay() - from.toEpochDay();
+        if (day < 0 || day >= days) {
+            throw new IllegalArgumentException("Night outside the report range: " + night);
+        }
+        return (int) day;
+    }
+
+    @Override
+    public String toString() {
+        return "RevenueReport{" +
+               "from=" + from +
+               ", to=" + getTo() +
+               ", hotels=" + hotels.size() +
+               '}';
+    }
+}
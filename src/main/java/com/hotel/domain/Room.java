@@ -1,7 +1,5 @@
 package com.hotel.domain;
 
-import java.util.Objects;
-
 /**
  * Represents a room in the hotel.
  * Can be occupied or available.
@@ -9,6 +7,7 @@ import java.util.Objects;
 public class Room {
     private final int number;
     private final RoomType roomType;
+    private final int hash;
     private Guest occupant;
 
     public Room(int number, RoomType roomType) {
@@ -19,7 +18,8 @@ public class Room {
             throw new IllegalArgumentException("Room type cannot be null");
         }
         this.number = number;
-        this.roomType = roomType;
+        this.roomType = RoomType.intern(roomType);
+        this.hash = 31 * number + this.roomType.hashCode();
         this.occupant = null;
     }
 
@@ -62,7 +62,7 @@ public class Room {
 
     @Override
     public int hashCode() {
-        return Objects.hash(number, roomType);
+        return hash;
     }
 
     @Override
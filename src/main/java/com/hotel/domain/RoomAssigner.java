@@ -0,0 +1,119 @@
+package com.hotel.domain;
+
+import com.hotel.util.IntObjectHashMap;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Chooses rooms for stays so that calendars stay defragmented.
+ * Inline assignment is best-fit: among free rooms of the requested type, pick the
+ * one whose surrounding gaps are tightest and avoid leaving short unsellable gaps.
+ * The offline pass repacks movable future bookings in arrival order to open long runs.
+ */
+class RoomAssigner {
+    static final int HORIZON_DAYS = 60;
+    static final int ORPHAN_NIGHTS = 3;
+
+    private final IntObjectHashMap<RoomCalendar> calendars;
+
+    RoomAssigner(IntObjectHashMap<RoomCalendar> calendars) {
+        this.calendars = calendars;
+    }
+
+    /**
+     * Gets the free rooms of the type, best fit first.
+     */
+    List<Room> rankAvailable(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        List<RoomCalendar> free = new ArrayList<>();
+        calendars.forEachValue(calendar -> {
+            if (calendar.getRoom().getRoomType().equals(roomType) && calendar.isFree(startDate, endDate)) {
+                free.add(calendar);
+            }
+        });
+        int[] cost = new int[free.size()];
+        Integer[] order = new Integer[free.size()];
+        for (int i = 0; i < cost.length; i++) {
+            cost[i] = free.get(i).fitCost(startDate, endDate, HORIZON_DAYS, ORPHAN_NIGHTS);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> cost[i])
+            .thenComparingInt(i -> free.get(i).getRoom().getNumber()));
+        List<Room> ranked = new ArrayList<>(order.length);
+        for (Integer i : order) {
+            ranked.add(free.get(i).getRoom());
+        }
+        return ranked;
+    }
+
+    /**
+     * Checks whether any room of the type is free, stopping at the first one found.
+     */
+    boolean anyAvailable(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        return calendars.anyValueMatch(calendar ->
+            calendar.getRoom().getRoomType().equals(roomType) && calendar.isFree(startDate, endDate));
+    }
+
+    /**
+     * Gets the best free room of the type, or null if none is free.
+     */
+    Room bestFit(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        Room[] best = new Room[1];
+        int[] bestCost = {Integer.MAX_VALUE};
+        calendars.forEachValue(calendar -> {
+            Room room = calendar.getRoom();
+            if (!room.getRoomType().equals(roomType) || !calendar.isFree(startDate, endDate)) {
+                return;
+            }
+            int cost = calendar.fitCost(startDate, endDate, HORIZON_DAYS, ORPHAN_NIGHTS);
+            if (cost < bestCost[0] || (cost == bestCost[0] && room.getNumber() < best[0].getNumber())) {
+                best[0] = room;
+                bestCost[0] = cost;
+            }
+        });
+        return best[0];
+    }
+
+    /**
+     * Repacks the given future bookings of one room type.
+     * Bookings are lifted out of their rooms and placed again in arrival order with
+     * best fit; if any booking cannot be placed the original assignment is restored.
+     * @return the number of bookings that moved to a different room
+     */
+    int reoptimize(List<Reservation> movable) {
+        Map<Reservation, Room> original = new LinkedHashMap<>();
+        for (Reservation reservation : movable) {
+            original.put(reservation, reservation.getRoom());
+            calendars.get(reservation.getRoom().getNumber()).remove(reservation);
+        }
+        List<Reservation> ordered = new ArrayList<>(movable);
+        ordered.sort(Comparator.comparing(Reservation::getStartDate)
+            .thenComparing(Reservation::getEndDate, Comparator.reverseOrder()));
+
+        List<Reservation> placed = new ArrayList<>(ordered.size());
+        for (Reservation reservation : ordered) {
+            Room room = bestFit(reservation.getRoom().getRoomType(),
+                reservation.getStartDate(), reservation.getEndDate());
+            if (room == null) {
+                for (Reservation undo : placed) {
+                    calendars.get(undo.getRoom().getNumber()).remove(undo);
+                }
+                for (Map.Entry<Reservation, Room> entry : original.entrySet()) {
+                    entry.getKey().reassignRoom(entry.getValue());
+                    calendars.get(entry.getValue().getNumber()).add(entry.getKey());
+                }
+                return 0;
+            }
+            reservation.reassignRoom(room);
+            calendars.get(room.getNumber()).add(reservation);
+            placed.add(reservation);
+        }
+
+        int moved = 0;
+        for (Map.Entry<Reservation, Room> entry : original.entrySet()) {
+            if (!entry.getKey().getRoom().equals(entry.getValue())) {
+                moved++;
+            }
+        }
+        return moved;
+    }
+}
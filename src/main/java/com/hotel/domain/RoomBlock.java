@@ -0,0 +1,94 @@
+package com.hotel.domain;
+
+import com.hotel.util.Identity;
+import java.time.LocalDate;
+
+/**
+ * Represents a room taken out of order, e.g. for maintenance or renovation.
+ * An active block sits in the room's calendar like a booking and counts against
+ * its room type's inventory, until it is released or its last day has passed.
+ */
+public class RoomBlock implements Occupancy {
+    private final Identity id;
+    private final Room room;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String reason;
+    private boolean active;
+
+    RoomBlock(Room room, LocalDate startDate, LocalDate endDate, String reason) {
+        this.id = new Identity();
+        this.room = room;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.reason = reason;
+        this.active = true;
+    }
+
+    public Identity getId() {
+        return id;
+    }
+
+    public Room getRoom() {
+        return room;
+    }
+
+    /**
+     * Gets the first day the room is out of order.
+     */
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Gets the last day the room is out of order.
+     */
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public boolean blocksRoom() {
+        return active;
+    }
+
+    void release() {
+        if (!active) {
+            throw new IllegalStateException("Block is no longer active");
+        }
+        this.active = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RoomBlock block = (RoomBlock) o;
+        return id.equals(block.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RoomBlock{" +
+               "id=" + id +
+               ", room=" + room.getNumber() +
+               ", startDate=" + startDate +
+               ", endDate=" + endDate +
+               ", reason='" + reason + '\'' +
+               ", active=" + active +
+               '}';
+    }
+}
@@ -0,0 +1,121 @@
+package com.hotel.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Availability index for a single room.
+ * Keeps the room's non-overlapping occupancies ordered by start day, so a
+ * conflict check and the free gaps around a stay are found in O(log n).
+ */
+class RoomCalendar {
+    private final Room room;
+    private final TreeMap<Integer, Occupancy> entries;
+
+    RoomCalendar(Room room) {
+        this.room = room;
+        this.entries = new TreeMap<>();
+    }
+
+    Room getRoom() {
+        return room;
+    }
+
+    /**
+     * Checks whether the room is free over the inclusive day range.
+     */
+    boolean isFree(LocalDate startDate, LocalDate endDate) {
+        int start = (int) startDate.toEpochDay();
+        int end = (int) endDate.toEpochDay();
+        Map.Entry<Integer, Occupancy> floor = liveFloor(end);
+        return floor == null || endDay(floor.getValue()) < start;
+    }
+
+    void add(Occupancy occupancy) {
+        entries.put((int) occupancy.getStartDate().toEpochDay(), occupancy);
+    }
+
+    boolean remove(Occupancy occupancy) {
+        Integer key = (int) occupancy.getStartDate().toEpochDay();
+        Occupancy existing = entries.get(key);
+        if (existing != null && existing.equals(occupancy)) {
+            entries.remove(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Scores how well a stay fits this room; lower is better.
+     * Free days left on either side count against the room, capped at the horizon,
+     * and leaving a gap shorter than the orphan threshold is penalised heavily
+     * because such gaps rarely sell.
+     */
+    int fitCost(LocalDate startDate, LocalDate endDate, int horizonDays, int orphanNights) {
+        int start = (int) startDate.toEpochDay();
+        int end = (int) endDate.toEpochDay();
+        Map.Entry<Integer, Occupancy> before = liveLower(start);
+        Map.Entry<Integer, Occupancy> after = liveHigher(end);
+        int gapBefore = before == null ? horizonDays : Math.min(start - endDay(before.getValue()) - 1, horizonDays);
+        int gapAfter = after == null ? horizonDays : Math.min(after.getKey() - end - 1, horizonDays);
+        return gapCost(gapBefore, orphanNights, horizonDays) + gapCost(gapAfter, orphanNights, horizonDays);
+    }
+
+    /**
+     * Gets the live occupancies starting on or after the given day.
+     */
+    List<Occupancy> entriesFrom(LocalDate date) {
+        List<Occupancy> result = new ArrayList<>();
+        for (Occupancy occupancy : entries.tailMap((int) date.toEpochDay(), true).values()) {
+            if (occupancy.blocksRoom()) {
+                result.add(occupancy);
+            }
+        }
+        return result;
+    }
+
+    private static int gapCost(int gap, int orphanNights, int horizonDays) {
+        if (gap > 0 && gap < orphanNights) {
+            return horizonDays * 2 + gap;
+        }
+        return gap;
+    }
+
+    private Map.Entry<Integer, Occupancy> liveFloor(int day) {
+        Map.Entry<Integer, Occupancy> entry = entries.floorEntry(day);
+        while (entry != null && !entry.getValue().blocksRoom()) {
+            entries.remove(entry.getKey());
+            entry = entries.floorEntry(day);
+        }
+        return entry;
+    }
+
+    private Map.Entry<Integer, Occupancy> liveLower(int day) {
+        Map.Entry<Integer, Occupancy> entry = entries.lowerEntry(day);
+        while (entry != null && !entry.getValue().blocksRoom()) {
+            entries.remove(entry.getKey());
+            entry = entries.lowerEntry(day);
+        }
+        return entry;
+    }
+
+    private Map.Entry<Integer, Occupancy> liveHigher(int day) {
+        Map.Entry<Integer, Occupancy> entry = entries.higherEntry(day);
+        while (entry != null && !entry.getValue().blocksRoom()) {
+            entries.remove(entry.getKey());
+            entry = entries.higherEntry(day);
+        }
+        return entry;
+    }
+
+    private static int endDay(Occupancy occupancy) {
+        return (int) occupancy.getEndDate().toEpochDay();
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
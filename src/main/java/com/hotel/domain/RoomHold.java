@@ -0,0 +1,110 @@
+package com.hotel.domain;
+
+import com.hotel.util.Identity;
+import com.hotel.util.TimingWheel;
+import java.time.LocalDate;
+
+/**
+ * Represents a temporary hold on a room while a guest completes checkout.
+ * A pending hold blocks availability until it is confirmed, released or expires.
+ */
+public class RoomHold implements Occupancy {
+    private final Identity id;
+    private final Room room;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long expiresAtMillis;
+    private HoldStatus status;
+    TimingWheel.Timeout<RoomHold> timeout;
+
+    public enum HoldStatus {
+        PENDING, CONFIRMED, RELEASED, EXPIRED
+    }
+
+    RoomHold(Room room, LocalDate startDate, LocalDate endDate, long expiresAtMillis) {
+        this.id = new Identity();
+        this.room = room;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.expiresAtMillis = expiresAtMillis;
+        this.status = HoldStatus.PENDING;
+    }
+
+    public Identity getId() {
+        return id;
+    }
+
+    public Room getRoom() {
+        return room;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public HoldStatus getStatus() {
+        return status;
+    }
+
+    public boolean isPending() {
+        return status == HoldStatus.PENDING;
+    }
+
+    @Override
+    public boolean blocksRoom() {
+        return isPending();
+    }
+
+    void confirm() {
+        requirePending();
+        this.status = HoldStatus.CONFIRMED;
+    }
+
+    void release() {
+        requirePending();
+        this.status = HoldStatus.RELEASED;
+    }
+
+    void expire() {
+        requirePending();
+        this.status = HoldStatus.EXPIRED;
+    }
+
+    private void requirePending() {
+        if (status != HoldStatus.PENDING) {
+            throw new IllegalStateException("Hold is no longer pending");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RoomHold hold = (RoomHold) o;
+        return id.equals(hold.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RoomHold{" +
+               "id=" + id +
+               ", room=" + room.getNumber() +
+               ", startDate=" + startDate +
+               ", endDate=" + endDate +
+               ", status=" + status +
+               '}';
+    }
+}
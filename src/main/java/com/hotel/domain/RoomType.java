@@ -1,5 +1,6 @@
 package com.hotel.domain;
 
+import com.hotel.util.Interner;
 import com.hotel.util.Money;
 import java.util.Objects;
 
@@ -8,8 +9,11 @@ import java.util.Objects;
  * Immutable value object.
  */
 public class RoomType {
+    private static final Interner<RoomType> POOL = new Interner<>();
+
     private final String kind;
     private final Money cost;
+    private final int hash;
 
     public RoomType(String kind, Money cost) {
         if (kind == null || kind.trim().isEmpty()) {
@@ -20,6 +24,21 @@ public class RoomType {
         }
         this.kind = kind.trim();
         this.cost = cost;
+        this.hash = Objects.hash(this.kind, cost);
+    }
+
+    /**
+     * Gets the canonical room type for the given kind and cost.
+     */
+    public static RoomType of(String kind, Money cost) {
+        return intern(new RoomType(kind, cost));
+    }
+
+    /**
+     * Gets the canonical instance equal to the given room type.
+     */
+    public static RoomType intern(RoomType roomType) {
+        return POOL.intern(roomType);
     }
 
     public String getKind() {
@@ -35,13 +54,14 @@ public class RoomType {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         RoomType roomType = (RoomType) o;
-        return kind.equals(roomType.kind) &&
+        return hash == roomType.hash &&
+               kind.equals(roomType.kind) &&
                cost.equals(roomType.cost);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(kind, cost);
+        return hash;
     }
 
     @Override
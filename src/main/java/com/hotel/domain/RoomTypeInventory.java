@@ -0,0 +1,208 @@
+package com.hotel.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Per-night sales counters for each room type, with a configurable overbooking allowance.
+ * Capacity for a night is the physical room count of the type plus a percentage
+ * that may be set per type and overridden per night. Counters are updated with
+ * compare-and-set, so concurrent bookings never take a lock.
+ * Days follow the hotel's conflict rule: both the start and end date of a stay count.
+ */
+public class RoomTypeInventory {
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final Map<RoomType, Counters> counters;
+
+    private static final class Counters {
+        private volatile int physicalRooms;
+        private volatile int overbookingPercent;
+        private final Map<Integer, Integer> nightlyPercent = new ConcurrentHashMap<>();
+        private final Map<Integer, AtomicIntegerArray> pages = new ConcurrentHashMap<>();
+
+        private int capacity(int day) {
+            Integer override = nightlyPercent.get(day);
+            int percent = override != null ? override : overbookingPercent;
+            return physicalRooms * (100 + percent) / 100;
+        }
+
+        private AtomicIntegerArray page(int day) {
+            return pages.computeIfAbsent(day >> PAGE_BITS, p -> new AtomicIntegerArray(PAGE_SIZE));
+        }
+    }
+
+    public RoomTypeInventory() {
+        this.counters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers one more physical room of the type.
+     */
+    void addPhysicalRoom(RoomType roomType) {
+        counters(roomType).physicalRooms++;
+    }
+
+    /**
+     * Sets the overbooking allowance for every night of a room type.
+     */
+    public void setOverbookingLimit(RoomType roomType, int percent) {
+        requireValid(roomType, percent);
+        counters(roomType).overbookingPercent = percent;
+    }
+
+    /**
+     * Overrides the overbooking allowance of a room type for one night.
+     */
+    public void setOverbookingLimit(RoomType roomType, LocalDate date, int percent) {
+        requireValid(roomType, percent);
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        counters(roomType).nightlyPercent.put((int) date.toEpochDay(), percent);
+    }
+
+    /**
+     * Gets the room types that have at least one physical room.
+     */
+    public List<RoomType> getRoomTypes() {
+        List<RoomType> roomTypes = new ArrayList<>(counters.size());
+        counters.forEach((roomType, typeCounters) -> {
+            if (typeCounters.physicalRooms > 0) {
+                roomTypes.add(roomType);
+            }
+        });
+        return roomTypes;
+    }
+
+    /**
+     * Gets how many bookings of the type may cover the given night.
+     */
+    public int getCapacity(RoomType roomType, LocalDate date) {
+        Counters typeCounters = counters.get(roomType);
+        return typeCounters == null ? 0 : typeCounters.capacity((int) date.toEpochDay());
+    }
+
+    /**
+     * Gets how many bookings of the type currently cover the given night.
+     */
+    public int getSold(RoomType roomType, LocalDate date) {
+        Counters typeCounters = counters.get(roomType);
+        if (typeCounters == null) {
+            return 0;
+        }
+        int day = (int) date.toEpochDay();
+        AtomicIntegerArray page = typeCounters.pages.get(day >> PAGE_BITS);
+        return page == null ? 0 : page.get(day & PAGE_MASK);
+    }
+
+    /**
+     * Checks whether every day of the stay still has capacity, without claiming it.
+     */
+    public boolean hasCapacity(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        Counters typeCounters = counters.get(roomType);
+        if (typeCounters == null) {
+            return false;
+        }
+        int end = (int) endDate.toEpochDay();
+        for (int day = (int) startDate.toEpochDay(); day <= end; day++) {
+            AtomicIntegerArray page = typeCounters.pages.get(day >> PAGE_BITS);
+            int sold = page == null ? 0 : page.get(day & PAGE_MASK);
+            if (sold >= typeCounters.capacity(day)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Claims one unit of the type for every day of the stay.
+     * Either every day is claimed or none is.
+     * @return false if any day is already at capacity
+     */
+    public boolean tryReserve(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        return tryReserve(roomType, startDate, endDate, 1);
+    }
+
+    /**
+     * Claims several units of the type for every day of the range, e.g. for rooms blocked together.
+     * Either every unit of every day is claimed or none is.
+     * @return false if any day lacks the capacity
+     */
+    boolean tryReserve(RoomType roomType, LocalDate startDate, LocalDate endDate, int units) {
+        Counters typeCounters = counters.get(roomType);
+        if (typeCounters == null) {
+            return false;
+        }
+        int start = (int) startDate.toEpochDay();
+        int end = (int) endDate.toEpochDay();
+        for (int day = start; day <= end; day++) {
+            if (!increment(typeCounters, day, units)) {
+                for (int claimed = start; claimed < day; claimed++) {
+                    decrement(typeCounters, claimed, units);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the units claimed for a stay.
+     */
+    public void release(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        release(roomType, startDate, endDate, 1);
+    }
+
+    /**
+     * Returns several units claimed together.
+     */
+    void release(RoomType roomType, LocalDate startDate, LocalDate endDate, int units) {
+        Counters typeCounters = counters.get(roomType);
+        if (typeCounters == null) {
+            return;
+        }
+        int end = (int) endDate.toEpochDay();
+        for (int day = (int) startDate.toEpochDay(); day <= end; day++) {
+            decrement(typeCounters, day, units);
+        }
+    }
+
+    private static boolean increment(Counters typeCounters, int day, int units) {
+        AtomicIntegerArray page = typeCounters.page(day);
+        int index = day & PAGE_MASK;
+        int capacity = typeCounters.capacity(day);
+        while (true) {
+            int sold = page.get(index);
+            if (sold + units > capacity) {
+                return false;
+            }
+            if (page.compareAndSet(index, sold, sold + units)) {
+                return true;
+            }
+        }
+    }
+
+    private static void decrement(Counters typeCounters, int day, int units) {
+        typeCounters.page(day).addAndGet(day & PAGE_MASK, -units);
+    }
+
+    private Counters counters(RoomType roomType) {
+        return counters.computeIfAbsent(roomType, t -> new Counters());
+    }
+
+    private static void requireValid(RoomType roomType, int percent) {
+        if (roomType == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+        if (percent < 0) {
+            throw new IllegalArgumentException("Overbooking limit cannot be negative");
+        }
+    }
+}
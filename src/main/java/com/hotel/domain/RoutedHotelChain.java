@@ -0,0 +1,201 @@
+package com.hotel.domain;
+
+import com.hotel.util.ConsistentHashRing;
+import com.hotel.util.CreditCard;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Front end of a chain whose hotels are spread over several nodes.
+ * Each node is a {@link HotelChain}; hotels are placed on nodes by consistent hashing
+ * of the hotel name with virtual nodes, and the familiar chain operations are
+ * forwarded to the node that owns the hotel. When a node joins or leaves, only the
+ * hotels whose owner actually changes are handed over. Idempotency keys are kept
+ * here rather than on the nodes, so a retry still finds its booking after the
+ * hotel has moved.
+ * Routing is lock-free. Membership changes are serialised and should be made while
+ * no requests are in flight, since the nodes' hotel maps are not concurrent.
+ */
+public class RoutedHotelChain {
+    private static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    private final String name;
+    private final ConsistentHashRing<HotelChain> ring;
+    private final Set<String> hotelNames;
+    private final List<ReservationManager> managers;
+    private final BookingKeys bookingKeys;
+
+    public RoutedHotelChain(String name) {
+        this(name, DEFAULT_VIRTUAL_NODES);
+    }
+
+    public RoutedHotelChain(String name, int virtualNodes) {
+        this(name, virtualNodes, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a router whose idempotency keys expire by the given clock.
+     */
+    public RoutedHotelChain(String name, int virtualNodes, Clock clock) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Chain name cannot be null or empty");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.name = name.trim();
+        this.ring = new ConsistentHashRing<>(virtualNodes);
+        this.hotelNames = new HashSet<>();
+        this.managers = new ArrayList<>();
+        this.bookingKeys = new BookingKeys(HotelChain.IDEMPOTENCY_WINDOW, HotelChain.MAX_IDEMPOTENCY_KEYS, clock);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Adds a node and hands over the hotels it now owns.
+     * @return the names of the hotels that moved to the new node
+     */
+    public synchronized List<String> addNode(String nodeId, HotelChain node) {
+        Map<String, HotelChain> before = owners();
+        ring.addNode(nodeId, node);
+        for (ReservationManager manager : managers) {
+            node.registerManager(manager);
+        }
+        return rebalance(before);
+    }
+
+    /**
+     * Removes a node and hands its hotels over to the remaining nodes.
+     * @return the names of the hotels that moved
+     */
+    public synchronized List<String> removeNode(String nodeId) {
+        Map<String, HotelChain> before = owners();
+        if (ring.size() == 1 && !hotelNames.isEmpty()) {
+            throw new IllegalStateException("Cannot remove the last node while it holds hotels");
+        }
+        ring.removeNode(nodeId);
+        return rebalance(before);
+    }
+
+    /**
+     * Gets the node that owns a hotel name.
+     */
+    public HotelChain nodeFor(String hotelName) {
+        return ring.route(hotelName);
+    }
+
+    public synchronized void addHotel(Hotel hotel) {
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel cannot be null");
+        }
+        String hotelName = hotel.getName().getValue();
+        nodeFor(hotelName).addHotel(hotel);
+        hotelNames.add(hotelName);
+    }
+
+    public Hotel getHotel(String hotelName) {
+        if (hotelName == null) {
+            throw new IllegalArgumentException("Hotel name cannot be null");
+        }
+        return nodeFor(hotelName).getHotel(hotelName);
+    }
+
+    /**
+     * Gets all hotels, gathered from every node.
+     */
+    public Collection<Hotel> getAllHotels() {
+        List<Hotel> all = new ArrayList<>();
+        for (HotelChain node : ring.getNodes()) {
+            all.addAll(node.getAllHotels());
+        }
+        return all;
+    }
+
+    /**
+     * Registers a manager on every node, including nodes added later.
+     */
+    public synchronized void registerManager(ReservationManager manager) {
+        if (manager == null) {
+            throw new IllegalArgumentException("Manager cannot be null");
+        }
+        managers.add(manager);
+        for (HotelChain node : ring.getNodes()) {
+            node.registerManager(manager);
+        }
+    }
+
+    public Reservation makeReservation(Hotel hotel, Guest guest, Room room,
+                                       LocalDate startDate, LocalDate endDate,
+                                       ReservationManager manager, CreditCard creditCard) {
+        return owner(hotel).makeReservation(hotel, guest, room, startDate, endDate, manager, creditCard);
+    }
+
+    /**
+     * Makes a reservation at most once per idempotency key, across rebalances.
+     * A null key behaves like the plain call.
+     */
+    public Reservation makeReservation(String idempotencyKey, Hotel hotel, Guest guest, Room room,
+                                       LocalDate startDate, LocalDate endDate,
+                                       ReservationManager manager, CreditCard creditCard) {
+        if (idempotencyKey == null) {
+            return makeReservation(hotel, guest, room, startDate, endDate, manager, creditCard);
+        }
+        return bookingKeys.book(idempotencyKey, hotel, guest, room, startDate, endDate, () ->
+            makeReservation(hotel, guest, room, startDate, endDate, manager, creditCard));
+    }
+
+    public void cancelReservation(Hotel hotel, Reservation reservation, ReservationManager manager) {
+        owner(hotel).cancelReservation(hotel, reservation, manager);
+    }
+
+    public void checkInGuest(Hotel hotel, Reservation reservation) {
+        owner(hotel).checkInGuest(hotel, reservation);
+    }
+
+    public void checkOutGuest(Hotel hotel, Reservation reservation) {
+        owner(hotel).checkOutGuest(hotel, reservation);
+    }
+
+    private HotelChain owner(Hotel hotel) {
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel cannot be null");
+        }
+        return nodeFor(hotel.getName().getValue());
+    }
+
+    private Map<String, HotelChain> owners() {
+        Map<String, HotelChain> owners = new HashMap<>();
+        if (ring.size() > 0) {
+            for (String hotelName : hotelNames) {
+                owners.put(hotelName, ring.route(hotelName));
+            }
+        }
+        return owners;
+    }
+
+    private List<String> rebalance(Map<String, HotelChain> before) {
+        List<String> moved = new ArrayList<>();
+        for (Map.Entry<String, HotelChain> entry : before.entrySet()) {
+            HotelChain target = ring.route(entry.getKey());
+            if (target != entry.getValue()) {
+                target.addHotel(entry.getValue().removeHotel(entry.getKey()));
+                moved.add(entry.getKey());
+            }
+        }
+        Collections.sort(moved);
+        return moved;
+    }
+
+    @Override
+    public String toString() {
+        return "RoutedHotelChain{" +
+               "name='" + name + '\'' +
+               ", nodes=" + ring.size() +
+               ", hotels=" + hotelNames.size() +
+               '}';
+    }
+}
@@ -0,0 +1,96 @@
+package com.hotel.domain;
+
+import com.hotel.util.CreditCard;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Interval index over the waiting entries of one hotel, partitioned by room type.
+ * Entries are keyed by arrival day; together with the longest stay seen for the
+ * type, a query only visits arrivals that can still reach the freed range instead
+ * of scanning the whole list. The longest stay is never lowered, which keeps the
+ * bound safe at the cost of a slightly wider window after long stays leave.
+ */
+class Waitlist {
+    private final Map<RoomType, TreeMap<Long, List<WaitlistEntry>>> byArrival;
+    private final Map<RoomType, Long> longestStay;
+    private long sequence;
+    private int size;
+
+    Waitlist() {
+        this.byArrival = new HashMap<>();
+        this.longestStay = new HashMap<>();
+    }
+
+    WaitlistEntry add(Guest guest, RoomType roomType, LocalDate startDate, LocalDate endDate,
+                      ReservationManager manager, CreditCard creditCard) {
+        WaitlistEntry entry = new WaitlistEntry(guest, roomType, startDate, endDate, sequence++,
+            manager, creditCard);
+        byArrival.computeIfAbsent(roomType, t -> new TreeMap<>())
+            .computeIfAbsent(startDate.toEpochDay(), d -> new ArrayList<>())
+            .add(entry);
+        longestStay.merge(roomType, endDate.toEpochDay() - startDate.toEpochDay(), Math::max);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Removes an entry from the index; the caller updates its status.
+     */
+    boolean remove(WaitlistEntry entry) {
+        TreeMap<Long, List<WaitlistEntry>> index = byArrival.get(entry.getRoomType());
+        if (index == null) {
+            return false;
+        }
+        long day = entry.getStartDate().toEpochDay();
+        List<WaitlistEntry> arriving = index.get(day);
+        if (arriving == null || !arriving.remove(entry)) {
+            return false;
+        }
+        if (arriving.isEmpty()) {
+            index.remove(day);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Gets the entries of a room type whose stay overlaps the given range,
+     * inclusive on both ends like room conflicts, in the order they joined.
+     */
+    List<WaitlistEntry> overlapping(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        TreeMap<Long, List<WaitlistEntry>> index = byArrival.get(roomType);
+        List<WaitlistEntry> result = new ArrayList<>();
+        if (index == null) {
+            return result;
+        }
+        long start = startDate.toEpochDay();
+        long from = start - longestStay.get(roomType);
+        for (List<WaitlistEntry> arriving : index.subMap(from, true, endDate.toEpochDay(), true).values()) {
+            for (WaitlistEntry entry : arriving) {
+                if (entry.getEndDate().toEpochDay() >= start) {
+                    result.add(entry);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(WaitlistEntry::getSequence));
+        return result;
+    }
+
+    /**
+     * Gets every waiting entry of a room type in the order they joined.
+     */
+    List<WaitlistEntry> entries(RoomType roomType) {
+        TreeMap<Long, List<WaitlistEntry>> index = byArrival.get(roomType);
+        List<WaitlistEntry> result = new ArrayList<>();
+        if (index != null) {
+            index.values().forEach(result::addAll);
+        }
+        result.sort(Comparator.comparingLong(WaitlistEntry::getSequence));
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,137 @@
+package com.hotel.domain;
+
+import com.hotel.util.CreditCard;
+import com.hotel.util.Identity;
+import java.time.LocalDate;
+
+/**
+ * Represents a guest waiting for a room type to free up over a date range.
+ * A waiting entry is promoted to a reservation when a cancellation frees a
+ * suitable room, or expires once its arrival date has passed.
+ */
+public class WaitlistEntry {
+    private final Identity id;
+    private final Guest guest;
+    private final RoomType roomType;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long sequence;
+    private final ReservationManager manager;
+    private final CreditCard creditCard;
+    private WaitlistStatus status;
+    private Reservation reservation;
+
+    public enum WaitlistStatus {
+        WAITING, PROMOTED, WITHDRAWN, EXPIRED
+    }
+
+    WaitlistEntry(Guest guest, RoomType roomType, LocalDate startDate, LocalDate endDate, long sequence,
+                  ReservationManager manager, CreditCard creditCard) {
+        this.id = new Identity();
+        this.guest = guest;
+        this.roomType = roomType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.sequence = sequence;
+        this.manager = manager;
+        this.creditCard = creditCard;
+        this.status = WaitlistStatus.WAITING;
+    }
+
+    public Identity getId() {
+        return id;
+    }
+
+    public Guest getGuest() {
+        return guest;
+    }
+
+    public RoomType getRoomType() {
+        return roomType;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public WaitlistStatus getStatus() {
+        return status;
+    }
+
+    public boolean isWaiting() {
+        return status == WaitlistStatus.WAITING;
+    }
+
+    /**
+     * Gets the reservation created on promotion, or null while still waiting.
+     */
+    public Reservation getReservation() {
+        return reservation;
+    }
+
+    /**
+     * Gets the order in which the entry joined its hotel's waitlist.
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    ReservationManager getManager() {
+        return manager;
+    }
+
+    CreditCard getCreditCard() {
+        return creditCard;
+    }
+
+    void promote(Reservation reservation) {
+        requireWaiting();
+        this.reservation = reservation;
+        this.status = WaitlistStatus.PROMOTED;
+    }
+
+    void withdraw() {
+        requireWaiting();
+        this.status = WaitlistStatus.WITHDRAWN;
+    }
+
+    void expire() {
+        requireWaiting();
+        this.status = WaitlistStatus.EXPIRED;
+    }
+
+    private void requireWaiting() {
+        if (status != WaitlistStatus.WAITING) {
+            throw new IllegalStateException("Waitlist entry is no longer waiting");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WaitlistEntry that = (WaitlistEntry) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "WaitlistEntry{" +
+               "id=" + id +
+               ", guest=" + guest.getName() +
+               ", roomType=" + roomType.getKind() +
+               ", startDate=" + startDate +
+               ", endDate=" + endDate +
+               ", status=" + status +
+               '}';
+    }
+}
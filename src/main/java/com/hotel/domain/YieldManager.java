@@ -0,0 +1,182 @@
+package com.hotel.domain;
+
+import com.hotel.util.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Yield management for one hotel: moves each room type's nightly rate with demand.
+ * A recomputation prices every room type for every night of the horizon from the
+ * business date, using live occupancy from the hotel's rollup, remaining units from
+ * its inventory and, once attached, forecast pickup. The result is an immutable
+ * {@link PriceTable} published through a volatile reference, so quoting is a lock-free
+ * table lookup that never calculates a price. Nights outside the horizon and room
+ * types the table does not know are quoted at their base rate.
+ * Thread-safe.
+ */
+public class YieldManager {
+    private final Hotel hotel;
+    private final PricingRule rule;
+    private final int horizonDays;
+    private final LongAdder failures;
+    private volatile PickupCurves forecast;
+    private volatile PriceTable table;
+
+    /**
+     * Creates a manager and computes its first price table.
+     * @param horizonDays number of nights priced ahead, starting with the business date
+     */
+    public YieldManager(Hotel hotel, PricingRule rule, int horizonDays) {
+        if (hotel == null || rule == null) {
+            throw new IllegalArgumentException("Hotel and rule cannot be null");
+        }
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be positive");
+        }
+        this.hotel = hotel;
+        this.rule = rule;
+        this.horizonDays = horizonDays;
+        this.failures = new LongAdder();
+        recompute();
+    }
+
+    /**
+     * Attaches the pickup curves that occupancy is projected from, or detaches them when null.
+     * Takes effect at the next recomputation.
+     */
+    public void setForecast(PickupCurves forecast) {
+        this.forecast = forecast;
+    }
+
+    /**
+     * Prices the horizon again and publishes the new table.
+     */
+    public void recompute() {
+        Set<RoomType> types = new LinkedHashSet<>();
+        LocalDate today;
+        synchronized (hotel) {
+            for (Room room : hotel.getAllRooms()) {
+                types.add(room.getRoomType());
+            }
+            today = hotel.getBusinessDate().today();
+        }
+        RoomType[] roomTypes = types.toArray(new RoomType[0]);
+        PickupCurves curves = forecast;
+        String name = hotel.getName().getValue();
+        RoomTypeInventory inventory = hotel.getInventory();
+        OccupancyRollup rollup = hotel.getRollup();
+
+        long[][] cents = new long[roomTypes.length][horizonDays];
+        for (int type = 0; type < roomTypes.length; type++) {
+            RoomType roomType = roomTypes[type];
+            BigDecimal base = roomType.getCost().getAmount();
+            for (int lead = 0; lead < horizonDays; lead++) {
+                LocalDate night = today.plusDays(lead);
+                double occupancy = curves != null && curves.canForecast(name, roomType, night)
+                    ? curves.forecast(name, roomType, night, PickupCurves.Model.ADDITIVE).getOccupancy()
+                    : rollup.getMetrics(roomType, night, night.plusDays(1)).getOccupancy();
+                int remaining = inventory.getCapacity(roomType, night) - inventory.getSold(roomType, night);
+                double multiplier = rule.multiplier(occupancy, Math.max(0, remaining), lead);
+                if (!(multiplier > 0)) {
+                    throw new IllegalStateException("Pricing rule returned a non-positive multiplier: " + multiplier);
+                }
+                cents[type][lead] = base.multiply(BigDecimal.valueOf(multiplier)).movePointRight(2)
+                    .setScale(0, RoundingMode.HALF_UP).longValueExact();
+            }
+        }
+        table = new PriceTable(today, horizonDays, roomTypes, cents);
+    }
+
+    /**
+     * Schedules recomputation to run repeatedly at the given interval.
+     * A failed run is counted and the previous table stays published until the next one.
+     */
+    public ScheduledFuture<?> schedule(ScheduledExecutorService scheduler, Duration interval) {
+        if (scheduler == null || interval == null) {
+            throw new IllegalArgumentException("Scheduler and interval cannot be null");
+        }
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        long millis = interval.toMillis();
+        return scheduler.scheduleWithFixedDelay(this::recomputeScheduled, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets how many scheduled recomputations have failed.
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    private void recomputeScheduled() {
+        try {
+            recompute();
+        } catch (RuntimeException e) {
+            failures.increment();
+        }
+    }
+
+    /**
+     * Gets the business date the current prices were computed on.
+     */
+    public LocalDate getPricedOn() {
+        return table.getComputedOn();
+    }
+
+    /**
+     * Quotes the rate of one night.
+     */
+    public Money quote(RoomType roomType, LocalDate night) {
+        if (roomType == null || night == null) {
+            throw new IllegalArgumentException("Room type and night cannot be null");
+        }
+        Money rate = table.rate(roomType, (int) night.toEpochDay());
+        return rate != null ? rate : roomType.getCost();
+    }
+
+    /**
+     * Quotes the total of a stay: every night from the start date up to the end date.
+     */
+    public Money quote(RoomType roomType, LocalDate startDate, LocalDate endDate) {
+        if (roomType == null || startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Room type and dates cannot be null");
+        }
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        PriceTable current = table;
+        long baseCents = -1;
+        long total = 0;
+        int end = (int) endDate.toEpochDay();
+        for (int day = (int) startDate.toEpochDay(); day < end; day++) {
+            long nightly = current.cents(roomType, day);
+            if (nightly < 0) {
+                if (baseCents < 0) {
+                    baseCents = roomType.getCost().getAmount().movePointRight(2)
+                        .setScale(0, RoundingMode.HALF_UP).longValueExact();
+                }
+                nightly = baseCents;
+            }
+            total += nightly;
+        }
+        return new Money(BigDecimal.valueOf(total, 2));
+    }
+
+    @Override
+    public String toString() {
+        return "YieldManager{" +
+               "hotel=" + hotel.getName() +
+               ", pricedOn=" + getPricedOn() +
+               ", horizon=" + horizonDays +
+               '}';
+    }
+}
@@ -5,11 +5,16 @@ import java.util.Objects;
 /**
  * Value object for address details.
  * Immutable and defensively programmed.
+ * Cities and postal codes repeat heavily, so their strings are shared; streets are
+ * close to unique, so whole addresses are not pooled.
  */
 public class Address {
+    private static final Interner<String> PARTS = new Interner<>();
+
     private final String street;
     private final String city;
     private final String postalCode;
+    private final int hash;
 
     public Address(String street, String city, String postalCode) {
         if (street == null || street.trim().isEmpty()) {
@@ -22,8 +27,9 @@ public class Address {
             throw new IllegalArgumentException("Postal code cannot be null or empty");
         }
         this.street = street.trim();
-        this.city = city.trim();
-        this.postalCode = postalCode.trim();
+        this.city = PARTS.intern(city.trim());
+        this.postalCode = PARTS.intern(postalCode.trim());
+        this.hash = Objects.hash(this.street, this.city, this.postalCode);
     }
 
     public String getStreet() {
@@ -43,14 +49,15 @@ public class Address {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Address address = (Address) o;
-        return street.equals(address.street) &&
+        return hash == address.hash &&
+               street.equals(address.street) &&
                city.equals(address.city) &&
                postalCode.equals(address.postalCode);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(street, city, postalCode);
+        return hash;
     }
 
     @Override
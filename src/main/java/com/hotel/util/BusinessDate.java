@@ -0,0 +1,93 @@
+package com.hotel.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Source of the current business date for a property.
+ * Caches today's date and only consults the time zone rules again when the clock
+ * crosses property-local midnight, so hot paths pay a single clock read.
+ */
+public class BusinessDate {
+    private final Clock clock;
+    private final ZoneId zone;
+    private volatile Day day;
+
+    private static final class Day {
+        private final LocalDate date;
+        private final long startMillis;
+        private final long endMillis;
+
+        private Day(LocalDate date, long startMillis, long endMillis) {
+            this.date = date;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+    }
+
+    public BusinessDate(Clock clock, ZoneId zone) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        if (zone == null) {
+            throw new IllegalArgumentException("Time zone cannot be null");
+        }
+        this.clock = clock;
+        this.zone = zone;
+        this.day = dayOf(clock.millis());
+    }
+
+    public BusinessDate(Clock clock) {
+        this(clock, clock == null ? null : clock.getZone());
+    }
+
+    public static BusinessDate system(ZoneId zone) {
+        return new BusinessDate(Clock.system(zone), zone);
+    }
+
+    public static BusinessDate systemDefault() {
+        return system(ZoneId.systemDefault());
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Gets the current date in the property's time zone.
+     */
+    public LocalDate today() {
+        long now = clock.millis();
+        Day current = day;
+        if (now < current.startMillis || now >= current.endMillis) {
+            current = dayOf(now);
+            day = current;
+        }
+        return current.date;
+    }
+
+    /**
+     * Gets the current time in epoch milliseconds.
+     */
+    public long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    private Day dayOf(long millis) {
+        LocalDate date = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+        long start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        long end = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Day(date, start, end);
+    }
+
+    @Override
+    public String toString() {
+        return "BusinessDate{" + "zone=" + zone + ", today=" + today() + '}';
+    }
+}
@@ -0,0 +1,139 @@
+package com.hotel.util;
+
+import java.util.*;
+
+/**
+ * Consistent hash ring with virtual nodes.
+ * Every node is placed on the ring at several pseudo-random points, and a key belongs
+ * to the first point at or after its own hash. Adding or removing a node therefore only
+ * moves the keys of the arcs it gains or loses. The ring is rebuilt copy-on-write into
+ * sorted primitive arrays, so lookups are a lock-free binary search.
+ * Thread-safe.
+ */
+public class ConsistentHashRing<N> {
+    private final int virtualNodes;
+    private final Map<String, N> nodes;
+    private volatile Snapshot<N> snapshot;
+
+    private static final class Snapshot<N> {
+        private final long[] points;
+        private final Object[] owners;
+
+        private Snapshot(long[] points, Object[] owners) {
+            this.points = points;
+            this.owners = owners;
+        }
+    }
+
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual node count must be positive");
+        }
+        this.virtualNodes = virtualNodes;
+        this.nodes = new LinkedHashMap<>();
+        this.snapshot = new Snapshot<>(new long[0], new Object[0]);
+    }
+
+    /**
+     * Places a node on the ring.
+     */
+    public synchronized void addNode(String nodeId, N node) {
+        if (nodeId == null || node == null) {
+            throw new IllegalArgumentException("Node id and node cannot be null");
+        }
+        if (nodes.containsKey(nodeId)) {
+            throw new IllegalArgumentException("Node already on the ring: " + nodeId);
+        }
+        nodes.put(nodeId, node);
+        rebuild();
+    }
+
+    /**
+     * Takes a node off the ring.
+     * @return the removed node
+     */
+    public synchronized N removeNode(String nodeId) {
+        N node = nodes.remove(nodeId);
+        if (node == null) {
+            throw new IllegalArgumentException("Node not on the ring: " + nodeId);
+        }
+        rebuild();
+        return node;
+    }
+
+    /**
+     * Gets the node that owns a key.
+     * @throws IllegalStateException if the ring is empty
+     */
+    @SuppressWarnings("unchecked")
+    public N route(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        Snapshot<N> ring = snapshot;
+        if (ring.points.length == 0) {
+            throw new IllegalStateException("No nodes on the ring");
+        }
+        int index = Arrays.binarySearch(ring.points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+            if (index == ring.points.length) {
+                index = 0;
+            }
+        }
+        return (N) ring.owners[index];
+    }
+
+    /**
+     * Gets the nodes on the ring in the order they were added.
+     */
+    public synchronized List<N> getNodes() {
+        return new ArrayList<>(nodes.values());
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    private void rebuild() {
+        int count = nodes.size() * virtualNodes;
+        long[] points = new long[count];
+        Object[] owners = new Object[count];
+        Integer[] order = new Integer[count];
+        long[] unsorted = new long[count];
+        Object[] unsortedOwners = new Object[count];
+        int i = 0;
+        for (Map.Entry<String, N> entry : nodes.entrySet()) {
+            for (int v = 0; v < virtualNodes; v++) {
+                unsorted[i] = hash(entry.getKey() + "#" + v);
+                unsortedOwners[i] = entry.getValue();
+                order[i] = i;
+                i++;
+            }
+        }
+        Arrays.sort(order, Comparator.comparingLong(index -> unsorted[index]));
+        for (int k = 0; k < count; k++) {
+            points[k] = unsorted[order[k]];
+            owners[k] = unsortedOwners[order[k]];
+        }
+        snapshot = new Snapshot<>(points, owners);
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters, finished with a MurmurHash3 mix for spread.
+     * Works on the chars directly so routing does not allocate.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
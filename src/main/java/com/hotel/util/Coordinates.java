@@ -0,0 +1,65 @@
+package com.hotel.util;
+
+/**
+ * Value object for a point on the earth, in decimal degrees.
+ * Immutable and defensively programmed.
+ */
+public class Coordinates {
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final double latitude;
+    private final double longitude;
+
+    public Coordinates(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Gets the great-circle distance to another point, in kilometres.
+     */
+    public double distanceKm(Coordinates other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Coordinates cannot be null");
+        }
+        double lat1 = Math.toRadians(latitude);
+        double lat2 = Math.toRadians(other.latitude);
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(other.longitude - longitude) / 2);
+        double h = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(h)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Coordinates that = (Coordinates) o;
+        return Double.compare(latitude, that.latitude) == 0 &&
+               Double.compare(longitude, that.longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(latitude) + Double.hashCode(longitude);
+    }
+
+    @Override
+    public String toString() {
+        return latitude + "," + longitude;
+    }
+}
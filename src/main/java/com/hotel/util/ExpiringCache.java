@@ -0,0 +1,149 @@
+package com.hotel.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded concurrent cache whose entries expire by time window.
+ * Entries go into the current generation; once the window elapses (or the generation
+ * fills up) it becomes the previous one and the old previous generation is dropped
+ * whole. Nothing is swept entry by entry, so an entry lives for at least one window
+ * and at most two, unless the size bound rotates generations early.
+ * Thread-safe; concurrent callers with the same key share a single computation.
+ */
+public class ExpiringCache<K, V> {
+    private final long windowMillis;
+    private final int maxEntriesPerGeneration;
+    private final Clock clock;
+    private volatile Generation<K, V> current;
+    private volatile Generation<K, V> previous;
+
+    private static final class Generation<K, V> {
+        private final long startMillis;
+        private final ConcurrentHashMap<K, CompletableFuture<V>> entries = new ConcurrentHashMap<>();
+
+        private Generation(long startMillis) {
+            this.startMillis = startMillis;
+        }
+    }
+
+    /**
+     * @param window how long entries are kept at least
+     * @param maxEntries bound on the number of entries held across both generations
+     */
+    public ExpiringCache(Duration window, int maxEntries, Clock clock) {
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        if (maxEntries < 2) {
+            throw new IllegalArgumentException("Cache must hold at least two entries");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.windowMillis = window.toMillis();
+        this.maxEntriesPerGeneration = maxEntries / 2;
+        this.clock = clock;
+        this.current = new Generation<>(clock.millis());
+        this.previous = new Generation<>(clock.millis());
+    }
+
+    /**
+     * Gets the value cached for a key, or null if absent, expired or still being computed.
+     */
+    public V getIfPresent(K key) {
+        rotateIfDue();
+        CompletableFuture<V> future = find(key);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Gets the value cached for a key, computing it if absent.
+     * A computation that throws is not cached, so a later call may try again;
+     * callers that were waiting on it see the same exception.
+     */
+    public V computeIfAbsent(K key, Supplier<V> computation) {
+        if (key == null || computation == null) {
+            throw new IllegalArgumentException("Key and computation cannot be null");
+        }
+        rotateIfDue();
+        CompletableFuture<V> existing = find(key);
+        if (existing == null) {
+            Generation<K, V> generation = current;
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            existing = generation.entries.putIfAbsent(key, mine);
+            if (existing == null) {
+                return compute(generation, key, mine, computation);
+            }
+        }
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of entries held, including those about to expire.
+     */
+    public int size() {
+        return current.entries.size() + previous.entries.size();
+    }
+
+    private V compute(Generation<K, V> generation, K key, CompletableFuture<V> future, Supplier<V> computation) {
+        V value;
+        try {
+            value = computation.get();
+        } catch (RuntimeException | Error e) {
+            generation.entries.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        if (value == null) {
+            generation.entries.remove(key, future);
+            future.complete(null);
+            return null;
+        }
+        future.complete(value);
+        if (generation.entries.size() > maxEntriesPerGeneration) {
+            rotate(generation);
+        }
+        return value;
+    }
+
+    private CompletableFuture<V> find(K key) {
+        CompletableFuture<V> future = current.entries.get(key);
+        if (future != null) {
+            return future;
+        }
+        Generation<K, V> older = previous;
+        return clock.millis() - older.startMillis < 2 * windowMillis ? older.entries.get(key) : null;
+    }
+
+    private void rotateIfDue() {
+        Generation<K, V> generation = current;
+        if (clock.millis() - generation.startMillis >= windowMillis) {
+            rotate(generation);
+        }
+    }
+
+    private synchronized void rotate(Generation<K, V> expected) {
+        if (current != expected) {
+            return;
+        }
+        long now = clock.millis();
+        if (now - expected.startMillis >= 2 * windowMillis) {
+            previous = new Generation<>(now);
+        } else {
+            previous = expected;
+        }
+        current = new Generation<>(now);
+    }
+}
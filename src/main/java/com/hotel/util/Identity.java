@@ -1,6 +1,5 @@
 package com.hotel.util;
 
-import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -9,9 +8,11 @@ import java.util.UUID;
  */
 public class Identity {
     private final String id;
+    private final int hash;
 
     public Identity() {
         this.id = UUID.randomUUID().toString();
+        this.hash = id.hashCode();
     }
 
     public Identity(String id) {
@@ -19,6 +20,7 @@ public class Identity {
             throw new IllegalArgumentException("ID cannot be null or empty");
         }
         this.id = id.trim();
+        this.hash = this.id.hashCode();
     }
 
     public String getId() {
@@ -30,12 +32,12 @@ public class Identity {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Identity identity = (Identity) o;
-        return id.equals(identity.id);
+        return hash == identity.hash && id.equals(identity.id);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,175 @@
+package com.hotel.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Open-addressing hash map with primitive int keys.
+ * Lookups neither box the key nor allocate entry nodes. Null values are not allowed.
+ * Not thread-safe.
+ */
+public class IntObjectHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    public IntObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntObjectHashMap(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(expectedSize, 1) * 2);
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associates the value with the key.
+     * @return the previous value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the mapping for the key.
+     * @return the removed value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Visits every value without allocating an iterator.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * Checks whether any value matches, stopping at the first match.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean anyValueMatch(Predicate<? super V> predicate) {
+        for (Object value : values) {
+            if (value != null && predicate.test((V) value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets a copy of all values.
+     */
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        forEachValue(result::add);
+        return result;
+    }
+
+    private void shiftBack(int gap) {
+        int mask = keys.length - 1;
+        int slot = (gap + 1) & mask;
+        while (values[slot] != null) {
+            int home = mix(keys[slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldKeys[i], (V) oldValues[i]);
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        return Math.max(n, DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public String toString() {
+        return "IntObjectHashMap{" + "size=" + size + ", capacity=" + keys.length + '}';
+    }
+}
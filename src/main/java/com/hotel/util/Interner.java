@@ -0,0 +1,60 @@
+package com.hotel.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalising pool for immutable value objects.
+ * Equal values share one instance, so equality checks hit the identity fast path
+ * and duplicates are not kept on the heap. Entries are held weakly and vanish
+ * once no caller references the canonical instance.
+ * The pool is split into stripes by hash, each with its own lock, so concurrent
+ * callers rarely contend. Meant for values that repeat; unique values only add entries.
+ */
+public class Interner<T> {
+    private static final int STRIPES = 16;
+
+    private final Map<T, WeakReference<T>>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public Interner() {
+        this.stripes = (Map<T, WeakReference<T>>[]) new Map<?, ?>[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+    }
+
+    /**
+     * Gets the canonical instance equal to the given value, registering it if new.
+     */
+    public T intern(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        int hash = value.hashCode();
+        Map<T, WeakReference<T>> pool = stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        synchronized (pool) {
+            WeakReference<T> ref = pool.get(value);
+            T canonical = ref == null ? null : ref.get();
+            if (canonical == null) {
+                pool.put(value, new WeakReference<>(value));
+                canonical = value;
+            }
+            return canonical;
+        }
+    }
+
+    /**
+     * Gets the number of canonical instances currently pooled.
+     */
+    public int size() {
+        int size = 0;
+        for (Map<T, WeakReference<T>> pool : stripes) {
+            synchronized (pool) {
+                size += pool.size();
+            }
+        }
+        return size;
+    }
+}
@@ -1,19 +1,35 @@
 package com.hotel.util;
 
-import java.util.Objects;
-
 /**
  * Value object for names.
  * Immutable and defensively programmed.
  */
 public class Name {
+    private static final Interner<Name> POOL = new Interner<>();
+
     private final String value;
+    private final int hash;
 
     public Name(String value) {
         if (value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException("Name cannot be null or empty");
         }
         this.value = value.trim();
+        this.hash = this.value.hashCode();
+    }
+
+    /**
+     * Gets the canonical name for the given value.
+     */
+    public static Name of(String value) {
+        return intern(new Name(value));
+    }
+
+    /**
+     * Gets the canonical instance equal to the given name.
+     */
+    public static Name intern(Name name) {
+        return POOL.intern(name);
     }
 
     public String getValue() {
@@ -25,12 +41,12 @@ public class Name {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Name name = (Name) o;
-        return value.equals(name.value);
+        return hash == name.hash && value.equals(name.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,193 @@
+package com.hotel.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing hash map that keeps its entries in dense arrays.
+ * Lookups compare cached hash codes before calling equals and allocate nothing;
+ * iteration walks the dense arrays in insertion order until entries are removed,
+ * at which point the last entry takes the removed one's place.
+ * Null keys and values are not allowed. Not thread-safe.
+ */
+public class ObjectHashMap<K, V> {
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int[] table;
+    private int size;
+
+    public ObjectHashMap() {
+        this.keys = new Object[DEFAULT_CAPACITY];
+        this.values = new Object[DEFAULT_CAPACITY];
+        this.hashes = new int[DEFAULT_CAPACITY];
+        this.table = new int[DEFAULT_CAPACITY * 2];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Associates the value with the key.
+     * @return the previous value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Key and value cannot be null");
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+        if (size == keys.length) {
+            grow();
+        }
+        keys[size] = key;
+        values[size] = value;
+        hashes[size] = mix(key.hashCode());
+        insertSlot(size);
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the mapping for the key.
+     * @return the removed value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+        int mask = table.length - 1;
+        int hash = mix(key.hashCode());
+        for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                V previous = (V) values[index];
+                shiftBack(slot);
+                moveLastInto(index);
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Visits every value without allocating an iterator.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept((V) values[i]);
+        }
+    }
+
+    /**
+     * Gets a copy of all values.
+     */
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        forEachValue(result::add);
+        return result;
+    }
+
+    private int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int hash = mix(key.hashCode());
+        for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void insertSlot(int index) {
+        int mask = table.length - 1;
+        int slot = hashes[index] & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    private void shiftBack(int gap) {
+        int mask = table.length - 1;
+        int slot = (gap + 1) & mask;
+        while (table[slot] != 0) {
+            int home = hashes[table[slot] - 1] & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                table[gap] = table[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[gap] = 0;
+    }
+
+    private void moveLastInto(int index) {
+        int last = size - 1;
+        if (index != last) {
+            int mask = table.length - 1;
+            int slot = hashes[last] & mask;
+            while (table[slot] != last + 1) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index + 1;
+            keys[index] = keys[last];
+            values[index] = values[last];
+            hashes[index] = hashes[last];
+        }
+        keys[last] = null;
+        values[last] = null;
+        size--;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        table = new int[capacity * 2];
+        for (int i = 0; i < size; i++) {
+            insertSlot(i);
+        }
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectHashMap{" + "size=" + size + '}';
+    }
+}
@@ -0,0 +1,258 @@
+package com.hotel.util;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Character trie mapping string keys to int values, for prefix and typo-tolerant lookup.
+ * Nodes and postings live in parallel primitive arrays rather than objects: each node
+ * stores its character, first child, next sibling and first posting, with siblings
+ * kept in character order, so millions of keys cost a few ints each.
+ * Values are handed to a visitor, which returns false to stop the walk early; a key
+ * added several times with the same value is visited as often.
+ * Not thread-safe.
+ */
+public class PrefixTrie {
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private char[] label;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] firstPosting;
+    private int nodeCount;
+    private int[] postingValue;
+    private int[] nextPosting;
+    private int postingCount;
+
+    public PrefixTrie() {
+        this.label = new char[INITIAL_CAPACITY];
+        this.firstChild = new int[INITIAL_CAPACITY];
+        this.nextSibling = new int[INITIAL_CAPACITY];
+        this.firstPosting = new int[INITIAL_CAPACITY];
+        this.postingValue = new int[INITIAL_CAPACITY];
+        this.nextPosting = new int[INITIAL_CAPACITY];
+        newNode('\0');
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Gets the number of values added.
+     */
+    public int size() {
+        return postingCount;
+    }
+
+    /**
+     * Adds a value under a key.
+     */
+    public void add(String key, int value) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Key cannot be null or empty");
+        }
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            node = child(node, key.charAt(i), true);
+        }
+        if (postingCount == postingValue.length) {
+            postingValue = Arrays.copyOf(postingValue, postingCount * 2);
+            nextPosting = Arrays.copyOf(nextPosting, postingCount * 2);
+        }
+        postingValue[postingCount] = value;
+        nextPosting[postingCount] = firstPosting[node];
+        firstPosting[node] = postingCount++;
+    }
+
+    /**
+     * Visits the values of every key starting with the prefix: the exact key first,
+     * then longer keys in character order.
+     * @return false if the visitor stopped the walk
+     */
+    public boolean visitPrefix(String prefix, IntPredicate visitor) {
+        if (prefix == null || visitor == null) {
+            throw new IllegalArgumentException("Prefix and visitor cannot be null");
+        }
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node != NONE; i++) {
+            node = child(node, prefix.charAt(i), false);
+        }
+        return node == NONE || visitSubtree(node, visitor);
+    }
+
+    /**
+     * Visits the values of every key that starts with something within {@code maxEdits}
+     * edits of the query, counting an insertion, deletion, substitution or swap of two
+     * adjacent characters as one edit. Subtrees are pruned as soon as no key below them
+     * can come within the limit.
+     * @return false if the visitor stopped the walk
+     */
+    public boolean visitSimilarPrefix(String query, int maxEdits, IntPredicate visitor) {
+        if (query == null || visitor == null) {
+            throw new IllegalArgumentException("Query and visitor cannot be null");
+        }
+        if (maxEdits < 0) {
+            throw new IllegalArgumentException("Edit limit cannot be negative");
+        }
+        int columns = query.length() + 1;
+        int[][] rows = new int[query.length() + maxEdits + 2][columns];
+        for (int column = 0; column < columns; column++) {
+            rows[0][column] = column;
+        }
+        if (query.length() <= maxEdits) {
+            return visitSubtree(0, visitor);
+        }
+        for (int child = firstChild[0]; child != NONE; child = nextSibling[child]) {
+            if (!visitSimilar(child, 1, query, maxEdits, rows, '\0', visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fills the edit distance row for a node one level below its parent, then either
+     * takes the whole subtree once the query is matched or descends while it can still be.
+     */
+    private boolean visitSimilar(int node, int depth, String query, int maxEdits, int[][] rows,
+                                 char parentLabel, IntPredicate visitor) {
+        char c = label[node];
+        int[] previous = rows[depth - 1];
+        int[] row = rows[depth];
+        row[0] = depth;
+        int best = row[0];
+        for (int column = 1; column < row.length; column++) {
+            char q = query.charAt(column - 1);
+            int cost = q == c ? 0 : 1;
+            int value = Math.min(Math.min(row[column - 1] + 1, previous[column] + 1), previous[column - 1] + cost);
+            if (depth > 1 && column > 1 && q == parentLabel && query.charAt(column - 2) == c) {
+                value = Math.min(value, rows[depth - 2][column - 2] + 1);
+            }
+            row[column] = value;
+            best = Math.min(best, value);
+        }
+        if (row[row.length - 1] <= maxEdits) {
+            return visitSubtree(node, visitor);
+        }
+        if (best > maxEdits || depth + 1 >= rows.length) {
+            return true;
+        }
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            if (!visitSimilar(child, depth + 1, query, maxEdits, rows, c, visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a word starts with something within {@code maxEdits} edits of the
+     * query, by the same measure as {@link #visitSimilarPrefix}.
+     */
+    public static boolean startsWithinEdits(String word, String query, int maxEdits) {
+        if (word == null || query == null) {
+            throw new IllegalArgumentException("Word and query cannot be null");
+        }
+        int columns = query.length() + 1;
+        int[] before = new int[columns];
+        int[] previous = new int[columns];
+        int[] row = new int[columns];
+        for (int column = 0; column < columns; column++) {
+            previous[column] = column;
+        }
+        if (query.length() <= maxEdits) {
+            return true;
+        }
+        for (int depth = 1; depth <= word.length(); depth++) {
+            char c = word.charAt(depth - 1);
+            row[0] = depth;
+            int best = depth;
+            for (int column = 1; column < columns; column++) {
+                char q = query.charAt(column - 1);
+                int value = Math.min(Math.min(row[column - 1] + 1, previous[column] + 1),
+                    previous[column - 1] + (q == c ? 0 : 1));
+                if (depth > 1 && column > 1 && q == word.charAt(depth - 2) && query.charAt(column - 2) == c) {
+                    value = Math.min(value, before[column - 2] + 1);
+                }
+                row[column] = value;
+                best = Math.min(best, value);
+            }
+            if (row[columns - 1] <= maxEdits) {
+                return true;
+            }
+            if (best > maxEdits) {
+                return false;
+            }
+            int[] spare = before;
+            before = previous;
+            previous = row;
+            row = spare;
+        }
+        return false;
+    }
+
+    private boolean visitSubtree(int root, IntPredicate visitor) {
+        for (int posting = firstPosting[root]; posting != NONE; posting = nextPosting[posting]) {
+            if (!visitor.test(postingValue[posting])) {
+                return false;
+            }
+        }
+        for (int child = firstChild[root]; child != NONE; child = nextSibling[child]) {
+            if (!visitSubtree(child, visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the child with a character, inserting it in sibling order if asked to.
+     */
+    private int child(int parent, char c, boolean create) {
+        int previous = NONE;
+        int current = firstChild[parent];
+        while (current != NONE && label[current] < c) {
+            previous = current;
+            current = nextSibling[current];
+        }
+        if (current != NONE && label[current] == c) {
+            return current;
+        }
+        if (!create) {
+            return NONE;
+        }
+        int created = newNode(c);
+        nextSibling[created] = current;
+        if (previous == NONE) {
+            firstChild[parent] = created;
+        } else {
+            nextSibling[previous] = created;
+        }
+        return created;
+    }
+
+    private int newNode(char c) {
+        if (nodeCount == label.length) {
+            int capacity = nodeCount * 2;
+            label = Arrays.copyOf(label, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            firstPosting = Arrays.copyOf(firstPosting, capacity);
+        }
+        label[nodeCount] = c;
+        firstChild[nodeCount] = NONE;
+        nextSibling[nodeCount] = NONE;
+        firstPosting[nodeCount] = NONE;
+        return nodeCount++;
+    }
+
+    @Override
+    public String toString() {
+        return "PrefixTrie{" +
+               "nodes=" + nodeCount +
+               ", values=" + postingCount +
+               '}';
+    }
+}
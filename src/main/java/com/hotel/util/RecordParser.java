@@ -0,0 +1,288 @@
+package com.hotel.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits text records into values ordered by a fixed column list.
+ * CSV records are mapped through the header line, with RFC 4180 quoting;
+ * NDJSON records are flat objects whose keys name the columns. Absent and
+ * empty values come back as null, and unknown columns are ignored.
+ * Thread-safe once the header is bound, so lines may be parsed in parallel.
+ */
+public class RecordParser {
+    private final Format format;
+    private final String[] columns;
+    private int[] positions;
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public RecordParser(Format format, List<String> columns) {
+        if (format == null || columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("Format and columns cannot be null or empty");
+        }
+        this.format = format;
+        this.columns = columns.toArray(new String[0]);
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Checks whether the first line of the input is a header to bind.
+     */
+    public boolean hasHeader() {
+        return format == Format.CSV;
+    }
+
+    /**
+     * Maps the columns of a CSV header line onto this parser's columns.
+     */
+    public void bindHeader(String headerLine) {
+        if (!hasHeader()) {
+            throw new IllegalStateException("Format has no header");
+        }
+        String[] names = splitCsv(headerLine, new String[0], null);
+        int[] mapped = new int[names.length];
+        Arrays.fill(mapped, -1);
+        for (int i = 0; i < names.length; i++) {
+            mapped[i] = indexOf(names[i] == null ? "" : names[i].trim());
+        }
+        this.positions = mapped;
+    }
+
+    /**
+     * Parses one record.
+     * @return values in column order, null where absent or empty
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    public String[] parse(String line) {
+        if (line == null) {
+            throw new IllegalArgumentException("Line cannot be null");
+        }
+        if (format == Format.CSV) {
+            if (positions == null) {
+                throw new IllegalStateException("Header has not been bound");
+            }
+            return splitCsv(line, new String[columns.length], positions);
+        }
+        return parseJson(line);
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String[] splitCsv(String line, String[] values, int[] positions) {
+        boolean header = positions == null;
+        String[] fields = header ? new String[8] : values;
+        StringBuilder quoted = null;
+        int field = 0;
+        int i = 0;
+        int length = line.length();
+        while (true) {
+            String value;
+            if (i < length && line.charAt(i) == '"') {
+                if (quoted == null) {
+                    quoted = new StringBuilder();
+                }
+                quoted.setLength(0);
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        throw new IllegalArgumentException("Unterminated quoted value");
+                    }
+                    char c = line.charAt(i++);
+                    if (c == '"') {
+                        if (i < length && line.charAt(i) == '"') {
+                            quoted.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+                if (i < length && line.charAt(i) != ',') {
+                    throw new IllegalArgumentException("Unexpected character after quoted value");
+                }
+                value = quoted.toString();
+            } else {
+                int end = line.indexOf(',', i);
+                if (end < 0) {
+                    end = length;
+                }
+                value = line.substring(i, end);
+                i = end;
+            }
+            if (header) {
+                if (field == fields.length) {
+                    fields = Arrays.copyOf(fields, field * 2);
+                }
+                fields[field] = value;
+            } else if (field < positions.length && positions[field] >= 0) {
+                fields[positions[field]] = value.isEmpty() ? null : value;
+            }
+            field++;
+            if (i >= length) {
+                break;
+            }
+            i++;
+        }
+        return header ? Arrays.copyOf(fields, field) : fields;
+    }
+
+    private String[] parseJson(String line) {
+        String[] values = new String[columns.length];
+        Cursor in = new Cursor(line);
+        in.skipSpace();
+        in.expect('{');
+        in.skipSpace();
+        if (in.peek() == '}') {
+            in.next();
+        } else {
+            while (true) {
+                in.skipSpace();
+                String key = in.readString();
+                in.skipSpace();
+                in.expect(':');
+                in.skipSpace();
+                String value = in.readScalar();
+                int index = indexOf(key);
+                if (index >= 0) {
+                    values[index] = value == null || value.isEmpty() ? null : value;
+                }
+                in.skipSpace();
+                char c = in.next();
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw new IllegalArgumentException("Expected ',' or '}' at " + (in.position - 1));
+                }
+            }
+        }
+        in.skipSpace();
+        if (in.position < line.length()) {
+            throw new IllegalArgumentException("Trailing characters after object");
+        }
+        return values;
+    }
+
+    private static final class Cursor {
+        private final String text;
+        private int position;
+
+        private Cursor(String text) {
+            this.text = text;
+        }
+
+        private char peek() {
+            if (position >= text.length()) {
+                throw new IllegalArgumentException("Unexpected end of record");
+            }
+            return text.charAt(position);
+        }
+
+        private char next() {
+            char c = peek();
+            position++;
+            return c;
+        }
+
+        private void expect(char expected) {
+            if (next() != expected) {
+                throw new IllegalArgumentException("Expected '" + expected + "' at " + (position - 1));
+            }
+        }
+
+        private void skipSpace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private String readScalar() {
+            char c = peek();
+            if (c == '"') {
+                return readString();
+            }
+            if (c == '{' || c == '[') {
+                throw new IllegalArgumentException("Nested values are not supported");
+            }
+            int start = position;
+            while (position < text.length() && ",}".indexOf(text.charAt(position)) < 0
+                   && !Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            String literal = text.substring(start, position);
+            if (literal.isEmpty()) {
+                throw new IllegalArgumentException("Missing value at " + start);
+            }
+            return literal.equals("null") ? null : literal;
+        }
+
+        private String readString() {
+            expect('"');
+            int start = position;
+            int end = text.indexOf('"', start);
+            int escape = text.indexOf('\\', start);
+            if (end >= 0 && (escape < 0 || escape > end)) {
+                position = end + 1;
+                return text.substring(start, end);
+            }
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        value.append(escaped);
+                        break;
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'u':
+                        if (position + 4 > text.length()) {
+                            throw new IllegalArgumentException("Truncated unicode escape");
+                        }
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        position += 4;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Invalid escape '\\" + escaped + "'");
+                }
+            }
+        }
+    }
+}
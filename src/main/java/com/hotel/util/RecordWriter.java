@@ -0,0 +1,157 @@
+package com.hotel.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes records as CSV with a header line or as NDJSON objects, the formats
+ * {@link RecordParser} reads back. Null values are written as empty CSV fields
+ * and omitted from JSON objects.
+ * Not thread-safe.
+ */
+public class RecordWriter {
+    private final Writer out;
+    private final RecordParser.Format format;
+    private final String[] columns;
+    private final StringBuilder line;
+    private boolean started;
+
+    public RecordWriter(Writer out, RecordParser.Format format, List<String> columns) {
+        if (out == null || format == null || columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("Writer, format and columns cannot be null or empty");
+        }
+        this.out = out;
+        this.format = format;
+        this.columns = columns.toArray(new String[0]);
+        this.line = new StringBuilder(256);
+    }
+
+    /**
+     * Writes one record.
+     * @param values values in column order, null where absent
+     */
+    public void write(String... values) {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException("Expected " + columns.length + " values");
+        }
+        line.setLength(0);
+        if (format == RecordParser.Format.CSV) {
+            if (!started) {
+                appendCsv(columns);
+                line.append('\n');
+            }
+            appendCsv(values);
+        } else {
+            appendJson(values);
+        }
+        line.append('\n');
+        started = true;
+        try {
+            out.append(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the CSV header even if no record follows.
+     */
+    public void writeHeader() {
+        if (format == RecordParser.Format.CSV && !started) {
+            line.setLength(0);
+            appendCsv(columns);
+            line.append('\n');
+            started = true;
+            try {
+                out.append(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendCsv(String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+                line.append(value);
+            } else {
+                line.append('"');
+                for (int c = 0; c < value.length(); c++) {
+                    char ch = value.charAt(c);
+                    if (ch == '"') {
+                        line.append('"');
+                    }
+                    line.append(ch);
+                }
+                line.append('"');
+            }
+        }
+    }
+
+    private void appendJson(String[] values) {
+        line.append('{');
+        boolean first = true;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            if (!first) {
+                line.append(',');
+            }
+            first = false;
+            appendJsonString(columns[i]);
+            line.append(':');
+            appendJsonString(values[i]);
+        }
+        line.append('}');
+    }
+
+    private void appendJsonString(String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,124 @@
+package com.hotel.util;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded multi-producer ring of preallocated slots, in the style of the LMAX Disruptor.
+ * Producers claim a sequence with compare-and-set, fill the slot in place and publish it;
+ * consumers track their own sequence and register it so producers never overwrite a
+ * slot that has not been read. Claiming fails instead of blocking when the ring is full.
+ * Thread-safe.
+ */
+public class RingBuffer<E> {
+    private final Object[] slots;
+    private final int mask;
+    private final AtomicLong cursor;
+    private final AtomicLongArray published;
+    private final CopyOnWriteArrayList<AtomicLong> gatingSequences;
+
+    /**
+     * Creates a ring whose slots are all allocated up front.
+     * @param capacity number of slots; must be a power of two
+     */
+    public RingBuffer(int capacity, Supplier<E> factory) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        this.slots = new Object[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = factory.get();
+        }
+        this.mask = capacity - 1;
+        this.cursor = new AtomicLong(-1);
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.gatingSequences = new CopyOnWriteArrayList<>();
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Claims the next sequence for writing.
+     * @return the claimed sequence, or -1 if a consumer has not yet freed the slot
+     */
+    public long tryNext() {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            if (next - slots.length > minimumGatingSequence(current)) {
+                return -1;
+            }
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Gets the slot of a sequence to fill before publishing or to read after.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) slots[(int) sequence & mask];
+    }
+
+    /**
+     * Makes a filled slot visible to consumers.
+     */
+    public void publish(long sequence) {
+        published.set((int) sequence & mask, sequence);
+    }
+
+    /**
+     * Gets the highest contiguous published sequence from {@code from} onwards,
+     * or {@code from - 1} if that slot is not published yet.
+     */
+    public long highestPublished(long from) {
+        long claimed = cursor.get();
+        long sequence = from;
+        while (sequence <= claimed && published.get((int) sequence & mask) == sequence) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    /**
+     * Gets the highest sequence claimed so far.
+     */
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    /**
+     * Registers a consumer sequence starting at the current cursor;
+     * producers will not wrap past it.
+     */
+    public AtomicLong addGatingSequence() {
+        AtomicLong sequence = new AtomicLong(cursor.get());
+        gatingSequences.add(sequence);
+        sequence.set(cursor.get());
+        return sequence;
+    }
+
+    public void removeGatingSequence(AtomicLong sequence) {
+        gatingSequences.remove(sequence);
+    }
+
+    private long minimumGatingSequence(long defaultValue) {
+        long minimum = defaultValue;
+        for (AtomicLong sequence : gatingSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+}
@@ -0,0 +1,356 @@
+package com.hotel.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Append-only record log split into segment files named after their first offset.
+ * Every record gets the next offset and is framed as {@code [int length][long offset][payload]},
+ * so a byte range of a segment is itself a valid stream that readers can copy with
+ * {@link FileChannel#transferTo} and decode later. Reopening a directory recovers the
+ * existing segments and drops a torn record at the tail.
+ * Thread-safe.
+ */
+public class SegmentedLog implements AutoCloseable {
+    /** Bytes of framing in front of every payload. */
+    public static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+
+    private static final String SUFFIX = ".log";
+    private static final int MAX_STALLS = 8;
+    private static final long STALL_NANOS = 100_000;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final List<Segment> segments;
+    private final ByteBuffer header;
+    private boolean closed;
+
+    private static final class Segment {
+        private final long baseOffset;
+        private final FileChannel channel;
+        private long[] positions;
+        private int count;
+        private long size;
+
+        private Segment(long baseOffset, FileChannel channel) {
+            this.baseOffset = baseOffset;
+            this.channel = channel;
+            this.positions = new long[64];
+        }
+
+        private void index(long position) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = position;
+        }
+
+        private long nextOffset() {
+            return baseOffset + count;
+        }
+
+        private long positionOf(long offset) {
+            int index = (int) (offset - baseOffset);
+            return index < count ? positions[index] : size;
+        }
+    }
+
+    /**
+     * Opens the log in a directory, creating it if needed.
+     * @param segmentBytes size after which a new segment file is started
+     */
+    public SegmentedLog(Path directory, long segmentBytes) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size is too small");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.segments = new ArrayList<>();
+        this.header = ByteBuffer.allocate(HEADER_BYTES);
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a record.
+     * @return the offset assigned to the record
+     */
+    public synchronized long append(ByteBuffer payload) {
+        requireOpen();
+        try {
+            Segment segment = last();
+            if (segment.size > 0 && segment.size + HEADER_BYTES + payload.remaining() > segmentBytes) {
+                segment = roll(segment.nextOffset());
+            }
+            long offset = segment.nextOffset();
+            header.clear();
+            header.putInt(payload.remaining()).putLong(offset).flip();
+            long position = segment.size;
+            long written = 0;
+            while (header.hasRemaining()) {
+                written += segment.channel.write(header, position + written);
+            }
+            while (payload.hasRemaining()) {
+                written += segment.channel.write(payload, position + written);
+            }
+            segment.index(position);
+            segment.size = position + written;
+            return offset;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the offset the next appended record will receive.
+     */
+    public synchronized long getEndOffset() {
+        return last().nextOffset();
+    }
+
+    /**
+     * Gets the oldest offset still held by the log.
+     */
+    public synchronized long getStartOffset() {
+        return segments.get(0).baseOffset;
+    }
+
+    /**
+     * Reads up to {@code maxRecords} records starting at an offset.
+     * @return the offset after the last record read
+     */
+    public synchronized long read(long fromOffset, int maxRecords, BiConsumer<Long, ByteBuffer> consumer) {
+        requireOpen();
+        requireReadable(fromOffset);
+        long offset = fromOffset;
+        try {
+            for (int read = 0; read < maxRecords && offset < last().nextOffset(); read++) {
+                Segment segment = segmentOf(offset);
+                long position = segment.positionOf(offset);
+                header.clear();
+                readFully(segment.channel, header, position);
+                header.flip();
+                ByteBuffer payload = ByteBuffer.allocate(header.getInt());
+                readFully(segment.channel, payload, position + HEADER_BYTES);
+                payload.flip();
+                consumer.accept(offset, payload);
+                offset++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return offset;
+    }
+
+    /**
+     * Copies whole framed records starting at an offset to a channel without
+     * staging them in the heap. Stops at the end of the segment holding the offset,
+     * or once {@code maxBytes} would be exceeded; at least one record is copied when
+     * one is available. The byte range is chosen under the lock and copied outside it,
+     * which is safe because appended bytes never change.
+     * @return the offset after the last record copied
+     */
+    public long transferTo(long fromOffset, long maxBytes, WritableByteChannel target) {
+        FileChannel channel;
+        long start;
+        long end;
+        long offset;
+        synchronized (this) {
+            requireOpen();
+            requireReadable(fromOffset);
+            if (fromOffset == last().nextOffset()) {
+                return fromOffset;
+            }
+            Segment segment = segmentOf(fromOffset);
+            channel = segment.channel;
+            start = segment.positionOf(fromOffset);
+            end = segment.positionOf(fromOffset + 1);
+            offset = fromOffset + 1;
+            while (offset < segment.nextOffset() && segment.positionOf(offset + 1) - start <= maxBytes) {
+                offset++;
+                end = segment.positionOf(offset);
+            }
+        }
+        try {
+            long position = start;
+            int stalls = 0;
+            while (position < end) {
+                long copied = channel.transferTo(position, end - position, target);
+                if (copied > 0) {
+                    position += copied;
+                    stalls = 0;
+                } else if (++stalls > MAX_STALLS) {
+                    throw new IOException("Target stopped accepting bytes");
+                } else {
+                    LockSupport.parkNanos(STALL_NANOS << stalls);
+                }
+            }
+        } catch (ClosedChannelException e) {
+            throw new IllegalStateException("Log is closed", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return offset;
+    }
+
+    /**
+     * Forces appended records to the storage device.
+     */
+    public synchronized void flush() {
+        requireOpen();
+        try {
+            last().channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            for (Segment segment : segments) {
+                segment.channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits a stream of framed records, as produced by {@link #transferTo}, into payloads.
+     * @return the number of bytes consumed; a trailing partial record is left in the buffer
+     */
+    public static int decode(ByteBuffer frames, BiConsumer<Long, ByteBuffer> consumer) {
+        int consumed = 0;
+        while (frames.remaining() >= HEADER_BYTES) {
+            int length = frames.getInt(frames.position());
+            if (frames.remaining() < HEADER_BYTES + length) {
+                break;
+            }
+            long offset = frames.getLong(frames.position() + Integer.BYTES);
+            ByteBuffer payload = frames.slice();
+            payload.position(HEADER_BYTES).limit(HEADER_BYTES + length);
+            consumer.accept(offset, payload.slice());
+            frames.position(frames.position() + HEADER_BYTES + length);
+            consumed += HEADER_BYTES + length;
+        }
+        return consumed;
+    }
+
+    private void recover() throws IOException {
+        List<Long> baseOffsets = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                baseOffsets.add(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())));
+            }
+        }
+        baseOffsets.sort(null);
+        for (long baseOffset : baseOffsets) {
+            Segment segment = open(baseOffset);
+            scan(segment);
+            segments.add(segment);
+        }
+        if (segments.isEmpty()) {
+            segments.add(open(0));
+        }
+    }
+
+    private void scan(Segment segment) throws IOException {
+        long length = segment.channel.size();
+        long position = 0;
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_BYTES);
+        while (position + HEADER_BYTES <= length) {
+            frame.clear();
+            readFully(segment.channel, frame, position);
+            int payloadLength = frame.getInt(0);
+            long offset = frame.getLong(Integer.BYTES);
+            if (payloadLength < 0 || offset != segment.nextOffset() ||
+                position + HEADER_BYTES + payloadLength > length) {
+                break;
+            }
+            segment.index(position);
+            position += HEADER_BYTES + payloadLength;
+        }
+        segment.size = position;
+        segment.channel.truncate(position);
+    }
+
+    private Segment roll(long baseOffset) throws IOException {
+        last().channel.force(false);
+        Segment segment = open(baseOffset);
+        segments.add(segment);
+        return segment;
+    }
+
+    private Segment open(long baseOffset) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", baseOffset, SUFFIX));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(baseOffset, channel);
+    }
+
+    private Segment last() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private Segment segmentOf(long offset) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments.get(mid).baseOffset <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return segments.get(low);
+    }
+
+    private void requireReadable(long offset) {
+        if (offset < getStartOffset() || offset > last().nextOffset()) {
+            throw new IllegalArgumentException("Offset out of range: " + offset);
+        }
+    }
+
+    private void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("Log is closed");
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of segment");
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.hotel.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Fenwick (binary indexed) tree of long counters that many threads can update.
+ * Point updates and prefix sums both take O(log n). Cells are atomic, and the tree is
+ * kept in several stripes that are summed on read, so concurrent writers mostly touch
+ * different cache lines, as with {@link java.util.concurrent.atomic.LongAdder}.
+ * A sum read during updates sees each update either fully or not at all per cell, but
+ * is not a snapshot across cells.
+ * Thread-safe.
+ */
+public class StripedFenwickTree {
+    private static final int MAX_STRIPES = 8;
+
+    private final int size;
+    private final AtomicLongArray[] stripes;
+    private final int mask;
+
+    /**
+     * Creates a tree with one stripe per processor, up to eight.
+     */
+    public StripedFenwickTree(int size) {
+        this(size, Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates a tree with the given number of stripes, rounded up to a power of two.
+     */
+    public StripedFenwickTree(int size, int stripeCount) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        int count = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.size = size;
+        this.stripes = new AtomicLongArray[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new AtomicLongArray(size + 1);
+        }
+        this.mask = count - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a delta to the counter at an index.
+     */
+    public void add(int index, long delta) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " outside 0.." + (size - 1));
+        }
+        AtomicLongArray tree = stripes[(int) Thread.currentThread().getId() & mask];
+        for (int i = index + 1; i <= size; i += i & -i) {
+            tree.getAndAdd(i, delta);
+        }
+    }
+
+    /**
+     * Sums the counters at indexes {@code [0, end)}.
+     */
+    public long prefixSum(int end) {
+        if (end < 0 || end > size) {
+            throw new IndexOutOfBoundsException("End " + end + " outside 0.." + size);
+        }
+        long sum = 0;
+        for (AtomicLongArray tree : stripes) {
+            for (int i = end; i > 0; i -= i & -i) {
+                sum += tree.get(i);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the counters at indexes {@code [from, to)}.
+     */
+    public long sum(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("Range start is after its end");
+        }
+        return prefixSum(to) - prefixSum(from);
+    }
+
+    /**
+     * Gets the counter at an index.
+     */
+    public long get(int index) {
+        return sum(index, index + 1);
+    }
+}
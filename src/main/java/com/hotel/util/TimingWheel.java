@@ -0,0 +1,192 @@
+package com.hotel.util;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for cheap expiry of large numbers of short-lived entries.
+ * Scheduling and cancelling are O(1); advancing touches only the slots whose time has come,
+ * cascading entries from coarser levels as the finer wheel wraps around.
+ * Not thread-safe: callers confine a wheel to its owner (e.g. a single hotel).
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    private final long tickMillis;
+    private final Slot<T>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    /**
+     * A scheduled entry; keep it to cancel the timeout before it fires.
+     */
+    public static final class Timeout<T> {
+        private final T item;
+        private final long deadlineTick;
+        private Slot<T> slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public boolean isPending() {
+            return slot != null;
+        }
+    }
+
+    private static final class Slot<T> {
+        private Timeout<T> head;
+
+        private void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        private Timeout<T> drain() {
+            Timeout<T> drained = head;
+            head = null;
+            return drained;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = (Slot<T>[][]) new Slot<?>[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new Slot<>();
+            }
+        }
+    }
+
+    /**
+     * Schedules an item to expire at the given time. Deadlines already in the past
+     * fire on the next call to {@link #advance}.
+     */
+    public Timeout<T> schedule(T item, long deadlineMillis) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item cannot be null");
+        }
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(item, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a pending timeout.
+     * @return true if the timeout was still pending
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.slot == null) {
+            return false;
+        }
+        timeout.slot.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the given time, handing every expired item to the callback.
+     * @return the number of items expired
+     */
+    public int advance(long nowMillis, Consumer<? super T> onExpire) {
+        long targetTick = nowMillis / tickMillis;
+        if (size == 0) {
+            currentTick = Math.max(currentTick, targetTick);
+            return 0;
+        }
+        int expired = 0;
+        while (currentTick < targetTick && size > 0) {
+            currentTick++;
+            cascade();
+            Timeout<T> timeout = wheels[0][(int) (currentTick & SLOT_MASK)].drain();
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.slot = null;
+                timeout.prev = null;
+                timeout.next = null;
+                size--;
+                expired++;
+                onExpire.accept(timeout.item);
+                timeout = next;
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expired;
+    }
+
+    /**
+     * Gets the number of pending timeouts.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            int index = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Timeout<T> timeout = wheels[level][index].drain();
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        long tick = timeout.deadlineTick;
+        if (level == LEVELS - 1 && delta >= (1L << (SLOT_BITS * LEVELS))) {
+            tick = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        }
+        int index = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        wheels[level][index].add(timeout);
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
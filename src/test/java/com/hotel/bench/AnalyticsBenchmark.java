@@ -0,0 +1,64 @@
+package com.hotel.bench;
+
+import com.hotel.domain.Guest;
+import com.hotel.domain.Hotel;
+import com.hotel.domain.RevenueAnalytics;
+import com.hotel.domain.RevenueReport;
+import com.hotel.domain.Room;
+import com.hotel.domain.RoomType;
+import com.hotel.util.Address;
+import com.hotel.util.BusinessDate;
+import com.hotel.util.Money;
+import com.hotel.util.MutableClock;
+import com.hotel.util.Name;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the time of a 300-hotel, 3-year occupancy and revenue report.
+ * Run manually: it is not part of the unit test suite.
+ */
+public class AnalyticsBenchmark {
+
+    private static final int HOTELS = 300;
+    private static final int ROOMS = 30;
+    private static final int DAYS = 3 * 365;
+
+    public static void main(String[] args) {
+        LocalDate first = LocalDate.of(2030, 1, 1);
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"), ZoneOffset.UTC);
+        RoomType standard = RoomType.of("Standard", new Money(80.0));
+        RoomType suite = RoomType.of("Suite", new Money(220.0));
+        Guest guest = Guest.create(new Name("Bench Guest"), new Address("1 Main", "Boston", "02101"));
+
+        List<Hotel> hotels = new ArrayList<>(HOTELS);
+        long bookings = 0;
+        for (int h = 0; h < HOTELS; h++) {
+            Hotel hotel = new Hotel(new Name("Hotel " + h), new BusinessDate(clock));
+            for (int number = 1; number <= ROOMS; number++) {
+                hotel.addRoom(new Room(number, number % 5 == 0 ? suite : standard));
+            }
+            for (Room room : hotel.getAllRooms()) {
+                for (int day = room.getNumber() % 4; day + 3 <= DAYS; day += 4) {
+                    hotel.createReservation(guest, room, first.plusDays(day), first.plusDays(day + 3));
+                    bookings++;
+                }
+            }
+            hotels.add(hotel);
+        }
+        System.out.printf("%d hotels, %d reservations%n", HOTELS, bookings);
+
+        RevenueAnalytics analytics = new RevenueAnalytics();
+        for (int round = 1; round <= 5; round++) {
+            long begin = System.nanoTime();
+            RevenueReport report = analytics.analyze(hotels, first, first.plusDays(DAYS));
+            long nanos = System.nanoTime() - begin;
+            System.out.printf("round %d: %.0f ms, occupancy %.3f, RevPAR %s%n", round, nanos / 1e6,
+                report.getChainMetrics().getOccupancy(), report.getChainMetrics().getRevPar().getAmount());
+        }
+    }
+}
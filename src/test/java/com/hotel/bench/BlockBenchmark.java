@@ -0,0 +1,66 @@
+package com.hotel.bench;
+
+import com.hotel.domain.Hotel;
+import com.hotel.domain.Room;
+import com.hotel.domain.RoomBlock;
+import com.hotel.domain.RoomType;
+import com.hotel.util.BusinessDate;
+import com.hotel.util.Money;
+import com.hotel.util.MutableClock;
+import com.hotel.util.Name;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Measures blocking and releasing 500 rooms at a time in a 2,000-room hotel, and the
+ * cost of an availability query while a fifth of the rooms are out of order.
+ * Run manually: it is not part of the unit test suite.
+ */
+public class BlockBenchmark {
+
+    private static final int FLOORS = 20;
+    private static final int ROOMS_PER_FLOOR = 100;
+    private static final int ROUNDS = 200;
+
+    public static void main(String[] args) {
+        LocalDate first = LocalDate.of(2030, 1, 1);
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"), ZoneOffset.UTC);
+        RoomType standard = RoomType.of("Standard", new Money(80.0));
+        Hotel hotel = new Hotel(new Name("Bench Hotel"), new BusinessDate(clock));
+        for (int floor = 1; floor <= FLOORS; floor++) {
+            for (int door = 0; door < ROOMS_PER_FLOOR; door++) {
+                hotel.addRoom(new Room(floor * 100 + door, standard));
+            }
+        }
+
+        for (int round = 1; round <= 3; round++) {
+            long blockNanos = 0;
+            long releaseNanos = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                long begin = System.nanoTime();
+                List<RoomBlock> blocks = hotel.blockRoomRange(100, 599, first.plusDays(10), first.plusDays(40),
+                    "Renovation");
+                blockNanos += System.nanoTime() - begin;
+                begin = System.nanoTime();
+                for (RoomBlock block : blocks) {
+                    hotel.releaseBlock(block);
+                }
+                releaseNanos += System.nanoTime() - begin;
+            }
+            System.out.printf("round %d: block 500 rooms %.2f ms, release %.2f ms%n",
+                round, blockNanos / 1e6 / ROUNDS, releaseNanos / 1e6 / ROUNDS);
+        }
+
+        hotel.blockRoomRange(100, 599, first.plusDays(10), first.plusDays(40), "Renovation");
+        long begin = System.nanoTime();
+        long found = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            found += hotel.getAvailableRooms(standard, first.plusDays(20), first.plusDays(22)).size();
+        }
+        System.out.printf("availability with 500 rooms blocked: %.2f ms per query (%d)%n",
+            (System.nanoTime() - begin) / 1e6 / ROUNDS, found / ROUNDS);
+    }
+}
@@ -0,0 +1,72 @@
+package com.hotel.bench;
+
+import com.hotel.domain.Guest;
+import com.hotel.domain.GuestDeduplicator;
+import com.hotel.util.Address;
+import com.hotel.util.Name;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures a full deduplication batch over generated guests, one in ten a misspelled
+ * repeat of an earlier guest, then the cost of checking new guests one at a time.
+ * Pass the guest count as the first argument (default 1,000,000).
+ * Run manually: it is not part of the unit test suite.
+ */
+public class DedupBenchmark {
+
+    private static final String[] FIRST = {"john", "mary", "james", "linda", "robert", "susan", "michael",
+        "karen", "david", "lisa", "maria", "daniel", "laura", "thomas", "sarah", "paul"};
+    private static final String SYLLABLES = "ba be bi bo da de di do ka ke ki ko la le li lo ma me mi mo na ne "
+        + "ni no ra re ri ro sa se si so ta te ti to va ve vi vo";
+    private static final int INCREMENTAL = 100_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        String[] syllables = SYLLABLES.split(" ");
+        Random random = new Random(42);
+        List<Guest> guests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            guests.add(i % 10 == 9 ? misspell(guests.get(random.nextInt(i)), random) : generate(syllables, random));
+        }
+
+        GuestDeduplicator deduplicator = new GuestDeduplicator();
+        long begin = System.nanoTime();
+        int merged = deduplicator.addAll(guests);
+        System.out.printf("batch: %d guests in %.1f s, %d merged, %d profiles%n",
+            count, (System.nanoTime() - begin) / 1e9, merged, deduplicator.getProfileCount());
+
+        List<Guest> arrivals = new ArrayList<>(INCREMENTAL);
+        for (int i = 0; i < INCREMENTAL; i++) {
+            arrivals.add(i % 2 == 0 ? misspell(guests.get(random.nextInt(count)), random) : generate(syllables, random));
+        }
+        begin = System.nanoTime();
+        long repeats = 0;
+        for (Guest guest : arrivals) {
+            if (deduplicator.add(guest) != guest) {
+                repeats++;
+            }
+        }
+        System.out.printf("incremental: %.1f us per guest, %d of %d matched%n",
+            (System.nanoTime() - begin) / 1e3 / INCREMENTAL, repeats, INCREMENTAL);
+    }
+
+    private static Guest generate(String[] syllables, Random random) {
+        StringBuilder last = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            last.append(syllables[random.nextInt(syllables.length)]);
+        }
+        return Guest.create(new Name(FIRST[random.nextInt(FIRST.length)] + " " + last),
+            new Address(random.nextInt(200) + " Main St", "Boston", String.format("%05d", random.nextInt(30_000))));
+    }
+
+    private static Guest misspell(Guest guest, Random random) {
+        String name = guest.getName().getValue();
+        int space = name.indexOf(' ');
+        int at = space + 2 + random.nextInt(name.length() - space - 3);
+        String typo = name.substring(0, at) + name.charAt(at + 1) + name.charAt(at) + name.substring(at + 2);
+        return Guest.create(new Name(typo), guest.getAddress());
+    }
+}
@@ -0,0 +1,87 @@
+package com.hotel.bench;
+
+import com.hotel.domain.Guest;
+import com.hotel.domain.GuestDirectory;
+import com.hotel.util.Address;
+import com.hotel.util.Name;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures type-ahead latency of the guest directory over generated guests: exact
+ * prefixes of growing length, typo queries and postal-code lookups.
+ * Pass the guest count as the first argument (default 1,000,000; 10M needs about 8 GB heap).
+ * Run manually: it is not part of the unit test suite.
+ */
+public class DirectoryBenchmark {
+
+    private static final String SYLLABLES = "ba be bi bo da de di do ka ke ki ko la le li lo ma me mi mo na ne "
+        + "ni no ra re ri ro sa se si so ta te ti to va ve vi vo";
+    private static final int QUERIES = 20_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        String[] syllables = SYLLABLES.split(" ");
+        Random random = new Random(42);
+        GuestDirectory directory = new GuestDirectory();
+        List<Guest> batch = new ArrayList<>(100_000);
+        List<String> surnames = new ArrayList<>();
+        long begin = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            String first = word(syllables, random, 2);
+            String last = word(syllables, random, 3);
+            if (surnames.size() < QUERIES) {
+                surnames.add(last);
+            }
+            batch.add(Guest.create(new Name(first + " " + last),
+                new Address(i + " Main", "City" + (i % 500), String.format("%05d", i % 90_000))));
+            if (batch.size() == 100_000) {
+                directory.addAll(batch);
+                batch.clear();
+            }
+        }
+        directory.addAll(batch);
+        System.out.printf("indexed %d guests in %.1f s%n", directory.size(), (System.nanoTime() - begin) / 1e9);
+
+        for (int round = 1; round <= 3; round++) {
+            for (int length = 2; length <= 6; length += 2) {
+                begin = System.nanoTime();
+                long found = 0;
+                for (String surname : surnames) {
+                    found += directory.search(surname.substring(0, length), 10).size();
+                }
+                System.out.printf("round %d, %d letters: %.1f us per query (%d)%n",
+                    round, length, (System.nanoTime() - begin) / 1e3 / surnames.size(), found);
+            }
+            begin = System.nanoTime();
+            long found = 0;
+            for (String surname : surnames) {
+                found += directory.search(typo(surname, random), 10).size();
+            }
+            System.out.printf("round %d, typo: %.1f us per query (%d)%n",
+                round, (System.nanoTime() - begin) / 1e3 / surnames.size(), found);
+            begin = System.nanoTime();
+            found = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                found += directory.findByPostalCode(String.format("%05d", i), 10).size();
+            }
+            System.out.printf("round %d, postal code: %.1f us per query (%d)%n",
+                round, (System.nanoTime() - begin) / 1e3 / QUERIES, found);
+        }
+    }
+
+    private static String word(String[] syllables, Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append(syllables[random.nextInt(syllables.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String typo(String word, Random random) {
+        int at = 1 + random.nextInt(word.length() - 2);
+        return word.substring(0, at) + word.charAt(at + 1) + word.charAt(at) + word.substring(at + 2);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hotel.bench;
+
+import com.hotel.domain.DemandForecaster;
+import com.hotel.domain.Guest;
+import com.hotel.domain.Hotel;
+import com.hotel.domain.OccupancyForecast;
+import com.hotel.domain.PickupCurves;
+import com.hotel.domain.Room;
+import com.hotel.domain.RoomType;
+import com.hotel.util.Address;
+import com.hotel.util.BusinessDate;
+import com.hotel.util.Money;
+import com.hotel.util.MutableClock;
+import com.hotel.util.Name;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures building pickup curves over a 300-hotel, 3-year window two years into
+ * its bookings, then refreshing them after each simulated business day once the
+ * history has been archived.
+ * Run manually: it is not part of the unit test suite.
+ */
+public class ForecastBenchmark {
+
+    private static final int HOTELS = 300;
+    private static final int ROOMS = 30;
+    private static final int DAYS = 3 * 365;
+    private static final int HISTORY_DAYS = 2 * 365;
+
+    public static void main(String[] args) {
+        LocalDate first = LocalDate.of(2030, 1, 1);
+        MutableClock clock = new MutableClock(Instant.parse("2029-06-01T00:00:00Z"), ZoneOffset.UTC);
+        RoomType standard = RoomType.of("Standard", new Money(80.0));
+        RoomType suite = RoomType.of("Suite", new Money(220.0));
+        Guest guest = Guest.create(new Name("Bench Guest"), new Address("1 Main", "Boston", "02101"));
+
+        List<Hotel> hotels = new ArrayList<>(HOTELS);
+        long bookings = 0;
+        for (int h = 0; h < HOTELS; h++) {
+            hotels.add(new Hotel(new Name("Hotel " + h), new BusinessDate(clock)));
+            for (int number = 1; number <= ROOMS; number++) {
+                hotels.get(h).addRoom(new Room(number, number % 5 == 0 ? suite : standard));
+            }
+        }
+        for (int week = 0; week * 7 < HISTORY_DAYS + 214; week++) {
+            for (Hotel hotel : hotels) {
+                for (Room room : hotel.getAllRooms()) {
+                    int day = week * 7 - 214 + room.getNumber() % 6 * 5;
+                    if (day >= 0 && day + 3 <= DAYS) {
+                        hotel.createReservation(guest, room, first.plusDays(day), first.plusDays(day + 3));
+                        bookings++;
+                    }
+                }
+            }
+            clock.advance(Duration.ofDays(7));
+        }
+        for (Hotel hotel : hotels) {
+            hotel.runNightAudit();
+        }
+        System.out.printf("%d hotels, %d reservations%n", HOTELS, bookings);
+
+        DemandForecaster forecaster = new DemandForecaster(first, first.plusDays(DAYS));
+        long begin = System.nanoTime();
+        PickupCurves curves = forecaster.refresh(hotels);
+        System.out.printf("first build: %.0f ms%n", (System.nanoTime() - begin) / 1e6);
+        for (int round = 1; round <= 5; round++) {
+            clock.advance(Duration.ofDays(1));
+            begin = System.nanoTime();
+            curves = forecaster.refresh(hotels);
+            long nanos = System.nanoTime() - begin;
+            LocalDate night = clock.instant().atZone(ZoneOffset.UTC).toLocalDate().plusDays(10);
+            OccupancyForecast forecast = curves.forecast("Hotel 0", night, PickupCurves.Model.ADDITIVE);
+            System.out.printf("refresh %d: %.0f ms, forecast %s%n", round, nanos / 1e6, forecast);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.hotel.bench;
+
+import com.hotel.util.TimingWheel;
+
+/**
+ * Measures bulk scheduling and expiry of short-lived holds on a timing wheel.
+ * Run manually: it is not part of the unit test suite.
+ */
+public class HoldExpiryBenchmark {
+
+    private static final int HOLDS = 2_000_000;
+    private static final long TTL_MILLIS = 600_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        for (int round = 1; round <= ROUNDS; round++) {
+            TimingWheel<Integer> wheel = new TimingWheel<>(100, 0);
+            long[] expired = new long[1];
+
+            long start = System.nanoTime();
+            for (int i = 0; i < HOLDS; i++) {
+                // Spread bookings over one minute of arrivals, each held for ten minutes
+                wheel.schedule(i, (i % 60_000) + TTL_MILLIS);
+            }
+            long scheduled = System.nanoTime();
+            wheel.advance(TTL_MILLIS + 60_000, item -> expired[0]++);
+            long end = System.nanoTime();
+
+            System.out.printf("round %d: schedule %d holds in %d ms, expire %d in %d ms%n",
+                round, HOLDS, (scheduled - start) / 1_000_000, expired[0], (end - scheduled) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.hotel.bench;
+
+import com.hotel.domain.HotelChain;
+import com.hotel.domain.ImportReport;
+import com.hotel.domain.ReservationImporter;
+import com.hotel.util.RecordParser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Measures rows per second and heap use of a bulk reservation import.
+ * Pass the number of reservations as the first argument (default 1,000,000).
+ * Run manually: it is not part of the unit test suite.
+ */
+public class ImportBenchmark {
+
+    private static final int HOTELS = 100;
+    private static final int ROOMS = 50;
+    private static final int GUESTS = 100_000;
+
+    public static void main(String[] args) throws IOException {
+        int reservations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path directory = Files.createTempDirectory("import-bench");
+        Path hotels = directory.resolve("hotels.csv");
+        Path rooms = directory.resolve("rooms.csv");
+        Path guests = directory.resolve("guests.csv");
+        Path bookings = directory.resolve("reservations.csv");
+
+        try (BufferedWriter out = Files.newBufferedWriter(hotels)) {
+            out.write("name\n");
+            for (int h = 0; h < HOTELS; h++) {
+                out.write("Hotel " + h + "\n");
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(rooms)) {
+            out.write("hotel,number,type,rate\n");
+            for (int h = 0; h < HOTELS; h++) {
+                for (int r = 1; r <= ROOMS; r++) {
+                    out.write("Hotel " + h + "," + r + ",Standard,80.0\n");
+                }
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(guests)) {
+            out.write("id,name,street,city,postalCode\n");
+            for (int g = 0; g < GUESTS; g++) {
+                out.write("G" + g + ",Guest " + g + "," + g + " Main St,Boston,02101\n");
+            }
+        }
+        long epoch = LocalDate.now().minusYears(20).toEpochDay();
+        try (BufferedWriter out = Files.newBufferedWriter(bookings)) {
+            out.write("id,hotel,guestId,room,reservationDate,startDate,endDate,status\n");
+            for (int i = 0; i < reservations; i++) {
+                int slot = i / (HOTELS * ROOMS);
+                LocalDate start = LocalDate.ofEpochDay(epoch + slot);
+                out.write("R" + i + ",Hotel " + (i % HOTELS) + ",G" + (i % GUESTS) + "," + (i / HOTELS % ROOMS + 1)
+                    + "," + start.minusDays(7) + "," + start + "," + start.plusDays(1) + ",CHECKED_OUT\n");
+            }
+        }
+
+        HotelChain chain = new HotelChain("Bench");
+        ReservationImporter importer = new ReservationImporter(chain);
+        importer.importHotels(hotels, RecordParser.Format.CSV);
+        importer.importRooms(rooms, RecordParser.Format.CSV);
+        importer.importGuests(guests, RecordParser.Format.CSV);
+
+        Runtime runtime = Runtime.getRuntime();
+        long begin = System.nanoTime();
+        ImportReport report = importer.importReservations(bookings, RecordParser.Format.CSV);
+        long nanos = System.nanoTime() - begin;
+        System.gc();
+        System.out.printf("%s in %.2f s: %.0f rows/s, heap used %d MB%n", report, nanos / 1e9,
+            report.getRowsRead() / (nanos / 1e9), (runtime.totalMemory() - runtime.freeMemory()) >> 20);
+
+        for (Path file : new Path[] {hotels, rooms, guests, bookings}) {
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,62 @@
+package com.hotel.bench;
+
+import com.hotel.domain.Hotel;
+import com.hotel.domain.Room;
+import com.hotel.domain.RoomType;
+import com.hotel.util.Identity;
+import com.hotel.util.Money;
+import com.hotel.util.Name;
+import com.hotel.util.ObjectHashMap;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures time and heap allocation per lookup on the hot domain maps.
+ * Run manually: it is not part of the unit test suite.
+ */
+public class MapLookupBenchmark {
+
+    private static final int ROOMS = 1_000;
+    private static final int IDS = 100_000;
+    private static final int LOOKUPS = 10_000_000;
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        Hotel hotel = new Hotel(new Name("Benchmark Hotel"));
+        RoomType standard = RoomType.of("Standard", new Money(80.0));
+        for (int number = 1; number <= ROOMS; number++) {
+            hotel.addRoom(new Room(number, standard));
+        }
+        ObjectHashMap<Identity, Identity> ids = new ObjectHashMap<>();
+        Identity[] keys = new Identity[IDS];
+        for (int i = 0; i < IDS; i++) {
+            keys[i] = new Identity();
+            ids.put(keys[i], keys[i]);
+        }
+
+        for (int round = 1; round <= 5; round++) {
+            long checksum = 0;
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                checksum += hotel.getRoom(1 + i % ROOMS).getNumber();
+            }
+            long roomNanos = System.nanoTime() - start;
+            long roomBytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+
+            bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                checksum += ids.get(keys[i % IDS]).hashCode();
+            }
+            long idNanos = System.nanoTime() - start;
+            long idBytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+
+            System.out.printf("round %d: room %.1f ns/op %.3f B/op, id %.1f ns/op %.3f B/op (checksum %d)%n",
+                round, (double) roomNanos / LOOKUPS, (double) roomBytes / LOOKUPS,
+                (double) idNanos / LOOKUPS, (double) idBytes / LOOKUPS, checksum);
+        }
+    }
+}
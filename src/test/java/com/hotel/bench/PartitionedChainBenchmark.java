@@ -0,0 +1,57 @@
+package com.hotel.bench;
+
+import com.hotel.domain.Hotel;
+import com.hotel.domain.PartitionedHotelChain;
+import com.hotel.domain.Room;
+import com.hotel.domain.RoomType;
+import com.hotel.util.Money;
+import com.hotel.util.Name;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Measures availability lookups per second as the number of partitions grows.
+ * Run manually: it is not part of the unit test suite.
+ */
+public class PartitionedChainBenchmark {
+
+    private static final int HOTELS = 64;
+    private static final int ROOMS = 200;
+    private static final int OPERATIONS = 200_000;
+
+    public static void main(String[] args) {
+        RoomType standard = RoomType.of("Standard", new Money(80.0));
+        LocalDate start = LocalDate.now().plusDays(1);
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int partitions = 1; partitions <= cores; partitions *= 2) {
+            try (PartitionedHotelChain chain = new PartitionedHotelChain("Bench", partitions)) {
+                for (int h = 0; h < HOTELS; h++) {
+                    Hotel hotel = new Hotel(new Name("Hotel " + h));
+                    for (int number = 1; number <= ROOMS; number++) {
+                        hotel.addRoom(new Room(number, standard));
+                    }
+                    chain.addHotel(hotel).join();
+                }
+                for (int round = 1; round <= 3; round++) {
+                    List<CompletableFuture<Integer>> pending = new ArrayList<>(OPERATIONS);
+                    long begin = System.nanoTime();
+                    for (int i = 0; i < OPERATIONS; i++) {
+                        LocalDate from = start.plusDays(i % 30);
+                        pending.add(chain.execute("Hotel " + (i % HOTELS), hotel ->
+                            hotel.getAvailableRooms(standard, from, from.plusDays(2)).size()));
+                    }
+                    long checksum = 0;
+                    for (CompletableFuture<Integer> future : pending) {
+                        checksum += future.join();
+                    }
+                    double seconds = (System.nanoTime() - begin) / 1e9;
+                    System.out.printf("partitions %d round %d: %.0f ops/s (checksum %d)%n",
+                        partitions, round, OPERATIONS / seconds, checksum);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.hotel.bench;
+
+import com.hotel.domain.Guest;
+import com.hotel.domain.Hotel;
+import com.hotel.domain.OccupancyPriceCurve;
+import com.hotel.domain.Room;
+import com.hotel.domain.RoomType;
+import com.hotel.domain.YieldManager;
+import com.hotel.util.Address;
+import com.hotel.util.BusinessDate;
+import com.hotel.util.Money;
+import com.hotel.util.MutableClock;
+import com.hotel.util.Name;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Measures quote throughput on a 300-room hotel while its one-year price table is
+ * recomputed in the background every 50 ms, and the cost of one recomputation.
+ * Run manually: it is not part of the unit test suite.
+ */
+public class QuoteBenchmark {
+
+    private static final int ROOMS = 300;
+    private static final int HORIZON = 365;
+    private static final int QUOTES = 5_000_000;
+
+    public static void main(String[] args) {
+        LocalDate first = LocalDate.of(2030, 1, 1);
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"), ZoneOffset.UTC);
+        RoomType standard = RoomType.of("Standard", new Money(80.0));
+        RoomType suite = RoomType.of("Suite", new Money(220.0));
+        Guest guest = Guest.create(new Name("Bench Guest"), new Address("1 Main", "Boston", "02101"));
+        Hotel hotel = new Hotel(new Name("Bench Hotel"), new BusinessDate(clock));
+        for (int number = 1; number <= ROOMS; number++) {
+            hotel.addRoom(new Room(number, number % 5 == 0 ? suite : standard));
+        }
+        for (Room room : hotel.getAllRooms()) {
+            for (int day = room.getNumber() % 7; day + 3 <= HORIZON; day += 5 + room.getNumber() % 3) {
+                hotel.createReservation(guest, room, first.plusDays(day), first.plusDays(day + 3));
+            }
+        }
+
+        YieldManager yield = new YieldManager(hotel,
+            new OccupancyPriceCurve(new double[] {0.5, 0.7, 0.9}, new double[] {1.1, 1.25, 1.5}, 1.3), HORIZON);
+        long begin = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            yield.recompute();
+        }
+        System.out.printf("recompute: %.1f ms%n", (System.nanoTime() - begin) / 1e6 / 10);
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        yield.schedule(scheduler, Duration.ofMillis(50));
+        for (int round = 1; round <= 3; round++) {
+            begin = System.nanoTime();
+            long checksum = 0;
+            for (int i = 0; i < QUOTES; i++) {
+                checksum += yield.quote(i % 5 == 0 ? suite : standard, first.plusDays(i % HORIZON)).getAmount().scale();
+            }
+            double nanos = (double) (System.nanoTime() - begin) / QUOTES;
+            System.out.printf("round %d: %.0f ns per quote (%d)%n", round, nanos, checksum);
+        }
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,72 @@
+package com.hotel.bench;
+
+import com.hotel.domain.Guest;
+import com.hotel.domain.Hotel;
+import com.hotel.domain.OccupancyRollup;
+import com.hotel.domain.RevenueAnalytics;
+import com.hotel.domain.RevenueMetrics;
+import com.hotel.domain.Room;
+import com.hotel.domain.RoomType;
+import com.hotel.util.Address;
+import com.hotel.util.BusinessDate;
+import com.hotel.util.Money;
+import com.hotel.util.MutableClock;
+import com.hotel.util.Name;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Compares polling a hotel's occupancy rollup against recomputing the same
+ * 90-night window with the analytics scan, and measures booking cost with the rollup.
+ * Run manually: it is not part of the unit test suite.
+ */
+public class RollupBenchmark {
+
+    private static final int ROOMS = 300;
+    private static final int DAYS = 3 * 365;
+    private static final int POLLS = 100_000;
+
+    public static void main(String[] args) {
+        LocalDate first = LocalDate.of(2030, 1, 1);
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"), ZoneOffset.UTC);
+        RoomType standard = RoomType.of("Standard", new Money(80.0));
+        RoomType suite = RoomType.of("Suite", new Money(220.0));
+        Guest guest = Guest.create(new Name("Bench Guest"), new Address("1 Main", "Boston", "02101"));
+
+        Hotel hotel = new Hotel(new Name("Bench Hotel"), new BusinessDate(clock));
+        for (int number = 1; number <= ROOMS; number++) {
+            hotel.addRoom(new Room(number, number % 5 == 0 ? suite : standard));
+        }
+        long bookings = 0;
+        long begin = System.nanoTime();
+        for (Room room : hotel.getAllRooms()) {
+            for (int day = room.getNumber() % 4; day + 3 <= DAYS; day += 4) {
+                hotel.createReservation(guest, room, first.plusDays(day), first.plusDays(day + 3));
+                bookings++;
+            }
+        }
+        System.out.printf("%d reservations booked in %.0f ms%n", bookings, (System.nanoTime() - begin) / 1e6);
+
+        LocalDate from = first.plusDays(400);
+        LocalDate to = from.plusDays(90);
+        OccupancyRollup rollup = hotel.getRollup();
+        for (int round = 1; round <= 3; round++) {
+            begin = System.nanoTime();
+            RevenueMetrics polled = null;
+            for (int i = 0; i < POLLS; i++) {
+                polled = rollup.getMetrics(from, to);
+            }
+            double rollupMicros = (System.nanoTime() - begin) / 1e3 / POLLS;
+
+            begin = System.nanoTime();
+            RevenueMetrics scanned = new RevenueAnalytics().analyze(List.of(hotel), from, to)
+                .getHotelMetrics("Bench Hotel");
+            double scanMicros = (System.nanoTime() - begin) / 1e3;
+            System.out.printf("round %d: rollup %.2f us, scan %.0f us, occupancy %.3f / %.3f%n", round,
+                rollupMicros, scanMicros, polled.getOccupancy(), scanned.getOccupancy());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.hotel.bench;
+
+import com.hotel.domain.HotelChain;
+import com.hotel.domain.RoutedHotelChain;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the time and allocation of routing a hotel name to its node.
+ * Run manually: it is not part of the unit test suite.
+ */
+public class RoutingBenchmark {
+
+    private static final int NODES = 16;
+    private static final int HOTELS = 10_000;
+    private static final int LOOKUPS = 10_000_000;
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        RoutedHotelChain router = new RoutedHotelChain("Bench");
+        for (int i = 0; i < NODES; i++) {
+            router.addNode("node-" + i, new HotelChain("node-" + i));
+        }
+        String[] names = new String[HOTELS];
+        for (int i = 0; i < HOTELS; i++) {
+            names[i] = "Hotel " + i;
+        }
+
+        for (int round = 1; round <= 5; round++) {
+            long checksum = 0;
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                checksum += router.nodeFor(names[i % HOTELS]).hashCode();
+            }
+            long nanos = System.nanoTime() - start;
+            long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+            System.out.printf("round %d: %.1f ns/route %.3f B/route (checksum %d)%n",
+                round, (double) nanos / LOOKUPS, (double) bytes / LOOKUPS, checksum);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for pickup curves and occupancy forecasts.
+ */
+public class DemandForecasterTest {
+
+    private static final LocalDate DAY0 = LocalDate.of(2030, 1, 1);
+    private static final LocalDate FIRST_NIGHT = DAY0.plusDays(7);
+    private static final LocalDate TARGET_NIGHT = DAY0.plusDays(21);
+
+    private ForkJoinPool pool;
+    private MutableClock clock;
+    private Hotel hotel;
+    private RoomType deluxe;
+    private Guest guest;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Harbor Inn"), new BusinessDate(clock));
+        deluxe = new RoomType("Deluxe", new Money(100.0));
+        for (int number = 101; number <= 110; number++) {
+            hotel.addRoom(new Room(number, deluxe));
+        }
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private void book(LocalDate night, int count) {
+        for (int i = 0; i < count; i++) {
+            hotel.createReservation(guest, deluxe, night, night.plusDays(1));
+        }
+    }
+
+    /**
+     * The first night sells 1 room a week out and 3 on the day; the target night,
+     * two weeks later, has 2 rooms three weeks out and 1 more a week out.
+     */
+    private void bookHistory() {
+        book(FIRST_NIGHT, 1);
+        book(TARGET_NIGHT, 2);
+        clock.advance(Duration.ofDays(7));
+        book(FIRST_NIGHT, 3);
+        clock.advance(Duration.ofDays(7));
+        book(TARGET_NIGHT, 1);
+    }
+
+    private DemandForecaster forecaster(List<Integer> leadDays) {
+        return new DemandForecaster(FIRST_NIGHT, DAY0.plusDays(28), leadDays, pool);
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testRefresh_BuildsPickupCurve() {
+        // Arrange
+        bookHistory();
+
+        // Act
+        PickupCurves curves = forecaster(DemandForecaster.DEFAULT_LEAD_DAYS).refresh(List.of(hotel));
+
+        // Assert
+        int[] curve = curves.getCurve("Harbor Inn", deluxe, FIRST_NIGHT);
+        assertEquals(4, curve[0]);
+        assertEquals(1, curve[1]);
+        assertEquals(1, curve[4]);
+        assertEquals(0, curve[5]);
+        assertEquals(1, curves.getOnTheBooks("Harbor Inn", deluxe, FIRST_NIGHT, 7));
+        assertEquals(2, curves.getOnTheBooks("Harbor Inn", deluxe, TARGET_NIGHT, 21));
+        assertEquals(DAY0.plusDays(14), curves.getAsOf("Harbor Inn"));
+    }
+
+    @Test
+    public void testForecast_AdditiveAndMultiplicative() {
+        // Arrange
+        bookHistory();
+        PickupCurves curves = forecaster(DemandForecaster.DEFAULT_LEAD_DAYS).refresh(List.of(hotel));
+
+        // Act
+        OccupancyForecast additive = curves.forecast("Harbor Inn", deluxe, TARGET_NIGHT, PickupCurves.Model.ADDITIVE);
+        OccupancyForecast multiplicative = curves.forecast("Harbor Inn", TARGET_NIGHT,
+            PickupCurves.Model.MULTIPLICATIVE);
+
+        // Assert
+        assertEquals(7, additive.getLeadDays());
+        assertEquals(3, additive.getOnTheBooks());
+        assertEquals(6.0, additive.getForecastRoomNights(), 1e-9);
+        assertEquals(0.6, additive.getOccupancy(), 1e-9);
+        assertEquals(12.0, multiplicative.getForecastRoomNights(), 1e-9);
+        assertEquals(10, multiplicative.getRooms());
+    }
+
+    @Test
+    public void testForecast_InterpolatesBetweenLeadPoints() {
+        // Arrange
+        bookHistory();
+        PickupCurves curves = forecaster(List.of(0, 4, 10)).refresh(List.of(hotel));
+
+        // Act
+        OccupancyForecast forecast = curves.forecast("Harbor Inn", deluxe, TARGET_NIGHT, PickupCurves.Model.ADDITIVE);
+
+        // Assert
+        assertEquals(3.5, forecast.getExpectedPickup(), 1e-9);
+    }
+
+    @Test
+    public void testRefresh_IncrementalMatchesFullRebuild() {
+        // Arrange
+        DemandForecaster incremental = forecaster(DemandForecaster.DEFAULT_LEAD_DAYS);
+        incremental.refresh(List.of(hotel));
+        book(FIRST_NIGHT, 1);
+        Reservation cancelled = hotel.createReservation(guest, deluxe, TARGET_NIGHT, TARGET_NIGHT.plusDays(2));
+        incremental.refresh(List.of(hotel));
+        clock.advance(Duration.ofDays(9));
+        hotel.cancelReservation(cancelled);
+        book(TARGET_NIGHT, 2);
+        hotel.runNightAudit();
+        incremental.refresh(List.of(hotel));
+        book(DAY0.plusDays(25), 1);
+
+        // Act
+        PickupCurves updated = incremental.refresh(List.of(hotel));
+        PickupCurves rebuilt = forecaster(DemandForecaster.DEFAULT_LEAD_DAYS).refresh(List.of(hotel));
+
+        // Assert
+        assertTrue(hotel.getReservationHistory().size() >= 2);
+        for (LocalDate night = FIRST_NIGHT; night.isBefore(DAY0.plusDays(28)); night = night.plusDays(1)) {
+            assertArrayEquals(rebuilt.getCurve("Harbor Inn", deluxe, night),
+                updated.getCurve("Harbor Inn", deluxe, night));
+        }
+        assertEquals(1, updated.getCurve("Harbor Inn", deluxe, FIRST_NIGHT)[0]);
+        assertEquals(2, updated.getCurve("Harbor Inn", deluxe, TARGET_NIGHT)[0]);
+        assertEquals(0, updated.getCurve("Harbor Inn", deluxe, TARGET_NIGHT.plusDays(1))[0]);
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testForecast_WithoutHistoryKeepsOnTheBooks() {
+        // Arrange
+        book(FIRST_NIGHT, 2);
+        PickupCurves curves = forecaster(DemandForecaster.DEFAULT_LEAD_DAYS).refresh(List.of(hotel));
+
+        // Act
+        OccupancyForecast forecast = curves.forecast("Harbor Inn", FIRST_NIGHT, PickupCurves.Model.MULTIPLICATIVE);
+
+        // Assert
+        assertEquals(2.0, forecast.getForecastRoomNights(), 1e-9);
+        assertEquals(0.0, forecast.getExpectedPickup(), 1e-9);
+    }
+
+    @Test
+    public void testRefresh_StaysOutsideWindowIgnored() {
+        // Arrange
+        book(DAY0.plusDays(2), 1);
+        book(DAY0.plusDays(40), 1);
+
+        // Act
+        PickupCurves curves = forecaster(DemandForecaster.DEFAULT_LEAD_DAYS).refresh(List.of(hotel));
+
+        // Assert
+        for (LocalDate night = FIRST_NIGHT; night.isBefore(curves.getTo()); night = night.plusDays(1)) {
+            assertEquals(0, curves.getCurve("Harbor Inn", deluxe, night)[0]);
+        }
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testConstructor_InvalidLeadPoints() {
+        assertThrows(IllegalArgumentException.class, () -> forecaster(List.of(1, 7)));
+        assertThrows(IllegalArgumentException.class, () -> forecaster(List.of(0, 7, 7)));
+        assertThrows(IllegalArgumentException.class, () -> new DemandForecaster(DAY0, DAY0));
+    }
+
+    @Test
+    public void testForecast_InvalidQueries() {
+        // Arrange
+        bookHistory();
+        PickupCurves curves = forecaster(DemandForecaster.DEFAULT_LEAD_DAYS).refresh(List.of(hotel));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> curves.forecast("Harbor Inn", FIRST_NIGHT, PickupCurves.Model.ADDITIVE));
+        assertThrows(IllegalArgumentException.class,
+            () -> curves.forecast("Unknown", TARGET_NIGHT, PickupCurves.Model.ADDITIVE));
+        assertThrows(IllegalArgumentException.class,
+            () -> curves.getOnTheBooks("Harbor Inn", deluxe, TARGET_NIGHT, 5));
+        assertThrows(IllegalArgumentException.class,
+            () -> curves.getCurve("Harbor Inn", deluxe, DAY0));
+    }
+}
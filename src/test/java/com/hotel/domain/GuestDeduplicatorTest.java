@@ -0,0 +1,188 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for guest deduplication.
+ */
+public class GuestDeduplicatorTest {
+
+    private GuestDeduplicator deduplicator;
+    private Guest johnDoe;
+
+    @BeforeEach
+    public void setUp() {
+        deduplicator = new GuestDeduplicator();
+        johnDoe = guest("John Doe", "123 Main St", "02101");
+    }
+
+    private static Guest guest(String name, String street, String postalCode) {
+        return Guest.create(new Name(name), new Address(street, "Boston", postalCode));
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testAddAll_MergesSpellingVariants() {
+        // Arrange
+        Guest typo = guest("Jhon Doe", "123 Main Street", "02101");
+        Guest initial = guest("J. Doe", "123 Main St", "02 101");
+        Guest accented = guest("JOHN DOÉ", "123 Main St", "02101");
+
+        // Act
+        int merged = deduplicator.addAll(List.of(johnDoe, typo, initial, accented));
+
+        // Assert
+        assertEquals(3, merged);
+        assertEquals(1, deduplicator.getProfileCount());
+        assertEquals(List.of(johnDoe, typo, initial, accented), deduplicator.getProfile(accented));
+        assertSame(johnDoe, deduplicator.getCanonical(initial));
+    }
+
+    @Test
+    public void testAddAll_KeepsDifferentPeopleApart() {
+        // Arrange
+        List<Guest> guests = List.of(johnDoe,
+            guest("John Doe", "123 Main St", "60601"),
+            guest("John Doe", "7 Main St", "02101"),
+            guest("Jane Doe", "123 Main St", "02101"),
+            guest("John Dow", "123 Main St", "02101"));
+
+        // Act
+        int merged = deduplicator.addAll(guests);
+
+        // Assert
+        assertEquals(0, merged);
+        assertEquals(5, deduplicator.getProfileCount());
+        assertEquals(List.of(johnDoe), deduplicator.getProfile(johnDoe));
+    }
+
+    @Test
+    public void testAdd_IncrementalMatchesKnownProfile() {
+        // Arrange
+        deduplicator.addAll(List.of(johnDoe, guest("Mary Johnson", "7 Oak", "60601")));
+        Guest repeat = guest("Doe John", "123 Main St", "02101");
+
+        // Act
+        Guest canonical = deduplicator.add(repeat);
+
+        // Assert
+        assertSame(johnDoe, canonical);
+        assertEquals(3, deduplicator.size());
+        assertEquals(2, deduplicator.getProfileCount());
+    }
+
+    @Test
+    public void testAdd_GuestLinkingTwoProfilesFoldsThemIntoTheOlder() {
+        // Arrange
+        Guest first = guest("Jonathan Smith", "1 Main St", "02101");
+        Guest third = guest("Jonathan Smith", "2 Main St", "02101");
+        Guest second = guest("Jonathan Smith", "Main St", "02101");
+        deduplicator.add(first);
+        deduplicator.add(third);
+        assertEquals(2, deduplicator.getProfileCount());
+
+        // Act
+        Guest canonical = deduplicator.add(second);
+
+        // Assert
+        assertSame(first, canonical);
+        assertEquals(1, deduplicator.getProfileCount());
+        assertEquals(List.of(first, third, second), deduplicator.getProfile(third));
+    }
+
+    @Test
+    public void testGetStayHistory_CoversEveryDuplicate() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        HotelChain chain = new HotelChain("Chain", clock);
+        Hotel hotel = new Hotel(new Name("Harbor Inn"), new BusinessDate(clock));
+        hotel.addRoom(new Room(101, new RoomType("Deluxe", new Money(100.0))));
+        chain.addHotel(hotel);
+        Guest repeat = guest("Jhon Doe", "123 Main St", "02101");
+        Reservation first = hotel.createReservation(johnDoe, hotel.getRoom(101),
+            LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 3));
+        Reservation second = hotel.createReservation(repeat, hotel.getRoom(101),
+            LocalDate.of(2030, 1, 5), LocalDate.of(2030, 1, 6));
+
+        // Act
+        int merged = deduplicator.addAll(chain);
+        List<Reservation> history = deduplicator.getStayHistory(chain, repeat);
+
+        // Assert
+        assertEquals(1, merged);
+        assertEquals(2, history.size());
+        assertTrue(history.containsAll(List.of(first, second)));
+    }
+
+    @Test
+    public void testAddAll_LargeBatchOnPool() {
+        // Arrange
+        ForkJoinPool pool = new ForkJoinPool(4);
+        GuestDeduplicator parallel = new GuestDeduplicator(pool);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            guests.add(guest("Guest" + i + " Family" + (i % 50), i + " Main St", String.valueOf(10_000 + i % 100)));
+        }
+        for (int i = 0; i < 500; i++) {
+            guests.add(guest("Gueest" + i + " Family" + (i % 50), i + " Main St", String.valueOf(10_000 + i % 100)));
+        }
+
+        // Act
+        int merged = parallel.addAll(guests);
+        pool.shutdown();
+
+        // Assert
+        assertEquals(500, merged);
+        assertEquals(5_000, parallel.getProfileCount());
+        assertSame(guests.get(7), parallel.getCanonical(guests.get(5_007)));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testAdd_KnownGuestAndInitialsOnly() {
+        // Arrange
+        Guest initials = guest("J D", "123 Main St", "02101");
+        deduplicator.add(johnDoe);
+
+        // Act
+        int merged = deduplicator.addAll(List.of(johnDoe, initials, initials));
+
+        // Assert
+        assertEquals(0, merged);
+        assertEquals(2, deduplicator.size());
+        assertNull(deduplicator.getCanonical(guest("John Doe", "123 Main St", "02101")));
+    }
+
+    @Test
+    public void testWithinEdits() {
+        assertTrue(GuestDeduplicator.withinEdits("john", "jhon", 1));
+        assertTrue(GuestDeduplicator.withinEdits("smith", "smyth", 1));
+        assertTrue(GuestDeduplicator.withinEdits("smith", "smiths", 1));
+        assertFalse(GuestDeduplicator.withinEdits("smith", "smithers", 2));
+        assertFalse(GuestDeduplicator.withinEdits("doe", "dow", 0));
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GuestDeduplicator(null));
+        assertThrows(IllegalArgumentException.class, () -> deduplicator.add(null));
+        assertThrows(IllegalArgumentException.class, () -> deduplicator.addAll((List<Guest>) null));
+        assertThrows(IllegalArgumentException.class, () -> deduplicator.getProfile(johnDoe));
+        assertThrows(IllegalArgumentException.class, () -> deduplicator.getStayHistory(null, johnDoe));
+    }
+}
@@ -0,0 +1,151 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for guest directory search.
+ */
+public class GuestDirectoryTest {
+
+    private GuestDirectory directory;
+    private Guest johnDoe;
+    private Guest joanDoyle;
+    private Guest jose;
+    private Guest mary;
+
+    @BeforeEach
+    public void setUp() {
+        directory = new GuestDirectory();
+        johnDoe = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        joanDoyle = Guest.create(new Name("Joan Doyle"), new Address("9 Elm", "Boston", "02 102"));
+        jose = Guest.create(new Name("José Álvarez"), new Address("5 Calle", "São Paulo", "01000"));
+        mary = Guest.create(new Name("Mary Johnson"), new Address("7 Oak", "Chicago", "60601"));
+        directory.addAll(List.of(johnDoe, joanDoyle, jose, mary));
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testSearch_PrefixOfAnyWord() {
+        assertEquals(List.of(johnDoe, mary), directory.search("john", 2));
+        assertEquals(List.of(johnDoe, joanDoyle), directory.search("Do", 10));
+        assertEquals(List.of(joanDoyle), directory.search("jo doy", 10));
+        assertEquals(List.of(mary), directory.search("johnson m", 10));
+    }
+
+    @Test
+    public void testSearch_IgnoresCaseAndAccents() {
+        assertEquals(List.of(jose), directory.search("jose alv", 10));
+        assertEquals(List.of(jose), directory.search("ÁLVAREZ", 10));
+    }
+
+    @Test
+    public void testSearch_TypoTolerantAfterExactMatches() {
+        assertEquals(List.of(mary), directory.search("jonhson", 10));
+        assertEquals(List.of(johnDoe), directory.search("jhon doe", 10));
+        assertEquals(List.of(johnDoe, mary), directory.search("johm", 10));
+        assertEquals(List.of(johnDoe, mary, joanDoyle), directory.search("john", 10));
+    }
+
+    @Test
+    public void testFindByPostalCodeAndCity() {
+        assertEquals(List.of(joanDoyle), directory.findByPostalCode("02102", 10));
+        assertEquals(List.of(johnDoe, joanDoyle), directory.findByCity("boston", 10));
+        assertEquals(List.of(jose), directory.findByCity("sao paulo", 10));
+        assertEquals(List.of(johnDoe), directory.findByCity("Boston", 1));
+    }
+
+    @Test
+    public void testOnEvent_AddsGuestOfNewBooking() throws InterruptedException {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        Hotel hotel = new Hotel(new Name("Harbor Inn"), new BusinessDate(clock));
+        hotel.addRoom(new Room(101, new RoomType("Deluxe", new Money(100.0))));
+        Guest walkIn = Guest.create(new Name("Walter Inman"), new Address("1 Pier", "Boston", "02110"));
+        try (ReservationEventBus bus = new ReservationEventBus(64)) {
+            hotel.setEventBus(bus);
+            bus.subscribe(directory);
+
+            // Act
+            hotel.createReservation(walkIn, hotel.getRoom(101), LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 3));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (directory.find(walkIn.getId()) == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+
+        // Assert
+        assertEquals(List.of(walkIn), directory.search("walt", 10));
+    }
+
+    @Test
+    public void testAddAll_Chain() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        HotelChain chain = new HotelChain("Chain", clock);
+        Hotel hotel = new Hotel(new Name("Harbor Inn"), new BusinessDate(clock));
+        hotel.addRoom(new Room(101, new RoomType("Deluxe", new Money(100.0))));
+        chain.addHotel(hotel);
+        Guest guest = Guest.create(new Name("Zoe Zimmer"), new Address("1 Pier", "Boston", "02110"));
+        hotel.createReservation(guest, hotel.getRoom(101), LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 3));
+        hotel.createReservation(guest, hotel.getRoom(101), LocalDate.of(2030, 1, 5), LocalDate.of(2030, 1, 6));
+
+        // Act
+        int added = directory.addAll(chain);
+
+        // Assert
+        assertEquals(1, added);
+        assertSame(guest, directory.find(guest.getId()));
+        assertEquals(5, directory.size());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testSearch_LimitAndEmptyQuery() {
+        assertEquals(List.of(joanDoyle), directory.search("jo", 1));
+        assertTrue(directory.search("  - ", 10).isEmpty());
+        assertTrue(directory.search("xyzzy", 10).isEmpty());
+    }
+
+    @Test
+    public void testRemove_HidesGuestEverywhere() {
+        // Act
+        boolean removed = directory.remove(johnDoe);
+
+        // Assert
+        assertTrue(removed);
+        assertFalse(directory.remove(johnDoe));
+        assertEquals(List.of(mary), directory.search("john", 1));
+        assertEquals(List.of(joanDoyle), directory.findByCity("boston", 10));
+        assertNull(directory.find(johnDoe.getId()));
+        assertTrue(directory.add(johnDoe));
+        assertEquals(List.of(johnDoe, mary), directory.search("john", 2));
+    }
+
+    @Test
+    public void testAdd_DuplicateIgnored() {
+        assertFalse(directory.add(johnDoe));
+        assertEquals(4, directory.size());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> directory.search(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> directory.search("jo", 0));
+        assertThrows(IllegalArgumentException.class, () -> directory.add(null));
+        assertThrows(IllegalArgumentException.class, () -> directory.findByPostalCode(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> directory.find(null));
+    }
+}
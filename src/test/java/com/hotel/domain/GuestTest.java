@@ -175,4 +175,29 @@ public class GuestTest {
         assertTrue(result.contains("Guest"));
         assertTrue(result.contains("John Doe"));
     }
+
+    // ==================== Interning ====================
+
+    @Test
+    public void testCreateGuest_KeepsGivenAddress() {
+        // Arrange
+        Address address = new Address("1 Elm", "Boston", "02101");
+
+        // Act
+        Guest guest = Guest.create(new Name("John Doe"), address);
+
+        // Assert
+        assertSame(address, guest.getAddress());
+    }
+
+    @Test
+    public void testCreateAddress_SharesCityAndPostalCode() {
+        // Act
+        Address first = new Address("1 Elm", new String("Boston"), new String("02101"));
+        Address second = new Address("2 Oak", new String("Boston"), new String("02101"));
+
+        // Assert
+        assertSame(first.getCity(), second.getCity());
+        assertSame(first.getPostalCode(), second.getPostalCode());
+    }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -128,6 +129,37 @@ public class HotelChainTest {
         assertEquals(Reservation.ReservationStatus.CHECKED_OUT, reservation.getStatus());
     }
 
+    @Test
+    public void testFindAvailableHotels_ByCityAndDistance() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(5);
+        LocalDate endDate = LocalDate.now().plusDays(7);
+        Hotel backBay = new Hotel(new Name("Back Bay"), new Address("1 Main", "Boston", "02116"),
+            new Coordinates(42.3503, -71.0810), BusinessDate.systemDefault());
+        Hotel harbor = new Hotel(new Name("Harbor"), new Address("9 Pier", "Boston", "02110"),
+            new Coordinates(42.3601, -71.0500), BusinessDate.systemDefault());
+        Room backBayRoom = new Room(1, new RoomType("Deluxe", new Money(150.0)));
+        backBay.addRoom(backBayRoom);
+        harbor.addRoom(new Room(1, new RoomType("Deluxe", new Money(180.0))));
+        harbor.addRoom(new Room(2, new RoomType("Standard", new Money(90.0))));
+        chain.addHotel(backBay);
+        chain.addHotel(harbor);
+        chain.makeReservation(backBay, guest, backBayRoom, startDate, endDate, manager, creditCard);
+
+        // Act
+        List<Hotel> inCity = chain.findAvailableHotelsInCity("boston", "deluxe", startDate, endDate);
+        List<Hotel> nearLater = chain.findAvailableHotelsNear(new Coordinates(42.3503, -71.0810), 5.0,
+            "Deluxe", endDate.plusDays(1), endDate.plusDays(2));
+
+        // Assert
+        assertEquals(List.of(harbor), inCity);
+        assertEquals(List.of(backBay, harbor), nearLater);
+        assertTrue(chain.findAvailableHotelsInCity("Boston", "Suite", startDate, endDate).isEmpty());
+        assertEquals(List.of(backBay, harbor), chain.findHotelsInCity("Boston"));
+        chain.removeHotel("Harbor");
+        assertEquals(List.of(backBay), chain.findHotelsNear(new Coordinates(42.3503, -71.0810), 5.0));
+    }
+
     // ==================== Invalid Inputs ====================
 
     @Test
@@ -252,4 +284,104 @@ public class HotelChainTest {
         // Act & Assert
         assertFalse(chain.canCheckOutGuest(reservation));
     }
+
+    // ==================== Idempotency Keys ====================
+
+    @Test
+    public void testMakeReservation_RetryWithSameKeyReturnsOriginal() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        Reservation first = chain.makeReservation("req-1", hotel, guest, room, startDate, endDate,
+            manager, creditCard);
+
+        // Act
+        Reservation retried = chain.makeReservation("req-1", hotel, guest, room, startDate, endDate,
+            manager, creditCard);
+
+        // Assert
+        assertSame(first, retried);
+        assertEquals(1, hotel.getActiveReservations().size());
+        assertEquals(1, manager.getReservationCount());
+    }
+
+    @Test
+    public void testCancelReservation_RetryWithSameKeySucceeds() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        Reservation reservation = chain.makeReservation(hotel, guest, room, startDate, endDate,
+            manager, creditCard);
+        chain.cancelReservation("cancel-1", hotel, reservation, manager);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> chain.cancelReservation("cancel-1", hotel, reservation, manager));
+        assertThrows(IllegalStateException.class, () -> chain.cancelReservation(hotel, reservation, manager));
+    }
+
+    @Test
+    public void testMakeReservation_FailedAttemptCanBeRetried() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        Room foreign = new Room(999, room.getRoomType());
+        assertThrows(IllegalArgumentException.class, () ->
+            chain.makeReservation("req-2", hotel, guest, foreign, startDate, endDate, manager, creditCard));
+
+        // Act
+        Reservation reservation = chain.makeReservation("req-2", hotel, guest, room, startDate, endDate,
+            manager, creditCard);
+
+        // Assert
+        assertEquals(room, reservation.getRoom());
+    }
+
+    @Test
+    public void testMakeReservation_RetryAfterRoomReassignment() {
+        // Arrange
+        Room second = new Room(102, room.getRoomType());
+        hotel.addRoom(second);
+        LocalDate startDate = LocalDate.now().plusDays(2);
+        Reservation first = chain.makeReservation("req-5", hotel, guest, second, startDate, startDate.plusDays(2),
+            manager, creditCard);
+        hotel.optimizeRoomAssignments(room.getRoomType());
+        assertEquals(room, first.getRoom());
+
+        // Act
+        Reservation retried = chain.makeReservation("req-5", hotel, guest, second, startDate,
+            startDate.plusDays(2), manager, creditCard);
+
+        // Assert
+        assertSame(first, retried);
+        assertEquals(1, hotel.getActiveReservations().size());
+    }
+
+    @Test
+    public void testMakeReservation_KeyReusedForDifferentRequest() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        chain.makeReservation("req-3", hotel, guest, room, startDate, startDate.plusDays(2), manager, creditCard);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            chain.makeReservation("req-3", hotel, guest, room, startDate, startDate.plusDays(5),
+                manager, creditCard));
+    }
+
+    @Test
+    public void testMakeReservation_KeyReusedAtDifferentHotel() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        Hotel other = new Hotel(new Name("Grand Hotel NYC"));
+        Room otherRoom = new Room(101, room.getRoomType());
+        other.addRoom(otherRoom);
+        chain.addHotel(other);
+        chain.makeReservation("req-4", hotel, guest, room, startDate, startDate.plusDays(2), manager, creditCard);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            chain.makeReservation("req-4", other, guest, otherRoom, startDate, startDate.plusDays(2),
+                manager, creditCard));
+        assertTrue(other.getActiveReservations().isEmpty());
+    }
 }
@@ -0,0 +1,120 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the hotel location index.
+ */
+public class HotelLocationIndexTest {
+
+    private HotelLocationIndex index;
+    private Hotel backBay;
+    private Hotel harbor;
+    private Hotel cambridge;
+    private Hotel saoPaulo;
+
+    @BeforeEach
+    public void setUp() {
+        index = new HotelLocationIndex();
+        backBay = hotel("Back Bay", "Boston", new Coordinates(42.3503, -71.0810));
+        harbor = hotel("Harbor", "Boston", new Coordinates(42.3601, -71.0500));
+        cambridge = hotel("Cambridge", "Cambridge", new Coordinates(42.3736, -71.1097));
+        saoPaulo = hotel("Paulista", "São Paulo", new Coordinates(-23.5614, -46.6559));
+        for (Hotel hotel : List.of(backBay, harbor, cambridge, saoPaulo)) {
+            index.add(hotel);
+        }
+    }
+
+    private static Hotel hotel(String name, String city, Coordinates coordinates) {
+        return new Hotel(new Name(name), new Address("1 Main", city, "00000"), coordinates,
+            BusinessDate.systemDefault());
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testFindInCity_IgnoresCaseAndAccents() {
+        assertEquals(List.of(backBay, harbor), index.findInCity("boston"));
+        assertEquals(List.of(saoPaulo), index.findInCity("SAO PAULO"));
+    }
+
+    @Test
+    public void testFindNear_NearestFirstWithinRadius() {
+        // Arrange
+        Coordinates commons = new Coordinates(42.3550, -71.0656);
+
+        // Act
+        List<Hotel> near = index.findNear(commons, 3.0);
+        List<Hotel> wider = index.findNear(commons, 10.0);
+
+        // Assert
+        assertEquals(List.of(backBay, harbor), near);
+        assertEquals(List.of(backBay, harbor, cambridge), wider);
+        assertEquals(4, index.findNear(commons, 10_000.0).size());
+    }
+
+    @Test
+    public void testRemove_DropsHotelFromBothIndexes() {
+        // Act
+        index.remove(harbor);
+
+        // Assert
+        assertEquals(List.of(backBay), index.findInCity("Boston"));
+        assertEquals(List.of(backBay, cambridge), index.findNear(new Coordinates(42.3550, -71.0656), 10.0));
+        assertEquals(3, index.getLocatedCount());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testFindNear_AcrossDateLine() {
+        // Arrange
+        Hotel fiji = hotel("Fiji", "Suva", new Coordinates(-18.1, 179.99));
+        Hotel samoa = hotel("Samoa", "Apia", new Coordinates(-18.1, -179.99));
+        index.add(fiji);
+        index.add(samoa);
+
+        // Act
+        List<Hotel> near = index.findNear(new Coordinates(-18.1, 180.0), 5.0);
+
+        // Assert
+        assertEquals(2, near.size());
+        assertTrue(near.containsAll(List.of(fiji, samoa)));
+    }
+
+    @Test
+    public void testAdd_HotelWithoutLocation() {
+        // Arrange
+        Hotel unlocated = new Hotel(new Name("Nowhere Inn"));
+        Hotel cityOnly = hotel("City Only", "Boston", null);
+
+        // Act
+        index.add(unlocated);
+        index.add(cityOnly);
+
+        // Assert
+        assertEquals(List.of(backBay, harbor, cityOnly), index.findInCity("Boston"));
+        assertEquals(4, index.getLocatedCount());
+        assertTrue(index.findNear(new Coordinates(0, 0), 0).isEmpty());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> index.add(null));
+        assertThrows(IllegalArgumentException.class, () -> index.findInCity(null));
+        assertThrows(IllegalArgumentException.class, () -> index.findNear(null, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> index.findNear(new Coordinates(0, 0), -1.0));
+        assertThrows(IllegalArgumentException.class, () -> new Coordinates(91, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Coordinates(0, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new Hotel(new Name("Pin"), null,
+            new Coordinates(0, 0), BusinessDate.systemDefault()));
+    }
+}
@@ -3,10 +3,15 @@ package com.hotel.domain;
 import com.hotel.util.Money;
 import com.hotel.util.Name;
 import com.hotel.util.Address;
+import com.hotel.util.BusinessDate;
+import com.hotel.util.MutableClock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -154,6 +159,39 @@ public class HotelTest {
         assertEquals(0, available.size());
     }
 
+    @Test
+    public void testHasAvailableRoom_MatchesAvailableRooms() {
+        // Arrange
+        RoomType deluxe = new RoomType("Deluxe", new Money(100.0));
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+
+        // Act
+        boolean before = hotel.hasAvailableRoom(deluxe, startDate, endDate);
+        hotel.createReservation(guest, room, startDate, endDate);
+        boolean after = hotel.hasAvailableRoom(deluxe, startDate, endDate);
+
+        // Assert
+        assertTrue(before);
+        assertFalse(after);
+    }
+
+    @Test
+    public void testGetRoomTypes_ListsTypesWithRooms() {
+        // Arrange
+        RoomType suite = new RoomType("Suite", new Money(250.0));
+        hotel.getInventory().setOverbookingLimit(new RoomType("Penthouse", new Money(900.0)), 10);
+        hotel.addRoom(new Room(201, suite));
+
+        // Act
+        List<RoomType> roomTypes = hotel.getRoomTypes();
+
+        // Assert
+        assertEquals(2, roomTypes.size());
+        assertTrue(roomTypes.contains(room.getRoomType()));
+        assertTrue(roomTypes.contains(suite));
+    }
+
     // ==================== Boundary Cases ====================
 
     @Test
@@ -275,4 +313,217 @@ public class HotelTest {
         assertEquals(1, active.size());
         assertTrue(active.contains(reservation));
     }
+
+    // ==================== Business Date ====================
+
+    @Test
+    public void testCheckInGuest_UsesInjectedClock() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T10:00:00Z"), ZoneOffset.UTC);
+        Hotel clockHotel = new Hotel(new Name("Clock Hotel"), new BusinessDate(clock));
+        clockHotel.addRoom(room);
+        Reservation reservation = clockHotel.createReservation(
+            guest, room, LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 4));
+        assertThrows(IllegalStateException.class, () -> clockHotel.checkInGuest(reservation));
+
+        // Act
+        clock.advance(Duration.ofDays(1));
+        clockHotel.checkInGuest(reservation);
+
+        // Assert
+        assertEquals(LocalDate.of(2030, 1, 1), reservation.getReservationDate());
+        assertEquals(Reservation.ReservationStatus.CHECKED_IN, reservation.getStatus());
+    }
+
+    @Test
+    public void testCreateHotel_NullBusinessDate() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new Hotel(new Name("Hotel"), null));
+    }
+
+    // ==================== Room Holds ====================
+
+    @Test
+    public void testPlaceHold_BlocksAvailability() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+
+        // Act
+        RoomHold hold = hotel.placeHold(room, startDate, endDate, Duration.ofMinutes(10));
+
+        // Assert
+        assertTrue(hold.isPending());
+        assertTrue(hotel.getAvailableRooms(room.getRoomType(), startDate, endDate).isEmpty());
+        assertThrows(IllegalStateException.class, () ->
+            hotel.createReservation(guest, room, startDate, endDate));
+    }
+
+    @Test
+    public void testReleaseHold_RestoresAvailability() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        RoomHold hold = hotel.placeHold(room, startDate, endDate, Duration.ofMinutes(10));
+
+        // Act
+        hotel.releaseHold(hold);
+
+        // Assert
+        assertEquals(RoomHold.HoldStatus.RELEASED, hold.getStatus());
+        assertEquals(1, hotel.getAvailableRooms(room.getRoomType(), startDate, endDate).size());
+    }
+
+    @Test
+    public void testConfirmHold_CreatesReservation() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        RoomHold hold = hotel.placeHold(room, startDate, endDate, Duration.ofMinutes(10));
+
+        // Act
+        Reservation reservation = hotel.confirmHold(hold, guest);
+
+        // Assert
+        assertEquals(RoomHold.HoldStatus.CONFIRMED, hold.getStatus());
+        assertEquals(room, reservation.getRoom());
+        assertTrue(hotel.getPendingHolds().isEmpty());
+    }
+
+    @Test
+    public void testHold_ExpiresAutomatically() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T10:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Clock Hotel"), new BusinessDate(clock));
+        hotel.addRoom(room);
+        LocalDate startDate = LocalDate.of(2030, 1, 2);
+        LocalDate endDate = LocalDate.of(2030, 1, 4);
+        RoomHold hold = hotel.placeHold(room, startDate, endDate, Duration.ofMinutes(10));
+        clock.advance(Duration.ofMinutes(10));
+
+        // Act
+        List<Room> available = hotel.getAvailableRooms(room.getRoomType(), startDate, endDate);
+
+        // Assert
+        assertEquals(1, available.size());
+        assertEquals(RoomHold.HoldStatus.EXPIRED, hold.getStatus());
+        assertThrows(IllegalStateException.class, () -> hotel.confirmHold(hold, guest));
+    }
+
+    @Test
+    public void testConfirmHold_FailedBookingKeepsHoldPending() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T10:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Clock Hotel"), new BusinessDate(clock));
+        hotel.addRoom(room);
+        LocalDate startDate = LocalDate.of(2030, 1, 2);
+        LocalDate endDate = LocalDate.of(2030, 1, 4);
+        RoomHold hold = hotel.placeHold(room, startDate, endDate, Duration.ofDays(7));
+        clock.advance(Duration.ofDays(2));
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> hotel.confirmHold(hold, guest));
+        hotel.releaseHold(hold);
+
+        // Assert
+        assertEquals(RoomHold.HoldStatus.RELEASED, hold.getStatus());
+        assertEquals(0, hotel.getInventory().getSold(room.getRoomType(), endDate));
+    }
+
+    @Test
+    public void testHold_OtherHotelsHoldRejected() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        Hotel other = new Hotel(new Name("Other Hotel"));
+        other.addRoom(new Room(101, room.getRoomType()));
+        RoomHold foreign = other.placeHold(other.getRoom(101), startDate, endDate, Duration.ofMinutes(10));
+        RoomHold own = hotel.placeHold(room, startDate, endDate, Duration.ofMinutes(10));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> hotel.confirmHold(foreign, guest));
+        assertThrows(IllegalArgumentException.class, () -> hotel.releaseHold(foreign));
+        assertTrue(foreign.isPending());
+        assertEquals(List.of(own), hotel.getPendingHolds());
+        assertEquals(1, hotel.getInventory().getSold(room.getRoomType(), startDate));
+    }
+
+    @Test
+    public void testPlaceHold_InvalidDuration() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            hotel.placeHold(room, startDate, endDate, Duration.ZERO));
+    }
+
+    // ==================== Overbooking ====================
+
+    @Test
+    public void testCreateReservationByType_OverbooksWithinLimit() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        hotel.getInventory().setOverbookingLimit(room.getRoomType(), 100);
+        Guest other = Guest.create(new Name("Jane Roe"), new Address("9 Elm", "Boston", "02101"));
+
+        // Act
+        Reservation first = hotel.createReservation(guest, room.getRoomType(), startDate, endDate);
+        Reservation second = hotel.createReservation(other, room.getRoomType(), startDate, endDate);
+
+        // Assert
+        assertFalse(first.isAssigned());
+        assertFalse(second.isAssigned());
+        assertThrows(IllegalStateException.class, () ->
+            hotel.createReservation(guest, room.getRoomType(), startDate, endDate));
+        assertTrue(hotel.getAvailableRooms(room.getRoomType(), startDate, endDate).isEmpty());
+    }
+
+    @Test
+    public void testAssignPendingRooms_PlacesAndReportsWalks() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        hotel.getInventory().setOverbookingLimit(room.getRoomType(), 100);
+        Reservation first = hotel.createReservation(guest, room.getRoomType(), startDate, endDate);
+        Reservation second = hotel.createReservation(guest, room.getRoomType(), startDate, endDate);
+
+        // Act
+        List<Reservation> unplaced = hotel.assignPendingRooms(startDate);
+
+        // Assert
+        assertEquals(room, first.getRoom());
+        assertEquals(List.of(second), unplaced);
+        assertTrue(hotel.getAvailableRooms(room.getRoomType(), startDate, endDate).isEmpty());
+    }
+
+    @Test
+    public void testCancelReservationByType_ReleasesInventory() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        Reservation reservation = hotel.createReservation(guest, room.getRoomType(), startDate, endDate);
+
+        // Act
+        hotel.cancelReservation(reservation);
+
+        // Assert
+        assertEquals(0, hotel.getInventory().getSold(room.getRoomType(), startDate));
+        assertEquals(1, hotel.getAvailableRooms(room.getRoomType(), startDate, endDate).size());
+    }
+
+    @Test
+    public void testCheckInGuest_UnassignedReservation() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T10:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Clock Hotel"), new BusinessDate(clock));
+        hotel.addRoom(room);
+        Reservation reservation = hotel.createReservation(guest, room.getRoomType(),
+            LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 3));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> hotel.checkInGuest(reservation));
+    }
 }
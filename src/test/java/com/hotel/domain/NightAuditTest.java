@@ -0,0 +1,184 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the night audit.
+ */
+public class NightAuditTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    private MutableClock clock;
+    private Hotel hotel;
+    private Room room101;
+    private Room room102;
+    private Guest guest;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Audit Hotel"), new BusinessDate(clock));
+        RoomType deluxe = new RoomType("Deluxe", new Money(100.0));
+        room101 = new Room(101, deluxe);
+        room102 = new Room(102, deluxe);
+        hotel.addRoom(room101);
+        hotel.addRoom(room102);
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testRunNightAudit_MarksNoShows() {
+        // Arrange
+        Reservation reservation = hotel.createReservation(guest, room101, TODAY, TODAY.plusDays(2));
+        clock.advance(Duration.ofDays(1));
+
+        // Act
+        NightAuditReport report = hotel.runNightAudit();
+
+        // Assert
+        assertEquals(List.of(reservation), report.getNoShows());
+        assertEquals(Reservation.ReservationStatus.NO_SHOW, reservation.getStatus());
+        assertTrue(hotel.getActiveReservations().isEmpty());
+        assertEquals(2, hotel.getAvailableRooms(room101.getRoomType(), TODAY.plusDays(1), TODAY.plusDays(2)).size());
+    }
+
+    @Test
+    public void testRunNightAudit_FlagsOverdueStays() {
+        // Arrange
+        Reservation reservation = hotel.createReservation(guest, room101, TODAY, TODAY.plusDays(1));
+        hotel.checkInGuest(reservation);
+        clock.advance(Duration.ofDays(2));
+
+        // Act
+        NightAuditReport report = hotel.runNightAudit();
+
+        // Assert
+        assertEquals(List.of(reservation), report.getOverdueStays());
+        assertEquals(Reservation.ReservationStatus.CHECKED_IN, reservation.getStatus());
+    }
+
+    @Test
+    public void testRunNightAudit_RetiresFinishedReservations() {
+        // Arrange
+        Reservation cancelled = hotel.createReservation(guest, room101, TODAY.plusDays(3), TODAY.plusDays(5));
+        Reservation stay = hotel.createReservation(guest, room102, TODAY, TODAY.plusDays(1));
+        hotel.cancelReservation(cancelled);
+        hotel.checkInGuest(stay);
+        hotel.checkOutGuest(stay);
+
+        // Act
+        NightAuditReport report = hotel.runNightAudit();
+
+        // Assert
+        assertEquals(2, report.getRetiredCount());
+        assertTrue(hotel.getActiveReservations().isEmpty());
+        assertEquals(2, hotel.getReservationHistory().size());
+        assertEquals(2, hotel.getGuestReservations(guest).size());
+        assertThrows(IllegalStateException.class, () -> hotel.cancelReservation(cancelled));
+    }
+
+    @Test
+    public void testRunNightAudit_Idempotent() {
+        // Arrange
+        hotel.createReservation(guest, room101, TODAY, TODAY.plusDays(2));
+        clock.advance(Duration.ofDays(1));
+        hotel.runNightAudit();
+
+        // Act
+        NightAuditReport report = hotel.runNightAudit();
+
+        // Assert
+        assertTrue(report.getNoShows().isEmpty());
+        assertEquals(0, report.getRetiredCount());
+    }
+
+    @Test
+    public void testRun_AuditsWholeChainInParallel() {
+        // Arrange
+        HotelChain chain = new HotelChain("Audit Chain", clock);
+        for (int i = 0; i < 300; i++) {
+            Hotel property = new Hotel(new Name("Hotel " + i), new BusinessDate(clock));
+            Room room = new Room(1, new RoomType("Standard", new Money(80.0)));
+            property.addRoom(room);
+            property.createReservation(guest, room, TODAY, TODAY.plusDays(1));
+            chain.addHotel(property);
+        }
+        clock.advance(Duration.ofDays(1));
+
+        // Act
+        List<NightAuditReport> reports = new NightAudit(chain, executor).run();
+
+        // Assert
+        assertEquals(300, reports.size());
+        assertTrue(reports.stream().allMatch(r -> r.getNoShows().size() == 1));
+    }
+
+    @Test
+    public void testRun_FailedHotelDoesNotStopOthers(@TempDir Path directory) {
+        // Arrange
+        HotelChain chain = new HotelChain("Audit Chain", clock);
+        hotel.createReservation(guest, room101, TODAY, TODAY.plusDays(1));
+        ReservationChangeLog closed = new ReservationChangeLog(directory);
+        hotel.setChangeLog(closed);
+        closed.close();
+        Hotel healthy = new Hotel(new Name("Healthy Hotel"), new BusinessDate(clock));
+        Room room = new Room(1, new RoomType("Standard", new Money(80.0)));
+        healthy.addRoom(room);
+        healthy.createReservation(guest, room, TODAY, TODAY.plusDays(1));
+        chain.addHotel(hotel);
+        chain.addHotel(healthy);
+        clock.advance(Duration.ofDays(1));
+        NightAudit audit = new NightAudit(chain, executor);
+
+        // Act
+        List<NightAuditReport> reports = audit.run();
+
+        // Assert
+        assertEquals(1, reports.size());
+        assertEquals(healthy.getName(), reports.get(0).getHotelName());
+        assertEquals(1, audit.getFailureCount());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testCreateNightAudit_NullChain() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new NightAudit(null, executor));
+    }
+
+    @Test
+    public void testSchedule_InvalidInterval() {
+        // Arrange
+        NightAudit audit = new NightAudit(new HotelChain("Chain"), executor);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            audit.schedule(Executors.newSingleThreadScheduledExecutor(), Duration.ZERO));
+    }
+}
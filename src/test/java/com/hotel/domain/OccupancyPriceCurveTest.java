@@ -0,0 +1,57 @@
+package com.hotel.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OccupancyPriceCurve class.
+ */
+public class OccupancyPriceCurveTest {
+
+    private final OccupancyPriceCurve curve = new OccupancyPriceCurve(
+        new double[] {0.5, 0.8, 0.95}, new double[] {1.1, 1.3, 1.6}, 1.25);
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testMultiplier_StepsWithOccupancy() {
+        assertEquals(1.0, curve.multiplier(0.2, 10, 30), 1e-9);
+        assertEquals(1.1, curve.multiplier(0.6, 10, 30), 1e-9);
+        assertEquals(1.3, curve.multiplier(0.9, 10, 30), 1e-9);
+        assertEquals(1.6, curve.multiplier(1.2, 10, 30), 1e-9);
+    }
+
+    @Test
+    public void testMultiplier_LastUnitPremium() {
+        assertEquals(1.6 * 1.25, curve.multiplier(0.97, 1, 0), 1e-9);
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testMultiplier_ExactThresholdUsesItsStep() {
+        assertEquals(1.1, curve.multiplier(0.5, 10, 30), 1e-9);
+        assertEquals(1.3, curve.multiplier(0.8, 0, 30), 1e-9);
+    }
+
+    @Test
+    public void testMultiplier_EmptyCurveKeepsBaseRate() {
+        assertEquals(1.0, new OccupancyPriceCurve(new double[0], new double[0]).multiplier(0.99, 3, 1), 1e-9);
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testConstructor_InvalidCurves() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new OccupancyPriceCurve(new double[] {0.5}, new double[] {1.1, 1.2}));
+        assertThrows(IllegalArgumentException.class,
+            () -> new OccupancyPriceCurve(new double[] {0.5, 0.5}, new double[] {1.1, 1.2}));
+        assertThrows(IllegalArgumentException.class,
+            () -> new OccupancyPriceCurve(new double[] {0.5}, new double[] {0}));
+        assertThrows(IllegalArgumentException.class,
+            () -> new OccupancyPriceCurve(new double[] {0.5}, new double[] {1.1}, -1));
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyPriceCurve(null, new double[0]));
+    }
+}
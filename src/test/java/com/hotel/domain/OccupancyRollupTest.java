@@ -0,0 +1,184 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for incrementally maintained occupancy rollups.
+ */
+public class OccupancyRollupTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    private MutableClock clock;
+    private Hotel hotel;
+    private RoomType deluxe;
+    private RoomType suite;
+    private Guest guest;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Harbor Inn"), new BusinessDate(clock));
+        deluxe = new RoomType("Deluxe", new Money(100.0));
+        suite = new RoomType("Suite", new Money(250.0));
+        hotel.addRoom(new Room(101, deluxe));
+        hotel.addRoom(new Room(102, deluxe));
+        hotel.addRoom(new Room(201, suite));
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testCreateReservation_CountsNightsRevenueAndArrival() {
+        // Act
+        hotel.createReservation(guest, hotel.getRoom(101), TODAY, TODAY.plusDays(2));
+        hotel.createReservation(guest, suite, TODAY.plusDays(1), TODAY.plusDays(2));
+
+        // Assert
+        OccupancyRollup rollup = hotel.getRollup();
+        RevenueMetrics metrics = rollup.getMetrics(TODAY, TODAY.plusDays(3));
+        assertEquals(3, metrics.getSoldRoomNights());
+        assertEquals(9, metrics.getAvailableRoomNights());
+        assertEquals("450.00", metrics.getRevenue().getAmount().setScale(2).toPlainString());
+        assertEquals(1, rollup.getMetrics(deluxe, TODAY.plusDays(1), TODAY.plusDays(2)).getSoldRoomNights());
+        assertEquals(2, rollup.getArrivals(TODAY, TODAY.plusDays(3)));
+        assertEquals(1, rollup.getArrivals(suite, TODAY.plusDays(1), TODAY.plusDays(2)));
+    }
+
+    @Test
+    public void testCancelAndNoShow_TakeStaysBack() {
+        // Arrange
+        Reservation cancelled = hotel.createReservation(guest, hotel.getRoom(101), TODAY, TODAY.plusDays(2));
+        hotel.createReservation(guest, hotel.getRoom(201), TODAY, TODAY.plusDays(1));
+        hotel.cancelReservation(cancelled);
+
+        // Act
+        clock.advance(Duration.ofDays(1));
+        hotel.runNightAudit();
+
+        // Assert
+        RevenueMetrics metrics = hotel.getRollup().getMetrics(TODAY, TODAY.plusDays(2));
+        assertEquals(0, metrics.getSoldRoomNights());
+        assertEquals(0, metrics.getRevenue().getAmount().signum());
+        assertEquals(0, hotel.getRollup().getArrivals(TODAY, TODAY.plusDays(2)));
+    }
+
+    @Test
+    public void testCheckOut_EarlyDepartureTrimsUnusedNights() {
+        // Arrange
+        Reservation stay = hotel.createReservation(guest, hotel.getRoom(101), TODAY, TODAY.plusDays(4));
+        hotel.checkInGuest(stay);
+        clock.advance(Duration.ofDays(2));
+
+        // Act
+        hotel.checkOutGuest(stay);
+
+        // Assert
+        OccupancyRollup rollup = hotel.getRollup();
+        assertEquals(2, rollup.getMetrics(deluxe, TODAY, TODAY.plusDays(4)).getSoldRoomNights());
+        assertEquals(0, rollup.getMetrics(deluxe, TODAY.plusDays(2), TODAY.plusDays(4)).getSoldRoomNights());
+        assertEquals(1, rollup.getArrivals(TODAY, TODAY.plusDays(1)));
+    }
+
+    @Test
+    public void testCheckOut_EarlyDepartureFreesNightsForRebooking() {
+        // Arrange
+        Reservation stay = hotel.createReservation(guest, hotel.getRoom(101), TODAY, TODAY.plusDays(4));
+        Reservation other = hotel.createReservation(guest, hotel.getRoom(102), TODAY, TODAY.plusDays(4));
+        hotel.checkInGuest(stay);
+        hotel.checkInGuest(other);
+        clock.advance(Duration.ofDays(2));
+
+        // Act
+        hotel.checkOutGuest(stay);
+        hotel.runNightAudit();
+
+        // Assert
+        assertEquals(2, hotel.getInventory().getSold(deluxe, TODAY.plusDays(2)));
+        assertEquals(1, hotel.getInventory().getSold(deluxe, TODAY.plusDays(3)));
+        assertEquals(List.of(hotel.getRoom(101)),
+            hotel.getAvailableRooms(deluxe, TODAY.plusDays(3), TODAY.plusDays(4)));
+        assertNotNull(hotel.createReservation(guest, deluxe, TODAY.plusDays(3), TODAY.plusDays(4)));
+    }
+
+    @Test
+    public void testGetMetrics_MatchesRevenueAnalytics() {
+        // Arrange
+        for (int day = 0; day < 600; day += 3) {
+            hotel.createReservation(guest, hotel.getRoom(101 + day % 2), TODAY.plusDays(day), TODAY.plusDays(day + 2));
+            Reservation suiteStay = hotel.createReservation(guest, hotel.getRoom(201), TODAY.plusDays(day),
+                TODAY.plusDays(day + 1));
+            if (day % 9 == 0) {
+                hotel.cancelReservation(suiteStay);
+            }
+        }
+        LocalDate from = TODAY.plusDays(100);
+        LocalDate to = TODAY.plusDays(550);
+
+        // Act
+        RevenueMetrics rollup = hotel.getRollup().getMetrics(from, to);
+        RevenueMetrics analyzed = new RevenueAnalytics().analyze(List.of(hotel), from, to)
+            .getHotelMetrics("Harbor Inn");
+
+        // Assert
+        assertEquals(analyzed.getSoldRoomNights(), rollup.getSoldRoomNights());
+        assertEquals(analyzed.getAvailableRoomNights(), rollup.getAvailableRoomNights());
+        assertEquals(0, analyzed.getRevenue().getAmount().compareTo(rollup.getRevenue().getAmount()));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testGetMetrics_UnknownRoomTypeIsEmpty() {
+        // Act
+        RevenueMetrics metrics = hotel.getRollup().getMetrics(new RoomType("Loft", new Money(80.0)),
+            TODAY, TODAY.plusDays(1));
+
+        // Assert
+        assertEquals(0, metrics.getSoldRoomNights());
+        assertEquals(0, metrics.getAvailableRoomNights());
+        assertEquals(2, hotel.getRollup().getRoomTypes().size());
+    }
+
+    @Test
+    public void testGetMetrics_RangeAcrossPagesAndBeforeEpoch() {
+        // Arrange
+        LocalDate early = LocalDate.of(1969, 12, 30);
+        Hotel historic = new Hotel(new Name("Old Inn"), new BusinessDate(
+            new MutableClock(Instant.parse("1969-12-01T12:00:00Z"), ZoneOffset.UTC)));
+        historic.addRoom(new Room(1, deluxe));
+        historic.createReservation(guest, historic.getRoom(1), early, early.plusDays(1000));
+
+        // Act
+        RevenueMetrics metrics = historic.getRollup().getMetrics(early.minusDays(5), early.plusDays(2000));
+
+        // Assert
+        assertEquals(1000, metrics.getSoldRoomNights());
+        assertEquals(2005, metrics.getAvailableRoomNights());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testGetMetrics_InvalidRange() {
+        // Arrange
+        OccupancyRollup rollup = hotel.getRollup();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> rollup.getMetrics(TODAY, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> rollup.getMetrics(null, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> rollup.getMetrics(null, TODAY, TODAY.plusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> rollup.getArrivals(TODAY.plusDays(1), TODAY));
+    }
+}
@@ -0,0 +1,212 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the partitioned chain execution mode.
+ */
+public class PartitionedHotelChainTest {
+
+    private static final int HOTELS = 8;
+
+    private PartitionedHotelChain chain;
+    private RoomType deluxe;
+    private Guest guest;
+    private ReservationManager manager;
+    private CreditCard creditCard;
+
+    @BeforeEach
+    public void setUp() {
+        chain = new PartitionedHotelChain("Sharded", 4);
+        deluxe = new RoomType("Deluxe", new Money(100.0));
+        for (int i = 0; i < HOTELS; i++) {
+            Hotel hotel = new Hotel(new Name("Hotel " + i));
+            hotel.addRoom(new Room(101, deluxe));
+            hotel.addRoom(new Room(102, deluxe));
+            chain.addHotel(hotel).join();
+        }
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        manager = new ReservationManager();
+        creditCard = new CreditCard("4111111111111111", "John Doe", "12/25", "123");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        chain.close();
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testExecute_RunsOnOwningPartitionThread() {
+        // Arrange
+        int partition = chain.partitionOf("Hotel 3");
+
+        // Act
+        String thread = chain.execute("Hotel 3", hotel -> Thread.currentThread().getName()).join();
+
+        // Assert
+        assertEquals("Sharded-partition-" + partition, thread);
+    }
+
+    @Test
+    public void testSearchAvailability_GathersFromEveryPartition() {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        chain.makeReservation("Hotel 0", guest, 101, start, start.plusDays(2), manager, creditCard).join();
+        chain.makeReservation("Hotel 0", guest, 102, start, start.plusDays(2), manager, creditCard).join();
+
+        // Act
+        Map<String, List<Room>> available = chain.searchAvailability(deluxe, start, start.plusDays(2)).join();
+
+        // Assert
+        assertEquals(HOTELS - 1, available.size());
+        assertFalse(available.containsKey("Hotel 0"));
+        assertEquals(2, available.get("Hotel 5").size());
+    }
+
+    @Test
+    public void testGetGuestReservations_GathersAcrossHotels() {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        for (int i = 0; i < HOTELS; i++) {
+            chain.makeReservation("Hotel " + i, guest, 101, start, start.plusDays(1), manager, creditCard).join();
+        }
+
+        // Act
+        List<Reservation> reservations = chain.getGuestReservations(guest).join();
+
+        // Assert
+        assertEquals(HOTELS, reservations.size());
+        assertEquals(HOTELS, manager.getReservationCount());
+    }
+
+    @Test
+    public void testMakeReservation_ConcurrentCallersNeverDoubleBook() {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        List<CompletableFuture<Reservation>> attempts = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            attempts.add(chain.makeReservation("Hotel " + (i % HOTELS), guest, 101, start, start.plusDays(1),
+                manager, creditCard));
+        }
+        long booked = attempts.stream().filter(attempt -> {
+            try {
+                attempt.join();
+                return true;
+            } catch (CompletionException e) {
+                return false;
+            }
+        }).count();
+
+        // Assert
+        assertEquals(HOTELS, booked);
+    }
+
+    @Test
+    public void testCancelReservation_PromotesWaitlistOnPartition() {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        Reservation first = chain.makeReservation("Hotel 1", guest, 101, start, start.plusDays(2),
+            manager, creditCard).join();
+        chain.makeReservation("Hotel 1", guest, 102, start, start.plusDays(2), manager, creditCard).join();
+        WaitlistEntry entry = chain.execute("Hotel 1", hotel ->
+            hotel.joinWaitlist(guest, deluxe, start, start.plusDays(1))).join();
+
+        // Act
+        chain.cancelReservation("Hotel 1", first, manager).join();
+        chain.execute("Hotel 1", hotel -> null).join();
+
+        // Assert
+        assertEquals(WaitlistEntry.WaitlistStatus.PROMOTED, entry.getStatus());
+    }
+
+    @Test
+    public void testCancelReservation_StandsWhenChainClosesBeforePromotion() throws Exception {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        Reservation reservation = chain.makeReservation("Hotel 1", guest, 101, start, start.plusDays(2),
+            manager, creditCard).join();
+        CountDownLatch release = new CountDownLatch(1);
+        chain.execute("Hotel 1", hotel -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        CompletableFuture<Void> cancelled = chain.cancelReservation("Hotel 1", reservation, manager);
+        Thread closer = new Thread(chain::close);
+        closer.start();
+        while (closer.getState() != Thread.State.TIMED_WAITING && closer.isAlive()) {
+            Thread.sleep(1);
+        }
+
+        // Act
+        release.countDown();
+        closer.join();
+
+        // Assert
+        assertDoesNotThrow(() -> cancelled.join());
+        assertEquals(Reservation.ReservationStatus.CANCELLED, reservation.getStatus());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testPartitionOf_IsStable() {
+        // Act & Assert
+        assertEquals(chain.partitionOf("Hotel 7"), chain.partitionOf("Hotel 7"));
+        assertTrue(chain.partitionOf("Hotel 7") < chain.getPartitionCount());
+        assertEquals(HOTELS, chain.getHotelCount().join());
+    }
+
+    @Test
+    public void testRunNightAudit_ReportsEveryHotel() {
+        // Act
+        List<NightAuditReport> reports = chain.runNightAudit().join();
+
+        // Assert
+        assertEquals(HOTELS, reports.size());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testCreate_NonPositivePartitions() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedHotelChain("Chain", 0));
+    }
+
+    @Test
+    public void testExecute_UnknownHotel() {
+        // Act & Assert
+        CompletionException error = assertThrows(CompletionException.class, () ->
+            chain.execute("Missing", hotel -> null).join());
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+    }
+
+    @Test
+    public void testAddHotel_Duplicate() {
+        // Act & Assert
+        CompletionException error = assertThrows(CompletionException.class, () ->
+            chain.addHotel(new Hotel(new Name("Hotel 2"))).join());
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+    }
+}
@@ -0,0 +1,271 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for leader/follower replication over the loopback transport.
+ */
+public class ReplicationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @TempDir
+    Path directory;
+
+    private ReservationChangeLog changeLog;
+    private LoopbackTransport transport;
+    private ReplicationLeader leader;
+    private HotelChain chain;
+    private Hotel hotel;
+    private Room room101;
+    private Room room102;
+    private Guest guest;
+    private ReservationManager manager;
+    private CreditCard creditCard;
+
+    @BeforeEach
+    public void setUp() {
+        changeLog = new ReservationChangeLog(directory, 1024);
+        transport = new LoopbackTransport();
+        leader = new ReplicationLeader(changeLog, transport, 64, 2);
+        chain = new HotelChain("Chain");
+        chain.setChangeLog(changeLog);
+        hotel = new Hotel(new Name("Leader Hotel"));
+        RoomType deluxe = new RoomType("Deluxe", new Money(100.0));
+        room101 = new Room(101, deluxe);
+        room102 = new Room(102, deluxe);
+        hotel.addRoom(room101);
+        hotel.addRoom(room102);
+        chain.addHotel(hotel);
+        manager = new ReservationManager();
+        chain.registerManager(manager);
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        creditCard = new CreditCard("4111111111111111", "John Doe", "12/25", "123");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        transport.close();
+        changeLog.close();
+    }
+
+    private ReplicaFollower follower(String id, long fromOffset) {
+        ReplicaFollower follower = new ReplicaFollower(id, transport, fromOffset);
+        follower.addHotel("Leader Hotel", hotel.getAllRooms());
+        leader.addFollower(id, fromOffset);
+        return follower;
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testFollower_ServesAvailabilityAfterToken() throws Exception {
+        // Arrange
+        ReplicaFollower follower = follower("f1", 0);
+        LocalDate start = LocalDate.now().plusDays(1);
+        chain.makeReservation(hotel, guest, room101, start, start.plusDays(2), manager, creditCard);
+        long token = leader.getPositionToken();
+
+        // Act
+        leader.replicate();
+        boolean caughtUp = follower.awaitPosition(token, TIMEOUT);
+
+        // Assert
+        assertTrue(caughtUp);
+        assertEquals(List.of(room102), follower.getAvailableRooms("Leader Hotel", room101.getRoomType(),
+            start, start.plusDays(2)));
+    }
+
+    @Test
+    public void testFollowers_ReceivePipelinedBatchesUntilCaughtUp() throws Exception {
+        // Arrange
+        ReplicaFollower first = follower("f1", 0);
+        ReplicaFollower second = follower("f2", 0);
+        LocalDate start = LocalDate.now().plusDays(1);
+        for (int i = 0; i < 20; i++) {
+            Reservation reservation = chain.makeReservation(hotel, guest, room101, start, start.plusDays(1),
+                manager, creditCard);
+            chain.cancelReservation(hotel, reservation, manager);
+        }
+        long token = leader.getPositionToken();
+
+        // Act
+        leader.replicate();
+
+        // Assert
+        assertTrue(first.awaitPosition(token, TIMEOUT));
+        assertTrue(second.awaitPosition(token, TIMEOUT));
+        assertEquals(20, second.getGuestHistory(guest.getId()).size());
+        assertEquals(Reservation.ReservationStatus.CANCELLED,
+            second.getGuestHistory(guest.getId()).get(19).getStatus());
+        assertEquals(2, first.getAvailableRooms("Leader Hotel", room101.getRoomType(),
+            start, start.plusDays(1)).size());
+    }
+
+    @Test
+    public void testFollower_ResumesFromOffset() throws Exception {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        chain.makeReservation(hotel, guest, room101, start, start.plusDays(2), manager, creditCard);
+        long resumeAt = leader.getPositionToken();
+        chain.makeReservation(hotel, guest, room102, start, start.plusDays(2), manager, creditCard);
+        ReplicaFollower follower = follower("late", resumeAt);
+
+        // Act
+        leader.replicate();
+
+        // Assert
+        assertTrue(follower.awaitPosition(leader.getPositionToken(), TIMEOUT));
+        assertEquals(1, follower.getGuestHistory(guest.getId()).size());
+        assertEquals(102, follower.getGuestHistory(guest.getId()).get(0).getRoomNumber());
+    }
+
+    @Test
+    public void testFollower_RequestsResendAfterGap() throws Exception {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        chain.makeReservation(hotel, guest, room101, start, start.plusDays(2), manager, creditCard);
+        long skipped = leader.getPositionToken();
+        chain.makeReservation(hotel, guest, room102, start, start.plusDays(2), manager, creditCard);
+        ReplicaFollower follower = new ReplicaFollower("gap", transport, 0);
+        follower.addHotel("Leader Hotel", hotel.getAllRooms());
+        leader.addFollower("gap", skipped);
+
+        // Act
+        leader.replicate();
+
+        // Assert
+        long token = leader.getPositionToken();
+        assertTrue(follower.awaitPosition(token, TIMEOUT));
+        assertEquals(2, follower.getGuestHistory(guest.getId()).size());
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (leader.getAcknowledgedOffset("gap") < token && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(token, leader.getAcknowledgedOffset("gap"));
+    }
+
+    @Test
+    public void testFollower_AppliesRoomBlocksAndReleases() throws Exception {
+        // Arrange
+        ReplicaFollower follower = follower("f1", 0);
+        LocalDate start = LocalDate.now().plusDays(1);
+        RoomBlock block = hotel.blockRoom(room101, start, start.plusDays(3), "Leak");
+        leader.replicate();
+        assertTrue(follower.awaitPosition(leader.getPositionToken(), TIMEOUT));
+
+        // Act
+        List<Room> whileBlocked = follower.getAvailableRooms("Leader Hotel", room101.getRoomType(),
+            start, start.plusDays(2));
+        hotel.releaseBlock(block);
+        leader.replicate();
+        assertTrue(follower.awaitPosition(leader.getPositionToken(), TIMEOUT));
+
+        // Assert
+        assertEquals(List.of(room102), whileBlocked);
+        assertEquals(List.of(room101, room102), follower.getAvailableRooms("Leader Hotel",
+            room101.getRoomType(), start, start.plusDays(2)));
+        assertTrue(follower.getGuestHistory(guest.getId()).isEmpty());
+    }
+
+    @Test
+    public void testFollower_CheckOutFreesRemainingNightsAndPrunes() throws Exception {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-10T09:00:00Z"), ZoneOffset.UTC);
+        Hotel resort = new Hotel(new Name("Resort"), new BusinessDate(clock));
+        Room suite = new Room(301, new RoomType("Suite", new Money(300.0)));
+        Room other = new Room(302, suite.getRoomType());
+        resort.addRoom(suite);
+        resort.addRoom(other);
+        chain.addHotel(resort);
+        ReplicaFollower follower = follower("f1", 0);
+        follower.addHotel("Resort", resort.getAllRooms(), ZoneOffset.UTC);
+        LocalDate today = LocalDate.of(2030, 1, 10);
+        Reservation stay = resort.createReservation(guest, suite, today, today.plusDays(4));
+        resort.checkInGuest(stay);
+
+        // Act
+        resort.checkOutGuest(stay);
+        leader.replicate();
+        assertTrue(follower.awaitPosition(leader.getPositionToken(), TIMEOUT));
+        List<Room> departureDay = follower.getAvailableRooms("Resort", suite.getRoomType(), today, today);
+        List<Room> afterDeparture = follower.getAvailableRooms("Resort", suite.getRoomType(),
+            today.plusDays(1), today.plusDays(3));
+        clock.advance(Duration.ofDays(2));
+        resort.createReservation(guest, other, today.plusDays(2), today.plusDays(3));
+        leader.replicate();
+        assertTrue(follower.awaitPosition(leader.getPositionToken(), TIMEOUT));
+
+        // Assert
+        assertEquals(List.of(other), departureDay);
+        assertEquals(List.of(suite, other), afterDeparture);
+        assertEquals(List.of(suite, other), follower.getAvailableRooms("Resort", suite.getRoomType(),
+            today, today));
+        assertEquals(Reservation.ReservationStatus.CHECKED_OUT,
+            follower.getGuestHistory(guest.getId()).get(0).getStatus());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testAwaitPosition_TimesOutWithoutReplication() throws Exception {
+        // Arrange
+        ReplicaFollower follower = follower("f1", 0);
+        LocalDate start = LocalDate.now().plusDays(1);
+        chain.makeReservation(hotel, guest, room101, start, start.plusDays(2), manager, creditCard);
+
+        // Act & Assert
+        assertFalse(follower.awaitPosition(leader.getPositionToken(), Duration.ofMillis(20)));
+        assertEquals(0, leader.getAcknowledgedOffset("f1"));
+    }
+
+    @Test
+    public void testReplicate_NothingPending() {
+        // Arrange
+        follower("f1", 0);
+
+        // Act & Assert
+        assertEquals(0, leader.replicate());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testAddFollower_Duplicate() {
+        // Arrange
+        follower("f1", 0);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> leader.addFollower("f1", 0));
+    }
+
+    @Test
+    public void testGetAvailableRooms_UnknownHotel() {
+        // Arrange
+        ReplicaFollower follower = follower("f1", 0);
+        LocalDate start = LocalDate.now().plusDays(1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            follower.getAvailableRooms("Missing", room101.getRoomType(), start, start.plusDays(1)));
+    }
+
+    @Test
+    public void testCreateLeader_InvalidLimits() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationLeader(changeLog, transport, 0, 1));
+    }
+}
@@ -0,0 +1,150 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReservationArchive class.
+ */
+public class ReservationArchiveTest {
+
+    private static final LocalDate BOOKED = LocalDate.of(2020, 1, 1);
+
+    private Map<Integer, Room> rooms;
+    private ReservationArchive archive;
+    private Guest guest;
+    private Guest otherGuest;
+
+    @BeforeEach
+    public void setUp() {
+        rooms = new HashMap<>();
+        RoomType standard = new RoomType("Standard", new Money(80.0));
+        for (int number = 1; number <= 10; number++) {
+            rooms.put(number, new Room(number, standard));
+        }
+        archive = new ReservationArchive(rooms::get);
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        otherGuest = Guest.create(new Name("Jane Smith"), new Address("456 Oak", "Boston", "02101"));
+    }
+
+    private Reservation finished(Guest owner, int roomNumber, int startOffset) {
+        Reservation reservation = Reservation.create(owner, rooms.get(roomNumber),
+            BOOKED.plusDays(startOffset), BOOKED.plusDays(startOffset + 2), BOOKED);
+        reservation.cancel();
+        return reservation;
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testAdd_RoundTripsAllColumns() {
+        // Arrange
+        Reservation reservation = finished(guest, 3, 5);
+
+        // Act
+        archive.add(reservation);
+        Reservation restored = archive.toList().get(0);
+
+        // Assert
+        assertEquals(reservation, restored);
+        assertEquals(guest, restored.getGuest());
+        assertSame(rooms.get(3), restored.getRoom());
+        assertEquals(BOOKED, restored.getReservationDate());
+        assertEquals(reservation.getStartDate(), restored.getStartDate());
+        assertEquals(reservation.getEndDate(), restored.getEndDate());
+        assertEquals(Reservation.ReservationStatus.CANCELLED, restored.getStatus());
+    }
+
+    @Test
+    public void testContains_ManyReservations() {
+        // Arrange
+        Reservation last = null;
+        for (int i = 0; i < 1_000; i++) {
+            last = finished(i % 2 == 0 ? guest : otherGuest, 1 + i % 10, i);
+            archive.add(last);
+        }
+
+        // Act & Assert
+        assertEquals(1_000, archive.size());
+        assertTrue(archive.contains(last.getId()));
+        assertFalse(archive.contains(new Identity()));
+    }
+
+    @Test
+    public void testFindByGuest() {
+        // Arrange
+        archive.add(finished(guest, 1, 0));
+        archive.add(finished(otherGuest, 2, 0));
+        archive.add(finished(guest, 3, 4));
+
+        // Act
+        List<Reservation> found = archive.findByGuest(guest);
+
+        // Assert
+        assertEquals(2, found.size());
+        assertTrue(found.stream().allMatch(r -> r.getGuest().equals(guest)));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testContains_CustomIdentity() {
+        // Arrange
+        Reservation reservation = Reservation.restore(new Identity("RES-42"), guest, rooms.get(1),
+            BOOKED, BOOKED, BOOKED.plusDays(1), Reservation.ReservationStatus.CHECKED_OUT);
+
+        // Act
+        archive.add(reservation);
+
+        // Assert
+        assertTrue(archive.contains(new Identity("RES-42")));
+        assertEquals("RES-42", archive.toList().get(0).getId().getId());
+    }
+
+    @Test
+    public void testFindByGuest_ManyGuestsKeepArchiveOrder() {
+        // Arrange
+        Guest[] owners = new Guest[100];
+        for (int g = 0; g < owners.length; g++) {
+            owners[g] = Guest.create(new Name("Guest " + g), new Address(g + " Main", "Boston", "02101"));
+        }
+        for (int i = 0; i < 500; i++) {
+            archive.add(finished(owners[i % owners.length], 1 + i % 10, i));
+        }
+
+        // Act
+        List<Reservation> found = archive.findByGuest(owners[7]);
+
+        // Assert
+        assertEquals(5, found.size());
+        for (int i = 0; i < found.size(); i++) {
+            assertEquals(owners[7], found.get(i).getGuest());
+            assertEquals(BOOKED.plusDays(7 + i * 100L), found.get(i).getStartDate());
+        }
+    }
+
+    @Test
+    public void testFindByGuest_UnknownGuest() {
+        // Act & Assert
+        assertTrue(archive.findByGuest(guest).isEmpty());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testAdd_LiveReservation() {
+        // Arrange
+        Reservation live = Reservation.create(guest, rooms.get(1), BOOKED, BOOKED.plusDays(1), BOOKED);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> archive.add(live));
+    }
+}
@@ -0,0 +1,190 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the reservation change log and its consumers.
+ */
+public class ReservationChangeLogTest {
+
+    @TempDir
+    Path directory;
+
+    private ReservationChangeLog changeLog;
+    private HotelChain chain;
+    private Hotel hotel;
+    private Room room;
+    private Guest guest;
+    private ReservationManager manager;
+    private CreditCard creditCard;
+
+    @BeforeEach
+    public void setUp() {
+        changeLog = new ReservationChangeLog(directory.resolve("log"), 256);
+        chain = new HotelChain("Chain");
+        hotel = new Hotel(new Name("Log Hotel"));
+        room = new Room(101, new RoomType("Deluxe", new Money(100.0)));
+        hotel.addRoom(room);
+        chain.addHotel(hotel);
+        manager = new ReservationManager();
+        chain.registerManager(manager);
+        chain.setChangeLog(changeLog);
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        creditCard = new CreditCard("4111111111111111", "John Doe", "12/25", "123");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        changeLog.close();
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testPoll_StreamsHotelAndManagerChangesInOrder() {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        Reservation reservation = chain.makeReservation(hotel, guest, room, start, start.plusDays(2),
+            manager, creditCard);
+        chain.cancelReservation(hotel, reservation, manager);
+
+        // Act
+        List<ReservationChange> changes = changeLog.openReader(0).poll(10);
+
+        // Assert
+        assertEquals(4, changes.size());
+        assertEquals(ReservationChange.Kind.CREATED, changes.get(0).getKind());
+        assertEquals(ReservationChange.Kind.MANAGER_RECORDED, changes.get(1).getKind());
+        assertEquals(ReservationChange.Kind.CANCELLED, changes.get(2).getKind());
+        assertEquals(ReservationChange.Kind.MANAGER_RELEASED, changes.get(3).getKind());
+        assertEquals("Log Hotel", changes.get(0).getSource());
+        assertEquals(reservation.getId(), changes.get(0).getReservationId());
+        assertEquals(101, changes.get(0).getRoomNumber());
+        assertEquals(Reservation.ReservationStatus.CANCELLED, changes.get(2).getStatus());
+        assertEquals(3, changes.get(3).getOffset());
+    }
+
+    @Test
+    public void testOpenReader_ResumesAfterRestart() {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        for (int i = 0; i < 5; i++) {
+            hotel.cancelReservation(hotel.createReservation(guest, room, start, start.plusDays(1)));
+        }
+        ReservationChangeLog.Reader reader = changeLog.openReader(0);
+        reader.poll(4);
+        long resumeAt = reader.getPosition();
+        changeLog.close();
+
+        // Act
+        changeLog = new ReservationChangeLog(directory.resolve("log"), 256);
+        List<ReservationChange> rest = changeLog.openReader(resumeAt).poll(100);
+
+        // Assert
+        assertEquals(6, rest.size());
+        assertEquals(4, rest.get(0).getOffset());
+        assertEquals(10, changeLog.getEndOffset());
+    }
+
+    @Test
+    public void testFileSink_DrainsAndResumes() {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        Path sinkFile = directory.resolve("sink.bin");
+        Reservation first = hotel.createReservation(guest, room, start, start.plusDays(1));
+        try (FileChangeSink sink = new FileChangeSink(sinkFile)) {
+            sink.drain(changeLog, 64);
+        }
+        hotel.cancelReservation(first);
+
+        // Act
+        List<ReservationChange> copied;
+        try (FileChangeSink sink = new FileChangeSink(sinkFile)) {
+            int drained = sink.drain(changeLog, 64);
+            copied = sink.readAll();
+
+            // Assert
+            assertEquals(1, drained);
+            assertEquals(2, sink.getCommittedOffset());
+        }
+        assertEquals(2, copied.size());
+        assertEquals(ReservationChange.Kind.CANCELLED, copied.get(1).getKind());
+    }
+
+    @Test
+    public void testAppend_ManagerChangesUseChainClock() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        HotelChain clocked = new HotelChain("Clocked", clock);
+        Hotel clockedHotel = new Hotel(new Name("Clock Hotel"), new BusinessDate(clock));
+        Room clockedRoom = new Room(101, room.getRoomType());
+        clockedHotel.addRoom(clockedRoom);
+        clocked.addHotel(clockedHotel);
+        clocked.registerManager(manager);
+        clocked.setChangeLog(changeLog);
+        LocalDate start = LocalDate.of(2030, 1, 2);
+
+        // Act
+        clocked.makeReservation(clockedHotel, guest, clockedRoom, start, start.plusDays(1), manager, creditCard);
+        List<ReservationChange> changes = changeLog.openReader(0).poll(10);
+
+        // Assert
+        assertEquals(2, changes.size());
+        assertEquals(ReservationChange.Kind.MANAGER_RECORDED, changes.get(1).getKind());
+        assertEquals(clock.millis(), changes.get(0).getTimestampMillis());
+        assertEquals(clock.millis(), changes.get(1).getTimestampMillis());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testPoll_CaughtUpReturnsEmpty() {
+        // Arrange
+        ReservationChangeLog.Reader reader = changeLog.openReader(changeLog.getEndOffset());
+
+        // Act & Assert
+        assertTrue(reader.poll(10).isEmpty());
+    }
+
+    @Test
+    public void testPoll_RecordsDeferredRoomAssignment() {
+        // Arrange
+        LocalDate start = LocalDate.now().plusDays(1);
+        hotel.createReservation(guest, room.getRoomType(), start, start.plusDays(1));
+
+        // Act
+        hotel.assignPendingRooms(start);
+        List<ReservationChange> changes = changeLog.openReader(0).poll(10);
+
+        // Assert
+        assertEquals(0, changes.get(0).getRoomNumber());
+        assertEquals(ReservationChange.Kind.ROOM_ASSIGNED, changes.get(1).getKind());
+        assertEquals(101, changes.get(1).getRoomNumber());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testOpenReader_OffsetBeyondEnd() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> changeLog.openReader(1));
+    }
+
+    @Test
+    public void testPoll_NonPositiveBatch() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> changeLog.openReader(0).poll(0));
+    }
+}
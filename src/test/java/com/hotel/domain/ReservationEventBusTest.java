@@ -0,0 +1,191 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the reservation event bus.
+ */
+public class ReservationEventBusTest {
+
+    private ReservationEventBus bus;
+    private Hotel hotel;
+    private Room room;
+    private Guest guest;
+
+    @BeforeEach
+    public void setUp() {
+        bus = new ReservationEventBus(64);
+        hotel = new Hotel(new Name("Event Hotel"));
+        room = new Room(101, new RoomType("Deluxe", new Money(100.0)));
+        hotel.addRoom(room);
+        hotel.setEventBus(bus);
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bus.close();
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testSubscribe_ReceivesLifecycleEvents() {
+        // Arrange
+        List<ReservationEvent.Type> received = new CopyOnWriteArrayList<>();
+        ReservationEventBus.Subscription subscription = bus.subscribe(event -> received.add(event.getType()));
+        LocalDate today = LocalDate.now();
+
+        // Act
+        Reservation reservation = hotel.createReservation(guest, room, today, today.plusDays(2));
+        hotel.checkInGuest(reservation);
+        hotel.checkOutGuest(reservation);
+        subscription.close();
+
+        // Assert
+        assertEquals(List.of(ReservationEvent.Type.CREATED, ReservationEvent.Type.CHECKED_IN,
+            ReservationEvent.Type.CHECKED_OUT), received);
+    }
+
+    @Test
+    public void testSubscribe_FiltersByHotelAndType() {
+        // Arrange
+        Hotel other = new Hotel(new Name("Other Hotel"));
+        Room otherRoom = new Room(1, room.getRoomType());
+        other.addRoom(otherRoom);
+        HotelChain chain = new HotelChain("Chain");
+        chain.addHotel(hotel);
+        chain.addHotel(other);
+        chain.setEventBus(bus);
+        List<Reservation> cancelled = new CopyOnWriteArrayList<>();
+        ReservationEventBus.Subscription subscription = bus.subscribe(hotel.getName(),
+            EnumSet.of(ReservationEvent.Type.CANCELLED), event -> cancelled.add(event.getReservation()));
+        LocalDate start = LocalDate.now().plusDays(1);
+
+        // Act
+        Reservation mine = hotel.createReservation(guest, room, start, start.plusDays(2));
+        Reservation theirs = other.createReservation(guest, otherRoom, start, start.plusDays(2));
+        other.cancelReservation(theirs);
+        hotel.cancelReservation(mine);
+        subscription.close();
+
+        // Assert
+        assertEquals(List.of(mine), cancelled);
+    }
+
+    @Test
+    public void testSubscribe_DeliversInBatches() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger events = new AtomicInteger();
+        AtomicInteger batches = new AtomicInteger();
+        ReservationEventBus.Subscription subscription = bus.subscribe(new ReservationEventListener() {
+            @Override
+            public void onEvent(ReservationEvent event) {
+                awaitQuietly(release);
+                events.incrementAndGet();
+            }
+
+            @Override
+            public void onEndOfBatch() {
+                batches.incrementAndGet();
+            }
+        });
+        LocalDate start = LocalDate.now().plusDays(1);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            Reservation reservation = hotel.createReservation(guest, room, start, start.plusDays(1));
+            hotel.cancelReservation(reservation);
+        }
+        release.countDown();
+        subscription.close();
+
+        // Assert
+        assertEquals(20, events.get());
+        assertTrue(batches.get() < 20);
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testPublish_DropsWhenSubscriberFallsAFullRingBehind() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        ReservationEventBus.Subscription subscription = bus.subscribe(event -> awaitQuietly(release));
+        Reservation reservation = hotel.createReservation(guest, room, LocalDate.now().plusDays(1),
+            LocalDate.now().plusDays(2));
+
+        // Act
+        List<Boolean> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(bus.publish(ReservationEvent.Type.CREATED, hotel.getName(), reservation, 0));
+        }
+        release.countDown();
+        subscription.close();
+
+        // Assert
+        assertTrue(results.contains(false));
+        assertTrue(bus.getDroppedCount() > 0);
+    }
+
+    @Test
+    public void testSubscribe_ListenerFailureDoesNotStopDelivery() {
+        // Arrange
+        AtomicInteger seen = new AtomicInteger();
+        ReservationEventBus.Subscription subscription = bus.subscribe(event -> {
+            if (seen.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+        });
+        LocalDate start = LocalDate.now().plusDays(1);
+
+        // Act
+        hotel.cancelReservation(hotel.createReservation(guest, room, start, start.plusDays(1)));
+        subscription.close();
+
+        // Assert
+        assertEquals(2, seen.get());
+        assertEquals(1, subscription.getFailureCount());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testSubscribe_NoTypes() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            bus.subscribe(null, EnumSet.noneOf(ReservationEvent.Type.class), event -> { }));
+    }
+
+    @Test
+    public void testSubscribe_AfterClose() {
+        // Arrange
+        bus.close();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> bus.subscribe(event -> { }));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streaming reservation exporter.
+ */
+public class ReservationExporterTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    @TempDir
+    Path directory;
+
+    private HotelChain chain;
+    private Hotel hotel;
+    private Guest john;
+    private Guest jane;
+    private Reservation archived;
+    private Reservation live;
+
+    @BeforeEach
+    public void setUp() {
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        chain = new HotelChain("Chain", clock);
+        hotel = new Hotel(new Name("Harbor Inn"), new BusinessDate(clock));
+        RoomType deluxe = new RoomType("Deluxe", new Money(100.0));
+        hotel.addRoom(new Room(101, deluxe));
+        hotel.addRoom(new Room(102, deluxe));
+        chain.addHotel(hotel);
+        john = Guest.create("G1", new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        jane = Guest.create("G2", new Name("Smith, Jane"), new Address("1 \"Elm\" St", "Boston", "02101"));
+        archived = hotel.createReservation(john, hotel.getRoom(101), TODAY, TODAY.plusDays(2));
+        hotel.cancelReservation(archived);
+        hotel.runNightAudit();
+        live = hotel.createReservation(jane, hotel.getRoom(102), TODAY.plusDays(3), TODAY.plusDays(5));
+    }
+
+    private String export(ReservationExporter exporter, ReservationExporter.Format format, boolean guests) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (guests) {
+            exporter.writeGuests(Channels.newChannel(bytes), format);
+        } else {
+            exporter.writeReservations(Channels.newChannel(bytes), format);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<String[]> parse(String text, ReservationExporter.Format format, List<String> columns) {
+        RecordParser parser = new RecordParser(format == ReservationExporter.Format.CSV
+            ? RecordParser.Format.CSV : RecordParser.Format.NDJSON, columns);
+        String[] lines = text.split("\n");
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 0; i < lines.length; i++) {
+            if (i == 0 && parser.hasHeader()) {
+                parser.bindHeader(lines[0]);
+            } else if (!lines[i].isEmpty()) {
+                rows.add(parser.parse(lines[i]));
+            }
+        }
+        return rows;
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testWriteReservations_CsvIncludesArchivedAndLive() {
+        // Arrange
+        ReservationExporter exporter = new ReservationExporter(chain);
+
+        // Act
+        List<String[]> rows = parse(export(exporter, ReservationExporter.Format.CSV, false),
+            ReservationExporter.Format.CSV, ReservationExporter.RESERVATION_COLUMNS);
+
+        // Assert
+        assertEquals(2, exporter.getReservationCount());
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[] {archived.getId().getId(), "Harbor Inn", "G1", "101", "Deluxe",
+            TODAY.toString(), TODAY.toString(), TODAY.plusDays(2).toString(), "CANCELLED"}, rows.get(0));
+        assertEquals(live.getId().getId(), rows.get(1)[0]);
+        assertEquals("CONFIRMED", rows.get(1)[8]);
+    }
+
+    @Test
+    public void testWriteGuests_NdjsonOncePerGuest() {
+        // Arrange
+        hotel.createReservation(jane, hotel.getRoom(101), TODAY.plusDays(7), TODAY.plusDays(8));
+        ReservationExporter exporter = new ReservationExporter(chain);
+
+        // Act
+        List<String[]> rows = parse(export(exporter, ReservationExporter.Format.NDJSON, true),
+            ReservationExporter.Format.NDJSON, ReservationExporter.GUEST_COLUMNS);
+
+        // Assert
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[] {"G2", "Smith, Jane", "1 \"Elm\" St", "Boston", "02101"}, rows.get(1));
+    }
+
+    @Test
+    public void testReadColumnar_MatchesCsv() {
+        // Arrange
+        ReservationExporter exporter = new ReservationExporter(chain);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        exporter.writeReservations(Channels.newChannel(bytes), ReservationExporter.Format.COLUMNAR);
+        List<String[]> decoded = new ArrayList<>();
+
+        // Act
+        long count = ReservationExporter.readColumnar(
+            Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), decoded::add);
+
+        // Assert
+        List<String[]> csv = parse(export(exporter, ReservationExporter.Format.CSV, false),
+            ReservationExporter.Format.CSV, ReservationExporter.RESERVATION_COLUMNS);
+        assertEquals(2, count);
+        for (int i = 0; i < csv.size(); i++) {
+            assertArrayEquals(csv.get(i), decoded.get(i));
+        }
+    }
+
+    @Test
+    public void testExport_RoundTripsThroughImporter() throws IOException {
+        // Arrange
+        ReservationExporter exporter = new ReservationExporter(chain);
+        Path guests = directory.resolve("guests.csv");
+        Path reservations = directory.resolve("reservations.csv");
+        try (FileChannel out = FileChannel.open(guests, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            exporter.writeGuests(out, ReservationExporter.Format.CSV);
+        }
+        try (FileChannel out = FileChannel.open(reservations, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            exporter.writeReservations(out, ReservationExporter.Format.CSV);
+        }
+        HotelChain target = new HotelChain("Target");
+        Hotel copy = new Hotel(new Name("Harbor Inn"));
+        copy.addRoom(new Room(101, new RoomType("Deluxe", new Money(100.0))));
+        copy.addRoom(new Room(102, new RoomType("Deluxe", new Money(100.0))));
+        target.addHotel(copy);
+        ReservationImporter importer = new ReservationImporter(target);
+
+        // Act
+        importer.importGuests(guests, RecordParser.Format.CSV);
+        ImportReport report = importer.importReservations(reservations, RecordParser.Format.CSV);
+
+        // Assert
+        assertEquals(2, report.getRowsLoaded());
+        assertEquals(1, copy.getReservationHistory().size());
+        assertEquals(1, copy.getActiveReservations().size());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testSnapshot_IgnoresLaterChanges() {
+        // Arrange
+        ReservationExporter exporter = new ReservationExporter(chain);
+
+        // Act
+        hotel.cancelReservation(live);
+        hotel.createReservation(john, hotel.getRoom(101), TODAY.plusDays(9), TODAY.plusDays(10));
+        List<String[]> rows = parse(export(exporter, ReservationExporter.Format.CSV, false),
+            ReservationExporter.Format.CSV, ReservationExporter.RESERVATION_COLUMNS);
+
+        // Assert
+        assertEquals(2, rows.size());
+        assertEquals("CONFIRMED", rows.get(1)[8]);
+    }
+
+    @Test
+    public void testCapture_ManyHotelsOneLockAtATime() {
+        // Arrange
+        for (int i = 0; i < 20000; i++) {
+            Hotel extra = new Hotel(new Name("Hotel " + i));
+            extra.addRoom(new Room(1, new RoomType("Standard", new Money(80.0))));
+            chain.addHotel(extra);
+        }
+
+        // Act
+        ReservationExporter exporter = new ReservationExporter(chain);
+
+        // Assert
+        assertEquals(2, exporter.getReservationCount());
+    }
+
+    @Test
+    public void testExport_EmptyChain() {
+        // Arrange
+        ReservationExporter exporter = new ReservationExporter(new HotelChain("Empty"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        exporter.writeReservations(Channels.newChannel(bytes), ReservationExporter.Format.COLUMNAR);
+
+        // Act
+        long count = ReservationExporter.readColumnar(
+            Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), row -> fail());
+
+        // Assert
+        assertEquals(0, count);
+        assertEquals(String.join(",", ReservationExporter.RESERVATION_COLUMNS) + "\n",
+            export(exporter, ReservationExporter.Format.CSV, false));
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testWriteReservations_NullChannel() {
+        // Arrange
+        ReservationExporter exporter = new ReservationExporter(chain);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> exporter.writeReservations(null, ReservationExporter.Format.CSV));
+        assertThrows(IllegalArgumentException.class, () -> new ReservationExporter(null));
+    }
+
+    @Test
+    public void testReadColumnar_NotAnExtract() {
+        // Arrange
+        byte[] text = "id,hotel\n".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ReservationExporter.readColumnar(
+            Channels.newChannel(new ByteArrayInputStream(text)), row -> { }));
+    }
+}
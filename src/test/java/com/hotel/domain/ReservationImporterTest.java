@@ -0,0 +1,259 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streaming bulk importer.
+ */
+public class ReservationImporterTest {
+
+    @TempDir
+    Path directory;
+
+    private HotelChain chain;
+    private ReservationImporter importer;
+    private LocalDate today;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        chain = new HotelChain("Chain");
+        importer = new ReservationImporter(chain);
+        today = LocalDate.now();
+        importer.importHotels(write("hotels.csv", "name", "Harbor Inn", "Grand Hotel"), RecordParser.Format.CSV);
+        importer.importRooms(write("rooms.csv", "hotel,number,type,rate",
+            "Harbor Inn,101,Deluxe,100.0",
+            "Harbor Inn,102,Deluxe,100.0",
+            "Grand Hotel,201,Suite,250.0"), RecordParser.Format.CSV);
+        importer.importGuests(write("guests.csv", "id,name,street,city,postalCode",
+            "G1,John Doe,123 Main,Boston,02101",
+            "G2,\"Smith, Jane\",\"1 Elm St, Apt 2\",Boston,02101"), RecordParser.Format.CSV);
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        return Files.write(directory.resolve(fileName), List.of(lines));
+    }
+
+    private String reservationRow(String id, String hotel, String guest, int room, LocalDate start,
+                                  int nights, String status) {
+        return String.join(",", id, hotel, guest, String.valueOf(room), start.minusDays(10).toString(),
+            start.toString(), start.plusDays(nights).toString(), status);
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testImport_LoadsHotelsRoomsAndGuests() {
+        // Act
+        Hotel harbor = chain.getHotel("Harbor Inn");
+
+        // Assert
+        assertEquals(2, chain.getAllHotels().size());
+        assertEquals(2, harbor.getAllRooms().size());
+        assertEquals(new Name("Smith, Jane"), importer.getGuest("G2").getName());
+        assertEquals("1 Elm St, Apt 2", importer.getGuest("G2").getAddress().getStreet());
+    }
+
+    @Test
+    public void testImportHotels_KeepsAddressAndTimeZone() throws IOException {
+        // Arrange
+        Path file = write("located.csv", "name,street,city,postalCode,latitude,longitude,timeZone",
+            "Bay Lodge,1 Pier Rd,Boston,02110,42.36,-71.05,America/New_York");
+
+        // Act
+        ImportReport report = importer.importHotels(file, RecordParser.Format.CSV);
+        Hotel lodge = chain.getHotel("Bay Lodge");
+
+        // Assert
+        assertEquals(1, report.getRowsLoaded());
+        assertEquals(new Address("1 Pier Rd", "Boston", "02110"), lodge.getAddress());
+        assertEquals(42.36, lodge.getCoordinates().getLatitude());
+        assertEquals(ZoneId.of("America/New_York"), lodge.getBusinessDate().getZone());
+        assertSame(chain.getBusinessDate().getClock(), lodge.getBusinessDate().getClock());
+    }
+
+    @Test
+    public void testImportReservations_ArchivesFinishedAndBooksLive() throws IOException {
+        // Arrange
+        Path file = write("reservations.csv", "id,hotel,guestId,room,reservationDate,startDate,endDate,status",
+            reservationRow("R1", "Harbor Inn", "G1", 101, today.minusDays(30), 2, "CHECKED_OUT"),
+            reservationRow("R2", "Harbor Inn", "G2", 101, today.minusDays(20), 3, "CANCELLED"),
+            reservationRow("R3", "Harbor Inn", "G1", 101, today.plusDays(5), 2, "CONFIRMED"),
+            reservationRow("R4", "Grand Hotel", "G2", 201, today.minusDays(1), 3, "CHECKED_IN"));
+
+        // Act
+        ImportReport report = importer.importReservations(file, RecordParser.Format.CSV);
+
+        // Assert
+        Hotel harbor = chain.getHotel("Harbor Inn");
+        Hotel grand = chain.getHotel("Grand Hotel");
+        assertEquals(4, report.getRowsRead());
+        assertEquals(4, report.getRowsLoaded());
+        assertEquals(0, report.getErrorCount());
+        assertEquals(2, harbor.getReservationHistory().size());
+        assertEquals(1, harbor.getActiveReservations().size());
+        assertFalse(harbor.getAvailableRooms(harbor.getRoom(101).getRoomType(), today.plusDays(5),
+            today.plusDays(7)).contains(harbor.getRoom(101)));
+        assertEquals(importer.getGuest("G2"), grand.getRoom(201).getOccupant());
+        assertEquals(2, harbor.getGuestReservations(importer.getGuest("G1")).size());
+    }
+
+    @Test
+    public void testImportReservations_Ndjson() throws IOException {
+        // Arrange
+        Path file = write("reservations.ndjson",
+            "{\"id\":\"R1\",\"hotel\":\"Harbor Inn\",\"guestId\":\"G1\",\"room\":102,"
+                + "\"reservationDate\":\"" + today + "\",\"startDate\":\"" + today.plusDays(1) + "\","
+                + "\"endDate\":\"" + today.plusDays(3) + "\",\"status\":\"CONFIRMED\"}",
+            "",
+            "{\"id\":\"R2\",\"hotel\":\"Harbor Inn\",\"guestId\":\"G9\",\"room\":102,"
+                + "\"reservationDate\":\"" + today + "\",\"startDate\":\"" + today.plusDays(4) + "\","
+                + "\"endDate\":\"" + today.plusDays(5) + "\",\"status\":\"CONFIRMED\"}");
+
+        // Act
+        ImportReport report = importer.importReservations(file, RecordParser.Format.NDJSON);
+
+        // Assert
+        assertEquals(2, report.getRowsRead());
+        assertEquals(1, report.getRowsLoaded());
+        assertEquals(3, report.getErrors().get(0).getLine());
+        assertEquals("Guest not found: G9", report.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    public void testImportReservations_RecordsCardsWithManager() throws IOException {
+        // Arrange
+        ReservationManager manager = new ReservationManager();
+        Path file = write("reservations.csv",
+            "id,hotel,guestId,room,reservationDate,startDate,endDate,status,cardNumber,cardHolder,cardExpiry,cardCvv",
+            reservationRow("R1", "Harbor Inn", "G1", 101, today.plusDays(1), 2, "CONFIRMED")
+                + ",4111111111111111,John Doe,12/25,123",
+            reservationRow("R2", "Harbor Inn", "G1", 102, today.plusDays(1), 2, "CONFIRMED"));
+
+        // Act
+        ImportReport report = importer.importReservations(file, RecordParser.Format.CSV, manager);
+
+        // Assert
+        assertEquals(2, report.getRowsLoaded());
+        assertEquals(1, manager.getReservationCount());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testImportReservations_ManyChunks() throws IOException {
+        // Arrange
+        StringBuilder file = new StringBuilder("id,hotel,guestId,room,reservationDate,startDate,endDate,status\n");
+        for (int i = 0; i < 10_000; i++) {
+            LocalDate start = today.minusDays(20_000 - 2L * i);
+            file.append(reservationRow("R" + i, "Harbor Inn", i % 2 == 0 ? "G1" : "G2", 101, start, 1,
+                "CHECKED_OUT")).append('\n');
+        }
+        Path path = Files.writeString(directory.resolve("bulk.csv"), file);
+
+        // Act
+        ImportReport report = importer.importReservations(path, RecordParser.Format.CSV);
+
+        // Assert
+        assertEquals(10_000, report.getRowsLoaded());
+        assertEquals(10_000, chain.getHotel("Harbor Inn").getReservationHistory().size());
+    }
+
+    @Test
+    public void testImport_EmptyFile() throws IOException {
+        // Act
+        ImportReport report = importer.importReservations(write("empty.csv"), RecordParser.Format.CSV);
+
+        // Assert
+        assertEquals(0, report.getRowsRead());
+        assertTrue(report.getErrors().isEmpty());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testImportHotels_RejectsUnknownTimeZone() throws IOException {
+        // Arrange
+        Path file = write("zones.csv", "name,timeZone", "Bay Lodge,Mars/Olympus", "Hill Inn,Europe/Paris");
+
+        // Act
+        ImportReport report = importer.importHotels(file, RecordParser.Format.CSV);
+
+        // Assert
+        assertEquals(1, report.getRowsLoaded());
+        assertEquals(2, report.getErrors().get(0).getLine());
+        assertFalse(chain.getAllHotels().stream().anyMatch(h -> h.getName().getValue().equals("Bay Lodge")));
+        assertNull(chain.getHotel("Hill Inn").getAddress());
+    }
+
+    @Test
+    public void testImportReservations_ReportsRowErrors() throws IOException {
+        // Arrange
+        Path file = write("reservations.csv", "id,hotel,guestId,room,reservationDate,startDate,endDate,status,"
+            + "cardNumber,cardHolder,cardExpiry,cardCvv",
+            reservationRow("R1", "Harbor Inn", "G1", 101, today.plusDays(1), 3, "CONFIRMED"),
+            reservationRow("R2", "Harbor Inn", "G2", 101, today.plusDays(2), 3, "CONFIRMED"),
+            reservationRow("R1", "Harbor Inn", "G2", 102, today.plusDays(9), 1, "CONFIRMED"),
+            reservationRow("R3", "Nowhere", "G1", 101, today, 1, "CONFIRMED"),
+            reservationRow("R4", "Harbor Inn", "G1", 999, today, 1, "CONFIRMED"),
+            reservationRow("R5", "Harbor Inn", "G1", 102, today, 0, "CONFIRMED"),
+            reservationRow("R6", "Harbor Inn", "G1", 102, today, 1, "LOST"),
+            "R7,Harbor Inn,G1,102,yesterday,2024-01-01,2024-01-02,CHECKED_OUT",
+            "R8,Harbor Inn,G1,102,2024-01-01,2024-01-02,2024-01-03,CHECKED_OUT,123,John,12/25,123",
+            ",Harbor Inn,G1,102,2024-01-01,2024-01-02,2024-01-03,CHECKED_OUT");
+
+        // Act
+        ImportReport report = importer.importReservations(file, RecordParser.Format.CSV);
+
+        // Assert
+        assertEquals(10, report.getRowsRead());
+        assertEquals(1, report.getRowsLoaded());
+        assertEquals(9, report.getErrorCount());
+        List<Long> lines = report.getErrors().stream().map(ImportReport.RowError::getLine).sorted().toList();
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L), lines);
+    }
+
+    @Test
+    public void testImportRooms_DuplicateAndUnknownHotel() throws IOException {
+        // Arrange
+        Path file = write("more-rooms.csv", "hotel,number,type,rate",
+            "Harbor Inn,101,Deluxe,100.0",
+            "Missing,1,Deluxe,100.0",
+            "Harbor Inn,abc,Deluxe,100.0",
+            "Harbor Inn,103,Deluxe,100.0");
+
+        // Act
+        ImportReport report = importer.importRooms(file, RecordParser.Format.CSV);
+
+        // Assert
+        assertEquals(1, report.getRowsLoaded());
+        assertEquals(3, report.getErrorCount());
+        assertEquals(3, chain.getHotel("Harbor Inn").getAllRooms().size());
+    }
+
+    @Test
+    public void testImport_MissingFile() {
+        // Act & Assert
+        assertThrows(UncheckedIOException.class,
+            () -> importer.importGuests(directory.resolve("missing.csv"), RecordParser.Format.CSV));
+    }
+
+    @Test
+    public void testImport_NullArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> importer.importHotels(null, RecordParser.Format.CSV));
+        assertThrows(IllegalArgumentException.class, () -> new ReservationImporter(null));
+    }
+}
@@ -62,7 +62,7 @@ public class ReservationTest {
         Reservation reservation = Reservation.create(guest, room, startDate, endDate);
 
         // Act
-        reservation.checkIn();
+        reservation.checkIn(startDate);
 
         // Assert
         assertEquals(Reservation.ReservationStatus.CHECKED_IN, reservation.getStatus());
@@ -72,7 +72,7 @@ public class ReservationTest {
     public void testCheckOut_Success() {
         // Arrange
         Reservation reservation = Reservation.create(guest, room, startDate, endDate);
-        reservation.checkIn();
+        reservation.checkIn(startDate);
 
         // Act
         reservation.checkOut();
@@ -134,6 +134,21 @@ public class ReservationTest {
         assertTrue(reservation.getStartDate().isAfter(LocalDate.now()));
     }
 
+    @Test
+    public void testCreateReservation_WithBookingDate() {
+        // Arrange
+        LocalDate bookingDate = LocalDate.of(2020, 2, 1);
+        LocalDate start = LocalDate.of(2020, 2, 10);
+        LocalDate end = LocalDate.of(2020, 2, 12);
+
+        // Act
+        Reservation reservation = Reservation.create(guest, room, start, end, bookingDate);
+
+        // Assert
+        assertEquals(bookingDate, reservation.getReservationDate());
+        assertThrows(IllegalStateException.class, () -> reservation.checkIn(bookingDate));
+    }
+
     // ==================== Invalid Inputs ====================
 
     @Test
@@ -195,10 +210,10 @@ public class ReservationTest {
     public void testCheckIn_NotConfirmed() {
         // Arrange
         Reservation reservation = Reservation.create(guest, room, startDate, endDate);
-        reservation.checkIn();
+        reservation.checkIn(startDate);
 
         // Act & Assert
-        assertThrows(IllegalStateException.class, reservation::checkIn);
+        assertThrows(IllegalStateException.class, () -> reservation.checkIn(startDate));
     }
 
     @Test
@@ -214,7 +229,7 @@ public class ReservationTest {
     public void testCancel_CheckedOut() {
         // Arrange
         Reservation reservation = Reservation.create(guest, room, startDate, endDate);
-        reservation.checkIn();
+        reservation.checkIn(startDate);
         reservation.checkOut();
 
         // Act & Assert
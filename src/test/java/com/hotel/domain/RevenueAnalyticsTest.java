@@ -0,0 +1,182 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for occupancy and revenue analytics.
+ */
+public class RevenueAnalyticsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    private ForkJoinPool pool;
+    private RevenueAnalytics analytics;
+    private HotelChain chain;
+    private Hotel hotel;
+    private RoomType deluxe;
+    private RoomType suite;
+    private Guest guest;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        analytics = new RevenueAnalytics(pool);
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        chain = new HotelChain("Chain", clock);
+        hotel = new Hotel(new Name("Harbor Inn"), new BusinessDate(clock));
+        deluxe = new RoomType("Deluxe", new Money(100.0));
+        suite = new RoomType("Suite", new Money(250.0));
+        hotel.addRoom(new Room(101, deluxe));
+        hotel.addRoom(new Room(102, deluxe));
+        hotel.addRoom(new Room(201, suite));
+        chain.addHotel(hotel);
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+
+        hotel.createReservation(guest, hotel.getRoom(101), TODAY, TODAY.plusDays(2));
+        hotel.createReservation(guest, hotel.getRoom(201), TODAY.plusDays(1), TODAY.plusDays(2));
+        Reservation departed = hotel.createReservation(guest, hotel.getRoom(102), TODAY, TODAY.plusDays(1));
+        hotel.checkInGuest(departed);
+        hotel.checkOutGuest(departed);
+        hotel.runNightAudit();
+        Reservation cancelled = hotel.createReservation(guest, hotel.getRoom(102), TODAY.plusDays(2),
+            TODAY.plusDays(3));
+        hotel.cancelReservation(cancelled);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testAnalyze_HotelMetrics() {
+        // Act
+        RevenueReport report = analytics.analyze(chain, TODAY, TODAY.plusDays(3));
+        RevenueMetrics metrics = report.getHotelMetrics("Harbor Inn");
+
+        // Assert
+        assertEquals(1, hotel.getReservationHistory().size());
+        assertEquals(4, metrics.getSoldRoomNights());
+        assertEquals(9, metrics.getAvailableRoomNights());
+        assertEquals(new Money(550.0).getAmount().compareTo(metrics.getRevenue().getAmount()), 0);
+        assertEquals(4.0 / 9, metrics.getOccupancy(), 1e-9);
+        assertEquals("137.50", metrics.getAdr().getAmount().toPlainString());
+        assertEquals("61.11", metrics.getRevPar().getAmount().toPlainString());
+    }
+
+    @Test
+    public void testAnalyze_RoomTypeAndDailyMetrics() {
+        // Act
+        RevenueReport report = analytics.analyze(chain, TODAY, TODAY.plusDays(3));
+
+        // Assert
+        RevenueMetrics deluxeMetrics = report.getRoomTypeMetrics("Harbor Inn", deluxe);
+        assertEquals(3, deluxeMetrics.getSoldRoomNights());
+        assertEquals(6, deluxeMetrics.getAvailableRoomNights());
+        assertEquals("100.00", deluxeMetrics.getAdr().getAmount().toPlainString());
+        RevenueMetrics secondNight = report.getDailyMetrics("Harbor Inn", TODAY.plusDays(1));
+        assertEquals(2, secondNight.getSoldRoomNights());
+        assertEquals("350.00", secondNight.getRevenue().getAmount().toPlainString());
+        assertEquals(0, report.getDailyMetrics("Harbor Inn", TODAY.plusDays(2)).getSoldRoomNights());
+        assertEquals(List.of(deluxe, suite), report.getRoomTypes("Harbor Inn"));
+    }
+
+    @Test
+    public void testAnalyze_MatchesSequentialCountOnLargeHistory() {
+        // Arrange
+        Hotel big = new Hotel(new Name("Big Hotel"));
+        for (int number = 1; number <= 40; number++) {
+            big.addRoom(new Room(number, number <= 30 ? deluxe : suite));
+        }
+        List<Reservation> history = new ArrayList<>();
+        long expectedSold = 0;
+        long expectedCents = 0;
+        LocalDate first = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 60_000; i++) {
+            Room room = big.getRoom(i % 40 + 1);
+            LocalDate start = first.plusDays(i / 40 * 2L);
+            Reservation.ReservationStatus status = i % 7 == 0 ? Reservation.ReservationStatus.CANCELLED
+                : Reservation.ReservationStatus.CHECKED_OUT;
+            history.add(Reservation.restore(new Identity("H" + i), guest, room, start, start, start.plusDays(2),
+                status));
+            if (status == Reservation.ReservationStatus.CHECKED_OUT) {
+                expectedSold += 2;
+                expectedCents += room.getRoomType().equals(deluxe) ? 20_000 : 50_000;
+            }
+        }
+        assertTrue(big.loadReservations(history).isEmpty());
+        LocalDate end = first.plusDays(3000);
+
+        // Act
+        RevenueReport report = analytics.analyze(List.of(big, hotel), first, end);
+
+        // Assert
+        RevenueMetrics metrics = report.getHotelMetrics("Big Hotel");
+        assertEquals(expectedSold, metrics.getSoldRoomNights());
+        assertEquals(40L * 3000, metrics.getAvailableRoomNights());
+        assertEquals(expectedCents, metrics.getRevenue().getAmount().movePointRight(2).longValueExact());
+        assertEquals(List.of("Big Hotel", "Harbor Inn"), report.getHotelNames());
+        assertEquals(expectedSold, report.getChainMetrics().getSoldRoomNights());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testAnalyze_ClipsStaysToRange() {
+        // Act
+        RevenueReport report = analytics.analyze(chain, TODAY.plusDays(1), TODAY.plusDays(2));
+
+        // Assert
+        RevenueMetrics metrics = report.getHotelMetrics("Harbor Inn");
+        assertEquals(2, metrics.getSoldRoomNights());
+        assertEquals(3, metrics.getAvailableRoomNights());
+    }
+
+    @Test
+    public void testAnalyze_NoHotels() {
+        // Act
+        RevenueReport report = analytics.analyze(List.of(), TODAY, TODAY.plusDays(1));
+
+        // Assert
+        RevenueMetrics metrics = report.getChainMetrics();
+        assertEquals(0, metrics.getSoldRoomNights());
+        assertEquals(0.0, metrics.getOccupancy());
+        assertEquals("0.00", metrics.getAdr().getAmount().toPlainString());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testAnalyze_EmptyRange() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> analytics.analyze(chain, TODAY, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> analytics.analyze((HotelChain) null, TODAY,
+            TODAY.plusDays(1)));
+    }
+
+    @Test
+    public void testReport_UnknownHotelAndNight() {
+        // Arrange
+        RevenueReport report = analytics.analyze(chain, TODAY, TODAY.plusDays(3));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> report.getHotelMetrics("Missing"));
+        assertThrows(IllegalArgumentException.class, () -> report.getDailyMetrics("Harbor Inn", TODAY.plusDays(3)));
+        assertThrows(IllegalArgumentException.class,
+            () -> report.getRoomTypeMetrics("Harbor Inn", new RoomType("Loft", new Money(1.0))));
+    }
+}
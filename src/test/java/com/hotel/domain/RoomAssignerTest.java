@@ -0,0 +1,157 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for best-fit room assignment.
+ */
+public class RoomAssignerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    private Hotel hotel;
+    private RoomType standard;
+    private Room room1;
+    private Room room2;
+    private Guest guest;
+
+    @BeforeEach
+    public void setUp() {
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Packing Hotel"), new BusinessDate(clock));
+        standard = new RoomType("Standard", new Money(80.0));
+        room1 = new Room(1, standard);
+        room2 = new Room(2, standard);
+        hotel.addRoom(room1);
+        hotel.addRoom(room2);
+        hotel.addRoom(new Room(3, new RoomType("Suite", new Money(300.0))));
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testFindBestRoom_PrefersAdjacentStay() {
+        // Arrange
+        hotel.createReservation(guest, room2, TODAY.plusDays(1), TODAY.plusDays(3));
+
+        // Act
+        Room best = hotel.findBestRoom(standard, TODAY.plusDays(4), TODAY.plusDays(6));
+
+        // Assert
+        assertEquals(room2, best);
+    }
+
+    @Test
+    public void testGetAvailableRooms_BestFitFirst() {
+        // Arrange
+        hotel.createReservation(guest, room2, TODAY.plusDays(1), TODAY.plusDays(3));
+
+        // Act
+        List<Room> available = hotel.getAvailableRooms(standard, TODAY.plusDays(4), TODAY.plusDays(6));
+
+        // Assert
+        assertEquals(List.of(room2, room1), available);
+    }
+
+    @Test
+    public void testFindBestRoom_AvoidsOrphanGap() {
+        // Arrange
+        hotel.createReservation(guest, room1, TODAY.plusDays(1), TODAY.plusDays(2));
+        hotel.createReservation(guest, room2, TODAY.plusDays(1), TODAY.plusDays(3));
+
+        // Act
+        Room best = hotel.findBestRoom(standard, TODAY.plusDays(6), TODAY.plusDays(8));
+
+        // Assert
+        assertEquals(room1, best);
+    }
+
+    @Test
+    public void testOptimizeRoomAssignments_OpensLongRun() {
+        // Arrange
+        hotel.createReservation(guest, room1, TODAY.plusDays(1), TODAY.plusDays(2));
+        Reservation later = hotel.createReservation(guest, room2, TODAY.plusDays(3), TODAY.plusDays(4));
+
+        // Act
+        int moved = hotel.optimizeRoomAssignments(standard);
+
+        // Assert
+        assertEquals(1, moved);
+        assertEquals(room1, later.getRoom());
+        assertEquals(List.of(room2), hotel.getAvailableRooms(standard, TODAY.plusDays(1), TODAY.plusDays(30)));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testFindBestRoom_LargePropertyInline() {
+        // Arrange
+        Hotel large = new Hotel(new Name("Large Hotel"));
+        for (int number = 1; number <= 1_000; number++) {
+            large.addRoom(new Room(number, standard));
+        }
+        LocalDate start = LocalDate.now().plusDays(1);
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate stayStart = start.plusDays(i % 30);
+            Room room = large.findBestRoom(standard, stayStart, stayStart.plusDays(1 + i % 4));
+            large.createReservation(guest, room, stayStart, stayStart.plusDays(1 + i % 4));
+        }
+
+        // Act
+        long begin = System.nanoTime();
+        Room room = large.findBestRoom(standard, start.plusDays(3), start.plusDays(5));
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+
+        // Assert
+        assertNotNull(room);
+        assertTrue(elapsedMillis < 500);
+    }
+
+    @Test
+    public void testFindBestRoom_NoneAvailable() {
+        // Arrange
+        hotel.createReservation(guest, room1, TODAY.plusDays(1), TODAY.plusDays(3));
+        hotel.createReservation(guest, room2, TODAY.plusDays(1), TODAY.plusDays(3));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () ->
+            hotel.findBestRoom(standard, TODAY.plusDays(2), TODAY.plusDays(4)));
+    }
+
+    @Test
+    public void testCancelledReservation_FreesCalendar() {
+        // Arrange
+        Reservation reservation = hotel.createReservation(guest, room1, TODAY.plusDays(1), TODAY.plusDays(3));
+
+        // Act
+        reservation.cancel();
+
+        // Assert
+        assertEquals(2, hotel.getAvailableRooms(standard, TODAY.plusDays(1), TODAY.plusDays(3)).size());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testFindBestRoom_NullType() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            hotel.findBestRoom(null, TODAY.plusDays(1), TODAY.plusDays(2)));
+    }
+
+    @Test
+    public void testOptimizeRoomAssignments_NullType() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> hotel.optimizeRoomAssignments(null));
+    }
+}
@@ -0,0 +1,203 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for room maintenance blocks.
+ */
+public class RoomBlockTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    private MutableClock clock;
+    private Hotel hotel;
+    private RoomType deluxe;
+    private RoomType suite;
+    private Guest guest;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Block Hotel"), new BusinessDate(clock));
+        deluxe = new RoomType("Deluxe", new Money(100.0));
+        suite = new RoomType("Suite", new Money(250.0));
+        for (int floor = 1; floor <= 3; floor++) {
+            for (int door = 1; door <= 4; door++) {
+                hotel.addRoom(new Room(floor * 100 + door, door == 4 ? suite : deluxe));
+            }
+        }
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+    }
+
+    private static List<Integer> numbers(List<Room> rooms) {
+        List<Integer> numbers = new ArrayList<>();
+        for (Room room : rooms) {
+            numbers.add(room.getNumber());
+        }
+        return numbers;
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testBlockRoom_HidesRoomFromAvailabilityAndBooking() {
+        // Arrange
+        Room room = hotel.getRoom(101);
+
+        // Act
+        RoomBlock block = hotel.blockRoom(room, TODAY.plusDays(2), TODAY.plusDays(5), "Bathroom refit");
+
+        // Assert
+        assertTrue(block.isActive());
+        assertEquals(List.of(102, 103, 201, 202, 203, 301, 302, 303),
+            numbers(hotel.getAvailableRooms(deluxe, TODAY.plusDays(3), TODAY.plusDays(4))));
+        assertThrows(IllegalStateException.class,
+            () -> hotel.createReservation(guest, room, TODAY.plusDays(5), TODAY.plusDays(7)));
+        assertNotNull(hotel.createReservation(guest, room, TODAY.plusDays(6), TODAY.plusDays(8)));
+        assertEquals(List.of(block), hotel.getRoomBlocks());
+    }
+
+    @Test
+    public void testBlockFloor_BlocksEveryRoomOnIt() {
+        // Act
+        List<RoomBlock> blocked = hotel.blockFloor(2, TODAY.plusDays(1), TODAY.plusDays(30), "Renovation");
+
+        // Assert
+        assertEquals(4, blocked.size());
+        assertEquals(201, blocked.get(0).getRoom().getNumber());
+        assertEquals(List.of(104, 304), numbers(hotel.getAvailableRooms(suite, TODAY.plusDays(10),
+            TODAY.plusDays(12))));
+        assertEquals(3, hotel.getInventory().getSold(deluxe, TODAY.plusDays(10)));
+        assertEquals(1, hotel.getInventory().getSold(suite, TODAY.plusDays(30)));
+    }
+
+    @Test
+    public void testBlockRoomRange_ReducesTypeInventory() {
+        // Arrange
+        hotel.blockRoomRange(101, 203, TODAY.plusDays(1), TODAY.plusDays(3), "Carpet replacement");
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            hotel.createReservation(guest, deluxe, TODAY.plusDays(1), TODAY.plusDays(2));
+        }
+
+        // Assert
+        assertThrows(IllegalStateException.class,
+            () -> hotel.createReservation(guest, deluxe, TODAY.plusDays(1), TODAY.plusDays(2)));
+        assertEquals(9, hotel.getInventory().getSold(deluxe, TODAY.plusDays(2)));
+        assertEquals(1, hotel.getInventory().getSold(suite, TODAY.plusDays(2)));
+    }
+
+    @Test
+    public void testReleaseBlock_ReturnsRoomToInventory() {
+        // Arrange
+        Room room = hotel.getRoom(104);
+        RoomBlock block = hotel.blockRoom(room, TODAY.plusDays(1), TODAY.plusDays(3), "Leak");
+
+        // Act
+        hotel.releaseBlock(block);
+
+        // Assert
+        assertFalse(block.isActive());
+        assertTrue(hotel.getRoomBlocks().isEmpty());
+        assertEquals(0, hotel.getInventory().getSold(suite, TODAY.plusDays(2)));
+        assertNotNull(hotel.createReservation(guest, room, TODAY.plusDays(1), TODAY.plusDays(3)));
+        assertThrows(IllegalStateException.class, () -> hotel.releaseBlock(block));
+    }
+
+    @Test
+    public void testNightAudit_DropsFinishedBlocks() {
+        // Arrange
+        RoomBlock past = hotel.blockRoom(hotel.getRoom(101), TODAY, TODAY.plusDays(1), "Paint");
+        RoomBlock future = hotel.blockRoom(hotel.getRoom(102), TODAY, TODAY.plusDays(5), "Paint");
+        clock.advance(Duration.ofDays(2));
+
+        // Act
+        hotel.runNightAudit();
+
+        // Assert
+        assertFalse(past.isActive());
+        assertEquals(List.of(future), hotel.getRoomBlocks());
+    }
+
+    @Test
+    public void testReleaseBlock_StartedBlockKeepsPastDaysCounted() {
+        // Arrange
+        RoomBlock block = hotel.blockRoom(hotel.getRoom(104), TODAY, TODAY.plusDays(4), "Leak");
+        clock.advance(Duration.ofDays(2));
+
+        // Act
+        hotel.releaseBlock(block);
+
+        // Assert
+        assertEquals(1, hotel.getInventory().getSold(suite, TODAY.plusDays(1)));
+        assertEquals(0, hotel.getInventory().getSold(suite, TODAY.plusDays(2)));
+        assertEquals(0, hotel.getInventory().getSold(suite, TODAY.plusDays(4)));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testBlockRooms_AllOrNothingWhenOneRoomIsBooked() {
+        // Arrange
+        hotel.createReservation(guest, hotel.getRoom(302), TODAY.plusDays(4), TODAY.plusDays(6));
+
+        // Act
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> hotel.blockFloor(3, TODAY.plusDays(1), TODAY.plusDays(4), "Renovation"));
+
+        // Assert
+        assertTrue(e.getMessage().contains("302"));
+        assertTrue(hotel.getRoomBlocks().isEmpty());
+        assertEquals(0, hotel.getInventory().getSold(suite, TODAY.plusDays(2)));
+    }
+
+    @Test
+    public void testBlockRooms_SoldOutTypeRollsBackOtherTypes() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            hotel.createReservation(guest, suite, TODAY.plusDays(1), TODAY.plusDays(2));
+        }
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> hotel.blockFloor(1, TODAY.plusDays(1), TODAY.plusDays(2), "Renovation"));
+        assertEquals(0, hotel.getInventory().getSold(deluxe, TODAY.plusDays(1)));
+        assertTrue(hotel.getRoomBlocks().isEmpty());
+    }
+
+    @Test
+    public void testBlock_SingleDayAndEmptyFloor() {
+        assertNotNull(hotel.blockRoom(hotel.getRoom(101), TODAY.plusDays(1), TODAY.plusDays(1), "Inspection"));
+        assertTrue(hotel.blockFloor(9, TODAY, TODAY.plusDays(1), "Renovation").isEmpty());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testInvalidArguments() {
+        Room room = hotel.getRoom(101);
+        Room foreign = new Room(999, deluxe);
+        assertThrows(IllegalArgumentException.class, () -> hotel.blockRoom(null, TODAY, TODAY, "Leak"));
+        assertThrows(IllegalArgumentException.class, () -> hotel.blockRoom(foreign, TODAY, TODAY, "Leak"));
+        assertThrows(IllegalArgumentException.class, () -> hotel.blockRoom(room, TODAY.plusDays(1), TODAY, "Leak"));
+        assertThrows(IllegalArgumentException.class, () -> hotel.blockRoom(room, TODAY, TODAY, " "));
+        assertThrows(IllegalArgumentException.class,
+            () -> hotel.blockRoom(room, TODAY.minusDays(1), TODAY.plusDays(1), "Leak"));
+        assertThrows(IllegalArgumentException.class,
+            () -> hotel.blockRooms(List.of(room, room), TODAY, TODAY, "Leak"));
+        assertThrows(IllegalArgumentException.class, () -> hotel.blockRoomRange(300, 200, TODAY, TODAY, "Leak"));
+        assertThrows(IllegalArgumentException.class, () -> hotel.releaseBlock(null));
+    }
+}
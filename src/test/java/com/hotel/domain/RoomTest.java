@@ -171,4 +171,16 @@ public class RoomTest {
         assertTrue(result.contains("101"));
         assertTrue(result.contains("Deluxe"));
     }
+
+    // ==================== Interning ====================
+
+    @Test
+    public void testCreateRoom_SharesCanonicalRoomType() {
+        // Act
+        Room first = new Room(301, new RoomType("Deluxe", new Money(100.0)));
+        Room second = new Room(302, new RoomType("Deluxe", new Money(100.0)));
+
+        // Assert
+        assertSame(first.getRoomType(), second.getRoomType());
+    }
 }
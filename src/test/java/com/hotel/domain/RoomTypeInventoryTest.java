@@ -0,0 +1,163 @@
+package com.hotel.domain;
+
+import com.hotel.util.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-room-type inventory counters and overbooking limits.
+ */
+public class RoomTypeInventoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 3, 1);
+
+    private RoomTypeInventory inventory;
+    private RoomType standard;
+
+    @BeforeEach
+    public void setUp() {
+        inventory = new RoomTypeInventory();
+        standard = new RoomType("Standard", new Money(80.0));
+        for (int i = 0; i < 10; i++) {
+            inventory.addPhysicalRoom(standard);
+        }
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testCapacity_WithoutOverbooking() {
+        // Act & Assert
+        assertEquals(10, inventory.getCapacity(standard, DAY));
+    }
+
+    @Test
+    public void testCapacity_WithOverbookingPercent() {
+        // Act
+        inventory.setOverbookingLimit(standard, 20);
+
+        // Assert
+        assertEquals(12, inventory.getCapacity(standard, DAY));
+    }
+
+    @Test
+    public void testCapacity_NightlyOverride() {
+        // Arrange
+        inventory.setOverbookingLimit(standard, 20);
+
+        // Act
+        inventory.setOverbookingLimit(standard, DAY.plusDays(1), 0);
+
+        // Assert
+        assertEquals(12, inventory.getCapacity(standard, DAY));
+        assertEquals(10, inventory.getCapacity(standard, DAY.plusDays(1)));
+    }
+
+    @Test
+    public void testTryReserve_CountsEveryDay() {
+        // Act
+        boolean reserved = inventory.tryReserve(standard, DAY, DAY.plusDays(2));
+
+        // Assert
+        assertTrue(reserved);
+        assertEquals(1, inventory.getSold(standard, DAY));
+        assertEquals(1, inventory.getSold(standard, DAY.plusDays(2)));
+        assertEquals(0, inventory.getSold(standard, DAY.plusDays(3)));
+    }
+
+    @Test
+    public void testRelease_ReturnsUnits() {
+        // Arrange
+        inventory.tryReserve(standard, DAY, DAY.plusDays(2));
+
+        // Act
+        inventory.release(standard, DAY, DAY.plusDays(2));
+
+        // Assert
+        assertEquals(0, inventory.getSold(standard, DAY.plusDays(1)));
+        assertTrue(inventory.hasCapacity(standard, DAY, DAY.plusDays(2)));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testTryReserve_RollsBackWhenOneNightIsFull() {
+        // Arrange
+        inventory.setOverbookingLimit(standard, 20);
+        inventory.setOverbookingLimit(standard, DAY.plusDays(2), 0);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(inventory.tryReserve(standard, DAY.plusDays(2), DAY.plusDays(3)));
+        }
+
+        // Act
+        boolean reserved = inventory.tryReserve(standard, DAY, DAY.plusDays(2));
+
+        // Assert
+        assertFalse(reserved);
+        assertEquals(0, inventory.getSold(standard, DAY));
+        assertEquals(0, inventory.getSold(standard, DAY.plusDays(1)));
+        assertEquals(10, inventory.getSold(standard, DAY.plusDays(2)));
+    }
+
+    @Test
+    public void testTryReserve_ConcurrentClaimsNeverExceedCapacity() throws Exception {
+        // Arrange
+        inventory.setOverbookingLimit(standard, 50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (inventory.tryReserve(standard, DAY, DAY.plusDays(3))) {
+                    successes.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(15, successes.get());
+        assertEquals(15, inventory.getSold(standard, DAY.plusDays(3)));
+    }
+
+    @Test
+    public void testTryReserve_UnknownType() {
+        // Arrange
+        RoomType suite = new RoomType("Suite", new Money(300.0));
+
+        // Act & Assert
+        assertFalse(inventory.tryReserve(suite, DAY, DAY.plusDays(1)));
+        assertEquals(0, inventory.getCapacity(suite, DAY));
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testSetOverbookingLimit_Negative() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> inventory.setOverbookingLimit(standard, -1));
+    }
+
+    @Test
+    public void testSetOverbookingLimit_NullType() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> inventory.setOverbookingLimit(null, 10));
+    }
+}
@@ -179,4 +179,27 @@ public class RoomTypeTest {
         assertTrue(result.contains("Deluxe"));
         assertTrue(result.contains("100"));
     }
+
+    // ==================== Interning ====================
+
+    @Test
+    public void testOf_ReturnsCanonicalInstance() {
+        // Act
+        RoomType first = RoomType.of("Suite", new Money(300.0));
+        RoomType second = RoomType.of(" Suite ", new Money(300.0));
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testIntern_DistinctValuesStayDistinct() {
+        // Act
+        RoomType suite = RoomType.of("Suite", new Money(300.0));
+        RoomType cheaperSuite = RoomType.of("Suite", new Money(250.0));
+
+        // Assert
+        assertNotSame(suite, cheaperSuite);
+        assertNotEquals(suite, cheaperSuite);
+    }
 }
@@ -0,0 +1,193 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Multi-instance tests for consistent-hash routing over several chain nodes.
+ */
+public class RoutedHotelChainTest {
+
+    private static final int HOTELS = 40;
+
+    private RoutedHotelChain router;
+    private List<HotelChain> nodes;
+    private RoomType deluxe;
+    private Guest guest;
+    private ReservationManager manager;
+    private CreditCard creditCard;
+
+    @BeforeEach
+    public void setUp() {
+        router = new RoutedHotelChain("Cluster");
+        nodes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            HotelChain node = new HotelChain("node-" + i);
+            nodes.add(node);
+            router.addNode("node-" + i, node);
+        }
+        deluxe = new RoomType("Deluxe", new Money(100.0));
+        for (int i = 0; i < HOTELS; i++) {
+            Hotel hotel = new Hotel(new Name("Hotel " + i));
+            hotel.addRoom(new Room(101, deluxe));
+            router.addHotel(hotel);
+        }
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        manager = new ReservationManager();
+        router.registerManager(manager);
+        creditCard = new CreditCard("4111111111111111", "John Doe", "12/25", "123");
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testAddHotel_LandsOnOwningNodeOnly() {
+        // Act
+        HotelChain owner = router.nodeFor("Hotel 7");
+
+        // Assert
+        assertNotNull(owner.getHotel("Hotel 7"));
+        for (HotelChain node : nodes) {
+            if (node != owner) {
+                assertThrows(IllegalArgumentException.class, () -> node.getHotel("Hotel 7"));
+            }
+        }
+        assertEquals(HOTELS, router.getAllHotels().size());
+    }
+
+    @Test
+    public void testMakeReservation_RoutedToOwner() {
+        // Arrange
+        Hotel hotel = router.getHotel("Hotel 3");
+        LocalDate start = LocalDate.now().plusDays(1);
+
+        // Act
+        Reservation reservation = router.makeReservation(hotel, guest, hotel.getRoom(101), start,
+            start.plusDays(2), manager, creditCard);
+        router.cancelReservation(hotel, reservation, manager);
+
+        // Assert
+        assertEquals(Reservation.ReservationStatus.CANCELLED, reservation.getStatus());
+        assertEquals(0, manager.getReservationCount());
+    }
+
+    @Test
+    public void testAddNode_MovesOnlyHotelsItNowOwns() {
+        // Arrange
+        Hotel hotel = router.getHotel("Hotel 11");
+        LocalDate start = LocalDate.now().plusDays(1);
+        Reservation reservation = router.makeReservation(hotel, guest, hotel.getRoom(101), start,
+            start.plusDays(2), manager, creditCard);
+        HotelChain joined = new HotelChain("node-3");
+
+        // Act
+        List<String> moved = router.addNode("node-3", joined);
+
+        // Assert
+        assertFalse(moved.isEmpty());
+        assertTrue(moved.size() < HOTELS / 2);
+        for (String hotelName : moved) {
+            assertSame(joined, router.nodeFor(hotelName));
+        }
+        assertEquals(joined.getAllHotels().size(), moved.size());
+        assertEquals(HOTELS, router.getAllHotels().size());
+        assertEquals(List.of(reservation), router.getHotel("Hotel 11").getActiveReservations());
+    }
+
+    @Test
+    public void testRemoveNode_HandsHotelsToRemainingNodes() {
+        // Arrange
+        int held = nodes.get(1).getAllHotels().size();
+
+        // Act
+        List<String> moved = router.removeNode("node-1");
+
+        // Assert
+        assertEquals(held, moved.size());
+        assertEquals(HOTELS, router.getAllHotels().size());
+        for (String hotelName : moved) {
+            assertNotSame(nodes.get(1), router.nodeFor(hotelName));
+            assertNotNull(router.getHotel(hotelName));
+        }
+    }
+
+    @Test
+    public void testMakeReservation_RetryWithSameKeyAcrossRebalance() {
+        // Arrange
+        String hotelName = nodes.get(1).getAllHotels().iterator().next().getName().getValue();
+        Hotel hotel = router.getHotel(hotelName);
+        LocalDate start = LocalDate.now().plusDays(1);
+        Reservation first = router.makeReservation("req-1", hotel, guest, hotel.getRoom(101), start,
+            start.plusDays(2), manager, creditCard);
+        router.removeNode("node-1");
+
+        // Act
+        Reservation retried = router.makeReservation("req-1", hotel, guest, hotel.getRoom(101), start,
+            start.plusDays(2), manager, creditCard);
+
+        // Assert
+        assertSame(first, retried);
+        assertEquals(1, hotel.getActiveReservations().size());
+        assertEquals(1, manager.getReservationCount());
+    }
+
+    @Test
+    public void testRemoveNode_MovedHotelLogsToNewOwner(@TempDir Path directory) {
+        // Arrange
+        List<ReservationChangeLog> logs = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReservationChangeLog log = new ReservationChangeLog(directory.resolve("node-" + i));
+            nodes.get(i).setChangeLog(log);
+            logs.add(log);
+        }
+        String hotelName = nodes.get(1).getAllHotels().iterator().next().getName().getValue();
+        router.removeNode("node-1");
+        Hotel hotel = router.getHotel(hotelName);
+        int owner = nodes.indexOf(router.nodeFor(hotelName));
+
+        // Act
+        router.makeReservation(hotel, guest, hotel.getRoom(101), LocalDate.now().plusDays(1),
+            LocalDate.now().plusDays(2), manager, creditCard);
+
+        // Assert
+        assertEquals(0, logs.get(1).getEndOffset());
+        assertTrue(logs.get(owner).getEndOffset() > 0);
+        logs.forEach(ReservationChangeLog::close);
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testRemoveNode_LastNodeHoldingHotels() {
+        // Arrange
+        router.removeNode("node-0");
+        router.removeNode("node-1");
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> router.removeNode("node-2"));
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testGetHotel_Unknown() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> router.getHotel("Missing"));
+    }
+
+    @Test
+    public void testMakeReservation_NullHotel() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> router.makeReservation(null, guest, null,
+            LocalDate.now(), LocalDate.now().plusDays(1), manager, creditCard));
+    }
+}
@@ -0,0 +1,209 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the waitlist and its promotion on cancellation.
+ */
+public class WaitlistTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    private MutableClock clock;
+    private Hotel hotel;
+    private RoomType standard;
+    private Room room;
+    private Guest guest;
+    private Guest waiting;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Waitlist Hotel"), new BusinessDate(clock));
+        standard = new RoomType("Standard", new Money(80.0));
+        room = new Room(1, standard);
+        hotel.addRoom(room);
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        waiting = Guest.create(new Name("Jane Roe"), new Address("9 Elm", "Boston", "02101"));
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testPromoteWaitlist_BooksWaitingGuest() {
+        // Arrange
+        Reservation booked = hotel.createReservation(guest, room, TODAY.plusDays(1), TODAY.plusDays(4));
+        WaitlistEntry entry = hotel.joinWaitlist(waiting, standard, TODAY.plusDays(2), TODAY.plusDays(3));
+        hotel.cancelReservation(booked);
+
+        // Act
+        List<WaitlistEntry> promoted = hotel.promoteWaitlist(standard, TODAY.plusDays(1), TODAY.plusDays(4));
+
+        // Assert
+        assertEquals(List.of(entry), promoted);
+        assertEquals(WaitlistEntry.WaitlistStatus.PROMOTED, entry.getStatus());
+        assertEquals(room, entry.getReservation().getRoom());
+        assertEquals(waiting, entry.getReservation().getGuest());
+        assertTrue(hotel.getWaitlist(standard).isEmpty());
+    }
+
+    @Test
+    public void testPromoteWaitlist_PrefersStayInsideFreedRange() {
+        // Arrange
+        Reservation booked = hotel.createReservation(guest, room, TODAY.plusDays(1), TODAY.plusDays(4));
+        WaitlistEntry spilling = hotel.joinWaitlist(waiting, standard, TODAY.plusDays(3), TODAY.plusDays(6));
+        WaitlistEntry inside = hotel.joinWaitlist(waiting, standard, TODAY.plusDays(1), TODAY.plusDays(3));
+        hotel.cancelReservation(booked);
+
+        // Act
+        List<WaitlistEntry> promoted = hotel.promoteWaitlist(standard, TODAY.plusDays(1), TODAY.plusDays(4));
+
+        // Assert
+        assertEquals(List.of(inside), promoted);
+        assertTrue(spilling.isWaiting());
+    }
+
+    @Test
+    public void testChainCancel_PromotesAsynchronously() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        HotelChain chain = new HotelChain("Chain", clock, executor);
+        chain.addHotel(hotel);
+        ReservationManager manager = new ReservationManager();
+        CreditCard card = new CreditCard("4111111111111111", "John Doe", "12/25", "123");
+        Reservation booked = chain.makeReservation(hotel, guest, room, TODAY.plusDays(1), TODAY.plusDays(4),
+            manager, card);
+        WaitlistEntry entry = chain.joinWaitlist(hotel, waiting, standard, TODAY.plusDays(1), TODAY.plusDays(2),
+            manager, card);
+
+        // Act
+        chain.cancelReservation(hotel, booked, manager);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(WaitlistEntry.WaitlistStatus.PROMOTED, entry.getStatus());
+        assertTrue(manager.getManagedReservations().contains(entry.getReservation()));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testPromoteWaitlist_IgnoresNonOverlappingEntries() {
+        // Arrange
+        hotel.createReservation(guest, room, TODAY.plusDays(10), TODAY.plusDays(12));
+        WaitlistEntry entry = hotel.joinWaitlist(waiting, standard, TODAY.plusDays(10), TODAY.plusDays(11));
+
+        // Act
+        List<WaitlistEntry> promoted = hotel.promoteWaitlist(standard, TODAY.plusDays(1), TODAY.plusDays(3));
+
+        // Assert
+        assertTrue(promoted.isEmpty());
+        assertTrue(entry.isWaiting());
+    }
+
+    @Test
+    public void testPromoteWaitlist_ExpiresPastArrivals() {
+        // Arrange
+        WaitlistEntry entry = hotel.joinWaitlist(waiting, standard, TODAY.plusDays(1), TODAY.plusDays(2));
+        clock.advance(Duration.ofDays(2));
+
+        // Act
+        List<WaitlistEntry> promoted = hotel.promoteWaitlist(standard, TODAY, TODAY.plusDays(3));
+
+        // Assert
+        assertTrue(promoted.isEmpty());
+        assertEquals(WaitlistEntry.WaitlistStatus.EXPIRED, entry.getStatus());
+    }
+
+    @Test
+    public void testPromoteWaitlist_FailedEntryDoesNotLoseOthers(@TempDir Path directory) {
+        // Arrange
+        hotel.addRoom(new Room(2, standard));
+        hotel.addRoom(new Room(3, standard));
+        WaitlistEntry first = hotel.joinWaitlist(guest, standard, TODAY.plusDays(1), TODAY.plusDays(2));
+        WaitlistEntry second = hotel.joinWaitlist(waiting, standard, TODAY.plusDays(1), TODAY.plusDays(2));
+        WaitlistEntry third = hotel.joinWaitlist(guest, standard, TODAY.plusDays(1), TODAY.plusDays(2));
+        int[] appends = new int[1];
+        ReservationChangeLog failingLog = new ReservationChangeLog(directory) {
+            @Override
+            synchronized long append(ReservationChange.Kind kind, String source, Reservation reservation,
+                                     long timestampMillis) {
+                if (++appends[0] == 2) {
+                    throw new IllegalStateException("Log unavailable");
+                }
+                return super.append(kind, source, reservation, timestampMillis);
+            }
+        };
+        hotel.setChangeLog(failingLog);
+
+        // Act
+        List<WaitlistEntry> promoted = hotel.promoteWaitlist(standard, TODAY, TODAY.plusDays(3));
+        failingLog.close();
+
+        // Assert
+        assertEquals(List.of(first, third), promoted);
+        assertEquals(WaitlistEntry.WaitlistStatus.PROMOTED, third.getStatus());
+        assertTrue(second.isWaiting());
+        assertEquals(List.of(second), hotel.getWaitlist(standard));
+    }
+
+    @Test
+    public void testLeaveWaitlist_Withdraws() {
+        // Arrange
+        WaitlistEntry entry = hotel.joinWaitlist(waiting, standard, TODAY.plusDays(1), TODAY.plusDays(2));
+
+        // Act
+        hotel.leaveWaitlist(entry);
+
+        // Assert
+        assertEquals(WaitlistEntry.WaitlistStatus.WITHDRAWN, entry.getStatus());
+        assertTrue(hotel.promoteWaitlist(standard, TODAY, TODAY.plusDays(3)).isEmpty());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testJoinWaitlist_UnknownRoomType() {
+        // Arrange
+        RoomType suite = new RoomType("Suite", new Money(300.0));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            hotel.joinWaitlist(waiting, suite, TODAY.plusDays(1), TODAY.plusDays(2)));
+    }
+
+    @Test
+    public void testJoinWaitlist_InvalidDates() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            hotel.joinWaitlist(waiting, standard, TODAY.plusDays(2), TODAY.plusDays(2)));
+        assertThrows(IllegalArgumentException.class, () ->
+            hotel.joinWaitlist(waiting, standard, TODAY.minusDays(1), TODAY.plusDays(2)));
+    }
+
+    @Test
+    public void testLeaveWaitlist_AlreadyPromoted() {
+        // Arrange
+        WaitlistEntry entry = hotel.joinWaitlist(waiting, standard, TODAY.plusDays(1), TODAY.plusDays(2));
+        hotel.promoteWaitlist(standard, TODAY.plusDays(1), TODAY.plusDays(2));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> hotel.leaveWaitlist(entry));
+    }
+}
@@ -0,0 +1,225 @@
+package com.hotel.domain;
+
+import com.hotel.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for occupancy-driven pricing.
+ */
+public class YieldManagerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    private MutableClock clock;
+    private Hotel hotel;
+    private RoomType deluxe;
+    private RoomType suite;
+    private Guest guest;
+    private PricingRule rule;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"), ZoneOffset.UTC);
+        hotel = new Hotel(new Name("Harbor Inn"), new BusinessDate(clock));
+        deluxe = new RoomType("Deluxe", new Money(100.0));
+        suite = new RoomType("Suite", new Money(250.0));
+        for (int number = 101; number <= 104; number++) {
+            hotel.addRoom(new Room(number, deluxe));
+        }
+        hotel.addRoom(new Room(201, suite));
+        guest = Guest.create(new Name("John Doe"), new Address("123 Main", "Boston", "02101"));
+        rule = new OccupancyPriceCurve(new double[] {0.5, 0.75}, new double[] {1.2, 1.5}, 2.0);
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testQuote_RisesWithOccupancyAfterRecompute() {
+        // Arrange
+        YieldManager yield = new YieldManager(hotel, rule, 30);
+        LocalDate night = TODAY.plusDays(10);
+        hotel.createReservation(guest, hotel.getRoom(101), night, night.plusDays(1));
+        hotel.createReservation(guest, hotel.getRoom(102), night, night.plusDays(1));
+
+        // Act
+        Money before = yield.quote(deluxe, night);
+        yield.recompute();
+        Money after = yield.quote(deluxe, night);
+
+        // Assert
+        assertEquals(0, new Money(100.0).getAmount().compareTo(before.getAmount()));
+        assertEquals("120.00", after.getAmount().toPlainString());
+        assertEquals("100.00", yield.quote(deluxe, night.plusDays(2)).getAmount().toPlainString());
+    }
+
+    @Test
+    public void testQuote_LastUnitPremium() {
+        // Arrange
+        LocalDate night = TODAY.plusDays(3);
+        YieldManager yield = new YieldManager(hotel, rule, 30);
+        for (int number = 101; number <= 103; number++) {
+            hotel.createReservation(guest, hotel.getRoom(number), night, night.plusDays(1));
+        }
+
+        // Act
+        yield.recompute();
+
+        // Assert
+        assertEquals("300.00", yield.quote(deluxe, night).getAmount().toPlainString());
+    }
+
+    @Test
+    public void testQuote_StaySumsNightlyRates() {
+        // Arrange
+        LocalDate night = TODAY.plusDays(5);
+        hotel.createReservation(guest, hotel.getRoom(201), night, night.plusDays(1));
+        YieldManager yield = new YieldManager(hotel,
+            new OccupancyPriceCurve(new double[] {0.5, 0.75}, new double[] {1.2, 1.5}), 7);
+
+        // Act
+        Money stay = yield.quote(suite, night.minusDays(1), night.plusDays(3));
+
+        // Assert
+        assertEquals("1125.00", stay.getAmount().toPlainString());
+        assertEquals("375.00", yield.quote(suite, night).getAmount().toPlainString());
+    }
+
+    @Test
+    public void testRecompute_UsesForecastPickup() {
+        // Arrange
+        LocalDate history = TODAY.plusDays(7);
+        LocalDate target = TODAY.plusDays(14);
+        hotel.createReservation(guest, deluxe, history, history.plusDays(1));
+        clock.advance(Duration.ofDays(7));
+        hotel.createReservation(guest, deluxe, history, history.plusDays(1));
+        hotel.createReservation(guest, deluxe, history, history.plusDays(1));
+        clock.advance(Duration.ofDays(1));
+        hotel.createReservation(guest, deluxe, target, target.plusDays(1));
+        DemandForecaster forecaster = new DemandForecaster(history, TODAY.plusDays(28));
+        YieldManager yield = new YieldManager(hotel, rule, 30);
+
+        // Act
+        Money withoutForecast = yield.quote(deluxe, target);
+        yield.setForecast(forecaster.refresh(List.of(hotel)));
+        yield.recompute();
+
+        // Assert
+        assertEquals("100.00", withoutForecast.getAmount().toPlainString());
+        assertEquals("150.00", yield.quote(deluxe, target).getAmount().toPlainString());
+        assertEquals(TODAY.plusDays(8), yield.getPricedOn());
+    }
+
+    @Test
+    public void testSchedule_RecomputesInBackground() throws Exception {
+        // Arrange
+        YieldManager yield = new YieldManager(hotel, rule, 30);
+        LocalDate night = TODAY.plusDays(2);
+        for (int number = 101; number <= 102; number++) {
+            hotel.createReservation(guest, hotel.getRoom(number), night, night.plusDays(1));
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        // Act
+        ScheduledFuture<?> task = yield.schedule(scheduler, Duration.ofMillis(5));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (yield.quote(deluxe, night).getAmount().compareTo(new Money(120.0).getAmount()) != 0
+               && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        task.cancel(false);
+        scheduler.shutdownNow();
+
+        // Assert
+        assertEquals("120.00", yield.quote(deluxe, night).getAmount().toPlainString());
+    }
+
+    @Test
+    public void testSchedule_KeepsRunningAfterFailure() throws Exception {
+        // Arrange
+        AtomicBoolean failing = new AtomicBoolean();
+        AtomicBoolean raised = new AtomicBoolean();
+        YieldManager yield = new YieldManager(hotel, (occupancy, remaining, lead) -> {
+            if (failing.get()) {
+                throw new IllegalStateException("Pricing feed unavailable");
+            }
+            return raised.get() ? 2.0 : 1.0;
+        }, 30);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        failing.set(true);
+
+        // Act
+        ScheduledFuture<?> task = yield.schedule(scheduler, Duration.ofMillis(5));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (yield.getFailureCount() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Money duringOutage = yield.quote(deluxe, TODAY);
+        raised.set(true);
+        failing.set(false);
+        while (yield.quote(deluxe, TODAY).getAmount().compareTo(new Money(200.0).getAmount()) != 0
+               && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        task.cancel(false);
+        scheduler.shutdownNow();
+
+        // Assert
+        assertTrue(yield.getFailureCount() >= 2);
+        assertEquals("100.00", duringOutage.getAmount().toPlainString());
+        assertEquals("200.00", yield.quote(deluxe, TODAY).getAmount().toPlainString());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testQuote_OutsideHorizonOrUnknownTypeUsesBaseRate() {
+        // Arrange
+        RoomType loft = new RoomType("Loft", new Money(80.0));
+        YieldManager yield = new YieldManager(hotel, (occupancy, remaining, lead) -> 2.0, 10);
+
+        // Act & Assert
+        assertEquals("200.00", yield.quote(deluxe, TODAY.plusDays(9)).getAmount().toPlainString());
+        assertSame(deluxe.getCost(), yield.quote(deluxe, TODAY.plusDays(10)));
+        assertSame(deluxe.getCost(), yield.quote(deluxe, TODAY.minusDays(1)));
+        assertSame(loft.getCost(), yield.quote(loft, TODAY));
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testConstructor_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new YieldManager(null, rule, 10));
+        assertThrows(IllegalArgumentException.class, () -> new YieldManager(hotel, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new YieldManager(hotel, rule, 0));
+    }
+
+    @Test
+    public void testRecompute_RejectsNonPositiveMultiplier() {
+        assertThrows(IllegalStateException.class, () -> new YieldManager(hotel, (o, r, l) -> 0, 10));
+    }
+
+    @Test
+    public void testQuote_InvalidArguments() {
+        // Arrange
+        YieldManager yield = new YieldManager(hotel, rule, 10);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> yield.quote(null, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> yield.quote(deluxe, TODAY, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> yield.schedule(null, Duration.ofSeconds(1)));
+    }
+}
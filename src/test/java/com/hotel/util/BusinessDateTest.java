@@ -0,0 +1,74 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BusinessDate class.
+ */
+public class BusinessDateTest {
+
+    @Test
+    public void testToday_UsesPropertyZone() {
+        // Arrange
+        Clock clock = Clock.fixed(Instant.parse("2030-03-10T03:00:00Z"), ZoneOffset.UTC);
+
+        // Act
+        BusinessDate utc = new BusinessDate(clock, ZoneOffset.UTC);
+        BusinessDate boston = new BusinessDate(clock, ZoneId.of("America/New_York"));
+
+        // Assert
+        assertEquals(LocalDate.of(2030, 3, 10), utc.today());
+        assertEquals(LocalDate.of(2030, 3, 9), boston.today());
+    }
+
+    @Test
+    public void testToday_FlipsAtLocalMidnight() {
+        // Arrange
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        MutableClock clock = new MutableClock(Instant.parse("2030-06-01T21:59:59Z"), zone);
+        BusinessDate businessDate = new BusinessDate(clock);
+        LocalDate before = businessDate.today();
+
+        // Act
+        clock.advance(Duration.ofSeconds(1));
+
+        // Assert
+        assertEquals(LocalDate.of(2030, 6, 1), before);
+        assertEquals(LocalDate.of(2030, 6, 2), businessDate.today());
+    }
+
+    @Test
+    public void testToday_ClockMovesBackwards() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-06-02T12:00:00Z"), ZoneOffset.UTC);
+        BusinessDate businessDate = new BusinessDate(clock);
+        businessDate.today();
+
+        // Act
+        clock.advance(Duration.ofDays(-1));
+
+        // Assert
+        assertEquals(LocalDate.of(2030, 6, 1), businessDate.today());
+    }
+
+    @Test
+    public void testCreate_NullClock() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BusinessDate(null, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testCreate_NullZone() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BusinessDate(Clock.systemUTC(), null));
+    }
+}
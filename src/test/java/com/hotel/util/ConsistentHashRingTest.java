@@ -0,0 +1,129 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConsistentHashRing class.
+ */
+public class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    private ConsistentHashRing<String> ring;
+
+    @BeforeEach
+    public void setUp() {
+        ring = new ConsistentHashRing<>(128);
+        ring.addNode("a", "A");
+        ring.addNode("b", "B");
+        ring.addNode("c", "C");
+        ring.addNode("d", "D");
+    }
+
+    private Map<String, String> assignment() {
+        Map<String, String> owners = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            owners.put("hotel-" + i, ring.route("hotel-" + i));
+        }
+        return owners;
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testRoute_IsStable() {
+        // Act & Assert
+        assertEquals(ring.route("Grand Hotel"), ring.route("Grand Hotel"));
+    }
+
+    @Test
+    public void testRoute_SpreadsKeysEvenly() {
+        // Arrange
+        Map<String, Integer> counts = new HashMap<>();
+
+        // Act
+        for (String owner : assignment().values()) {
+            counts.merge(owner, 1, Integer::sum);
+        }
+
+        // Assert
+        for (int count : counts.values()) {
+            assertTrue(Math.abs(count - KEYS / 4) < KEYS / 4 * 0.25, "unbalanced: " + counts);
+        }
+    }
+
+    @Test
+    public void testAddNode_OnlyMovesKeysToNewNode() {
+        // Arrange
+        Map<String, String> before = assignment();
+
+        // Act
+        ring.addNode("e", "E");
+        Map<String, String> after = assignment();
+
+        // Assert
+        int moved = 0;
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            if (!entry.getValue().equals(before.get(entry.getKey()))) {
+                assertEquals("E", entry.getValue());
+                moved++;
+            }
+        }
+        assertTrue(moved > KEYS / 5 * 0.7 && moved < KEYS / 5 * 1.3, "moved " + moved);
+    }
+
+    @Test
+    public void testRemoveNode_OnlyMovesItsKeys() {
+        // Arrange
+        Map<String, String> before = assignment();
+
+        // Act
+        ring.removeNode("b");
+        Map<String, String> after = assignment();
+
+        // Assert
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            if (!before.get(entry.getKey()).equals("B")) {
+                assertEquals(before.get(entry.getKey()), entry.getValue());
+            }
+        }
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testRoute_SingleNode() {
+        // Arrange
+        ConsistentHashRing<String> single = new ConsistentHashRing<>(1);
+        single.addNode("only", "ONLY");
+
+        // Act & Assert
+        assertEquals("ONLY", single.route("anything"));
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testRoute_EmptyRing() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new ConsistentHashRing<String>(8).route("key"));
+    }
+
+    @Test
+    public void testAddNode_Duplicate() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ring.addNode("a", "A"));
+    }
+
+    @Test
+    public void testRemoveNode_Unknown() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ring.removeNode("z"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExpiringCache class.
+ */
+public class ExpiringCacheTest {
+
+    private MutableClock clock;
+    private ExpiringCache<String, String> cache;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"), ZoneOffset.UTC);
+        cache = new ExpiringCache<>(Duration.ofMinutes(10), 100, clock);
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testComputeIfAbsent_ComputesOnce() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        String first = cache.computeIfAbsent("key", () -> "value-" + calls.incrementAndGet());
+        String second = cache.computeIfAbsent("key", () -> "value-" + calls.incrementAndGet());
+
+        // Assert
+        assertEquals("value-1", first);
+        assertEquals("value-1", second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testGetIfPresent_SurvivesOneWindow() {
+        // Arrange
+        cache.computeIfAbsent("key", () -> "value");
+
+        // Act
+        clock.advance(Duration.ofMinutes(15));
+
+        // Assert
+        assertEquals("value", cache.getIfPresent("key"));
+    }
+
+    @Test
+    public void testGetIfPresent_ExpiresAfterTwoWindows() {
+        // Arrange
+        cache.computeIfAbsent("key", () -> "value");
+
+        // Act
+        clock.advance(Duration.ofMinutes(20));
+
+        // Assert
+        assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    public void testComputeIfAbsent_ConcurrentCallersShareResult() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 32; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.computeIfAbsent("key", () -> "value-" + calls.incrementAndGet());
+            }));
+        }
+        start.countDown();
+        for (Future<String> result : results) {
+            assertEquals("value-1", result.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, calls.get());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testComputeIfAbsent_FailureIsNotCached() {
+        // Arrange
+        assertThrows(IllegalStateException.class, () -> cache.computeIfAbsent("key", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // Act
+        String value = cache.computeIfAbsent("key", () -> "retried");
+
+        // Assert
+        assertEquals("retried", value);
+    }
+
+    @Test
+    public void testComputeIfAbsent_SizeBoundRotatesGenerations() {
+        // Arrange
+        ExpiringCache<Integer, Integer> small = new ExpiringCache<>(Duration.ofHours(1), 10, clock);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            small.computeIfAbsent(i, () -> 0);
+        }
+
+        // Assert
+        assertTrue(small.size() <= 12);
+        assertNull(small.getIfPresent(0));
+        assertNotNull(small.getIfPresent(99));
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testCreate_NonPositiveWindow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<>(Duration.ZERO, 10, clock));
+    }
+
+    @Test
+    public void testComputeIfAbsent_NullKey() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> cache.computeIfAbsent(null, () -> "value"));
+    }
+}
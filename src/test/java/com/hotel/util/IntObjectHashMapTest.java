@@ -0,0 +1,111 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IntObjectHashMap class.
+ */
+public class IntObjectHashMapTest {
+
+    private IntObjectHashMap<String> map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new IntObjectHashMap<>();
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testPutAndGet() {
+        // Act
+        map.put(101, "Deluxe");
+        map.put(202, "Standard");
+
+        // Assert
+        assertEquals("Deluxe", map.get(101));
+        assertEquals("Standard", map.get(202));
+        assertNull(map.get(303));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testPut_ReplacesValue() {
+        // Arrange
+        map.put(101, "Deluxe");
+
+        // Act
+        String previous = map.put(101, "Suite");
+
+        // Assert
+        assertEquals("Deluxe", previous);
+        assertEquals("Suite", map.get(101));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testRemove() {
+        // Arrange
+        map.put(101, "Deluxe");
+
+        // Act
+        String removed = map.remove(101);
+
+        // Assert
+        assertEquals("Deluxe", removed);
+        assertFalse(map.containsKey(101));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testAnyValueMatch() {
+        // Arrange
+        map.put(101, "Deluxe");
+        map.put(202, "Standard");
+
+        // Act & Assert
+        assertTrue(map.anyValueMatch("Standard"::equals));
+        assertFalse(map.anyValueMatch("Suite"::equals));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testRandomOperations_MatchHashMap() {
+        // Arrange
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // Act
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertEquals(expected.size(), map.values().size());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testPut_NullValue() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+    }
+}
@@ -0,0 +1,93 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Interner class.
+ */
+public class InternerTest {
+
+    @Test
+    public void testIntern_ReturnsFirstInstance() {
+        // Arrange
+        Interner<Name> interner = new Interner<>();
+        Name first = new Name("Boston");
+
+        // Act
+        Name canonical = interner.intern(first);
+        Name duplicate = interner.intern(new Name("Boston"));
+
+        // Assert
+        assertSame(first, canonical);
+        assertSame(first, duplicate);
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void testIntern_DistinctValues() {
+        // Arrange
+        Interner<Name> interner = new Interner<>();
+
+        // Act
+        interner.intern(new Name("Boston"));
+        interner.intern(new Name("Chicago"));
+
+        // Assert
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void testNameOf_ReturnsCanonicalInstance() {
+        // Act & Assert
+        assertSame(Name.of("Grand Hotel"), Name.of(" Grand Hotel "));
+    }
+
+    @Test
+    public void testAddress_SharesCityAndPostalCode() {
+        // Act
+        Address first = new Address("1 Elm", "Boston", "02101");
+        Address second = new Address("9 Oak", new String("Boston"), new String("02101"));
+
+        // Assert
+        assertSame(first.getCity(), second.getCity());
+        assertSame(first.getPostalCode(), second.getPostalCode());
+    }
+
+    @Test
+    public void testIntern_ConcurrentCallersShareOneInstance() throws InterruptedException {
+        // Arrange
+        Interner<String> interner = new Interner<>();
+        String[][] seen = new String[4][1_000];
+        Thread[] threads = new Thread[seen.length];
+
+        // Act
+        for (int t = 0; t < threads.length; t++) {
+            String[] mine = seen[t];
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] = interner.intern(new String("city-" + i));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        for (int i = 0; i < 1_000; i++) {
+            for (int t = 1; t < seen.length; t++) {
+                assertSame(seen[0][i], seen[t][i]);
+            }
+        }
+        assertEquals(1_000, interner.size());
+    }
+
+    @Test
+    public void testIntern_NullValue() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new Interner<Name>().intern(null));
+    }
+}
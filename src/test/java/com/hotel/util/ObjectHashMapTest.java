@@ -0,0 +1,111 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ObjectHashMap class.
+ */
+public class ObjectHashMapTest {
+
+    private ObjectHashMap<Identity, String> map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new ObjectHashMap<>();
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testPutAndGet_ByEqualKey() {
+        // Act
+        map.put(new Identity("A-1"), "first");
+
+        // Assert
+        assertEquals("first", map.get(new Identity("A-1")));
+        assertTrue(map.containsKey(new Identity("A-1")));
+        assertNull(map.get(new Identity("A-2")));
+    }
+
+    @Test
+    public void testValues_InsertionOrder() {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            map.put(new Identity("id" + i), "v" + i);
+        }
+
+        // Act
+        List<String> values = map.values();
+
+        // Assert
+        assertEquals("v0", values.get(0));
+        assertEquals("v19", values.get(19));
+    }
+
+    @Test
+    public void testRemove_LastEntryFillsGap() {
+        // Arrange
+        map.put(new Identity("a"), "a");
+        map.put(new Identity("b"), "b");
+        map.put(new Identity("c"), "c");
+
+        // Act
+        map.remove(new Identity("a"));
+
+        // Assert
+        assertEquals(List.of("c", "b"), map.values());
+        assertEquals("c", map.get(new Identity("c")));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testRandomOperations_MatchHashMap() {
+        // Arrange
+        Map<Identity, String> expected = new HashMap<>();
+        List<Identity> keys = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            keys.add(new Identity());
+        }
+        Random random = new Random(7);
+
+        // Act
+        for (int i = 0; i < 50_000; i++) {
+            Identity key = keys.get(random.nextInt(keys.size()));
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Identity, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testPut_NullKey() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, "value"));
+    }
+
+    @Test
+    public void testGet_NullKey() {
+        // Act & Assert
+        assertNull(map.get(null));
+    }
+}
@@ -0,0 +1,114 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PrefixTrie class.
+ */
+public class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new PrefixTrie();
+        trie.add("johnson", 3);
+        trie.add("john", 1);
+        trie.add("joan", 2);
+        trie.add("mary", 4);
+        trie.add("john", 5);
+    }
+
+    private List<Integer> prefix(String prefix) {
+        List<Integer> values = new ArrayList<>();
+        trie.visitPrefix(prefix, values::add);
+        return values;
+    }
+
+    private List<Integer> similar(String query, int maxEdits) {
+        List<Integer> values = new ArrayList<>();
+        trie.visitSimilarPrefix(query, maxEdits, values::add);
+        return values;
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testVisitPrefix_ExactKeyFirstThenLongerKeys() {
+        assertEquals(List.of(5, 1, 3), prefix("john"));
+        assertEquals(List.of(2, 5, 1, 3), prefix("jo"));
+        assertEquals(List.of(4), prefix("m"));
+    }
+
+    @Test
+    public void testVisitSimilarPrefix_ToleratesTypos() {
+        assertEquals(List.of(5, 1, 3), similar("jihn", 1));
+        assertEquals(List.of(5, 1, 3), similar("jonh", 1));
+        assertEquals(List.of(4), similar("marry", 1));
+        assertTrue(similar("jhn", 1).containsAll(List.of(1, 5, 3)));
+    }
+
+    @Test
+    public void testVisitPrefix_VisitorStopsWalk() {
+        // Arrange
+        List<Integer> values = new ArrayList<>();
+
+        // Act
+        boolean completed = trie.visitPrefix("jo", value -> values.add(value) && values.size() < 2);
+
+        // Assert
+        assertFalse(completed);
+        assertEquals(List.of(2, 5), values);
+    }
+
+    @Test
+    public void testStartsWithinEdits() {
+        assertTrue(PrefixTrie.startsWithinEdits("johnson", "jonh", 1));
+        assertTrue(PrefixTrie.startsWithinEdits("johnson", "johm", 1));
+        assertFalse(PrefixTrie.startsWithinEdits("mary", "john", 1));
+        assertFalse(PrefixTrie.startsWithinEdits("joan", "johns", 1));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testVisit_NoMatchOrEmptyTrie() {
+        assertTrue(prefix("x").isEmpty());
+        assertTrue(similar("zzzz", 1).isEmpty());
+        assertTrue(similar("jihn", 0).isEmpty());
+        assertEquals(0, new PrefixTrie().size());
+    }
+
+    @Test
+    public void testAdd_GrowsPastInitialCapacity() {
+        // Arrange
+        PrefixTrie large = new PrefixTrie();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            large.add("guest" + i, i);
+        }
+
+        // Assert
+        List<Integer> values = new ArrayList<>();
+        large.visitPrefix("guest999", values::add);
+        assertEquals(11, values.size());
+        assertEquals(10_000, large.size());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> trie.add("", 1));
+        assertThrows(IllegalArgumentException.class, () -> trie.add(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> trie.visitPrefix(null, v -> true));
+        assertThrows(IllegalArgumentException.class, () -> trie.visitSimilarPrefix("john", -1, v -> true));
+    }
+}
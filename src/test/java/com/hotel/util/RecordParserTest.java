@@ -0,0 +1,116 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RecordParser class.
+ */
+public class RecordParserTest {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "city");
+
+    private RecordParser csv(String header) {
+        RecordParser parser = new RecordParser(RecordParser.Format.CSV, COLUMNS);
+        parser.bindHeader(header);
+        return parser;
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testParseCsv_MapsHeaderOrder() {
+        // Arrange
+        RecordParser parser = csv("city,id,name");
+
+        // Act
+        String[] values = parser.parse("Boston,G1,John Doe");
+
+        // Assert
+        assertArrayEquals(new String[] {"G1", "John Doe", "Boston"}, values);
+    }
+
+    @Test
+    public void testParseCsv_QuotedValues() {
+        // Arrange
+        RecordParser parser = csv("id,name,city");
+
+        // Act
+        String[] values = parser.parse("G1,\"Doe, \"\"Johnny\"\"\",Boston");
+
+        // Assert
+        assertArrayEquals(new String[] {"G1", "Doe, \"Johnny\"", "Boston"}, values);
+    }
+
+    @Test
+    public void testParseJson_FlatObject() {
+        // Arrange
+        RecordParser parser = new RecordParser(RecordParser.Format.NDJSON, COLUMNS);
+
+        // Act
+        String[] values = parser.parse("{\"name\": \"Ana \\\"A\\\" \\u00c9\", \"id\": 7, \"city\": \"Porto\"}");
+
+        // Assert
+        assertArrayEquals(new String[] {"7", "Ana \"A\" \u00c9", "Porto"}, values);
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testParseCsv_EmptyAndUnknownColumns() {
+        // Arrange
+        RecordParser parser = csv("id,extra,name");
+
+        // Act
+        String[] values = parser.parse("G1,ignored,");
+
+        // Assert
+        assertArrayEquals(new String[] {"G1", null, null}, values);
+    }
+
+    @Test
+    public void testParseJson_NullAndMissingValues() {
+        // Arrange
+        RecordParser parser = new RecordParser(RecordParser.Format.NDJSON, COLUMNS);
+
+        // Act
+        String[] values = parser.parse("{\"id\":\"G1\",\"name\":null}");
+
+        // Assert
+        assertArrayEquals(new String[] {"G1", null, null}, values);
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testParseCsv_UnterminatedQuote() {
+        // Arrange
+        RecordParser parser = csv("id,name,city");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("G1,\"Doe,Boston"));
+    }
+
+    @Test
+    public void testParseCsv_HeaderNotBound() {
+        // Arrange
+        RecordParser parser = new RecordParser(RecordParser.Format.CSV, COLUMNS);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> parser.parse("G1,John,Boston"));
+    }
+
+    @Test
+    public void testParseJson_Malformed() {
+        // Arrange
+        RecordParser parser = new RecordParser(RecordParser.Format.NDJSON, COLUMNS);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("{\"id\":\"G1\""));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("{\"id\":[1]}"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("{\"id\":1} x"));
+    }
+}
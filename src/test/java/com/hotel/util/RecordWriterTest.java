@@ -0,0 +1,94 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RecordWriter class.
+ */
+public class RecordWriterTest {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "city");
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testWriteCsv_HeaderAndQuoting() {
+        // Arrange
+        StringWriter out = new StringWriter();
+        RecordWriter writer = new RecordWriter(out, RecordParser.Format.CSV, COLUMNS);
+
+        // Act
+        writer.write("G1", "Doe, \"Johnny\"", "Boston");
+        writer.write("G2", null, "Porto");
+
+        // Assert
+        assertEquals("id,name,city\nG1,\"Doe, \"\"Johnny\"\"\",Boston\nG2,,Porto\n", out.toString());
+    }
+
+    @Test
+    public void testWriteJson_EscapesAndOmitsNulls() {
+        // Arrange
+        StringWriter out = new StringWriter();
+        RecordWriter writer = new RecordWriter(out, RecordParser.Format.NDJSON, COLUMNS);
+
+        // Act
+        writer.write("G1", "Ana \"A\"\n", null);
+
+        // Assert
+        assertEquals("{\"id\":\"G1\",\"name\":\"Ana \\\"A\\\"\\n\"}\n", out.toString());
+    }
+
+    @Test
+    public void testWrite_RoundTripsThroughParser() {
+        // Arrange
+        String[] values = {"G1", "Doe, \"Johnny\"\t\u0001", "S\u00e3o Paulo"};
+        for (RecordParser.Format format : RecordParser.Format.values()) {
+            StringWriter out = new StringWriter();
+            new RecordWriter(out, format, COLUMNS).write(values);
+            RecordParser parser = new RecordParser(format, COLUMNS);
+            String[] lines = out.toString().split("\n");
+
+            // Act
+            if (parser.hasHeader()) {
+                parser.bindHeader(lines[0]);
+            }
+            String[] parsed = parser.parse(lines[lines.length - 1]);
+
+            // Assert
+            assertArrayEquals(values, parsed);
+        }
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testWriteHeader_OnlyOnce() {
+        // Arrange
+        StringWriter out = new StringWriter();
+        RecordWriter writer = new RecordWriter(out, RecordParser.Format.CSV, COLUMNS);
+
+        // Act
+        writer.writeHeader();
+        writer.writeHeader();
+        writer.write("G1", "John", "Boston");
+
+        // Assert
+        assertEquals("id,name,city\nG1,John,Boston\n", out.toString());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testWrite_WrongValueCount() {
+        // Arrange
+        RecordWriter writer = new RecordWriter(new StringWriter(), RecordParser.Format.CSV, COLUMNS);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> writer.write("G1"));
+    }
+}
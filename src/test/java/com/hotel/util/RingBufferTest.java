@@ -0,0 +1,103 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RingBuffer class.
+ */
+public class RingBufferTest {
+
+    private RingBuffer<long[]> ring;
+
+    @BeforeEach
+    public void setUp() {
+        ring = new RingBuffer<>(4, () -> new long[1]);
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testPublish_MakesSlotVisible() {
+        // Arrange
+        long sequence = ring.tryNext();
+        ring.get(sequence)[0] = 42;
+
+        // Act
+        ring.publish(sequence);
+
+        // Assert
+        assertEquals(0, sequence);
+        assertEquals(0, ring.highestPublished(0));
+        assertEquals(42, ring.get(0)[0]);
+    }
+
+    @Test
+    public void testHighestPublished_StopsAtGap() {
+        // Arrange
+        long first = ring.tryNext();
+        long second = ring.tryNext();
+        long third = ring.tryNext();
+        ring.publish(first);
+        ring.publish(third);
+
+        // Act & Assert
+        assertEquals(0, ring.highestPublished(0));
+        ring.publish(second);
+        assertEquals(2, ring.highestPublished(0));
+    }
+
+    @Test
+    public void testSlots_AreReused() {
+        // Arrange
+        long[] firstSlot = ring.get(0);
+
+        // Act & Assert
+        assertSame(firstSlot, ring.get(4));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testTryNext_FailsWhenConsumerIsAFullRingBehind() {
+        // Arrange
+        AtomicLong consumer = ring.addGatingSequence();
+        for (int i = 0; i < 4; i++) {
+            ring.publish(ring.tryNext());
+        }
+
+        // Act & Assert
+        assertEquals(-1, ring.tryNext());
+        consumer.set(0);
+        assertEquals(4, ring.tryNext());
+    }
+
+    @Test
+    public void testTryNext_WrapsFreelyWithoutConsumers() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            ring.publish(ring.tryNext());
+        }
+
+        // Assert
+        assertEquals(9, ring.getCursor());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testCreate_CapacityNotPowerOfTwo() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(6, Object::new));
+    }
+
+    @Test
+    public void testCreate_NullFactory() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(8, null));
+    }
+}
@@ -0,0 +1,211 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SegmentedLog class.
+ */
+public class SegmentedLogTest {
+
+    @TempDir
+    Path directory;
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testAppend_AssignsIncreasingOffsets() {
+        // Arrange
+        try (SegmentedLog log = new SegmentedLog(directory, 1024)) {
+            // Act
+            long first = log.append(bytes("a"));
+            long second = log.append(bytes("b"));
+
+            // Assert
+            assertEquals(0, first);
+            assertEquals(1, second);
+            assertEquals(2, log.getEndOffset());
+        }
+    }
+
+    @Test
+    public void testRead_ReturnsBatchFromOffset() {
+        // Arrange
+        try (SegmentedLog log = new SegmentedLog(directory, 1024)) {
+            for (int i = 0; i < 5; i++) {
+                log.append(bytes("r" + i));
+            }
+            List<String> read = new ArrayList<>();
+
+            // Act
+            long next = log.read(1, 3, (offset, payload) -> read.add(offset + ":" + text(payload)));
+
+            // Assert
+            assertEquals(4, next);
+            assertEquals(List.of("1:r1", "2:r2", "3:r3"), read);
+        }
+    }
+
+    @Test
+    public void testTransferTo_CopiesDecodableFrames() {
+        // Arrange
+        try (SegmentedLog log = new SegmentedLog(directory, 1024)) {
+            log.append(bytes("one"));
+            log.append(bytes("two"));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            long next = log.transferTo(0, Long.MAX_VALUE, Channels.newChannel(out));
+
+            // Assert
+            List<String> decoded = new ArrayList<>();
+            SegmentedLog.decode(ByteBuffer.wrap(out.toByteArray()), (offset, payload) -> decoded.add(text(payload)));
+            assertEquals(2, next);
+            assertEquals(List.of("one", "two"), decoded);
+        }
+    }
+
+    @Test
+    public void testReopen_RecoversSegments() {
+        // Arrange
+        try (SegmentedLog log = new SegmentedLog(directory, 64)) {
+            for (int i = 0; i < 10; i++) {
+                log.append(bytes("record-" + i));
+            }
+        }
+
+        // Act
+        try (SegmentedLog log = new SegmentedLog(directory, 64)) {
+            List<String> read = new ArrayList<>();
+            log.read(0, 100, (offset, payload) -> read.add(text(payload)));
+
+            // Assert
+            assertEquals(10, log.getEndOffset());
+            assertEquals("record-9", read.get(9));
+            assertEquals(10, log.append(bytes("next")));
+        }
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testTransferTo_StopsAtSegmentAndByteLimit() {
+        // Arrange
+        try (SegmentedLog log = new SegmentedLog(directory, 64)) {
+            for (int i = 0; i < 10; i++) {
+                log.append(bytes("record-" + i));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            long first = log.transferTo(0, 1, Channels.newChannel(out));
+            long rest = log.transferTo(first, Long.MAX_VALUE, Channels.newChannel(out));
+
+            // Assert
+            assertEquals(1, first);
+            assertTrue(rest > first && rest < 10);
+        }
+    }
+
+    @Test
+    public void testReopen_DropsTornTail() throws Exception {
+        // Arrange
+        try (SegmentedLog log = new SegmentedLog(directory, 1024)) {
+            log.append(bytes("complete"));
+        }
+        Path segment = Files.list(directory).findFirst().orElseThrow();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 50, 0}));
+        }
+
+        // Act
+        try (SegmentedLog log = new SegmentedLog(directory, 1024)) {
+            // Assert
+            assertEquals(1, log.getEndOffset());
+            assertEquals(1, log.append(bytes("after")));
+        }
+    }
+
+    @Test
+    public void testTransferTo_CaughtUp() {
+        // Arrange
+        try (SegmentedLog log = new SegmentedLog(directory, 1024)) {
+            log.append(bytes("only"));
+
+            // Act & Assert
+            assertEquals(1, log.transferTo(1, 100, Channels.newChannel(new ByteArrayOutputStream())));
+        }
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testRead_OffsetOutOfRange() {
+        // Arrange
+        try (SegmentedLog log = new SegmentedLog(directory, 1024)) {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> log.read(5, 1, (offset, payload) -> { }));
+        }
+    }
+
+    @Test
+    public void testTransferTo_TargetStalls() {
+        // Arrange
+        try (SegmentedLog log = new SegmentedLog(directory, 1024)) {
+            log.append(bytes("stuck"));
+            WritableByteChannel stalled = new WritableByteChannel() {
+                @Override
+                public int write(ByteBuffer source) {
+                    return 0;
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+
+            // Act & Assert
+            assertThrows(UncheckedIOException.class, () -> log.transferTo(0, 100, stalled));
+        }
+    }
+
+    @Test
+    public void testAppend_AfterClose() {
+        // Arrange
+        SegmentedLog log = new SegmentedLog(directory, 1024);
+        log.close();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> log.append(bytes("late")));
+    }
+
+    private static ByteBuffer bytes(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
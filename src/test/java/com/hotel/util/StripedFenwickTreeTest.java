@@ -0,0 +1,97 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StripedFenwickTree class.
+ */
+public class StripedFenwickTreeTest {
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testPrefixSum_MatchesNaiveSums() {
+        // Arrange
+        StripedFenwickTree tree = new StripedFenwickTree(37, 4);
+        long[] naive = new long[37];
+        for (int i = 0; i < 200; i++) {
+            int index = (i * 7919) % 37;
+            long delta = i % 3 == 0 ? -i : i;
+            tree.add(index, delta);
+            naive[index] += delta;
+        }
+
+        // Act & Assert
+        long running = 0;
+        for (int end = 0; end <= 37; end++) {
+            assertEquals(running, tree.prefixSum(end));
+            if (end < 37) {
+                running += naive[end];
+                assertEquals(naive[end], tree.get(end));
+            }
+        }
+        assertEquals(naive[3] + naive[4] + naive[5], tree.sum(3, 6));
+    }
+
+    @Test
+    public void testAdd_FromManyThreads() throws InterruptedException {
+        // Arrange
+        StripedFenwickTree tree = new StripedFenwickTree(64, 8);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    tree.add(i % 64, 1);
+                }
+            }));
+        }
+
+        // Act
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertEquals(80_000, tree.prefixSum(64));
+        assertEquals(156 * 8, tree.get(17));
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testSum_EmptyRangeIsZero() {
+        // Arrange
+        StripedFenwickTree tree = new StripedFenwickTree(1, 3);
+        tree.add(0, 5);
+
+        // Act & Assert
+        assertEquals(0, tree.sum(1, 1));
+        assertEquals(5, tree.prefixSum(1));
+        assertEquals(1, tree.size());
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testConstructor_NonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedFenwickTree(0));
+        assertThrows(IllegalArgumentException.class, () -> new StripedFenwickTree(8, 0));
+    }
+
+    @Test
+    public void testAdd_OutOfRange() {
+        // Arrange
+        StripedFenwickTree tree = new StripedFenwickTree(8);
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.add(8, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.prefixSum(9));
+        assertThrows(IllegalArgumentException.class, () -> tree.sum(5, 2));
+    }
+}
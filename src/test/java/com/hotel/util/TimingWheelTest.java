@@ -0,0 +1,144 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimingWheel class.
+ */
+public class TimingWheelTest {
+
+    private TimingWheel<String> wheel;
+    private List<String> expired;
+
+    @BeforeEach
+    public void setUp() {
+        wheel = new TimingWheel<>(10, 0);
+        expired = new ArrayList<>();
+    }
+
+    // ==================== Normal Cases ====================
+
+    @Test
+    public void testAdvance_ExpiresDueItems() {
+        // Arrange
+        wheel.schedule("a", 50);
+        wheel.schedule("b", 500);
+
+        // Act
+        int count = wheel.advance(100, expired::add);
+
+        // Assert
+        assertEquals(1, count);
+        assertEquals(List.of("a"), expired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void testAdvance_NothingBeforeDeadline() {
+        // Arrange
+        wheel.schedule("a", 600_000);
+
+        // Act
+        wheel.advance(599_990, expired::add);
+
+        // Assert
+        assertTrue(expired.isEmpty());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void testAdvance_CascadesFromHigherLevels() {
+        // Arrange
+        wheel.schedule("ten-minutes", 600_000);
+        wheel.schedule("one-day", 86_400_000);
+
+        // Act
+        wheel.advance(600_000, expired::add);
+
+        // Assert
+        assertEquals(List.of("ten-minutes"), expired);
+
+        // Act
+        wheel.advance(86_400_000, expired::add);
+
+        // Assert
+        assertEquals(List.of("ten-minutes", "one-day"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testCancel_PreventsExpiry() {
+        // Arrange
+        TimingWheel.Timeout<String> timeout = wheel.schedule("a", 50);
+
+        // Act
+        boolean cancelled = wheel.cancel(timeout);
+        wheel.advance(100, expired::add);
+
+        // Assert
+        assertTrue(cancelled);
+        assertFalse(timeout.isPending());
+        assertTrue(expired.isEmpty());
+    }
+
+    // ==================== Boundary Cases ====================
+
+    @Test
+    public void testSchedule_PastDeadlineFiresOnNextTick() {
+        // Arrange
+        wheel.advance(1_000, expired::add);
+        wheel.schedule("late", 0);
+
+        // Act
+        wheel.advance(1_010, expired::add);
+
+        // Assert
+        assertEquals(List.of("late"), expired);
+    }
+
+    @Test
+    public void testAdvance_ManyItemsExpireInOrder() {
+        // Arrange
+        for (int i = 1; i <= 10_000; i++) {
+            wheel.schedule("item" + i, i * 10L);
+        }
+
+        // Act
+        int count = wheel.advance(100_000, expired::add);
+
+        // Assert
+        assertEquals(10_000, count);
+        assertEquals("item1", expired.get(0));
+        assertEquals("item10000", expired.get(9_999));
+    }
+
+    @Test
+    public void testCancel_AlreadyExpired() {
+        // Arrange
+        TimingWheel.Timeout<String> timeout = wheel.schedule("a", 50);
+        wheel.advance(100, expired::add);
+
+        // Act & Assert
+        assertFalse(wheel.cancel(timeout));
+    }
+
+    // ==================== Invalid Inputs ====================
+
+    @Test
+    public void testCreateWheel_InvalidTick() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(0, 0));
+    }
+
+    @Test
+    public void testSchedule_NullItem() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(null, 50));
+    }
+}